@@ -0,0 +1,130 @@
+package com.ooparkanoid.bench;
+
+import com.ooparkanoid.core.engine.CollisionHandler;
+import com.ooparkanoid.core.engine.LevelManager;
+import com.ooparkanoid.core.engine.SimulationEvents;
+import com.ooparkanoid.core.state.GameStateManager;
+import com.ooparkanoid.object.Ball;
+import com.ooparkanoid.object.Paddle;
+import com.ooparkanoid.object.PowerUp.GameContext;
+import com.ooparkanoid.object.PowerUp.InvincibleBallEffect;
+import com.ooparkanoid.object.PowerUp.PowerUp;
+import com.ooparkanoid.object.PowerUp.PowerUpEffectManager;
+import com.ooparkanoid.object.bricks.BrickField;
+import com.ooparkanoid.utils.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one simulation step of CollisionHandler.handleCollisions with many balls in play.
+ * Each invocation moves every ball by one fixed step and resolves its collisions against
+ * a full level, exactly like GameManager.update does during play.
+ *
+ * Setup:
+ * - Balls start spread over the lower playfield with seeded random upward directions
+ * - The invincible-ball effect is kept active so balls bounce off the bottom instead of
+ *   being removed, keeping the ball count constant for the whole run
+ * - The level is reloaded whenever it has been cleared, so the brick field never runs empty
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dprism.order=sw"})
+public class CollisionBenchmark {
+    /** Fixed simulation step used by the game loop */
+    private static final double DT = 1.0 / 240.0;
+
+    /** Number of balls in play */
+    @Param({"1", "10", "100"})
+    public int ballCount;
+
+    /** Level to collide against (the three densest layouts) */
+    @Param({"4", "5", "6"})
+    public int level;
+
+    private final List<Ball> balls = new ArrayList<>();
+    private final List<PowerUp> powerUps = new ArrayList<>();
+    private LevelManager levelManager;
+    private BrickField bricks;
+    private CollisionHandler collisionHandler;
+
+    /**
+     * Builds the collision system, the level and the balls.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        GameStateManager stateManager = new GameStateManager();
+        stateManager.beginNewGame(0, Constants.START_LIVES);
+
+        Paddle paddle = new Paddle(
+                Constants.PLAYFIELD_LEFT + (Constants.PLAYFIELD_WIDTH - Constants.PADDLE_WIDTH) / 2.0,
+                Constants.HEIGHT - 40);
+        PowerUpEffectManager effectManager = new PowerUpEffectManager(new GameContext(paddle, balls));
+        effectManager.activateEffect(new InvincibleBallEffect(), Double.MAX_VALUE);
+
+        levelManager = new LevelManager(null, null, null, random);
+        bricks = LevelManager.createField();
+        levelManager.createLevel(level, bricks);
+
+        collisionHandler = new CollisionHandler(stateManager, effectManager, new SimulationEvents(),
+                new CollisionHandler.GameFlowCallbacks() {
+                    @Override
+                    public void loseLife() {
+                    }
+
+                    @Override
+                    public void spawnPowerUp(double x, double y) {
+                    }
+                }, random);
+        collisionHandler.setGameObjects(paddle, balls, bricks, powerUps);
+
+        for (int i = 0; i < ballCount; i++) {
+            double x = Constants.PLAYFIELD_LEFT + 20 + random.nextDouble() * (Constants.PLAYFIELD_WIDTH - 40);
+            double y = Constants.HEIGHT / 2.0 + random.nextDouble() * (Constants.HEIGHT / 3.0);
+            double angle = Math.toRadians(-150 + random.nextDouble() * 120);
+            balls.add(new Ball(x, y, Constants.BALL_RADIUS, Constants.DEFAULT_SPEED,
+                    Math.cos(angle), Math.sin(angle)));
+        }
+    }
+
+    /**
+     * Advances all balls by one step and resolves their collisions.
+     *
+     * @return live brick count (consumed by JMH to keep the work observable)
+     */
+    @Benchmark
+    public int step() {
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            ball.storePreviousPosition();
+            ball.move(DT);
+        }
+        collisionHandler.handleCollisions(DT);
+
+        if (bricks.getDestructibleRemaining() == 0) {
+            levelManager.createLevel(level, bricks);
+        }
+        return bricks.size();
+    }
+}
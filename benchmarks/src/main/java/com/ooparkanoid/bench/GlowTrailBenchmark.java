@@ -0,0 +1,127 @@
+package com.ooparkanoid.bench;
+
+import com.ooparkanoid.graphics.GlowTrail;
+import com.ooparkanoid.utils.Constants;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-frame work of a ball's GlowTrail: adding points, expiring them and drawing.
+ *
+ * Rendering target:
+ * GraphicsContext is a final class and cannot be mocked, so render() draws into the
+ * context of an offscreen Canvas that is never shown. Canvas only records commands into
+ * its buffer, so this measures the cost of issuing the draw calls, not rasterization.
+ * A full-canvas clearRect after each render lets JavaFX discard the recorded buffer;
+ * canvasBaseline() measures that clear on its own.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dprism.order=sw"})
+public class GlowTrailBenchmark {
+    /** Display frame length used for update() calls */
+    private static final double FRAME_DT = 1.0 / 60.0;
+
+    /** Distance the simulated ball moves per frame (pixels) */
+    private static final double STEP = 12.0;
+
+    private GlowTrail trail;
+    private GlowTrail perSegmentTrail;
+    private GraphicsContext gc;
+    private double angle;
+    private double lastX;
+    private double lastY;
+
+    /**
+     * Creates the trail and fills it to its maximum length.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        trail = new GlowTrail(Constants.BALL_RADIUS * 2);
+        trail.setMaxLength(30);
+        perSegmentTrail = new GlowTrail(Constants.BALL_RADIUS * 2);
+        perSegmentTrail.setMaxLength(30);
+        perSegmentTrail.setRenderMode(GlowTrail.RenderMode.PER_SEGMENT);
+        angle = 0;
+        for (int i = 0; i < 60; i++) {
+            advance();
+            perSegmentTrail.addPoint(lastX, lastY);
+        }
+        gc = new Canvas(Constants.WIDTH, Constants.HEIGHT).getGraphicsContext2D();
+    }
+
+    /**
+     * Adds one trail point (including the interpolated points in between).
+     */
+    @Benchmark
+    public void addPoint() {
+        advance();
+    }
+
+    /**
+     * One frame of trail bookkeeping: a new point followed by expiry of old ones.
+     * A point is added each time so the trail stays populated for the whole iteration,
+     * as it does while a ball is moving.
+     */
+    @Benchmark
+    public void update() {
+        advance();
+        trail.update(FRAME_DT);
+    }
+
+    /**
+     * Draws the three glow layers of a full trail (default BATCHED mode).
+     */
+    @Benchmark
+    public void render() {
+        trail.render(gc);
+        gc.clearRect(0, 0, Constants.WIDTH, Constants.HEIGHT);
+    }
+
+    /**
+     * Draws the same trail with one strokeLine per segment per layer.
+     */
+    @Benchmark
+    public void renderPerSegment() {
+        perSegmentTrail.render(gc);
+        gc.clearRect(0, 0, Constants.WIDTH, Constants.HEIGHT);
+    }
+
+    /**
+     * Only the full-canvas clear used by render().
+     * Subtract from render() to get the trail's own time and allocation.
+     */
+    @Benchmark
+    public void canvasBaseline() {
+        gc.clearRect(0, 0, Constants.WIDTH, Constants.HEIGHT);
+    }
+
+    /**
+     * Moves the simulated ball along a circle and records its position.
+     */
+    private void advance() {
+        angle += STEP / 200.0;
+        lastX = Constants.PLAYFIELD_LEFT + Constants.PLAYFIELD_WIDTH / 2 + Math.cos(angle) * 200;
+        lastY = Constants.HEIGHT / 2.0 + Math.sin(angle) * 200;
+        trail.addPoint(lastX, lastY);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ooparkanoid.bench;
+
+import com.ooparkanoid.core.engine.LevelManager;
+import com.ooparkanoid.object.bricks.Brick;
+import com.ooparkanoid.object.bricks.BrickField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures LevelManager.createLevel: reading a level file from the classpath,
+ * creating its bricks through the factories and storing them in a BrickField.
+ *
+ * LevelManager logs every load to stdout; the stream is silenced for the run so
+ * console output does not dominate the measurement.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dprism.order=sw"})
+public class LevelLoadBenchmark {
+    /** Level file to load */
+    @Param({"1", "3", "5"})
+    public int level;
+
+    private LevelManager levelManager;
+    private BrickField field;
+
+    /**
+     * Creates the level manager and field, and silences the load log.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        levelManager = new LevelManager(null, null, null, new Random(42));
+        field = LevelManager.createField();
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Loads the level into the reused field.
+     *
+     * @return the created bricks (consumed by JMH)
+     */
+    @Benchmark
+    public List<Brick> createLevel() {
+        return levelManager.createLevel(level, field);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ooparkanoid.bench;
+
+import com.ooparkanoid.object.Ball;
+import com.ooparkanoid.object.Paddle;
+import com.ooparkanoid.object.PowerUp.ExpandPaddleEffect;
+import com.ooparkanoid.object.PowerUp.FastBallEffect;
+import com.ooparkanoid.object.PowerUp.FireBallEffect;
+import com.ooparkanoid.object.PowerUp.GameContext;
+import com.ooparkanoid.object.PowerUp.PowerUpEffectManager;
+import com.ooparkanoid.object.PowerUp.ScoreMultiplierEffect;
+import com.ooparkanoid.utils.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures PowerUpEffectManager.update with the largest set of effects that can be
+ * active together (one per exclusive category plus the score multiplier).
+ * Durations are effectively infinite, so every call is the steady-state timer tick.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dprism.order=sw"})
+public class PowerUpEffectBenchmark {
+    /** Fixed simulation step used by the game loop */
+    private static final double DT = 1.0 / 240.0;
+
+    private PowerUpEffectManager effectManager;
+
+    /**
+     * Activates one effect from every category.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Paddle paddle = new Paddle(Constants.PLAYFIELD_LEFT + 100, Constants.HEIGHT - 40);
+        List<Ball> balls = new ArrayList<>();
+        balls.add(new Ball(Constants.PLAYFIELD_LEFT + 150, Constants.HEIGHT / 2.0,
+                Constants.BALL_RADIUS, Constants.DEFAULT_SPEED, 0, -1));
+
+        effectManager = new PowerUpEffectManager(new GameContext(paddle, balls));
+        effectManager.activateEffect(new FastBallEffect(1.5), Double.MAX_VALUE);
+        effectManager.activateEffect(new ExpandPaddleEffect(1.5), Double.MAX_VALUE);
+        effectManager.activateEffect(new FireBallEffect(), Double.MAX_VALUE);
+        effectManager.activateEffect(new ScoreMultiplierEffect(2.0), Double.MAX_VALUE);
+    }
+
+    /**
+     * Advances all active effect timers by one step.
+     */
+    @Benchmark
+    public void update() {
+        effectManager.update(DT);
+    }
+}
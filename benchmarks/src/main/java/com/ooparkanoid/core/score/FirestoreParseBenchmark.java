@@ -0,0 +1,76 @@
+package com.ooparkanoid.core.score;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures FirebaseScoreService.parseFirestoreResponse on a leaderboard-sized payload
+ * (100 documents, the limit used by getTopScores).
+ * Lives in the service's package because the parser is package-private.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FirestoreParseBenchmark {
+    /** Number of documents in the payload */
+    private static final int DOCUMENTS = 100;
+
+    private String payload;
+
+    /**
+     * Builds a runQuery response in Firestore's REST format.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        JSONArray response = new JSONArray();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            JSONObject fields = new JSONObject()
+                    .put("userId", new JSONObject().put("stringValue", "user-" + i))
+                    .put("playerName", new JSONObject().put("stringValue", "Player " + i))
+                    .put("score", new JSONObject().put("integerValue", Integer.toString(100_000 - i * 731)))
+                    .put("roundsPlayed", new JSONObject().put("integerValue", Integer.toString(1 + i % 6)))
+                    .put("totalSeconds", new JSONObject().put("doubleValue", 60.0 + i * 3.25));
+
+            JSONObject document = new JSONObject()
+                    .put("name", "projects/arkanoid/databases/(default)/documents/scores/doc" + i)
+                    .put("fields", fields)
+                    .put("createTime", "2025-11-01T12:00:00.000000Z")
+                    .put("updateTime", "2025-11-01T12:00:00.000000Z");
+
+            response.put(new JSONObject()
+                    .put("document", document)
+                    .put("readTime", "2025-11-02T08:30:00.000000Z"));
+        }
+        payload = response.toString();
+    }
+
+    /**
+     * Parses the payload into score entries.
+     *
+     * @return parsed entries (consumed by JMH)
+     */
+    @Benchmark
+    public List<ScoreEntry> parse() {
+        return FirebaseScoreService.parseFirestoreResponse(payload);
+    }
+}
@@ -119,7 +119,7 @@ public class MainConsole extends Application {
     /**
      * Displays the intro screen with background music and skip functionality.
      * Users can skip by pressing SPACE or clicking the mouse.
-     * Preloads sound effects for smooth gameplay experience.
+     * Loads the skip sound up front; the remaining sounds are loaded by AssetLoadingTask.
      */
     private void showIntroScreen() {
         try {
@@ -132,8 +132,8 @@ public class MainConsole extends Application {
             scene.setRoot(root);
             stage.setScene(scene);
 
-            // Initialize all sound effects early (idempotent operation)
-            SoundManager.getInstance().init();
+            // Only the skip sound is needed here; AssetLoadingTask loads the rest in parallel
+            SoundManager.getInstance().loadSound("selected", "/sounds/selected.mp3");
 
             // Start intro background music
             SoundManager.getInstance().playMusic("intro.mp3");
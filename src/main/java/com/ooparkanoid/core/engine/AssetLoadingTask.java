@@ -4,22 +4,45 @@ import com.ooparkanoid.graphics.ResourceManager;
 import com.ooparkanoid.sound.SoundManager;
 import javafx.concurrent.Task;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Background task for loading all game assets asynchronously.
  * Loads images and sounds without blocking the JavaFX UI thread.
  * Provides progress updates for display in a loading screen.
  *
+ * Features:
+ * - Images and sounds decode in parallel on a bounded pool of daemon threads
+ * - Progress counts bytes of finished resources rather than a fixed step per file
+ * - Warm start: the packed sprite atlas is restored from ~/.arkanoid_atlas.cache
+ *   instead of being packed again, and written back in the background after a cold start
+ *
  * @author Arkanoid Team
  * @version 2.0
  */
 public class AssetLoadingTask extends Task<Void> {
     /**
-     * Minimum loading time in milliseconds for smooth user experience
+     * Upper bound on loader threads (decoding is CPU-bound; more threads only contend)
+     */
+    private static final int MAX_LOADER_THREADS = 4;
+
+    /**
+     * Classpath folder of the image files
      */
-    private static final long MIN_LOAD_TIME_MS = 2000;
+    private static final String IMAGES_FOLDER = "/images/";
 
     /**
      * List of all image files to preload
@@ -43,6 +66,18 @@ public class AssetLoadingTask extends Task<Void> {
             "powerup_sheet.png", "laser.png", "google-icon.png", "google-icon1.png"
     };
 
+    /**
+     * Preloaded images that are UI-only and stay out of the texture atlas
+     */
+    private static final Set<String> NOT_IN_ATLAS = Set.of("google-icon.png", "google-icon1.png");
+
+    /**
+     * Game sprites packed into the texture atlas once loaded
+     */
+    private static final String[] ATLAS_IMAGES = Arrays.stream(IMAGES_TO_LOAD)
+            .filter(img -> !NOT_IN_ATLAS.contains(img))
+            .toArray(String[]::new);
+
     /**
      * Map of all sound effects to preload (name -> path)
      */
@@ -65,51 +100,129 @@ public class AssetLoadingTask extends Task<Void> {
 
     /**
      * Executes the asset loading task in the background.
-     * Updates progress and status messages during loading.
+     * Images and sounds are decoded concurrently on a small worker pool; progress is
+     * reported in bytes of finished resources, so large sprites move the bar more than
+     * small sound effects. If the packed atlas from a previous launch is still valid,
+     * it is used as is and the sprites are not packed again; every image is still
+     * decoded here, so nothing is decoded later on the JavaFX Application Thread.
      *
      * @return null upon completion
-     * @throws InterruptedException if the task is interrupted
+     * @throws Exception if the task is interrupted or a loader job fails
      */
     @Override
-    protected Void call() throws InterruptedException {
+    protected Void call() throws Exception {
         long startTime = System.currentTimeMillis();
         ResourceManager rm = ResourceManager.getInstance();
         SoundManager sm = SoundManager.getInstance();
 
-        int totalAssets = IMAGES_TO_LOAD.length + SOUNDS_TO_LOAD.size();
-        int assetsLoaded = 0;
-
-        // Load all images
-        updateMessage("Loading images...");
-        for (String img : IMAGES_TO_LOAD) {
-            if (isCancelled()) break;
-            rm.loadImage(img);
-            assetsLoaded++;
-            updateMessage("Loading: " + img);
-            updateProgress(assetsLoaded, totalAssets);
-        }
+        // Warm start: the packed pages come straight from the atlas cache
+        updateMessage("Loading sprite cache...");
+        boolean warm = rm.restoreAtlas(ATLAS_IMAGES);
 
-        // Load all sounds
-        updateMessage("Loading sounds...");
-        sm.init(); // Initialize all sounds at once (idempotent)
+        List<String> images = Arrays.asList(IMAGES_TO_LOAD);
 
-        // Update progress bar for each sound (for visual feedback)
-        for (String soundName : SOUNDS_TO_LOAD.keySet()) {
-            if (isCancelled()) break;
-            assetsLoaded++;
-            updateMessage("Loading: " + soundName);
-            updateProgress(assetsLoaded, totalAssets);
+        // Weigh every job by its file size; packing counts as a tenth of the decoded bytes
+        Map<String, Long> weights = new HashMap<>();
+        long total = 0;
+        for (String img : images) {
+            long size = resourceSize(IMAGES_FOLDER + img);
+            weights.put(img, size);
+            total += size;
+        }
+        for (Map.Entry<String, String> sound : SOUNDS_TO_LOAD.entrySet()) {
+            long size = resourceSize(sound.getValue());
+            weights.put(sound.getKey(), size);
+            total += size;
+        }
+        long packWeight = warm ? 0 : Math.max(1, total / 10);
+        long totalWeight = total + packWeight;
+        AtomicLong done = new AtomicLong();
+        updateProgress(0, totalWeight);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(1, Math.min(MAX_LOADER_THREADS, Runtime.getRuntime().availableProcessors()));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true); // Never keeps the app alive
+            t.setName("AssetLoader-" + threadCount.incrementAndGet());
+            return t;
+        });
+
+        try {
+            updateMessage("Loading assets...");
+            List<Future<?>> jobs = new ArrayList<>();
+            for (String img : images) {
+                jobs.add(pool.submit(() -> {
+                    rm.loadImage(img);
+                    finished(img, weights.get(img), done, totalWeight);
+                }));
+            }
+            for (Map.Entry<String, String> sound : SOUNDS_TO_LOAD.entrySet()) {
+                jobs.add(pool.submit(() -> {
+                    sm.loadSound(sound.getKey(), sound.getValue());
+                    finished(sound.getKey(), weights.get(sound.getKey()), done, totalWeight);
+                }));
+            }
+            for (Future<?> job : jobs) {
+                job.get();
+            }
+
+            // Pack sprites so renderers draw sub-rectangles of a shared texture
+            if (!warm) {
+                updateMessage("Packing sprites...");
+                rm.buildAtlas(ATLAS_IMAGES);
+                updateProgress(done.addAndGet(packWeight), totalWeight);
+                // Writing the cache does not delay the menu; shutdown() lets it finish
+                pool.submit(() -> rm.saveAtlas(ATLAS_IMAGES));
+            }
+        } catch (InterruptedException e) {
+            // Task cancelled: abandon the remaining decodes
+            pool.shutdownNow();
+            throw e;
+        } finally {
+            pool.shutdown();
         }
 
         updateMessage("Asset loading complete!");
-        updateProgress(totalAssets, totalAssets);
+        updateProgress(totalWeight, totalWeight);
+        System.out.println("Assets loaded in " + (System.currentTimeMillis() - startTime) + " ms"
+                + (warm ? " (warm start)" : ""));
+        return null;
+    }
+
+    /**
+     * Records a finished loader job. Called from worker threads; Task's update methods
+     * coalesce the updates onto the JavaFX Application Thread.
+     *
+     * @param name        asset that finished
+     * @param weight      its weight in bytes
+     * @param done        bytes finished so far
+     * @param totalWeight bytes of all jobs
+     */
+    private void finished(String name, long weight, AtomicLong done, long totalWeight) {
+        updateMessage("Loaded: " + name);
+        updateProgress(done.addAndGet(weight), totalWeight);
+    }
 
-        // Ensure minimum loading time for smooth transition
-        long timeElapsed = System.currentTimeMillis() - startTime;
-        if (timeElapsed < MIN_LOAD_TIME_MS) {
-            long timeToWait = MIN_LOAD_TIME_MS - timeElapsed;
-            Thread.sleep(timeToWait);
+    /**
+     * Gets the size of a classpath resource without reading it.
+     *
+     * @param path resource path
+     * @return size in bytes, at least 1 so every job advances the progress bar
+     */
+    private static long resourceSize(String path) {
+        URL url = AssetLoadingTask.class.getResource(path);
+        if (url == null) {
+            return 1;
+        }
+        try {
+            URLConnection connection = url.openConnection();
+            connection.setUseCaches(false);
+            long length = connection.getContentLengthLong();
+            connection.getInputStream().close();
+            return Math.max(1, length);
+        } catch (IOException e) {
+            return 1;
         }
-        return null;
     }
-}
\ No newline at end of file
+}
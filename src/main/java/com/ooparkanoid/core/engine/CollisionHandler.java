@@ -1,10 +1,11 @@
 // File: src/main/java/com/ooparkanoid/core/engine/CollisionHandler.java
 package com.ooparkanoid.core.engine;
 
+import com.ooparkanoid.core.profiling.CollisionPassEvent;
+import com.ooparkanoid.core.profiling.ProfileSection;
+import com.ooparkanoid.core.profiling.Profiler;
 import com.ooparkanoid.core.score.FirebaseScoreService;
 import com.ooparkanoid.object.Laser;
-import com.ooparkanoid.object.Score;
-import com.ooparkanoid.sound.SoundManager;
 import com.ooparkanoid.core.state.PlayerContext;
 import com.ooparkanoid.core.save.SaveService;
 import com.ooparkanoid.core.score.ScoreEntry;
@@ -16,10 +17,11 @@ import com.ooparkanoid.object.PowerUp.PowerUp;
 import com.ooparkanoid.object.PowerUp.PowerUpEffectManager;
 import com.ooparkanoid.object.PowerUp.PowerUpFactory;
 import com.ooparkanoid.object.bricks.Brick;
+import com.ooparkanoid.object.bricks.BrickField;
 import com.ooparkanoid.object.bricks.CollisionArea;
 import com.ooparkanoid.utils.Constants;
-import javafx.scene.paint.Color;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
@@ -35,6 +37,8 @@ import java.util.Random;
  * <p>
  * This class acts as a bridge between game objects and the orchestrator (GameManager),
  * delegating game flow decisions through callbacks while handling physics and scoring internally.
+ * Sounds and score popups are emitted as SimulationListener events, so collision handling
+ * runs unchanged in headless simulations.
  *
  * @author Arkanoid Team
  * @version 2.0
@@ -51,9 +55,9 @@ public class CollisionHandler {
     private final PowerUpEffectManager effectManager;
 
     /**
-     * List of floating score indicators for visual feedback
+     * Receives sound and score popup events (audio and rendering observers)
      */
-    private final List<Score> scores;
+    private final SimulationListener events;
 
     /**
      * Random number generator for power-up drops and effects
@@ -63,9 +67,52 @@ public class CollisionHandler {
     // References to game objects (injected by GameManager)
     private Paddle paddle;
     private List<Ball> balls;
-    private List<Brick> bricks;
+    private BrickField bricks;
     private List<PowerUp> powerUps;
 
+    // Reusable candidate lists for broadphase queries (one per query kind, since
+    // an explosion can be triggered while a ball or laser query is being processed)
+    private final List<Brick> ballCandidates = new ArrayList<>();
+    private final List<Brick> laserCandidates = new ArrayList<>();
+    private final List<Brick> explosionCandidates = new ArrayList<>();
+    private final List<Brick> sweepCandidates = new ArrayList<>();
+
+    /**
+     * Maximum number of contacts resolved for one ball within a single step
+     */
+    private static final int MAX_SWEEP_CONTACTS = 8;
+
+    /**
+     * Distance a ball is pushed off a brick surface after a swept bounce (pixels)
+     */
+    private static final double CONTACT_SEPARATION = 0.01;
+
+    // Contact kinds found by the swept ball test
+    private static final int CONTACT_NONE = 0;
+    private static final int CONTACT_LEFT_WALL = 1;
+    private static final int CONTACT_RIGHT_WALL = 2;
+    private static final int CONTACT_TOP_WALL = 3;
+    private static final int CONTACT_PADDLE = 4;
+    private static final int CONTACT_BRICK = 5;
+
+    /**
+     * Bricks hit by the ball currently being swept; FireBall skips them for the rest of the
+     * step and the discrete fallback never hits them a second time
+     */
+    private final List<Brick> sweptHits = new ArrayList<>();
+
+    /**
+     * Scratch contact normal filled by SweptCollision queries
+     */
+    private final double[] contactNormal = new double[2];
+
+    // Contacts resolved in the current pass, reported through CollisionPassEvent
+    private int passBrickHits;
+    private int passPaddleHits;
+    private int passLaserHits;
+    private int passBricksDestroyed;
+    private int passPowerUpsCollected;
+
     /**
      * Callback interface for delegating game flow decisions to GameManager.
      * Separates collision detection logic from game state management.
@@ -83,6 +130,23 @@ public class CollisionHandler {
          * @param y Y coordinate for power-up spawn
          */
         void spawnPowerUp(double x, double y);
+
+        /**
+         * Called after a lost ball has been removed from the ball list, so it can be reused.
+         *
+         * @param ball the removed ball
+         */
+        default void releaseBall(Ball ball) {
+        }
+
+        /**
+         * Called after a collected or missed power-up has been removed from the list,
+         * so it can be reused.
+         *
+         * @param powerUp the removed power-up
+         */
+        default void releasePowerUp(PowerUp powerUp) {
+        }
     }
 
     /**
@@ -95,17 +159,35 @@ public class CollisionHandler {
      *
      * @param stateManager  manages game state (score, lives, level)
      * @param effectManager manages active power-up effects
-     * @param scores        list for spawning score popups
+     * @param events        listener receiving sound and score popup events
      * @param callbacks     interface for delegating game flow decisions
      */
     public CollisionHandler(GameStateManager stateManager,
                             PowerUpEffectManager effectManager,
-                            List<Score> scores,
+                            SimulationListener events,
                             GameFlowCallbacks callbacks) {
+        this(stateManager, effectManager, events, callbacks, new Random());
+    }
+
+    /**
+     * Constructs a CollisionHandler drawing power-up drop rolls from the given generator.
+     * GameManager passes its own generator so seeded games are reproducible.
+     *
+     * @param stateManager  manages game state (score, lives, level)
+     * @param effectManager manages active power-up effects
+     * @param events        listener receiving sound and score popup events
+     * @param callbacks     interface for delegating game flow decisions
+     * @param random        generator for power-up drop rolls
+     */
+    public CollisionHandler(GameStateManager stateManager,
+                            PowerUpEffectManager effectManager,
+                            SimulationListener events,
+                            GameFlowCallbacks callbacks,
+                            Random random) {
         this.stateManager = stateManager;
         this.effectManager = effectManager;
-        this.scores = scores;
-        this.random = new Random();
+        this.events = events;
+        this.random = random;
         this.callbacks = callbacks;
     }
 
@@ -115,10 +197,10 @@ public class CollisionHandler {
      *
      * @param paddle   the player's paddle
      * @param balls    list of active balls
-     * @param bricks   list of bricks on the current level
+     * @param bricks   brick field of the current level (also used as the broadphase index)
      * @param powerUps list of active power-ups
      */
-    public void setGameObjects(Paddle paddle, List<Ball> balls, List<Brick> bricks, List<PowerUp> powerUps) {
+    public void setGameObjects(Paddle paddle, List<Ball> balls, BrickField bricks, List<PowerUp> powerUps) {
         this.paddle = paddle;
         this.balls = balls;
         this.bricks = bricks;
@@ -137,59 +219,232 @@ public class CollisionHandler {
     public void handleCollisions(double dt) {
         if (balls.isEmpty()) return;
 
+        long start = Profiler.begin();
+        CollisionPassEvent event = new CollisionPassEvent();
+        event.begin();
+        int ballCount = balls.size();
+        int brickCount = bricks.size();
+        int laserCount = paddle != null ? paddle.getLasers().size() : 0;
+        int powerUpCount = powerUps != null ? powerUps.size() : 0;
+        passBrickHits = 0;
+        passPaddleHits = 0;
+        passLaserHits = 0;
+        passBricksDestroyed = 0;
+        passPowerUpsCollected = 0;
+
         handleBallUpdatesAndCollisions(dt);
-        handleLaserUpdatesAndCollisions();
+        handleLaserUpdatesAndCollisions(dt);
         handlePowerUpCollisionsAndCleanUp();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.balls = ballCount;
+            event.bricks = brickCount;
+            event.lasers = laserCount;
+            event.powerUps = powerUpCount;
+            event.brickHits = passBrickHits;
+            event.paddleHits = passPaddleHits;
+            event.laserHits = passLaserHits;
+            event.bricksDestroyed = passBricksDestroyed;
+            event.powerUpsCollected = passPowerUpsCollected;
+            event.commit();
+        }
+        Profiler.end(ProfileSection.COLLISIONS, start);
     }
 
     /**
      * Processes all ball movements and collision checks.
+     * Each ball is first swept along its path for the step (continuous detection),
+     * then the discrete overlap checks run as a safety net for balls that started
+     * the step overlapping something (e.g. freshly spawned multi-balls).
      * Handles wall bounces, paddle bounces, brick destruction, and life loss.
      *
      * @param dt delta time since last update
      */
     private void handleBallUpdatesAndCollisions(double dt) {
+        boolean hasFireBall = effectManager.isEffectActive("FIRE_BALL");
         Iterator<Ball> ballIt = balls.iterator();
         while (ballIt.hasNext()) {
             Ball ball = ballIt.next();
 
-            // Check collisions in order of priority
+            // Continuous detection along the ball's path for this step
+            sweepBall(ball, dt, hasFireBall);
+
+            // Discrete checks in order of priority
             checkWallCollision(ball);
             checkPaddleCollision(ball);
-            checkBrickCollision(ball);
+            checkBrickCollision(ball, hasFireBall);
 
             // Check for life loss (ball falls below screen)
             if (checkBottomCollision(ball)) {
                 ballIt.remove();
+                callbacks.releaseBall(ball);
                 callbacks.loseLife(); // Delegate life loss to GameManager
             }
         }
     }
 
+    /**
+     * Re-runs the move the ball made in Ball.update() this step, from the position and
+     * with the velocity it used, resolving the earliest contact with walls, paddle or
+     * bricks at its exact time of impact. After each contact the remaining time is swept
+     * again with the new velocity, so several bounces can happen within one step and no
+     * brick can be skipped regardless of ball speed or step length. If MAX_SWEEP_CONTACTS
+     * is reached, the rest of the step is finished with a plain move and left to the
+     * discrete checks.
+     * FireBall passes through bricks: they are hit without changing the ball's path.
+     *
+     * @param ball        the ball to move
+     * @param dt          step length in seconds
+     * @param hasFireBall true if the FireBall effect is active
+     */
+    private void sweepBall(Ball ball, double dt, boolean hasFireBall) {
+        double r = ball.getRadius();
+        double x = ball.getMoveStartX();
+        double y = ball.getMoveStartY();
+        double remaining = dt;
+        sweptHits.clear();
+
+        // The first segment is the move update() made; later ones use the bounced velocity
+        double vx = ball.getMoveDx();
+        double vy = ball.getMoveDy();
+        for (int contact = 0; contact < MAX_SWEEP_CONTACTS && remaining > 0; contact++) {
+            double cx = x + r;
+            double cy = y + r;
+
+            double bestT = remaining;
+            int kind = CONTACT_NONE;
+            Brick hitBrick = null;
+            double nx = 0;
+            double ny = 0;
+
+            // Walls (the ball's bounding box against the playfield edges)
+            if (vx < 0 && x >= Constants.PLAYFIELD_LEFT) {
+                double t = (Constants.PLAYFIELD_LEFT - x) / vx;
+                if (t <= bestT) {
+                    bestT = t;
+                    kind = CONTACT_LEFT_WALL;
+                }
+            } else if (vx > 0 && x + ball.getWidth() <= Constants.PLAYFIELD_RIGHT) {
+                double t = (Constants.PLAYFIELD_RIGHT - ball.getWidth() - x) / vx;
+                if (t <= bestT) {
+                    bestT = t;
+                    kind = CONTACT_RIGHT_WALL;
+                }
+            }
+            if (vy < 0 && y >= 0) {
+                double t = -y / vy;
+                if (t < bestT || (t == bestT && kind == CONTACT_NONE)) {
+                    bestT = t;
+                    kind = CONTACT_TOP_WALL;
+                }
+            }
+
+            // Paddle (only while falling, like the discrete check)
+            if (paddle != null && vy > 0) {
+                double t = SweptCollision.circleRect(cx, cy, vx, vy, r,
+                        paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight(),
+                        bestT, contactNormal);
+                if (t != SweptCollision.NO_HIT && (t < bestT || kind == CONTACT_NONE)) {
+                    bestT = t;
+                    kind = CONTACT_PADDLE;
+                }
+            }
+
+            // Bricks in the grid cells covered by the remaining path
+            double ex = cx + vx * bestT;
+            double ey = cy + vy * bestT;
+            List<Brick> candidates = queryBricks(
+                    Math.min(cx, ex) - r, Math.min(cy, ey) - r,
+                    Math.max(cx, ex) + r, Math.max(cy, ey) + r,
+                    sweepCandidates);
+            for (Brick brick : candidates) {
+                if (brick.isDestroyed()) continue;
+                // A FireBall keeps its path, so bricks it is already passing through are skipped
+                if (hasFireBall && sweptHits.contains(brick)) continue;
+                double t = SweptCollision.circleRect(cx, cy, vx, vy, r,
+                        brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight(),
+                        bestT, contactNormal);
+                if (t != SweptCollision.NO_HIT && (t < bestT || kind == CONTACT_NONE)) {
+                    bestT = t;
+                    kind = CONTACT_BRICK;
+                    hitBrick = brick;
+                    nx = contactNormal[0];
+                    ny = contactNormal[1];
+                }
+            }
+
+            // Advance to the contact (or to the end of the step)
+            x += vx * bestT;
+            y += vy * bestT;
+            remaining -= bestT;
+            ball.setPosition(x, y);
+
+            if (kind == CONTACT_NONE) {
+                return;
+            }
+
+            switch (kind) {
+                case CONTACT_LEFT_WALL, CONTACT_RIGHT_WALL -> {
+                    ball.setDirection(-vx, vy);
+                    events.onSound("bounce");
+                }
+                case CONTACT_TOP_WALL -> {
+                    ball.setDirection(vx, -vy);
+                    events.onSound("bounce");
+                }
+                case CONTACT_PADDLE -> bounceOffPaddle(ball);
+                case CONTACT_BRICK -> {
+                    sweptHits.add(hitBrick);
+                    if (!hasFireBall) {
+                        // Reflect the velocity about the contact normal and step off the surface
+                        double dot = vx * nx + vy * ny;
+                        ball.setDirection(vx - 2 * dot * nx, vy - 2 * dot * ny);
+                        ball.setPosition(x + nx * CONTACT_SEPARATION, y + ny * CONTACT_SEPARATION);
+                    }
+                    applyBallBrickHit(hitBrick);
+                }
+                default -> {
+                }
+            }
+            x = ball.getX();
+            y = ball.getY();
+            vx = ball.getDx();
+            vy = ball.getDy();
+        }
+
+        // Contact limit reached: travel the rest of the step without further sweeping
+        if (remaining > 0) {
+            ball.setPosition(x + ball.getDx() * remaining, y + ball.getDy() * remaining);
+        }
+    }
+
     /**
      * Checks and resolves ball collisions with screen boundaries.
      * Bounces the ball off left, right, and top walls with appropriate sound effects.
+     * Only balls moving towards a wall are reflected, so a ball the sweep already
+     * bounced off a wall at the very end of the step is not flipped back.
      *
      * @param ball the ball to check for wall collisions
      */
     private void checkWallCollision(Ball ball) {
         // Left wall
-        if (ball.getX() <= Constants.PLAYFIELD_LEFT) {
+        if (ball.getX() <= Constants.PLAYFIELD_LEFT && ball.getDx() < 0) {
             ball.setX(Constants.PLAYFIELD_LEFT);
             ball.setDirection(-ball.getDx(), ball.getDy());
-            SoundManager.getInstance().play("bounce");
+            events.onSound("bounce");
         }
         // Right wall
-        if (ball.getX() + ball.getWidth() >= Constants.PLAYFIELD_RIGHT) {
+        if (ball.getX() + ball.getWidth() >= Constants.PLAYFIELD_RIGHT && ball.getDx() > 0) {
             ball.setX(Constants.PLAYFIELD_RIGHT - ball.getWidth());
             ball.setDirection(-ball.getDx(), ball.getDy());
-            SoundManager.getInstance().play("bounce");
+            events.onSound("bounce");
         }
         // Top wall
-        if (ball.getY() <= 0) {
+        if (ball.getY() <= 0 && ball.getDy() < 0) {
             ball.setY(0);
             ball.setDirection(ball.getDx(), -ball.getDy());
-            SoundManager.getInstance().play("bounce");
+            events.onSound("bounce");
         }
     }
 
@@ -202,78 +457,65 @@ public class CollisionHandler {
      */
     private void checkPaddleCollision(Ball ball) {
         if (paddle != null && ball.intersects(paddle) && ball.getDy() > 0) {
-            // Push ball above paddle to prevent sticking
-            ball.setY(paddle.getY() - ball.getHeight() - 1);
-
-            // Calculate bounce angle based on hit position
-            double paddleCenter = paddle.getX() + paddle.getWidth() / 2.0;
-            double ballCenter = ball.getX() + ball.getWidth() / 2.0;
-            double relativeIntersect = (ballCenter - paddleCenter) / (paddle.getWidth() / 2.0);
-
-            // Apply angle with max 60 degrees
-            double maxBounceAngle = Math.toRadians(60);
-            double bounceAngle = relativeIntersect * maxBounceAngle;
-            double speed = ball.getSpeed();
-
-            double newDx = speed * Math.sin(bounceAngle);
-            double newDy = -Math.abs(speed * Math.cos(bounceAngle));
-
-            ball.setDirection(newDx, newDy);
-            SoundManager.getInstance().play("bounce");
+            bounceOffPaddle(ball);
         }
     }
 
+    /**
+     * Bounces a ball off the paddle.
+     * Places the ball just above the paddle and sets its angle from the hit position
+     * (hitting near edges = steeper angle, up to 60 degrees).
+     *
+     * @param ball the ball touching the paddle
+     */
+    private void bounceOffPaddle(Ball ball) {
+        // Push ball above paddle to prevent sticking
+        ball.setY(paddle.getY() - ball.getHeight() - 1);
+
+        // Calculate bounce angle based on hit position
+        double paddleCenter = paddle.getX() + paddle.getWidth() / 2.0;
+        double ballCenter = ball.getX() + ball.getWidth() / 2.0;
+        double relativeIntersect = (ballCenter - paddleCenter) / (paddle.getWidth() / 2.0);
+
+        // Apply angle with max 60 degrees (StrictMath so replays match on every JVM)
+        double maxBounceAngle = Math.toRadians(60);
+        double bounceAngle = relativeIntersect * maxBounceAngle;
+        double speed = ball.getSpeed();
+
+        double newDx = speed * StrictMath.sin(bounceAngle);
+        double newDy = -Math.abs(speed * StrictMath.cos(bounceAngle));
+
+        ball.setDirection(newDx, newDy);
+        passPaddleHits++;
+        events.onSound("bounce");
+    }
+
     /**
      * Checks and resolves ball collisions with bricks.
      * Handles brick damage, destruction, scoring, explosions, and power-up drops.
      * Supports FireBall power-up which allows ball to pass through multiple bricks.
+     * Runs after the swept test as a fallback for balls overlapping a brick;
+     * bricks already hit by the sweep in this step are skipped.
      *
-     * @param ball the ball to check for brick collisions
+     * @param ball        the ball to check for brick collisions
+     * @param hasFireBall true if the FireBall effect is active
      */
-    private void checkBrickCollision(Ball ball) {
-        Iterator<Brick> brickIterator = bricks.iterator();
-        boolean hasFireBall = effectManager.isEffectActive("FIRE_BALL");
-        int currentScore = stateManager.getScore();
-        int currentLives = stateManager.getLives();
-
-        while (brickIterator.hasNext()) {
-            Brick brick = brickIterator.next();
-
-            if (!brick.isDestroyed() && ball.collidesWith(brick)) {
-                Brick.BrickType hitBrickType = brick.getType();
-                boolean brickWasDestroyed = brick.isDestroyed();
-
-                // Apply damage to brick
-                brick.takeHit();
-
+    private void checkBrickCollision(Ball ball, boolean hasFireBall) {
+        List<Brick> candidates = queryBricks(
+                ball.getX(),
+                ball.getY(),
+                ball.getX() + ball.getWidth(),
+                ball.getY() + ball.getHeight(),
+                ballCandidates);
+
+        for (Brick brick : candidates) {
+            if (!brick.isDestroyed() && !sweptHits.contains(brick) && ball.collidesWith(brick)) {
                 // Bounce ball off brick (unless FireBall is active)
                 if (!hasFireBall) {
                     handleBallBounceOffBrick(ball, brick);
                 }
 
-                // Handle brick destruction effects
-                if (!brickWasDestroyed && brick.isDestroyed()) {
-                    int multiplier = effectManager.isEffectActive("SCORE_MULTIPLIER") ? 2 : 1;
-                    int points = 10 * multiplier;
-
-                    // Update score and UI
-                    currentScore += points;
-                    stateManager.updateStats(currentScore, currentLives);
-                    SoundManager.getInstance().play("break");
-                    spawnScorePopup(Integer.toString(points), brick.getX() + brick.getWidth() / 2, brick.getY());
-
-                    // Handle explosion effect for explosive bricks
-                    if (hitBrickType == Brick.BrickType.EXPLOSIVE) {
-                        handleExplosion(brick.getX(), brick.getY());
-                    }
-
-                    // Random power-up drop
-                    if (random.nextDouble() < Constants.POWERUP_DROP_CHANCE) {
-                        callbacks.spawnPowerUp(brick.getX() + brick.getWidth() / 2, brick.getY() + brick.getHeight() / 2);
-                    }
-                } else if (!brick.isDestroyed()) {
-                    SoundManager.getInstance().play("collision");
-                }
+                applyBallBrickHit(brick);
 
                 // Stop checking collisions unless FireBall is active (allows pass-through)
                 if (!hasFireBall) break;
@@ -281,6 +523,47 @@ public class CollisionHandler {
         }
     }
 
+    /**
+     * Applies a ball hit to a brick.
+     * Handles brick damage, scoring, sounds, explosions and power-up drops.
+     * Shared by the swept and discrete ball/brick checks.
+     *
+     * @param brick the brick that was hit
+     */
+    private void applyBallBrickHit(Brick brick) {
+        Brick.BrickType hitBrickType = brick.getType();
+        boolean brickWasDestroyed = brick.isDestroyed();
+
+        // Apply damage to brick
+        brick.takeHit();
+        passBrickHits++;
+        events.onBallHitBrick(brick);
+
+        // Handle brick destruction effects
+        if (!brickWasDestroyed && brick.isDestroyed()) {
+            passBricksDestroyed++;
+            int multiplier = effectManager.isEffectActive("SCORE_MULTIPLIER") ? 2 : 1;
+            int points = 10 * multiplier;
+
+            // Update score and UI
+            stateManager.updateStats(stateManager.getScore() + points, stateManager.getLives());
+            events.onSound("break");
+            spawnScorePopup(Integer.toString(points), brick.getX() + brick.getWidth() / 2, brick.getY());
+
+            // Handle explosion effect for explosive bricks
+            if (hitBrickType == Brick.BrickType.EXPLOSIVE) {
+                handleExplosion(brick.getX(), brick.getY());
+            }
+
+            // Random power-up drop
+            if (random.nextDouble() < Constants.POWERUP_DROP_CHANCE) {
+                callbacks.spawnPowerUp(brick.getX() + brick.getWidth() / 2, brick.getY() + brick.getHeight() / 2);
+            }
+        } else if (!brick.isDestroyed()) {
+            events.onSound("collision");
+        }
+    }
+
     /**
      * Calculates and applies bounce direction when ball hits a brick.
      * Uses overlap detection to determine which side of the brick was hit,
@@ -326,8 +609,10 @@ public class CollisionHandler {
      * Checks and resolves collisions between lasers and bricks.
      * Handles brick damage, destruction, scoring, and explosion effects.
      * Removes lasers upon collision with bricks.
+     *
+     * @param dt delta time of the current step (used to reconstruct the swept box)
      */
-    private void handleLaserUpdatesAndCollisions() {
+    private void handleLaserUpdatesAndCollisions(double dt) {
         if (paddle == null) return;
         List<Laser> lasers = paddle.getLasers();
         if (lasers.isEmpty()) return;
@@ -339,7 +624,16 @@ public class CollisionHandler {
         while (laserIt.hasNext()) {
             Laser laser = laserIt.next();
 
-            Iterator<Brick> brickIt = bricks.iterator();
+            // Lasers travel vertically: extend the box back along the distance covered this step
+            double travelled = Math.abs(laser.getDy()) * dt;
+            List<Brick> candidates = queryBricks(
+                    laser.getX(),
+                    laser.getY(),
+                    laser.getX() + laser.getWidth(),
+                    laser.getY() + laser.getHeight() + travelled,
+                    laserCandidates);
+
+            Iterator<Brick> brickIt = candidates.iterator();
             while (brickIt.hasNext()) {
                 Brick brick = brickIt.next();
                 if (!brick.isDestroyed() && laser.intersects(brick)) {
@@ -347,23 +641,26 @@ public class CollisionHandler {
                     boolean brickWasDestroyed = brick.isDestroyed();
 
                     brick.takeHit();
+                    passLaserHits++;
 
                     if (!brickWasDestroyed && brick.isDestroyed()) {
+                        passBricksDestroyed++;
                         int multiplier = effectManager.isEffectActive("SCORE_MULTIPLIER") ? 2 : 1;
                         int points = 10 * multiplier;
                         currentScore += points;
                         stateManager.updateStats(currentScore, currentLives);
-                        SoundManager.getInstance().play("break");
+                        events.onSound("break");
                         spawnScorePopup(Integer.toString(points), brick.getX() + brick.getWidth() / 2, brick.getY());
 
                         if (hitBrickType == Brick.BrickType.EXPLOSIVE) {
                             handleExplosion(brick.getX(), brick.getY());
                         }
                     } else {
-                        SoundManager.getInstance().play("laser_hit");
+                        events.onSound("laser_hit");
                     }
 
                     laserIt.remove();
+                    paddle.releaseLaser(laser);
                     break;
                 }
             }
@@ -391,16 +688,24 @@ public class CollisionHandler {
         int currentScore = stateManager.getScore();
         int currentLives = stateManager.getLives();
 
-        for (Brick brick : bricks) {
+        List<Brick> candidates = queryBricks(
+                explosionZone.getX(),
+                explosionZone.getY(),
+                explosionZone.getX() + explosionZone.getWidth(),
+                explosionZone.getY() + explosionZone.getHeight(),
+                explosionCandidates);
+
+        for (Brick brick : candidates) {
             if (!brick.isDestroyed() && brick.intersects(explosionZone)) {
                 if (brick.getType() != Brick.BrickType.INDESTRUCTIBLE) {
                     brick.takeHit();
                     if (brick.isDestroyed()) {
+                        passBricksDestroyed++;
                         int multiplier = effectManager.isEffectActive("SCORE_MULTIPLIER") ? 2 : 1;
                         int points = 10 * multiplier;
                         currentScore += points;
                         stateManager.updateStats(currentScore, currentLives);
-                        SoundManager.getInstance().play("break");
+                        events.onSound("break");
                         spawnScorePopup(Integer.toString(points), brick.getX() + brick.getWidth() / 2, brick.getY());
 
                         // Reduced chance for power-up drops from explosion
@@ -413,6 +718,23 @@ public class CollisionHandler {
         }
     }
 
+    /**
+     * Collects the live bricks that may overlap the given box.
+     * Only the field cells covered by the box are visited.
+     *
+     * @param minX    left edge of the query box
+     * @param minY    top edge of the query box
+     * @param maxX    right edge of the query box
+     * @param maxY    bottom edge of the query box
+     * @param scratch reusable list that receives the query results
+     * @return candidate bricks in level order
+     */
+    private List<Brick> queryBricks(double minX, double minY, double maxX, double maxY, List<Brick> scratch) {
+        scratch.clear();
+        bricks.query(minX, minY, maxX, maxY, scratch);
+        return scratch;
+    }
+
     /**
      * Checks for power-up collisions with paddle and handles collection.
      * Removes power-ups that are collected or fall off screen.
@@ -426,7 +748,8 @@ public class CollisionHandler {
             // Check collision with paddle
             if (!powerUp.isCollected() && powerUp.intersects(paddle)) {
                 powerUp.collect();
-                SoundManager.getInstance().play("powerup");
+                passPowerUpsCollected++;
+                events.onSound("powerup");
                 effectManager.activateEffect(
                         powerUp.getEffect(),
                         powerUp.getDuration()
@@ -436,6 +759,7 @@ public class CollisionHandler {
             // Remove if collected or out of screen
             if (powerUp.isCollected() || powerUp.getY() > Constants.HEIGHT) {
                 it.remove();
+                callbacks.releasePowerUp(powerUp);
             }
         }
     }
@@ -464,14 +788,14 @@ public class CollisionHandler {
     }
 
     /**
-     * Spawns a floating score popup at the specified location.
-     * Provides visual feedback for points earned.
+     * Requests a floating score popup at the specified location.
+     * Provides visual feedback for points earned when a renderer is attached.
      *
      * @param point score value to display
      * @param x     X coordinate for popup
      * @param y     Y coordinate for popup
      */
     private void spawnScorePopup(String point, double x, double y) {
-        scores.add(new Score(point, x, y, Color.CYAN));
+        events.onScorePopup(point, x, y);
     }
 }
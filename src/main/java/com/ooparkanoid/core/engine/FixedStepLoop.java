@@ -0,0 +1,191 @@
+package com.ooparkanoid.core.engine;
+
+import com.ooparkanoid.core.profiling.FrameEvent;
+
+/**
+ * Fixed-timestep accumulator that decouples simulation from the display refresh rate.
+ * Real frame time is accumulated and consumed in constant-size simulation steps,
+ * so physics produces the same results at 60, 144 or 240 Hz and never integrates
+ * a long frame hitch in one big step.
+ *
+ * Features:
+ * - Constant simulation step (default 240 Hz)
+ * - Clamped number of catch-up steps per frame (prevents the "spiral of death";
+ *   excess time after a long stall is dropped instead of simulated)
+ * - Interpolation alpha for rendering between the last two simulation states
+ * - Step counter for deterministic bookkeeping (replays, profiling)
+ * - Emits a JFR FrameEvent per advance() while a recording has it enabled
+ *
+ * Usage:
+ * <pre>
+ * FixedStepLoop loop = new FixedStepLoop(FixedStepLoop.DEFAULT_SIM_RATE, FixedStepLoop.DEFAULT_MAX_CATCH_UP_STEPS);
+ * // every frame:
+ * loop.advance(frameSeconds, gameManager::update);
+ * gameManager.render(gc, loop.getSimRate(), loop.getAlpha());
+ * </pre>
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from single game thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class FixedStepLoop {
+    /** Default simulation rate in steps per second */
+    public static final double DEFAULT_SIM_RATE = 240.0;
+
+    /** Default maximum number of simulation steps run for a single frame */
+    public static final int DEFAULT_MAX_CATCH_UP_STEPS = 16;
+
+    /**
+     * Callback receiving one fixed simulation step.
+     */
+    @FunctionalInterface
+    public interface Stepper {
+        /**
+         * Advances the simulation by exactly one fixed step.
+         *
+         * @param dt the fixed step length in seconds
+         */
+        void step(double dt);
+    }
+
+    /** Simulation rate in steps per second */
+    private final double simRate;
+
+    /** Length of one simulation step in seconds */
+    private final double stepSeconds;
+
+    /** Maximum number of steps run per advance() call */
+    private final int maxCatchUpSteps;
+
+    /** Real time not yet consumed by simulation steps (seconds) */
+    private double accumulator;
+
+    /** Fraction of a step left in the accumulator after the last advance() */
+    private double alpha = 1.0;
+
+    /** Total number of simulation steps run since construction or reset() */
+    private long stepCount;
+
+    /**
+     * Constructs a FixedStepLoop with the default rate and catch-up limit.
+     */
+    public FixedStepLoop() {
+        this(DEFAULT_SIM_RATE, DEFAULT_MAX_CATCH_UP_STEPS);
+    }
+
+    /**
+     * Constructs a FixedStepLoop with the given rate and catch-up limit.
+     *
+     * @param simRate         simulation steps per second (e.g. 240)
+     * @param maxCatchUpSteps maximum steps simulated for one frame (at least 1)
+     */
+    public FixedStepLoop(double simRate, int maxCatchUpSteps) {
+        if (simRate <= 0) {
+            throw new IllegalArgumentException("simRate must be positive: " + simRate);
+        }
+        this.simRate = simRate;
+        this.stepSeconds = 1.0 / simRate;
+        this.maxCatchUpSteps = Math.max(1, maxCatchUpSteps);
+    }
+
+    /**
+     * Adds real frame time to the accumulator and runs as many fixed steps as it covers.
+     * If more than maxCatchUpSteps steps are pending, only that many run and the
+     * remaining backlog is discarded.
+     *
+     * @param frameSeconds real time elapsed since the previous frame in seconds
+     * @param stepper      callback invoked once per simulation step
+     * @return number of simulation steps run during this call
+     */
+    public int advance(double frameSeconds, Stepper stepper) {
+        FrameEvent event = new FrameEvent();
+        event.begin();
+        if (frameSeconds > 0) {
+            accumulator += frameSeconds;
+        }
+
+        int steps = 0;
+        while (accumulator >= stepSeconds && steps < maxCatchUpSteps) {
+            stepper.step(stepSeconds);
+            accumulator -= stepSeconds;
+            steps++;
+            stepCount++;
+        }
+
+        // Drop the backlog after a long stall rather than trying to catch up forever
+        boolean backlogDropped = accumulator >= stepSeconds;
+        if (backlogDropped) {
+            accumulator %= stepSeconds;
+        }
+
+        alpha = accumulator / stepSeconds;
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.steps = steps;
+            event.frameNanos = (long) (frameSeconds * 1e9);
+            event.stepNanos = (long) (stepSeconds * 1e9);
+            event.backlogDropped = backlogDropped;
+            event.totalSteps = stepCount;
+            event.commit();
+        }
+        return steps;
+    }
+
+    /**
+     * Clears the accumulator and step counter.
+     * Call when a new session starts so leftover time does not leak into it.
+     */
+    public void reset() {
+        accumulator = 0;
+        alpha = 1.0;
+        stepCount = 0;
+    }
+
+    /**
+     * Gets the interpolation factor between the previous and current simulation state.
+     * 0 means "render the previous step", 1 means "render the latest step".
+     *
+     * @return interpolation alpha in [0, 1]
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Gets the simulation rate.
+     *
+     * @return simulation steps per second
+     */
+    public double getSimRate() {
+        return simRate;
+    }
+
+    /**
+     * Gets the fixed step length.
+     *
+     * @return step length in seconds
+     */
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Gets the maximum number of steps simulated for one frame.
+     *
+     * @return catch-up step limit
+     */
+    public int getMaxCatchUpSteps() {
+        return maxCatchUpSteps;
+    }
+
+    /**
+     * Gets the number of simulation steps run since construction or the last reset().
+     *
+     * @return total simulation steps
+     */
+    public long getStepCount() {
+        return stepCount;
+    }
+}
@@ -1,12 +1,10 @@
 package com.ooparkanoid.core.engine;
 
-import com.ooparkanoid.core.score.FirebaseScoreService;
-import com.ooparkanoid.object.Score;
-import com.ooparkanoid.sound.SoundManager;
-import com.ooparkanoid.core.state.PlayerContext;
+import com.ooparkanoid.core.profiling.ProfileSection;
+import com.ooparkanoid.core.profiling.Profiler;
+import com.ooparkanoid.core.score.HighScoreSubmitter;
+import com.ooparkanoid.sound.SoundEffectsListener;
 
-import com.ooparkanoid.core.save.SaveService;
-import com.ooparkanoid.core.score.ScoreEntry;
 import com.ooparkanoid.core.state.GameStateManager;
 import com.ooparkanoid.object.Ball;
 import com.ooparkanoid.object.Paddle;
@@ -14,16 +12,25 @@ import com.ooparkanoid.object.PowerUp.GameContext;
 import com.ooparkanoid.object.PowerUp.PowerUp;
 import com.ooparkanoid.object.PowerUp.PowerUpEffectManager;
 import com.ooparkanoid.object.PowerUp.PowerUpFactory;
-import com.ooparkanoid.object.bricks.Brick;
+import com.ooparkanoid.object.PowerUp.PowerUpSprite;
+import com.ooparkanoid.object.bricks.BrickField;
 
 import com.ooparkanoid.utils.Constants;
+import com.ooparkanoid.utils.EngineLog;
+import com.ooparkanoid.utils.ObjectPool;
 import javafx.scene.canvas.GraphicsContext;
 
+import com.ooparkanoid.graphics.BrickLayer;
 import com.ooparkanoid.graphics.ResourceManager;
-import javafx.scene.image.Image;
+import com.ooparkanoid.graphics.TextureRegion;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 /**
@@ -40,11 +47,29 @@ import java.util.Random;
  * to dedicated managers (CollisionHandler, LevelManager, PowerUpEffectManager, GameRenderer).
  * <p>
  * Design Pattern: Implements Singleton pattern and Observer pattern (via callbacks).
+ * <p>
+ * Headless Mode:
+ * The simulation itself (paddle, balls, bricks, power-ups, effects, scoring) never touches
+ * the JavaFX toolkit, audio or network. Rendering, sound and leaderboard submission are
+ * SimulationListener observers that the interactive constructor attaches; a game created
+ * with {@link #createHeadless()} has none of them and can be stepped from any plain Java
+ * thread, e.g. for balancing or regression runs.
+ * <p>
+ * State Snapshots:
+ * writeState() writes the complete simulation state (paddle, balls, lasers, falling
+ * power-ups, active effects with their timers, brick state, score, timers, step count and
+ * the random generator's position); readState() puts a game back into exactly that state,
+ * so it continues as the original did. Replay keyframes and state hashes are built on it.
  *
  * @author Arkanoid Team
  * @version 2.0
  */
 public class GameManager implements CollisionHandler.GameFlowCallbacks {
+    /**
+     * Version of the layout written by writeState(); files embedding snapshots store it
+     */
+    public static final int STATE_VERSION = 2;
+
     /**
      * Singleton instance
      */
@@ -62,19 +87,26 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
     private List<Ball> balls = new ArrayList<>();
 
     /**
-     * Bricks in current level
+     * Bricks of the current level, stored by lattice slot (reused across levels)
      */
-    private List<Brick> bricks;
+    private final BrickField bricks = LevelManager.createField();
 
     /**
-     * Floating score indicators for visual feedback
+     * Active power-ups falling on screen
      */
-    private final List<Score> scores = new ArrayList<>();
+    private final List<PowerUp> powerUps = new ArrayList<>();
 
     /**
-     * Active power-ups falling on screen
+     * Lost and cleared balls kept for reuse (main ball, extra balls, multi-ball)
      */
-    private final List<PowerUp> powerUps = new ArrayList<>();
+    private final ObjectPool<Ball> ballPool = new ObjectPool<>(
+            () -> new Ball(0, 0, Constants.BALL_RADIUS, Constants.DEFAULT_SPEED, 0, -1), 16);
+
+    /**
+     * Collected and missed power-ups kept for reuse, per type; each keeps its effect object
+     */
+    private final Map<PowerUpSprite.PowerUpType, ObjectPool<PowerUp>> powerUpPools =
+            new EnumMap<>(PowerUpSprite.PowerUpType.class);
 
     // ==================== Core Systems ====================
     /**
@@ -103,10 +135,25 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
     private CollisionHandler collisionHandler;
 
     /**
-     * Handles rendering of game objects and UI elements
+     * Handles rendering of game objects and UI elements (null when headless)
      */
     private GameRenderer gameRenderer;
 
+    /**
+     * Dispatches simulation events (sounds, score popups, game end) to attached observers
+     */
+    private final SimulationEvents events = new SimulationEvents();
+
+    /**
+     * True if this game runs without rendering, audio and leaderboard observers
+     */
+    private final boolean headless;
+
+    /**
+     * Leaderboard observer of an interactive game (null when headless)
+     */
+    private final SimulationListener scoreSubmitter;
+
     // ==================== Game State ====================
     /**
      * Time elapsed in current round/level (seconds)
@@ -124,9 +171,34 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
     private int currentLevel;
 
     /**
-     * Random number generator for game logic
+     * Random number generator for game logic.
+     * Shared by every randomized subsystem of this game (launch angles, power-up drops,
+     * flicker timing, multi-ball angles), so a seeded generator makes the whole game reproducible.
+     */
+    private final Random random;
+
+    /**
+     * Seed the random generator was restarted from by the last startSession()
+     */
+    private long sessionSeed;
+
+    /**
+     * Number of simulation steps run since the game was (re)initialized.
+     * Inputs are stamped with this counter, so it only advances on steps that actually ran.
+     */
+    private long stepCount;
+
+    /**
+     * Receives the player input applied to the simulation (replay recording), or null
      */
-    private Random random;
+    private InputListener inputListener;
+
+    /**
+     * Paddle position and velocity after the last step (or the last reported input),
+     * used to detect changes made from outside the simulation
+     */
+    private double lastPaddleX;
+    private double lastPaddleDx;
 
     /**
      * Flag indicating whether ball has been launched from paddle
@@ -171,17 +243,17 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
     /**
      * Texture for normal bricks
      */
-    private Image normalBrickTexture;
+    private TextureRegion normalBrickTexture;
 
     /**
      * Texture for indestructible bricks
      */
-    private Image indestructibleBrickTexture;
+    private TextureRegion indestructibleBrickTexture;
 
     /**
      * Texture for explosive bricks
      */
-    private Image explosiveBrickTexture;
+    private TextureRegion explosiveBrickTexture;
 
     public GameManager() {
         this(new GameStateManager());
@@ -194,34 +266,94 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
      * @param stateManager the state manager for tracking game progress
      */
     public GameManager(GameStateManager stateManager) {
+        this(stateManager, false);
+    }
+
+    /**
+     * Constructs a GameManager in interactive or headless mode.
+     * Interactive games load brick textures and attach the renderer, sound and
+     * leaderboard observers. Headless games skip all of them, so only the pure
+     * simulation runs and no JavaFX toolkit, audio device or network is required.
+     *
+     * @param stateManager the state manager for tracking game progress
+     * @param headless     true to run the simulation without any observers
+     */
+    public GameManager(GameStateManager stateManager, boolean headless) {
+        this(stateManager, headless, new GameRandom(GameRandom.newSeed()));
+    }
+
+    /**
+     * Constructs a GameManager whose randomness comes entirely from the given generator.
+     * startSession() restarts the generator from a new seed, so pass a seeded generator
+     * (preferably a GameRandom) when the constructor's own setup must be reproducible too.
+     *
+     * @param stateManager the state manager for tracking game progress
+     * @param headless     true to run the simulation without any observers
+     * @param random       generator for all random game decisions
+     */
+    public GameManager(GameStateManager stateManager, boolean headless, Random random) {
         this.stateManager = stateManager;
-        this.bricks = new ArrayList<>();
-        this.random = new Random();
+        this.headless = headless;
+        this.random = random;
 
-        loadBrickTextures();
+        if (!headless) {
+            loadBrickTextures();
+        }
 
         this.levelManager = new LevelManager(
                 normalBrickTexture,
                 indestructibleBrickTexture,
-                explosiveBrickTexture
+                explosiveBrickTexture,
+                random
         );
 
         this.effectManager = new PowerUpEffectManager(null);
-        this.collisionHandler = new CollisionHandler(stateManager, effectManager, this.scores, this);
-        this.gameRenderer = new GameRenderer(effectManager);
+        this.collisionHandler = new CollisionHandler(stateManager, effectManager, events, this, random);
+
+        if (!headless) {
+            this.gameRenderer = new GameRenderer(effectManager);
+            events.addListener(gameRenderer);
+            events.addListener(new SoundEffectsListener());
+            scoreSubmitter = new HighScoreSubmitter();
+            events.addListener(scoreSubmitter);
+        } else {
+            scoreSubmitter = null;
+        }
 
         initializeGame();
     }
 
+    /**
+     * Creates a GameManager that runs the simulation only.
+     * No textures, renderer, sound or leaderboard submission are attached;
+     * observers can still be added with addSimulationListener().
+     *
+     * @return a new headless GameManager with its own state manager
+     */
+    public static GameManager createHeadless() {
+        return new GameManager(new GameStateManager(), true);
+    }
+
+    /**
+     * Creates a headless GameManager whose random decisions are driven by the given seed.
+     * Two games created with the same seed and fed the same inputs play out identically.
+     *
+     * @param seed seed for the game's random generator
+     * @return a new seeded headless GameManager
+     */
+    public static GameManager createHeadless(long seed) {
+        return new GameManager(new GameStateManager(), true, new GameRandom(seed));
+    }
+
     /**
      * Loads all brick textures from the resource manager.
-     * Textures are cached for efficient rendering.
+     * Textures are atlas regions shared by every brick of a type.
      */
     private void loadBrickTextures() {
         ResourceManager rm = ResourceManager.getInstance();
-        normalBrickTexture = rm.getImage("brick_normal.png");
-        indestructibleBrickTexture = rm.getImage("brick_enternal.png");
-        explosiveBrickTexture = rm.getImage("brick_explosive.png");
+        normalBrickTexture = rm.getRegion("brick_normal.png");
+        indestructibleBrickTexture = rm.getRegion("brick_enternal.png");
+        explosiveBrickTexture = rm.getRegion("brick_explosive.png");
     }
 
     /**
@@ -245,36 +377,66 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
      * This method is called on game start and when restarting after game over.
      */
     public void initializeGame() {
+        initializeGame(1);
+    }
+
+    /**
+     * Starts a new game session: restarts the random generator from the given seed and
+     * initializes the game at the given level.
+     * Everything that happens afterwards is determined by the seed and the player input
+     * reported to the InputListener, which is what a replay records.
+     *
+     * @param seed       seed for every random decision of the session
+     * @param startLevel level to start on (1 to MAX_LEVELS)
+     */
+    public void startSession(long seed, int startLevel) {
+        sessionSeed = seed;
+        random.setSeed(seed);
+        initializeGame(startLevel);
+    }
+
+    /**
+     * Initializes or resets the game to its starting state at the given level.
+     * Used by simulations that measure a single level in isolation.
+     *
+     * @param startLevel level to start on (1 to MAX_LEVELS)
+     */
+    public void initializeGame(int startLevel) {
         // Initialize paddle at center bottom
         double paddleStartX = Constants.PLAYFIELD_LEFT
                 + (Constants.PLAYFIELD_WIDTH - Constants.PADDLE_WIDTH) / 2.0;
         paddle = new Paddle(paddleStartX, Constants.HEIGHT - 40);
+        paddle.setSoundPlayer(events::onSound);
 
         // Clear all game object lists
-        balls.clear();
-        scores.clear();
-        powerUps.clear();
+        releaseBalls();
+        releasePowerUps();
 
         // Set up game context for power-up effects
         gameContext = new GameContext(paddle, balls);
+        gameContext.setRandom(random);
+        gameContext.setBallPool(ballPool);
         gameContext.setLivesModifier(amount -> {
             // Modify lives through state manager (single source of truth)
             int currentLives = stateManager.getLives();
             int currentScore = stateManager.getScore();
             currentLives += amount;
             stateManager.updateStats(currentScore, currentLives);
-            System.out.println("❤️ Lives increased by " + amount + "! Total: " + currentLives);
+            EngineLog.info("❤️ Lives increased by " + amount + "! Total: " + currentLives);
         });
 
         // Reinitialize game systems with new context
         this.effectManager = new PowerUpEffectManager(gameContext);
-        this.collisionHandler = new CollisionHandler(stateManager, effectManager, this.scores, this);
-        this.gameRenderer = new GameRenderer(effectManager);
+        this.collisionHandler = new CollisionHandler(stateManager, effectManager, events, this, random);
+        if (gameRenderer != null) {
+            gameRenderer.setEffectManager(effectManager);
+            gameRenderer.clearScorePopups();
+        }
 
         // Initialize game state
         int score = 0;
         int lives = Constants.START_LIVES;
-        currentLevel = 1;
+        currentLevel = Math.max(1, Math.min(startLevel, Constants.MAX_LEVELS));
         roundTimeElapsed = 0;
         totalTimeElapsed = 0;
         isLosingLife = false;
@@ -285,10 +447,15 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
         // Load first level and reset ball position
         loadLevel(currentLevel);
         resetBallAndPaddlePosition();
+        stepCount = 0;
+        lastPaddleX = paddle.getX();
+        lastPaddleDx = paddle.getDx();
 
         // Wire up game systems with game objects
         collisionHandler.setGameObjects(paddle, balls, bricks, powerUps);
-        gameRenderer.setGameObjects(paddle, balls, bricks, powerUps, scores);
+        if (gameRenderer != null) {
+            gameRenderer.setGameObjects(paddle, balls, bricks, powerUps);
+        }
 
         // Update UI with initial state
         stateManager.updateStats(score, lives);
@@ -304,8 +471,8 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
      * @param levelNum the level number to load (1-based)
      */
     private void loadLevel(int levelNum) {
-        bricks = levelManager.createLevel(levelNum);
-        if (this.bricks.isEmpty()) {
+        levelManager.createLevel(levelNum, bricks);
+        if (bricks.size() == 0) {
             System.err.println("Failed to load level " + levelNum + ". No bricks were created.");
         }
     }
@@ -313,7 +480,8 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
     /**
      * Main game loop update method called every frame.
      * Updates all game objects, handles collisions, and checks game flow conditions.
-     * Only processes updates when game is running (not paused or game over).
+     * Only processes updates when game is running (not paused or game over); only those
+     * steps advance the step counter that recorded input is stamped with.
      *
      * @param dt delta time in seconds since last frame
      */
@@ -321,6 +489,28 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
         if (!stateManager.isRunning()) {
             return;
         }
+        long start = Profiler.begin();
+        reportPaddleInput();
+        // Count the step before running it, so anything that ends the session inside
+        // the step (game over, victory) already sees it included
+        stepCount++;
+        updateStep(dt);
+        lastPaddleX = paddle.getX();
+        lastPaddleDx = paddle.getDx();
+        Profiler.end(ProfileSection.UPDATE, start);
+        if (inputListener != null) {
+            inputListener.onStepEnd(stepCount);
+        }
+    }
+
+    /**
+     * Body of update(), separated so every exit path is timed by the profiler.
+     *
+     * @param dt delta time in seconds since last frame
+     */
+    private void updateStep(double dt) {
+        // Snapshot positions so the renderer can interpolate between fixed steps
+        storePreviousPositions();
 
         // Handle round transition delay
         if (waitingForRoundTransition) {
@@ -337,9 +527,9 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
             paddle.update(dt);
             for (Ball b : balls) b.update(dt);
             for (PowerUp p : powerUps) p.update(dt);
-            for (Score s : scores) s.update(dt);
-            for (Brick b : bricks) b.update(dt);
+            bricks.update(dt);
             effectManager.update(dt);
+            events.onUpdate(dt);
             return;
         }
 
@@ -355,6 +545,7 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
 
             currentLives--;
             stateManager.updateStats(currentScore, currentLives);
+            events.onLifeLost(currentLives);
 
             if (currentLives > 0) {
                 resetBallAndPaddlePosition(); // Reset game
@@ -372,22 +563,20 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
         // Update balls (stick to paddle if not launched yet)
         for (Ball b : balls) {
             if (!ballLaunched) {
-                b.setX(paddle.getX() + paddle.getWidth() / 2 - b.getWidth() / 2);
-                b.setY(paddle.getY() - b.getHeight() - 2);
+                b.placeOn(paddle, paddle.getX() + paddle.getWidth() / 2 - b.getWidth() / 2,
+                        paddle.getY() - b.getHeight() - 2);
             }
             b.update(dt);
         }
 
         for (PowerUp p : powerUps) p.update(dt);
-        for (Score s : scores) s.update(dt);
-        for (Brick b : bricks) b.update(dt);
+        bricks.update(dt);
 
         // Update power-up effects and timers
         effectManager.update(dt);
 
-        // Clean up finished objects
-        scores.removeIf(Score::isFinished);
-        bricks.removeIf(Brick::isDestroyed);
+        // Let observers advance their transient state (score popups)
+        events.onUpdate(dt);
 
         // Handle collisions only when ball is in play
         if (ballLaunched) {
@@ -398,6 +587,15 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
         checkGameFlowConditions();
     }
 
+    /**
+     * Records the start-of-step position of every interpolated object.
+     * Must run once at the beginning of each simulation step.
+     */
+    private void storePreviousPositions() {
+        paddle.storePreviousPosition();
+        for (Ball b : balls) b.storePreviousPosition();
+    }
+
     /**
      * Checks game flow conditions (level completion, game over).
      * Handles level progression and game over logic.
@@ -405,28 +603,22 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
      */
     private void checkGameFlowConditions() {
         // Check if all destroyable bricks are destroyed (level complete)
-        boolean allDestroyableBricksDestroyed = true;
-        for (Brick brick : bricks) {
-            if (brick.getType() != Brick.BrickType.INDESTRUCTIBLE && !brick.isDestroyed()) {
-                allDestroyableBricksDestroyed = false;
-                break;
-            }
-        }
+        boolean allDestroyableBricksDestroyed = bricks.getDestructibleRemaining() == 0;
 
         if (allDestroyableBricksDestroyed) {
             currentLevel++;
-            powerUps.clear();
+            releasePowerUps();
             effectManager.clearAll();
 
             if (currentLevel > Constants.MAX_LEVELS) {
                 // All levels completed - Victory!
-                System.out.println("Congratulations! All levels completed!");
+                EngineLog.info("Congratulations! All levels completed!");
                 stateManager.setStatusMessage("You Win! Final Score: " + stateManager.getScore());
-                recordHighScore(Constants.MAX_LEVELS);
+                recordHighScore(Constants.MAX_LEVELS, true);
                 stateManager.markGameWon(); // Show victory screen
             } else {
                 // Load next level
-                System.out.println("Starting Level " + currentLevel);
+                EngineLog.info("Starting Level " + currentLevel);
 
                 // Start transition delay timer (will trigger callback after delay)
                 waitingForRoundTransition = true;
@@ -441,7 +633,9 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
 
                 // Rewire systems with new level data
                 collisionHandler.setGameObjects(paddle, balls, bricks, powerUps);
-                gameRenderer.setGameObjects(paddle, balls, bricks, powerUps, scores);
+                if (gameRenderer != null) {
+                    gameRenderer.setGameObjects(paddle, balls, bricks, powerUps);
+                }
             }
             return;
         }
@@ -451,7 +645,7 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
             // Check for game over (no lives remaining)
             if (stateManager.getLives() <= 0) {
                 stateManager.setStatusMessage("Game Over! Final Score: " + stateManager.getScore());
-                recordHighScore();
+                recordHighScore(currentLevel, false);
                 stateManager.markGameOver();
             }
         }
@@ -485,36 +679,85 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
      */
     @Override
     public void spawnPowerUp(double x, double y) {
-        PowerUp powerUp = PowerUpFactory.createRandomPowerUp(x, y);
-        if (powerUp != null) {
-            powerUps.add(powerUp);
+        PowerUpSprite.PowerUpType type = PowerUpFactory.randomType(random);
+        powerUps.add(acquirePowerUp(type).reset(x, y));
+    }
+
+    /**
+     * Takes a power-up of the given type from its pool.
+     *
+     * @param type power-up type
+     * @return a pooled or new power-up, to be reset by the caller
+     */
+    private PowerUp acquirePowerUp(PowerUpSprite.PowerUpType type) {
+        ObjectPool<PowerUp> pool = powerUpPools.computeIfAbsent(type,
+                t -> new ObjectPool<>(() -> PowerUpFactory.createPowerUp(0, 0, t), 4));
+        return pool.acquire();
+    }
+
+    /**
+     * Returns a lost ball to the ball pool.
+     * Active effects drop their per-ball data first, since the pool reuses the object.
+     * <p>
+     * Implementation of GameFlowCallbacks.releaseBall()
+     *
+     * @param ball ball removed from the ball list
+     */
+    @Override
+    public void releaseBall(Ball ball) {
+        if (effectManager != null) {
+            effectManager.onBallReleased(ball);
         }
+        ballPool.release(ball);
     }
 
-    // ==================== High Score Management ====================
+    /**
+     * Returns a collected or missed power-up to the pool of its type.
+     * <p>
+     * Implementation of GameFlowCallbacks.releasePowerUp()
+     *
+     * @param powerUp power-up removed from the power-up list
+     */
+    @Override
+    public void releasePowerUp(PowerUp powerUp) {
+        ObjectPool<PowerUp> pool = powerUpPools.get(powerUp.getType());
+        if (pool != null) {
+            pool.release(powerUp);
+        }
+    }
 
     /**
-     * Records the current high score to Firebase.
-     * Uses current level as rounds played.
+     * Empties the ball list, returning every ball to the pool.
      */
-    private void recordHighScore() {
-        recordHighScore(currentLevel);
+    private void releaseBalls() {
+        for (Ball b : balls) releaseBall(b);
+        balls.clear();
+    }
+
+    /**
+     * Empties the power-up list, returning every power-up to its pool.
+     */
+    private void releasePowerUps() {
+        for (PowerUp p : powerUps) releasePowerUp(p);
+        powerUps.clear();
     }
 
+    // ==================== High Score Management ====================
+
     /**
-     * Records high score to Firebase with specified round count.
-     * Clamps rounds to valid range (1 to MAX_LEVELS) and submits score entry.
+     * Publishes the final result of the game to the attached observers.
+     * Clamps rounds to valid range (1 to MAX_LEVELS); interactive games submit it
+     * to Firebase through HighScoreSubmitter.
      *
      * @param roundsPlayed number of rounds/levels completed
+     * @param won          true if all levels were cleared
      */
-    private void recordHighScore(int roundsPlayed) {
+    private void recordHighScore(int roundsPlayed, boolean won) {
         int clampedRounds = Math.max(1, Math.min(roundsPlayed, Constants.MAX_LEVELS));
 
         // Get final score from state manager (single source of truth)
         int finalScore = stateManager.getScore();
-        ScoreEntry entry = new ScoreEntry(PlayerContext.playerName, finalScore, clampedRounds, totalTimeElapsed);
-
-        FirebaseScoreService.submitScore(entry);
+        events.onGameFinished(won, finalScore, clampedRounds, totalTimeElapsed);
     }
 
     // ==================== Position Reset ====================
@@ -528,10 +771,10 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
     private void resetBallAndPaddlePosition() {
         double paddleStartX = Constants.PLAYFIELD_LEFT
                 + (Constants.PLAYFIELD_WIDTH - Constants.PADDLE_WIDTH) / 2.0;
-        paddle.setX(paddleStartX);
+        paddle.teleport(paddleStartX, paddle.getY());
         paddle.setDx(0);
-        balls.clear();
-        Ball newBall = new Ball(
+        releaseBalls();
+        Ball newBall = ballPool.acquire().reset(
                 Constants.PLAYFIELD_LEFT + Constants.PLAYFIELD_WIDTH / 2.0,
                 Constants.HEIGHT / 2.0,
                 Constants.BALL_RADIUS,
@@ -551,9 +794,35 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
      * @param g the GraphicsContext to render to
      */
     public void render(GraphicsContext g) {
+        if (gameRenderer == null) return;
         gameRenderer.render(g);
     }
 
+    /**
+     * Renders the game with fixed-step timing information.
+     * Moving objects are drawn interpolated between the last two simulation steps.
+     *
+     * @param g       the GraphicsContext to render to
+     * @param simRate simulation rate in steps per second
+     * @param alpha   interpolation factor between previous and current step (0 to 1)
+     */
+    public void render(GraphicsContext g, double simRate, double alpha) {
+        if (gameRenderer == null) return;
+        gameRenderer.setFrameTiming(simRate, alpha);
+        gameRenderer.render(g);
+    }
+
+    /**
+     * Attaches a cached brick layer so bricks are drawn only when they change.
+     * Has no effect on a headless game, which has no renderer.
+     *
+     * @param brickLayer the brick layer stacked under the game canvas
+     */
+    public void setBrickLayer(BrickLayer brickLayer) {
+        if (gameRenderer == null) return;
+        gameRenderer.setBrickLayer(brickLayer);
+    }
+
     // ==================== Public API ====================
 
     /**
@@ -571,6 +840,10 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
      * Can only be called once per ball life until reset.
      */
     public void launchBall() {
+        if (inputListener != null) {
+            reportPaddleInput();
+            inputListener.onLaunch(stepCount);
+        }
         if (isLosingLife || paddle.isSpawning()) { // (isSpawning() từ Paddle.java)
             return;
         }
@@ -582,13 +855,45 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
         }
     }
 
+    /**
+     * Fires the paddle lasers (player input).
+     * Does nothing unless the laser power-up is active and the paddle's cooldown has passed.
+     */
+    public void shootLaser() {
+        if (inputListener != null) {
+            reportPaddleInput();
+            inputListener.onLaser(stepCount);
+        }
+        paddle.shootLaser();
+    }
+
+    /**
+     * Reports paddle position and velocity changes made since the last step to the
+     * input listener, so they are recorded ahead of the input or step that follows.
+     */
+    private void reportPaddleInput() {
+        if (inputListener == null) {
+            return;
+        }
+        double x = paddle.getX();
+        if (Double.compare(x, lastPaddleX) != 0) {
+            lastPaddleX = x;
+            inputListener.onPaddlePosition(stepCount, x);
+        }
+        double dx = paddle.getDx();
+        if (Double.compare(dx, lastPaddleDx) != 0) {
+            lastPaddleDx = dx;
+            inputListener.onPaddleVelocity(stepCount, dx);
+        }
+    }
+
     /**
      * Spawns an extra ball above the paddle.
      * Extra ball will have random initial direction if ball is already launched.
      * Used by multi-ball power-up.
      */
     public void spawnExtraBall() {
-        Ball newBall = new Ball(
+        Ball newBall = ballPool.acquire().reset(
                 paddle.getX() + paddle.getWidth() / 2.0,
                 paddle.getY() - 20,
                 Constants.BALL_RADIUS,
@@ -601,6 +906,24 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
         balls.add(newBall);
     }
 
+    /**
+     * Gets the bricks of the current level.
+     *
+     * @return the brick field
+     */
+    public BrickField getBricks() {
+        return bricks;
+    }
+
+    /**
+     * Gets the number of floating score popups on screen.
+     *
+     * @return popup count, 0 for a headless game
+     */
+    public int getScorePopupCount() {
+        return gameRenderer != null ? gameRenderer.getScorePopupCount() : 0;
+    }
+
     /**
      * Gets the list of active balls.
      *
@@ -637,6 +960,236 @@ public class GameManager implements CollisionHandler.GameFlowCallbacks {
         return stateManager;
     }
 
+    /**
+     * Gets the level currently being played.
+     *
+     * @return current level number (1-based; MAX_LEVELS + 1 after the final level is cleared)
+     */
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Gets the manager of the currently active power-up effects.
+     *
+     * @return the PowerUpEffectManager of the current game
+     */
+    public PowerUpEffectManager getEffectManager() {
+        return effectManager;
+    }
+
+    /**
+     * Gets the list of power-ups currently falling on screen.
+     *
+     * @return list of active PowerUp objects
+     */
+    public List<PowerUp> getPowerUps() {
+        return powerUps;
+    }
+
+    /**
+     * Checks whether the ball has been launched from the paddle.
+     *
+     * @return true if the ball is in play
+     */
+    public boolean isBallLaunched() {
+        return ballLaunched;
+    }
+
+    /**
+     * Checks whether this game runs without rendering, audio and leaderboard observers.
+     *
+     * @return true if headless
+     */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Attaches an observer to the simulation's events.
+     *
+     * @param listener the listener to add
+     */
+    public void addSimulationListener(SimulationListener listener) {
+        events.addListener(listener);
+    }
+
+    /**
+     * Detaches an observer from the simulation's events.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeSimulationListener(SimulationListener listener) {
+        events.removeListener(listener);
+    }
+
+    /**
+     * Sets the observer of the player input applied to the simulation.
+     *
+     * @param listener the listener, or null to stop reporting input
+     */
+    public void setInputListener(InputListener listener) {
+        this.inputListener = listener;
+    }
+
+    /**
+     * Gets the seed of the current session.
+     *
+     * @return the seed passed to the last startSession(), 0 if none was started
+     */
+    public long getSessionSeed() {
+        return sessionSeed;
+    }
+
+    /**
+     * Gets the number of simulation steps run since the game was initialized.
+     *
+     * @return step count
+     */
+    public long getStepCount() {
+        return stepCount;
+    }
+
+    /**
+     * Enables or disables submitting the final score to the leaderboard when the game ends.
+     * Replays shown in the game turn it off, as they are not new results. No effect on
+     * headless games, which never submit.
+     *
+     * @param enabled true to submit (the default for interactive games)
+     */
+    public void setScoreSubmissionEnabled(boolean enabled) {
+        if (scoreSubmitter == null) {
+            return;
+        }
+        if (enabled) {
+            events.addListener(scoreSubmitter);
+        } else {
+            events.removeListener(scoreSubmitter);
+        }
+    }
+
+    // ==================== State Snapshots ====================
+
+    /**
+     * Writes the complete simulation state (layout: STATE_VERSION).
+     * The game state (running, paused, over) and attached observers are not part of it.
+     *
+     * @param out destination
+     * @throws IOException           if writing fails
+     * @throws IllegalStateException if the game's generator is not a GameRandom
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(sessionSeed);
+        out.writeLong(stepCount);
+        out.writeLong(gameRandom().getState());
+        out.writeInt(currentLevel);
+        out.writeInt(stateManager.getScore());
+        out.writeInt(stateManager.getLives());
+        out.writeDouble(roundTimeElapsed);
+        out.writeDouble(totalTimeElapsed);
+        out.writeBoolean(ballLaunched);
+        out.writeBoolean(isLosingLife);
+        out.writeBoolean(waitingForRoundTransition);
+        out.writeDouble(roundTransitionTimer);
+
+        paddle.writeState(out);
+        out.writeInt(balls.size());
+        for (Ball b : balls) {
+            b.writeState(out);
+        }
+        out.writeInt(powerUps.size());
+        for (PowerUp p : powerUps) {
+            out.writeByte(p.getType().ordinal());
+            p.writeState(out);
+        }
+        effectManager.writeState(out);
+        bricks.writeState(out);
+    }
+
+    /**
+     * Puts the game into a state written by writeState().
+     * The level is reloaded and its bricks brought to the saved state; balls, lasers and
+     * power-ups are taken from the pools. Active effects are restored without being applied
+     * again. If reading fails the game is left half-restored and must be re-initialized.
+     *
+     * @param in source
+     * @throws IOException           if reading fails or the data is inconsistent
+     * @throws IllegalStateException if the game's generator is not a GameRandom
+     */
+    public void readState(DataInput in) throws IOException {
+        GameRandom gameRandom = gameRandom();
+        long seed = in.readLong();
+        long steps = in.readLong();
+        long randomState = in.readLong();
+        int level = in.readInt();
+        if (level < 1 || level > Constants.MAX_LEVELS) {
+            throw new IOException("Invalid level " + level);
+        }
+        int score = in.readInt();
+        int lives = in.readInt();
+        roundTimeElapsed = in.readDouble();
+        totalTimeElapsed = in.readDouble();
+        ballLaunched = in.readBoolean();
+        isLosingLife = in.readBoolean();
+        waitingForRoundTransition = in.readBoolean();
+        roundTransitionTimer = in.readDouble();
+
+        // Loading the level draws flicker timings from the generator; its state is restored last
+        currentLevel = level;
+        loadLevel(level);
+
+        paddle.readState(in);
+        releaseBalls();
+        int ballCount = in.readInt();
+        for (int i = 0; i < ballCount; i++) {
+            Ball b = ballPool.acquire();
+            b.readState(in);
+            balls.add(b);
+        }
+        releasePowerUps();
+        PowerUpSprite.PowerUpType[] types = PowerUpSprite.PowerUpType.values();
+        int powerUpCount = in.readInt();
+        for (int i = 0; i < powerUpCount; i++) {
+            int type = in.readUnsignedByte();
+            if (type >= types.length) {
+                throw new IOException("Unknown power-up type " + type);
+            }
+            PowerUp p = acquirePowerUp(types[type]);
+            p.readState(in);
+            powerUps.add(p);
+        }
+        effectManager.readState(in);
+        bricks.readState(in);
+
+        gameRandom.setState(randomState);
+        sessionSeed = seed;
+        stepCount = steps;
+        lastPaddleX = paddle.getX();
+        lastPaddleDx = paddle.getDx();
+
+        collisionHandler.setGameObjects(paddle, balls, bricks, powerUps);
+        if (gameRenderer != null) {
+            gameRenderer.setGameObjects(paddle, balls, bricks, powerUps);
+            gameRenderer.clearScorePopups();
+        }
+        stateManager.updateStats(score, lives);
+        stateManager.setCurrentRound(currentLevel);
+        stateManager.updateTimers(roundTimeElapsed, totalTimeElapsed);
+    }
+
+    /**
+     * Gets the game's generator as a GameRandom, whose position snapshots can capture.
+     *
+     * @return the generator
+     * @throws IllegalStateException if the game was constructed with another Random
+     */
+    private GameRandom gameRandom() {
+        if (random instanceof GameRandom gameRandom) {
+            return gameRandom;
+        }
+        throw new IllegalStateException("State snapshots need a GameManager seeded with a GameRandom");
+    }
+
     /**
      * Sets the round transition callback.
      *
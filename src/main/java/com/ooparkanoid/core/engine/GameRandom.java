@@ -0,0 +1,135 @@
+package com.ooparkanoid.core.engine;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeded random stream of one game session.
+ * A java.util.Random that remembers the seed it was last seeded with, so the seed can be
+ * written into a replay and the whole session re-run later. The number sequence is exactly
+ * that of new Random(seed): its algorithm is fixed by the Java specification, so a seed
+ * reproduces the same session on every JVM. The generator runs that algorithm on a field
+ * of its own, so its position in the stream can also be saved and restored.
+ *
+ * Features:
+ * - getSeed() returns the seed of the current session
+ * - newSeed() picks a fresh, well-mixed seed for sessions that were not given one
+ * - setSeed() restarts the stream, e.g. when a new session starts on an existing game
+ * - getState()/setState() capture and rewind the stream (game state snapshots)
+ *
+ * Usage:
+ * <pre>
+ * GameRandom random = new GameRandom(GameRandom.newSeed());
+ * GameManager game = new GameManager(stateManager, false, random);
+ * long seed = random.getSeed(); // store in the replay header
+ * </pre>
+ *
+ * Thread Safety: Thread-safe like java.util.Random, but a session stream should only be
+ * drawn from by the simulation thread, otherwise the sequence is not reproducible.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class GameRandom extends Random {
+    /** Random is Serializable; sessions are persisted through getState(), not serialization */
+    private static final long serialVersionUID = 1L;
+
+    /** Advances on every newSeed() call so two seeds picked in the same nanosecond differ */
+    private static final AtomicLong SEED_SEQUENCE = new AtomicLong(System.nanoTime());
+
+    /** Constants of the linear congruential generator specified for java.util.Random */
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    /**
+     * Seed passed to the last setSeed() (also called by the constructor).
+     * No initializers on these fields: Random's constructor calls setSeed() before they run.
+     */
+    private long seed;
+
+    /** 48-bit generator state, advanced by next() exactly as Random advances its own */
+    private long state;
+
+    /**
+     * Constructs a stream that produces the same numbers as new Random(seed).
+     *
+     * @param seed session seed
+     */
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Restarts the stream from a seed.
+     *
+     * @param seed session seed
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+        this.seed = seed;
+        this.state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    /**
+     * Generates the next random bits. Same algorithm as Random.next(), on our own state.
+     *
+     * @param bits number of random bits (1 to 32)
+     * @return the bits in the low end of an int
+     */
+    @Override
+    protected synchronized int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * Gets the current position in the stream.
+     * nextGaussian() keeps a second value cached outside this state; the game does not use it.
+     *
+     * @return 48-bit generator state
+     */
+    public synchronized long getState() {
+        return state;
+    }
+
+    /**
+     * Moves the stream to a position captured with getState(). The session seed is unchanged.
+     *
+     * @param state generator state from getState()
+     */
+    public synchronized void setState(long state) {
+        this.state = state & MASK;
+    }
+
+    /**
+     * Gets the seed the stream was last started from.
+     *
+     * @return session seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Picks a fresh seed for a new session.
+     *
+     * @return a seed that differs from every other seed picked by this JVM
+     */
+    public static long newSeed() {
+        return mix(SEED_SEQUENCE.addAndGet(0x9E3779B97F4A7C15L) ^ System.nanoTime());
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads every input bit over the whole result.
+     *
+     * @param z value to mix
+     * @return mixed value
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,16 +1,21 @@
 // File: src/main/java/com/ooparkanoid/core/engine/GameRenderer.java
 package com.ooparkanoid.core.engine;
 
+import com.ooparkanoid.core.profiling.ProfileSection;
+import com.ooparkanoid.core.profiling.Profiler;
+import com.ooparkanoid.graphics.BrickLayer;
 import com.ooparkanoid.object.Ball;
 import com.ooparkanoid.object.Paddle;
 import com.ooparkanoid.object.PowerUp.PowerUp;
 import com.ooparkanoid.object.PowerUp.PowerUpEffectManager;
 import com.ooparkanoid.object.Score;
-import com.ooparkanoid.object.bricks.Brick;
+import com.ooparkanoid.object.bricks.BrickField;
 import com.ooparkanoid.utils.Constants;
+import com.ooparkanoid.utils.ObjectPool;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,12 +32,23 @@ import java.util.List;
  * 6. Score popups
  * 7. Active effects HUD
  *
+ * When a BrickLayer is attached, step 2 happens on that layer's own canvas (stacked
+ * under the game canvas) and only touches the cells the BrickField marked dirty;
+ * the per-frame pass on the game canvas then draws the dynamic objects alone.
+ *
+ * The renderer is also a SimulationListener: it owns the floating score popups,
+ * creating them from score events and advancing them with the simulation steps.
+ * Headless games never attach a renderer, so no text nodes are ever created.
+ *
  * @author Arkanoid Team
  * @version 2.0
  */
-public class GameRenderer {
+public class GameRenderer implements SimulationListener {
+    /** Color of the floating score popups */
+    private static final Color SCORE_POPUP_COLOR = Color.CYAN;
+
     /** Manager for tracking active power-up effects and their durations */
-    private final PowerUpEffectManager effectManager;
+    private PowerUpEffectManager effectManager;
 
     // ==================== Renderable Game Objects ====================
     /** Player-controlled paddle */
@@ -42,13 +58,27 @@ public class GameRenderer {
     private List<Ball> balls;
 
     /** Bricks in current level */
-    private List<Brick> bricks;
+    private BrickField bricks;
 
     /** Active power-ups falling on screen */
     private List<PowerUp> powerUps;
 
-    /** Floating score indicators for visual feedback */
-    private List<Score> scores;
+    /** Cached brick canvas, or null to draw bricks on the game canvas every frame */
+    private BrickLayer brickLayer;
+
+    /** Floating score indicators for visual feedback (owned by the renderer) */
+    private final List<Score> scores = new ArrayList<>();
+
+    /** Finished score popups kept for reuse */
+    private final ObjectPool<Score> scorePool =
+            new ObjectPool<>(() -> new Score("", 0, 0, SCORE_POPUP_COLOR), 32);
+
+    // ==================== Frame Timing ====================
+    /** Simulation rate of the fixed-step loop driving the game (steps per second) */
+    private double simRate = FixedStepLoop.DEFAULT_SIM_RATE;
+
+    /** Interpolation factor between the previous and current simulation step */
+    private double alpha = 1.0;
 
     /**
      * Constructs a GameRenderer with specified effect manager.
@@ -59,22 +89,118 @@ public class GameRenderer {
         this.effectManager = effectManager;
     }
 
+    /**
+     * Replaces the effect manager shown in the HUD.
+     * Called when GameManager rebuilds its systems for a new game.
+     *
+     * @param effectManager the power-up effect manager for displaying active effects
+     */
+    public void setEffectManager(PowerUpEffectManager effectManager) {
+        this.effectManager = effectManager;
+    }
+
     /**
      * Injects game object references for rendering.
      * Must be called before render() to avoid null pointer exceptions.
      *
      * @param paddle the player's paddle
      * @param balls list of active balls
-     * @param bricks list of bricks in current level
+     * @param bricks brick field of the current level
      * @param powerUps list of active power-ups
-     * @param scores list of floating score indicators
      */
-    public void setGameObjects(Paddle paddle, List<Ball> balls, List<Brick> bricks, List<PowerUp> powerUps, List<Score> scores) {
+    public void setGameObjects(Paddle paddle, List<Ball> balls, BrickField bricks, List<PowerUp> powerUps) {
         this.paddle = paddle;
         this.balls = balls;
         this.bricks = bricks;
         this.powerUps = powerUps;
-        this.scores = scores;
+    }
+
+    /**
+     * Attaches the cached brick layer.
+     * From then on bricks are drawn there, and only when they change.
+     *
+     * @param brickLayer the brick layer, or null to draw bricks with every frame again
+     */
+    public void setBrickLayer(BrickLayer brickLayer) {
+        this.brickLayer = brickLayer;
+    }
+
+    /**
+     * Removes all floating score popups.
+     * Called when a new game starts.
+     */
+    public void clearScorePopups() {
+        for (Score s : scores) scorePool.release(s);
+        scores.clear();
+    }
+
+    // ==================== SimulationListener ====================
+
+    /**
+     * Creates a floating score popup for points awarded by the simulation.
+     *
+     * @param text    popup text to display
+     * @param centerX X coordinate to center the popup on
+     * @param topY    Y coordinate of the popup's top edge
+     */
+    @Override
+    public void onScorePopup(String text, double centerX, double topY) {
+        scores.add(scorePool.acquire().reset(text, centerX, topY, SCORE_POPUP_COLOR));
+    }
+
+    /**
+     * Advances floating score popups and returns the finished ones to the pool.
+     *
+     * @param dt step length in seconds
+     */
+    @Override
+    public void onUpdate(double dt) {
+        for (int i = scores.size() - 1; i >= 0; i--) {
+            Score s = scores.get(i);
+            s.update(dt);
+            if (s.isFinished()) {
+                scores.remove(i);
+                scorePool.release(s);
+            }
+        }
+    }
+
+    /**
+     * Updates the fixed-step timing used for the next render() call.
+     *
+     * @param simRate simulation rate in steps per second
+     * @param alpha   interpolation factor between previous and current step (0 to 1)
+     */
+    public void setFrameTiming(double simRate, double alpha) {
+        this.simRate = simRate;
+        this.alpha = Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    /**
+     * Gets the simulation rate reported by the game loop.
+     *
+     * @return simulation steps per second
+     */
+    public double getSimRate() {
+        return simRate;
+    }
+
+    /**
+     * Gets the interpolation factor used for the current frame.
+     *
+     * @return interpolation alpha (0 to 1)
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Gets the number of floating score popups currently shown.
+     *
+     * @return popup count
+     */
+    public int getScorePopupCount() {
+        return scores.size();
     }
 
     /**
@@ -87,23 +213,28 @@ public class GameRenderer {
         if (paddle == null || balls == null || effectManager == null) {
             return;
         }
+        long start = Profiler.begin();
 
         // Clear canvas
         g.clearRect(0, 0, Constants.WIDTH, Constants.HEIGHT);
 
         // Render paddle
         if (paddle != null) {
-            paddle.render(g);
+            paddle.renderInterpolated(g, alpha);
         }
 
         // Render all active balls
         for (Ball b : balls) {
-            b.render(g);
+            b.renderInterpolated(g, alpha);
         }
 
-        // Render all bricks
-        for (Brick brick : bricks) {
-            brick.render(g);
+        // Bricks: bring the cached layer up to date, or draw all live ones directly
+        if (brickLayer != null) {
+            brickLayer.sync(bricks);
+        } else {
+            for (int slot = bricks.nextAlive(0); slot >= 0; slot = bricks.nextAlive(slot + 1)) {
+                bricks.brickAt(slot).render(g);
+            }
         }
 
         // Render falling power-ups
@@ -118,6 +249,7 @@ public class GameRenderer {
 
         // Render HUD overlay showing active effects
         renderActiveEffects(g);
+        Profiler.end(ProfileSection.RENDER, start);
     }
 
     /**
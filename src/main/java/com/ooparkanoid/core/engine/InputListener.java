@@ -0,0 +1,64 @@
+package com.ooparkanoid.core.engine;
+
+/**
+ * Observer for the player input that reaches the simulation.
+ * GameManager reports every input in the order it was applied, stamped with the
+ * fixed simulation step it takes effect in, so feeding the same calls back before the
+ * same steps reproduces the game exactly (see core.sim.ReplayRecorder).
+ *
+ * Features:
+ * - Step N means "applied after N steps had run, before step N runs"
+ * - Paddle position and velocity are reported only when they change from outside the
+ *   simulation (keyboard, mouse, focus loss), not when the simulation moves the paddle
+ * - onStepEnd() marks the end of every step, e.g. for hashing the game state
+ * - All methods have empty default implementations
+ *
+ * Thread Safety: Implementations are called from the simulation thread only.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public interface InputListener {
+
+    /**
+     * Called when the paddle was moved to a new X position (mouse control).
+     *
+     * @param step simulation step the input applies to
+     * @param x    new paddle X coordinate
+     */
+    default void onPaddlePosition(long step, double x) {
+    }
+
+    /**
+     * Called when the paddle's horizontal velocity was changed (keyboard control).
+     *
+     * @param step simulation step the input applies to
+     * @param dx   new velocity in pixels per second
+     */
+    default void onPaddleVelocity(long step, double dx) {
+    }
+
+    /**
+     * Called when the player asked to launch the ball.
+     *
+     * @param step simulation step the input applies to
+     */
+    default void onLaunch(long step) {
+    }
+
+    /**
+     * Called when the player asked to fire the paddle lasers.
+     *
+     * @param step simulation step the input applies to
+     */
+    default void onLaser(long step) {
+    }
+
+    /**
+     * Called after a simulation step has run completely.
+     *
+     * @param step number of the step that ended (the game's step count, starting at 1)
+     */
+    default void onStepEnd(long step) {
+    }
+}
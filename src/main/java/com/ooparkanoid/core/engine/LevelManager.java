@@ -1,9 +1,12 @@
 package com.ooparkanoid.core.engine;
 
+import com.ooparkanoid.core.profiling.LevelLoadEvent;
 import com.ooparkanoid.factory.*;
+import com.ooparkanoid.graphics.TextureRegion;
 import com.ooparkanoid.object.bricks.Brick;
+import com.ooparkanoid.object.bricks.BrickField;
 import com.ooparkanoid.utils.Constants;
-import javafx.scene.image.Image;
+import com.ooparkanoid.utils.EngineLog;
 
 import java.io.BufferedReader;
 import java.io.InputStream;
@@ -12,6 +15,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * Manages level loading and brick creation from configuration files.
@@ -47,14 +51,28 @@ public class LevelManager {
      * @param indestructibleBrickTexture texture for indestructible bricks
      * @param explosiveBrickTexture texture for explosive bricks
      */
-    public LevelManager(Image normalBrickTexture, Image indestructibleBrickTexture, Image explosiveBrickTexture) {
+    public LevelManager(TextureRegion normalBrickTexture, TextureRegion indestructibleBrickTexture, TextureRegion explosiveBrickTexture) {
+        this(normalBrickTexture, indestructibleBrickTexture, explosiveBrickTexture, null);
+    }
+
+    /**
+     * Constructs a LevelManager whose randomized bricks draw from the given generator.
+     * Seeded simulations pass the game's generator so level behaviour is reproducible.
+     *
+     * @param normalBrickTexture texture for normal bricks
+     * @param indestructibleBrickTexture texture for indestructible bricks
+     * @param explosiveBrickTexture texture for explosive bricks
+     * @param random generator for randomized brick behaviour, or null for the shared default
+     */
+    public LevelManager(TextureRegion normalBrickTexture, TextureRegion indestructibleBrickTexture, TextureRegion explosiveBrickTexture,
+                        Random random) {
         brickFactories = new HashMap<>();
 
         // Register all brick factories with their character codes
         brickFactories.put('N', new NormalBrickFactory(normalBrickTexture));
         brickFactories.put('S', new StrongBrickFactory()); // Self-manages textures
         brickFactories.put('#', new IndestructibleBrickFactory(indestructibleBrickTexture));
-        brickFactories.put('F', new FlickerBrickFactory()); // Self-manages textures
+        brickFactories.put('F', new FlickerBrickFactory(random)); // Self-manages textures
         brickFactories.put('X', new ExplosiveBrickFactory(explosiveBrickTexture));
     }
 
@@ -78,20 +96,38 @@ public class LevelManager {
      * @return list of positioned Brick instances, or empty list if level file not found
      */
     public List<Brick> createLevel(int levelNum) {
+        return createLevel(levelNum, null);
+    }
+
+    /**
+     * Loads a level and stores every created brick in the given field.
+     * The field is cleared first, so the same instance can be reused across levels.
+     *
+     * @param levelNum the level number to load (1-based)
+     * @param field    field to populate with the level's bricks, or null to only build the list
+     * @return list of positioned Brick instances, or empty list if level file not found
+     * @see #createField()
+     */
+    public List<Brick> createLevel(int levelNum, BrickField field) {
+        LevelLoadEvent event = new LevelLoadEvent();
+        event.begin();
         List<Brick> bricks = new ArrayList<>();
+        if (field != null) {
+            field.clear();
+        }
         String levelFilePath = Constants.LEVELS_FOLDER + "level" + levelNum + ".txt";
 
         InputStream is = getClass().getResourceAsStream(levelFilePath);
         if (is == null) {
             System.err.println("Level file not found: " + levelFilePath);
+            recordLevelLoad(event, levelNum, bricks, false);
             return bricks;
         }
 
+        boolean success = true;
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(is))) {
             // Calculate horizontal centering based on maximum column count
-            double totalBricksWidth = Constants.MAX_COLS_PER_LEVEL * Constants.BRICK_WIDTH
-                                    + (Constants.MAX_COLS_PER_LEVEL - 1) * Constants.BRICK_PADDING_X;
-            double startX = Constants.PLAYFIELD_LEFT + (Constants.PLAYFIELD_WIDTH - totalBricksWidth) / 2;
+            double startX = layoutStartX();
 
             String line;
             int row = 0;
@@ -120,6 +156,9 @@ public class LevelManager {
                     if (factory != null) {
                         Brick newBrick = factory.createBrick(brickX, brickY);
                         bricks.add(newBrick);
+                        if (field != null) {
+                            field.add(newBrick, row, col);
+                        }
                     } else {
                         System.err.println("Unknown brick character in level " + levelNum + ": '" + brickChar + "'");
                     }
@@ -129,9 +168,59 @@ public class LevelManager {
         } catch (Exception e) {
             System.err.println("Error loading level " + levelNum + ": " + e.getMessage());
             e.printStackTrace();
+            success = false;
         }
+        recordLevelLoad(event, levelNum, bricks, success);
 
-        System.out.println("Level " + levelNum + " created by LevelManager with " + bricks.size() + " bricks.");
+        EngineLog.info("Level " + levelNum + " created by LevelManager with " + bricks.size() + " bricks.");
         return bricks;
     }
+
+    /**
+     * Commits a JFR LevelLoadEvent if a recording has it enabled.
+     *
+     * @param event    event begun when the level started loading
+     * @param levelNum level number
+     * @param bricks   bricks created
+     * @param success  false if the layout could not be read
+     */
+    private static void recordLevelLoad(LevelLoadEvent event, int levelNum, List<Brick> bricks, boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.level = levelNum;
+            event.bricks = bricks.size();
+            event.success = success;
+            event.commit();
+        }
+    }
+
+    /**
+     * Creates an empty brick field matching the level lattice.
+     * Cells have the same pitch and origin as the brick positions computed in createLevel,
+     * so each brick falls into exactly one slot.
+     *
+     * @return a new, empty BrickField covering MAX_ROWS_PER_LEVEL x MAX_COLS_PER_LEVEL cells
+     */
+    public static BrickField createField() {
+        return new BrickField(
+                layoutStartX(),
+                Constants.BRICK_OFFSET_TOP,
+                Constants.BRICK_WIDTH + Constants.BRICK_PADDING_X,
+                Constants.BRICK_HEIGHT + Constants.BRICK_PADDING_Y,
+                Constants.MAX_ROWS_PER_LEVEL,
+                Constants.MAX_COLS_PER_LEVEL
+        );
+    }
+
+    /**
+     * Calculates the X coordinate of the first brick column.
+     * Centers a full-width row (MAX_COLS_PER_LEVEL bricks) inside the playfield.
+     *
+     * @return left edge of column 0 in pixels
+     */
+    private static double layoutStartX() {
+        double totalBricksWidth = Constants.MAX_COLS_PER_LEVEL * Constants.BRICK_WIDTH
+                                + (Constants.MAX_COLS_PER_LEVEL - 1) * Constants.BRICK_PADDING_X;
+        return Constants.PLAYFIELD_LEFT + (Constants.PLAYFIELD_WIDTH - totalBricksWidth) / 2;
+    }
 }
@@ -2,6 +2,7 @@ package com.ooparkanoid.core.engine;
 
 import com.ooparkanoid.core.state.GameStateManager;
 import com.ooparkanoid.graphics.ResourceManager;
+import com.ooparkanoid.graphics.TextureRegion;
 import com.ooparkanoid.object.Ball;
 import com.ooparkanoid.object.GameObject;
 import com.ooparkanoid.object.Paddle;
@@ -17,7 +18,6 @@ import java.util.HashMap;
 import java.util.ArrayList;
 import javafx.beans.property.*;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import javafx.scene.transform.Rotate;
 
@@ -25,7 +25,6 @@ import javafx.scene.transform.Rotate;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyEvent;
@@ -125,17 +124,17 @@ public class LocalBattleManager {
     /** Manages game state for both players */
     private final GameStateManager stateManager;
 
-    /** Random number generator for ball physics */
-    private final Random random = new Random();
+    /** Random number generator for ball physics; restarted from a fresh seed every match */
+    private final GameRandom random = new GameRandom(GameRandom.newSeed());
 
     /** Sound manager for game audio */
     private final SoundManager soundManager = SoundManager.getInstance();
 
     /** Texture for normal bricks */
-    private final Image brickTexture;
+    private final TextureRegion brickTexture;
 
     /** Texture for explosive bricks */
-    private final Image explosiveBrickTexture;
+    private final TextureRegion explosiveBrickTexture;
 
     // ==================== Game Objects ====================
     /** Player 1's paddle (left side, vertical) */
@@ -227,8 +226,8 @@ public class LocalBattleManager {
     public LocalBattleManager(GameStateManager stateManager) {
         this.stateManager = stateManager;
         ResourceManager resourceManager = ResourceManager.getInstance();
-        this.brickTexture = resourceManager.getImage("brick_normal.png");
-        this.explosiveBrickTexture = resourceManager.getImage("brick_explosive.png");
+        this.brickTexture = resourceManager.getRegion("brick_normal.png");
+        this.explosiveBrickTexture = resourceManager.getRegion("brick_explosive.png");
         initializeFactories();
     }
 
@@ -263,6 +262,7 @@ public class LocalBattleManager {
      * initializes defense bars, and resets all match state.
      */
     public void startMatch() {
+        random.setSeed(GameRandom.newSeed());
         fieldLeft = FIELD_MARGIN_X;
         fieldRight = Constants.WIDTH - FIELD_MARGIN_X;
         fieldTop = FIELD_MARGIN_Y;
@@ -445,6 +445,11 @@ public class LocalBattleManager {
         if (matchOver) return;
         matchTimeSeconds.set(matchTimeSeconds.get() + dt);
 
+        // Snapshot positions so the renderer can interpolate between fixed steps
+        if (playerOnePaddle != null) playerOnePaddle.storePreviousPosition();
+        if (playerTwoPaddle != null) playerTwoPaddle.storePreviousPosition();
+        if (ball != null) ball.storePreviousPosition();
+
         if (playerOnePaddle != null) playerOnePaddle.update(dt);
         if (playerTwoPaddle != null) playerTwoPaddle.update(dt);
 
@@ -646,7 +651,7 @@ public class LocalBattleManager {
         double ballX = servingPlayer.get() == ServingPlayer.PLAYER_ONE
                 ? server.getX() + server.getWidth() + 6
                 : server.getX() - ball.getWidth() - 6;
-        ball.setPosition(ballX, ballY);
+        ball.placeOn(server, ballX, ballY);
         ball.setVelocity(0, 0);
     }
 
@@ -657,6 +662,16 @@ public class LocalBattleManager {
      * @param gc the GraphicsContext to render to
      */
     public void render(GraphicsContext gc) {
+        render(gc, 1.0);
+    }
+
+    /**
+     * Renders battle mode with paddles and ball interpolated between fixed simulation steps.
+     *
+     * @param gc    the GraphicsContext to render to
+     * @param alpha interpolation factor between previous and current step (0 to 1)
+     */
+    public void render(GraphicsContext gc, double alpha) {
         if (gc == null) return;
         gc.clearRect(0, 0, Constants.WIDTH, Constants.HEIGHT);
 
@@ -690,14 +705,14 @@ public class LocalBattleManager {
             double drawY = y - (textureHeight - box.getHeight()) / 2.0;
 
             if (this.brickTexture != null) {
-                gc.drawImage(this.brickTexture, drawX, drawY, textureWidth, textureHeight);
+                this.brickTexture.draw(gc, drawX, drawY, textureWidth, textureHeight);
             }
             gc.restore();
         }
 
-        if (playerOnePaddle != null) playerOnePaddle.render(gc);
-        if (playerTwoPaddle != null) playerTwoPaddle.render(gc);
-        if (ball != null) ball.render(gc);
+        if (playerOnePaddle != null) playerOnePaddle.renderInterpolated(gc, alpha);
+        if (playerTwoPaddle != null) playerTwoPaddle.renderInterpolated(gc, alpha);
+        if (ball != null) ball.renderInterpolated(gc, alpha);
     }
 
     /**
@@ -813,6 +828,13 @@ public class LocalBattleManager {
      */
     public String getWinnerMessage() { return winnerMessage; }
 
+    /**
+     * Gets the seed of the current match's random generator (for bug reports).
+     *
+     * @return match seed
+     */
+    public long getMatchSeed() { return random.getSeed(); }
+
     /**
      * Gets Player 1's paddle.
      *
@@ -827,6 +849,13 @@ public class LocalBattleManager {
      */
     public Paddle getPlayerTwoPaddle() { return playerTwoPaddle; }
 
+    /**
+     * Gets the number of balls in play (the match uses a single ball once started).
+     *
+     * @return ball count
+     */
+    public int getBallCount() { return ball != null ? 1 : 0; }
+
     /**
      * Simple defense bar class representing one life for a player.
      * Each bar can be destroyed once, representing life loss.
@@ -0,0 +1,83 @@
+package com.ooparkanoid.core.engine;
+
+import com.ooparkanoid.object.bricks.Brick;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fan-out dispatcher delivering simulation events to every registered listener.
+ * GameManager owns one instance and hands it to the subsystems that emit events,
+ * so emitters never need to know how many observers (if any) are attached.
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from single game thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class SimulationEvents implements SimulationListener {
+    /** Registered listeners in registration order */
+    private final List<SimulationListener> listeners = new ArrayList<>();
+
+    /**
+     * Registers a listener. Registering the same listener twice has no effect.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(SimulationListener listener) {
+        if (listener != null && !listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(SimulationListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void onSound(String soundName) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onSound(soundName);
+        }
+    }
+
+    @Override
+    public void onScorePopup(String text, double centerX, double topY) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onScorePopup(text, centerX, topY);
+        }
+    }
+
+    @Override
+    public void onBallHitBrick(Brick brick) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onBallHitBrick(brick);
+        }
+    }
+
+    @Override
+    public void onLifeLost(int livesRemaining) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onLifeLost(livesRemaining);
+        }
+    }
+
+    @Override
+    public void onUpdate(double dt) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onUpdate(dt);
+        }
+    }
+
+    @Override
+    public void onGameFinished(boolean won, int finalScore, int roundsPlayed, double totalTimeSeconds) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onGameFinished(won, finalScore, roundsPlayed, totalTimeSeconds);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ooparkanoid.core.engine;
+
+import com.ooparkanoid.object.bricks.Brick;
+
+/**
+ * Observer interface for side effects produced by the game simulation.
+ * The simulation core (GameManager, CollisionHandler, game objects) only emits events;
+ * presentation concerns such as audio, score popups and online leaderboards are
+ * attached as listeners, so the core can run without the JavaFX toolkit.
+ *
+ * Features:
+ * - All methods have empty default implementations, listeners override only what they need
+ * - Events are delivered synchronously on the simulation thread, in emission order
+ *
+ * Usage:
+ * <pre>
+ * GameManager game = GameManager.createHeadless();
+ * game.addSimulationListener(new SimulationListener() {
+ *     public void onSound(String soundName) { hits++; }
+ * });
+ * </pre>
+ *
+ * Thread Safety: Implementations are called from the simulation thread only.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public interface SimulationListener {
+
+    /**
+     * Called when the simulation wants a sound effect played.
+     *
+     * @param soundName name of the sound effect (e.g., "bounce", "break")
+     */
+    default void onSound(String soundName) {
+    }
+
+    /**
+     * Called when points are awarded at a position on the playfield.
+     *
+     * @param text    popup text to display (e.g., "10")
+     * @param centerX X coordinate to center the popup on
+     * @param topY    Y coordinate of the popup's top edge
+     */
+    default void onScorePopup(String text, double centerX, double topY) {
+    }
+
+    /**
+     * Called every time a ball strikes a brick, after the hit has been applied.
+     *
+     * @param brick the brick that was hit (check isDestroyed() for the outcome)
+     */
+    default void onBallHitBrick(Brick brick) {
+    }
+
+    /**
+     * Called when the player loses a life, after the lives counter was decremented.
+     *
+     * @param livesRemaining lives left after the loss
+     */
+    default void onLifeLost(int livesRemaining) {
+    }
+
+    /**
+     * Called once per simulation step while the game objects are animating.
+     * Lets listeners advance their own transient state (popups, particles) in lockstep.
+     *
+     * @param dt step length in seconds
+     */
+    default void onUpdate(double dt) {
+    }
+
+    /**
+     * Called once when a game ends, either by victory or by running out of lives.
+     *
+     * @param won              true if all levels were cleared
+     * @param finalScore       final score
+     * @param roundsPlayed     number of rounds reached (1 to MAX_LEVELS)
+     * @param totalTimeSeconds total play time in seconds
+     */
+    default void onGameFinished(boolean won, int finalScore, int roundsPlayed, double totalTimeSeconds) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.ooparkanoid.core.engine;
+
+/**
+ * Time-of-impact queries for a moving circle against axis-aligned rectangles.
+ * Used by CollisionHandler to sweep balls along their velocity instead of testing
+ * overlap only at the end of a step, so fast balls cannot tunnel through thin bricks.
+ *
+ * Method:
+ * - The rectangle is grown by the circle radius (Minkowski sum, a rounded rectangle)
+ *   and the circle center is treated as a ray
+ * - A slab test against the grown box finds the entry time through a face
+ * - If the entry point lies in a corner region, the ray is intersected with the
+ *   quarter circle of radius r around that corner instead
+ * - Circles already overlapping the rectangle at t = 0 report no hit; the discrete
+ *   overlap checks resolve those
+ *
+ * Thread Safety: Stateless, thread-safe.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class SweptCollision {
+    /** Returned when the circle does not hit the rectangle within the time window */
+    public static final double NO_HIT = -1.0;
+
+    /**
+     * Private constructor to prevent instantiation (static utility).
+     */
+    private SweptCollision() {
+    }
+
+    /**
+     * Computes the earliest time at which a moving circle touches a rectangle.
+     *
+     * @param cx      circle center X at t = 0
+     * @param cy      circle center Y at t = 0
+     * @param vx      circle velocity X (pixels per second)
+     * @param vy      circle velocity Y (pixels per second)
+     * @param r       circle radius
+     * @param rx      rectangle left edge
+     * @param ry      rectangle top edge
+     * @param rw      rectangle width
+     * @param rh      rectangle height
+     * @param tMax    end of the time window in seconds
+     * @param normal  array of length 2 receiving the unit contact normal (pointing towards the circle)
+     * @return time of impact in [0, tMax], or NO_HIT
+     */
+    public static double circleRect(double cx, double cy, double vx, double vy, double r,
+                                    double rx, double ry, double rw, double rh,
+                                    double tMax, double[] normal) {
+        double right = rx + rw;
+        double bottom = ry + rh;
+
+        // Already overlapping: leave it to the discrete resolution
+        double closestX = Math.max(rx, Math.min(cx, right));
+        double closestY = Math.max(ry, Math.min(cy, bottom));
+        double ox = cx - closestX;
+        double oy = cy - closestY;
+        if (ox * ox + oy * oy < r * r) {
+            return NO_HIT;
+        }
+
+        // Slab test against the rectangle grown by r
+        double tEnter = -Double.MAX_VALUE;
+        double tExit = Double.MAX_VALUE;
+        int enterAxis = -1;
+
+        if (vx == 0) {
+            if (cx < rx - r || cx > right + r) return NO_HIT;
+        } else {
+            double t1 = (rx - r - cx) / vx;
+            double t2 = (right + r - cx) / vx;
+            if (t1 > t2) {
+                double tmp = t1;
+                t1 = t2;
+                t2 = tmp;
+            }
+            if (t1 > tEnter) {
+                tEnter = t1;
+                enterAxis = 0;
+            }
+            tExit = Math.min(tExit, t2);
+        }
+
+        if (vy == 0) {
+            if (cy < ry - r || cy > bottom + r) return NO_HIT;
+        } else {
+            double t1 = (ry - r - cy) / vy;
+            double t2 = (bottom + r - cy) / vy;
+            if (t1 > t2) {
+                double tmp = t1;
+                t1 = t2;
+                t2 = tmp;
+            }
+            if (t1 > tEnter) {
+                tEnter = t1;
+                enterAxis = 1;
+            }
+            tExit = Math.min(tExit, t2);
+        }
+
+        if (tEnter > tExit || tExit < 0 || tEnter > tMax) {
+            return NO_HIT;
+        }
+
+        double t = Math.max(0, tEnter);
+        double hx = cx + vx * t;
+        double hy = cy + vy * t;
+        boolean withinX = hx >= rx && hx <= right;
+        boolean withinY = hy >= ry && hy <= bottom;
+
+        // Face hit: the entry point lies beside a flat edge of the rounded rectangle
+        if (tEnter >= 0 && (withinX || withinY) && enterAxis >= 0) {
+            if (enterAxis == 0) {
+                normal[0] = vx > 0 ? -1 : 1;
+                normal[1] = 0;
+            } else {
+                normal[0] = 0;
+                normal[1] = vy > 0 ? -1 : 1;
+            }
+            return tEnter;
+        }
+
+        // Corner hit: intersect the ray with the circle of radius r around the nearest corner
+        double cornerX = hx < (rx + right) / 2 ? rx : right;
+        double cornerY = hy < (ry + bottom) / 2 ? ry : bottom;
+        double dx0 = cx - cornerX;
+        double dy0 = cy - cornerY;
+        double a = vx * vx + vy * vy;
+        double b = 2 * (dx0 * vx + dy0 * vy);
+        double c = dx0 * dx0 + dy0 * dy0 - r * r;
+        if (a == 0 || b >= 0) {
+            return NO_HIT; // Not moving, or moving away from the corner
+        }
+        double disc = b * b - 4 * a * c;
+        if (disc < 0) {
+            return NO_HIT;
+        }
+        double tc = (-b - Math.sqrt(disc)) / (2 * a);
+        if (tc < 0 || tc > tMax) {
+            return NO_HIT;
+        }
+        normal[0] = (cx + vx * tc - cornerX) / r;
+        normal[1] = (cy + vy * tc - cornerY) / r;
+        return tc;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ooparkanoid.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for reading and decoding one image (ResourceManager.loadImage).
+ * Cache hits are not recorded.
+ *
+ * Thread Safety: Each instance is used by a single thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@Name("com.ooparkanoid.AssetLoad")
+@Label("Asset Load")
+@Category({"Arkanoid", "Assets"})
+@Description("Reading and decoding an image resource")
+public class AssetLoadEvent extends jdk.jfr.Event {
+    /** Image file name relative to the images folder */
+    @Label("Asset")
+    public String asset;
+
+    /** Decoded width in pixels (0 on failure) */
+    @Label("Width")
+    public int width;
+
+    /** Decoded height in pixels (0 on failure) */
+    @Label("Height")
+    public int height;
+
+    /** False if the image could not be loaded */
+    @Label("Success")
+    public boolean success;
+}
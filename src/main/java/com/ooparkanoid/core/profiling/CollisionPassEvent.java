@@ -0,0 +1,59 @@
+package com.ooparkanoid.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one collision pass of a simulation step (CollisionHandler.handleCollisions),
+ * with the objects it looked at and the contacts it resolved.
+ *
+ * Thread Safety: Each instance is used by a single thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@Name("com.ooparkanoid.CollisionPass")
+@Label("Collision Pass")
+@Category({"Arkanoid", "Engine"})
+@Description("Collision detection and resolution for one simulation step")
+@StackTrace(false)
+public class CollisionPassEvent extends jdk.jfr.Event {
+    /** Balls in play at the start of the pass */
+    @Label("Balls")
+    public int balls;
+
+    /** Live bricks at the start of the pass */
+    @Label("Bricks")
+    public int bricks;
+
+    /** Laser shots in flight at the start of the pass */
+    @Label("Lasers")
+    public int lasers;
+
+    /** Falling power-ups at the start of the pass */
+    @Label("Power-ups")
+    public int powerUps;
+
+    /** Ball hits on bricks */
+    @Label("Brick Hits")
+    public int brickHits;
+
+    /** Ball bounces off the paddle */
+    @Label("Paddle Hits")
+    public int paddleHits;
+
+    /** Laser hits on bricks */
+    @Label("Laser Hits")
+    public int laserHits;
+
+    /** Bricks destroyed by balls, lasers or explosions */
+    @Label("Bricks Destroyed")
+    public int bricksDestroyed;
+
+    /** Power-ups caught by the paddle */
+    @Label("Power-ups Collected")
+    public int powerUpsCollected;
+}
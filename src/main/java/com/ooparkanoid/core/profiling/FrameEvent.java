@@ -0,0 +1,55 @@
+package com.ooparkanoid.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one frame of the fixed-step loop: the simulation steps run for a
+ * frame and the real time that drove them. Its duration is the time spent simulating,
+ * so frame hitches line up with GC, I/O and network events in the same recording.
+ *
+ * Recording:
+ * <pre>
+ * java -XX:StartFlightRecording=filename=session.jfr,settings=profile ... com.ooparkanoid.console.MainConsole
+ * jfr print --events com.ooparkanoid.Frame session.jfr
+ * </pre>
+ * Like every event in this package it costs nothing measurable while JFR is not
+ * recording it: emitters only fill the fields after shouldCommit().
+ *
+ * Thread Safety: Each instance is used by a single thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@Name("com.ooparkanoid.Frame")
+@Label("Engine Frame")
+@Category({"Arkanoid", "Engine"})
+@Description("Simulation steps run for one frame of the fixed-step loop")
+@StackTrace(false)
+public class FrameEvent extends jdk.jfr.Event {
+    /** Simulation steps run for this frame */
+    @Label("Steps")
+    public int steps;
+
+    /** Real time elapsed since the previous frame */
+    @Label("Frame Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long frameNanos;
+
+    /** Length of one simulation step */
+    @Label("Step Length")
+    @Timespan(Timespan.NANOSECONDS)
+    public long stepNanos;
+
+    /** True if the catch-up limit was hit and the rest of the backlog was dropped */
+    @Label("Backlog Dropped")
+    public boolean backlogDropped;
+
+    /** Steps run since the loop started */
+    @Label("Total Steps")
+    public long totalSteps;
+}
@@ -0,0 +1,161 @@
+package com.ooparkanoid.core.profiling;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free histogram of durations in nanoseconds.
+ * Buckets are log-linear: every power of two is split into SUB_BUCKETS equal buckets,
+ * so any recorded value is known to within 1/16 (about 6%) from 1 ns up to MAX_NANOS,
+ * in a few kilobytes that never grow.
+ *
+ * Features:
+ * - record() is one atomic increment, safe from any number of threads
+ * - drainTo() moves the counts into a Snapshot and zeroes them, bucket by bucket,
+ *   so consecutive windows neither lose nor double-count a sample
+ * - Percentiles are reported as the upper edge of the bucket they fall in
+ *
+ * Usage:
+ * <pre>
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.record(System.nanoTime() - start);
+ * ...
+ * LatencyHistogram.Snapshot window = new LatencyHistogram.Snapshot();
+ * histogram.drainTo(window);
+ * long p99 = window.percentile(0.99);
+ * </pre>
+ *
+ * Thread Safety: record() and drainTo() are thread-safe. Snapshots are not.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class LatencyHistogram {
+    /** log2 of SUB_BUCKETS */
+    private static final int SUB_BITS = 4;
+
+    /** Buckets per power of two */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /** Highest power of two covered; longer durations land in the last bucket (about 68 s) */
+    private static final int MAX_EXPONENT = 36;
+
+    /** Largest value told apart from the others */
+    public static final long MAX_NANOS = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    /** Number of buckets */
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+    /** Sample count per bucket */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos duration in nanoseconds (negative values count as 0)
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketOf(nanos));
+    }
+
+    /**
+     * Moves every count into a snapshot, leaving this histogram empty.
+     *
+     * @param snapshot receives the counts, replacing its previous contents
+     */
+    public void drainTo(Snapshot snapshot) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long c = counts.getAndSet(i, 0);
+            snapshot.counts[i] = c;
+            total += c;
+        }
+        snapshot.total = total;
+    }
+
+    /**
+     * Maps a duration to its bucket.
+     *
+     * @param nanos duration in nanoseconds
+     * @return bucket index
+     */
+    static int bucketOf(long nanos) {
+        long v = Math.max(0, Math.min(nanos, MAX_NANOS));
+        if (v < 2 * SUB_BUCKETS) {
+            return (int) v;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int mantissa = (int) (v >>> (exponent - SUB_BITS));
+        return (exponent - SUB_BITS) * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * Gets the largest duration that falls into a bucket.
+     *
+     * @param bucket bucket index
+     * @return upper edge of the bucket in nanoseconds
+     */
+    static long upperEdgeOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Counts taken out of a histogram for one reporting window.
+     * Reused from window to window so reporting does not allocate.
+     */
+    public static final class Snapshot {
+        /** Sample count per bucket */
+        private final long[] counts = new long[BUCKETS];
+
+        /** Total number of samples */
+        private long total;
+
+        /**
+         * Gets the number of samples in the window.
+         *
+         * @return sample count
+         */
+        public long getCount() {
+            return total;
+        }
+
+        /**
+         * Gets the duration below which the given fraction of samples fall.
+         *
+         * @param fraction quantile between 0 and 1, e.g. 0.99 for p99
+         * @return duration in nanoseconds, or 0 for an empty window
+         */
+        public long percentile(double fraction) {
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(fraction * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return upperEdgeOf(i);
+                }
+            }
+            return MAX_NANOS;
+        }
+
+        /**
+         * Gets the longest duration in the window.
+         *
+         * @return upper edge of the highest non-empty bucket, or 0 for an empty window
+         */
+        public long max() {
+            for (int i = BUCKETS - 1; i >= 0; i--) {
+                if (counts[i] != 0) {
+                    return upperEdgeOf(i);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ooparkanoid.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for building a level from its layout file (LevelManager.createLevel).
+ *
+ * Thread Safety: Each instance is used by a single thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@Name("com.ooparkanoid.LevelLoad")
+@Label("Level Load")
+@Category({"Arkanoid", "Engine"})
+@Description("Reading a level layout and creating its bricks")
+public class LevelLoadEvent extends jdk.jfr.Event {
+    /** Level number (1-based) */
+    @Label("Level")
+    public int level;
+
+    /** Bricks created */
+    @Label("Bricks")
+    public int bricks;
+
+    /** False if the layout file was missing or could not be read */
+    @Label("Success")
+    public boolean success;
+}
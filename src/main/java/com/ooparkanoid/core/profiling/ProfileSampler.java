@@ -0,0 +1,337 @@
+package com.ooparkanoid.core.profiling;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Turns the Profiler's histograms into per-window statistics.
+ * Once per window it drains every section histogram, reads the garbage collector
+ * counters and the calling thread's allocated bytes, and keeps the results until the
+ * next window; optionally each window is appended to a CSV log.
+ *
+ * Features:
+ * - p50/p95/p99/max and sample count per ProfileSection
+ * - Object counts supplied by the caller (balls, bricks, lasers, popups)
+ * - GC collections and GC time per window, summed over all collectors
+ * - Allocation rate of the sampling thread (the game loop thread) from ThreadMXBean,
+ *   where the JVM supports it
+ * - CSV log when -Darkanoid.profileLog=&lt;file&gt; is set: one row per window
+ *
+ * Usage:
+ * <pre>
+ * ProfileSampler sampler = new ProfileSampler();
+ * // every frame, on the game loop thread:
+ * if (sampler.sample(now, balls, bricks, lasers, popups)) {
+ *     long p99 = sampler.getWindow(ProfileSection.UPDATE).percentile(0.99);
+ * }
+ * </pre>
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from JavaFX Application Thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class ProfileSampler {
+    /** Length of one reporting window */
+    public static final long WINDOW_NANOS = 1_000_000_000L;
+
+    /** CSV log path, or null for no log */
+    private static final String LOG_FILE = System.getProperty("arkanoid.profileLog");
+
+    /** Last window per section, indexed by ordinal */
+    private final LatencyHistogram.Snapshot[] windows =
+            new LatencyHistogram.Snapshot[ProfileSection.values().length];
+
+    /** Garbage collectors of this JVM */
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    /** Thread allocation counters, or null if the JVM does not provide them */
+    private final com.sun.management.ThreadMXBean allocations;
+
+    /** CSV output, or null */
+    private BufferedWriter log;
+
+    /** Start of the current window (System.nanoTime), 0 before the first sample */
+    private long windowStart;
+
+    /** Time the sampler started, for the CSV time column */
+    private long firstSample;
+
+    /** GC counters at the start of the current window */
+    private long lastGcCount;
+    private long lastGcMillis;
+
+    /** Allocated bytes of the sampling thread at the start of the current window */
+    private long lastAllocated;
+
+    // Results of the last completed window
+    private long gcCount;
+    private long gcMillis;
+    private double allocationRate;
+    private int balls;
+    private int bricks;
+    private int lasers;
+    private int popups;
+
+    /**
+     * Constructs a sampler and opens the CSV log if one is configured.
+     */
+    public ProfileSampler() {
+        for (int i = 0; i < windows.length; i++) {
+            windows[i] = new LatencyHistogram.Snapshot();
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean counters = null;
+        if (threads instanceof com.sun.management.ThreadMXBean sun
+                && sun.isThreadAllocatedMemorySupported()) {
+            sun.setThreadAllocatedMemoryEnabled(true);
+            counters = sun;
+        }
+        allocations = counters;
+        if (LOG_FILE != null) {
+            openLog(Paths.get(LOG_FILE));
+        }
+    }
+
+    /**
+     * Closes the current window if it is over. Call once per frame.
+     *
+     * @param now    current System.nanoTime()
+     * @param balls  balls in play
+     * @param bricks live bricks
+     * @param lasers laser shots in flight
+     * @param popups score popups on screen
+     * @return true if a new window was completed and the getters changed
+     */
+    public boolean sample(long now, int balls, int bricks, int lasers, int popups) {
+        if (windowStart == 0) {
+            windowStart = now;
+            firstSample = now;
+            lastGcCount = totalGcCount();
+            lastGcMillis = totalGcMillis();
+            lastAllocated = allocatedBytes();
+            return false;
+        }
+        long elapsed = now - windowStart;
+        if (elapsed < WINDOW_NANOS) {
+            return false;
+        }
+
+        for (ProfileSection section : ProfileSection.values()) {
+            Profiler.histogram(section).drainTo(windows[section.ordinal()]);
+        }
+        long count = totalGcCount();
+        long millis = totalGcMillis();
+        long allocated = allocatedBytes();
+        gcCount = count - lastGcCount;
+        gcMillis = millis - lastGcMillis;
+        allocationRate = allocated < 0 ? -1 : (allocated - lastAllocated) * 1e9 / elapsed;
+        lastGcCount = count;
+        lastGcMillis = millis;
+        lastAllocated = allocated;
+        this.balls = balls;
+        this.bricks = bricks;
+        this.lasers = lasers;
+        this.popups = popups;
+        windowStart = now;
+
+        if (log != null) {
+            writeRow((now - firstSample) / 1e9);
+        }
+        return true;
+    }
+
+    /**
+     * Gets a section's statistics for the last completed window.
+     *
+     * @param section profiled section
+     * @return window snapshot (reused; valid until the next completed window)
+     */
+    public LatencyHistogram.Snapshot getWindow(ProfileSection section) {
+        return windows[section.ordinal()];
+    }
+
+    /**
+     * Gets the number of garbage collections in the last window.
+     *
+     * @return collection count
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Gets the time spent collecting garbage in the last window.
+     *
+     * @return GC time in milliseconds
+     */
+    public long getGcMillis() {
+        return gcMillis;
+    }
+
+    /**
+     * Gets the sampling thread's allocation rate over the last window.
+     *
+     * @return bytes per second, or -1 if the JVM does not report thread allocations
+     */
+    public double getAllocationRate() {
+        return allocationRate;
+    }
+
+    /**
+     * Gets the number of balls in play at the end of the last window.
+     *
+     * @return object count
+     */
+    public int getBalls() {
+        return balls;
+    }
+
+    /**
+     * Gets the number of live bricks at the end of the last window.
+     *
+     * @return object count
+     */
+    public int getBricks() {
+        return bricks;
+    }
+
+    /**
+     * Gets the number of laser shots in flight at the end of the last window.
+     *
+     * @return object count
+     */
+    public int getLasers() {
+        return lasers;
+    }
+
+    /**
+     * Gets the number of score popups on screen at the end of the last window.
+     *
+     * @return object count
+     */
+    public int getPopups() {
+        return popups;
+    }
+
+    /**
+     * Flushes and closes the CSV log, if any.
+     */
+    public void close() {
+        if (log == null) return;
+        try {
+            log.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close profiler log: " + e.getMessage());
+        }
+        log = null;
+    }
+
+    /**
+     * Sums the collection counts of all collectors.
+     *
+     * @return total collections since JVM start
+     */
+    private long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    /**
+     * Sums the collection times of all collectors.
+     *
+     * @return total GC time since JVM start in milliseconds
+     */
+    private long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * Reads the bytes allocated so far by the calling thread.
+     *
+     * @return allocated bytes, or -1 if unsupported
+     */
+    private long allocatedBytes() {
+        return allocations != null ? allocations.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Opens the CSV log and writes its header.
+     *
+     * @param file log file, replaced if it exists
+     */
+    private void openLog(Path file) {
+        try {
+            log = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            StringBuilder header = new StringBuilder("time_s");
+            for (ProfileSection section : ProfileSection.values()) {
+                String l = section.getLabel();
+                header.append(',').append(l).append("_count")
+                        .append(',').append(l).append("_p50_us")
+                        .append(',').append(l).append("_p95_us")
+                        .append(',').append(l).append("_p99_us")
+                        .append(',').append(l).append("_max_us");
+            }
+            header.append(",balls,bricks,lasers,popups,gc_count,gc_ms,alloc_bytes_per_s");
+            log.write(header.toString());
+            log.newLine();
+        } catch (IOException e) {
+            System.err.println("Cannot open profiler log " + file + ": " + e.getMessage());
+            log = null;
+        }
+    }
+
+    /**
+     * Appends the last window to the CSV log.
+     *
+     * @param time seconds since the first sample
+     */
+    private void writeRow(double time) {
+        StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "%.3f", time));
+        for (LatencyHistogram.Snapshot w : windows) {
+            row.append(',').append(w.getCount())
+                    .append(',').append(micros(w.percentile(0.50)))
+                    .append(',').append(micros(w.percentile(0.95)))
+                    .append(',').append(micros(w.percentile(0.99)))
+                    .append(',').append(micros(w.max()));
+        }
+        row.append(',').append(balls).append(',').append(bricks)
+                .append(',').append(lasers).append(',').append(popups)
+                .append(',').append(gcCount).append(',').append(gcMillis)
+                .append(',').append(Math.round(allocationRate));
+        try {
+            log.write(row.toString());
+            log.newLine();
+            log.flush();
+        } catch (IOException e) {
+            System.err.println("Profiler log write failed, logging stopped: " + e.getMessage());
+            close();
+        }
+    }
+
+    /**
+     * Formats nanoseconds as microseconds with one decimal.
+     *
+     * @param nanos duration in nanoseconds
+     * @return microseconds
+     */
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1000.0);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ooparkanoid.core.profiling;
+
+/**
+ * Parts of a frame that the Profiler times separately.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public enum ProfileSection {
+    /** Time between two frames of the game loop (what the player sees as frame time) */
+    FRAME("frame"),
+
+    /** Work done inside one frame of the game loop: simulation steps plus rendering */
+    LOOP("loop"),
+
+    /** One fixed simulation step (GameManager.update) */
+    UPDATE("update"),
+
+    /** Collision detection and resolution within a step (CollisionHandler.handleCollisions) */
+    COLLISIONS("collide"),
+
+    /** Power-up effect timers within a step (PowerUpEffectManager.update) */
+    EFFECTS("effects"),
+
+    /** Drawing the game (GameRenderer.render) */
+    RENDER("render"),
+
+    /** Triggering a sound effect: SoundManager.play and its variants, up to the hand-off to the audio thread */
+    SOUND("sound");
+
+    /** Short name used in the overlay and the CSV header */
+    private final String label;
+
+    ProfileSection(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the short display name of this section.
+     *
+     * @return label such as "update"
+     */
+    public String getLabel() {
+        return label;
+    }
+}
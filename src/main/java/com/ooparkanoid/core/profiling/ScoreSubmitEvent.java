@@ -0,0 +1,40 @@
+package com.ooparkanoid.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for submitting a high score to Firebase (FirebaseScoreService.submitScore).
+ * The event spans the whole exchange, from the call until the last response arrives,
+ * so its duration is the submission latency; it is committed on the thread that
+ * completes the request.
+ *
+ * Thread Safety: Begun on the caller's thread and finished on the HTTP client's thread;
+ * the two never touch it at the same time.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+@Name("com.ooparkanoid.ScoreSubmit")
+@Label("Score Submit")
+@Category({"Arkanoid", "Network"})
+@Description("Fetching the player's stored score and uploading a better one")
+public class ScoreSubmitEvent extends jdk.jfr.Event {
+    /** Submitted score */
+    @Label("Score")
+    public int score;
+
+    /** True if the stored score was created or replaced */
+    @Label("Updated")
+    public boolean updated;
+
+    /** False if a request failed */
+    @Label("Success")
+    public boolean success;
+
+    /** Failure message, or null */
+    @Label("Error")
+    public String error;
+}
@@ -1,45 +1,78 @@
 package com.ooparkanoid.core.save;
 
+import com.ooparkanoid.core.engine.GameManager;
+
 import java.io.*;
 import java.nio.file.*;
 import java.util.Optional;
-import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
 
 /**
  * Service for managing game save/load operations.
  * Provides functionality to persist and restore game state between sessions.
  *
- * Save Format:
- * - Uses Java Properties file format (.properties)
- * - Stored in user's home directory as .arkanoid_save.properties
- * - Contains game state snapshot (level, score, lives, ball/paddle positions)
+ * Save Format (binary, big-endian, FORMAT_VERSION 1):
+ * - Header: magic "ARKS", format version, GameManager.STATE_VERSION, save time,
+ *   level, score and lives (readable without restoring the game)
+ * - Body: the complete simulation state from GameManager.writeState(): paddle and its
+ *   lasers, every ball, falling power-ups, active effects with their remaining time,
+ *   brick alive bitfield and hit points, timers and the random generator
+ * - Trailer: CRC-32 of everything before it
+ * - Stored in user's home directory as .arkanoid_save.dat (-Darkanoid.saveFile=&lt;file&gt;
+ *   stores it elsewhere)
  *
  * Features:
- * - Automatic save file creation in user home directory
- * - Optional-based load mechanism (handles missing files gracefully)
- * - Property-based serialization (human-readable format)
+ * - Loading restores a game exactly where it was saved, mid-level included
+ * - Writes go to a temporary file that is renamed over the save atomically, so a crash
+ *   mid-write leaves the previous save intact
+ * - saveAsync() hands the write to a background thread; the caller only pays for
+ *   serialising the state (a few KB). Saves queued faster than the disk keeps up are
+ *   coalesced, only the newest is written
+ * - Saves of another format or state version, or with a bad checksum, are ignored
  *
  * Usage Example:
  * <pre>
- * // Save game state
- * GameSnapshot snapshot = new GameSnapshot();
- * snapshot.level = 3;
- * snapshot.score = 1500;
- * SaveService.save(snapshot);
+ * // Autosave (never blocks the FX thread on I/O)
+ * SaveService.saveAsync(GameSnapshot.capture(gameManager));
  *
- * // Load game state
+ * // Continue the saved game
  * Optional&lt;GameSnapshot&gt; loaded = SaveService.load();
- * loaded.ifPresent(state -> restoreGame(state));
+ * loaded.ifPresent(s -> s.restore(gameManager));
  * </pre>
  *
- * Thread Safety: Not thread-safe. Concurrent save/load operations may cause data corruption.
+ * Thread Safety: save(), saveAsync(), deleteIfExists() and flush() may be called from any
+ * thread; file operations run one at a time on the writer thread. GameSnapshot.capture()
+ * and restore() must run on the thread that owns the game.
  *
  * @author Arkanoid Team
  * @version 2.0
  */
 public final class SaveService {
+    /** Version of the file layout (not of the game state inside it) */
+    public static final int FORMAT_VERSION = 1;
+
+    /** Default autosave interval in seconds of play */
+    public static final double DEFAULT_AUTOSAVE_SECONDS = 30;
+
+    /** File magic: "ARKS" */
+    private static final int MAGIC = 0x41524B53;
+
     /** Path to the save file in user's home directory */
-    private static final Path SAVE_FILE = Paths.get(System.getProperty("user.home"), ".arkanoid_save.properties");
+    private static final Path SAVE_FILE = resolveSaveFile();
+
+    /** Single background thread performing all file operations in order */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "SaveWriter");
+        t.setDaemon(true); // flush() before exiting to be sure the last save is on disk
+        return t;
+    });
+
+    /** Newest snapshot waiting to be written by the writer thread, or null */
+    private static final AtomicReference<GameSnapshot> PENDING = new AtomicReference<>();
 
     /**
      * Private constructor to prevent instantiation.
@@ -47,6 +80,42 @@ public final class SaveService {
      */
     private SaveService(){}
 
+    /**
+     * Resolves the save file from the arkanoid.saveFile system property.
+     *
+     * @return configured file, or .arkanoid_save.dat in the user's home directory
+     */
+    private static Path resolveSaveFile() {
+        String file = System.getProperty("arkanoid.saveFile");
+        if (file != null && !file.isBlank()) {
+            return Paths.get(file).toAbsolutePath();
+        }
+        return Paths.get(System.getProperty("user.home"), ".arkanoid_save.dat");
+    }
+
+    /**
+     * Gets the autosave interval configured by -Darkanoid.autosaveSeconds.
+     *
+     * @return seconds of play between autosaves; 0 or less disables autosaving
+     */
+    public static double getAutosaveSeconds() {
+        try {
+            return Double.parseDouble(System.getProperty("arkanoid.autosaveSeconds",
+                    String.valueOf(DEFAULT_AUTOSAVE_SECONDS)));
+        } catch (NumberFormatException e) {
+            return DEFAULT_AUTOSAVE_SECONDS;
+        }
+    }
+
+    /**
+     * Gets the save file location.
+     *
+     * @return save file path
+     */
+    public static Path getSaveFile() {
+        return SAVE_FILE;
+    }
+
     /**
      * Checks if a save file exists.
      *
@@ -57,114 +126,249 @@ public final class SaveService {
     }
 
     /**
-     * Deletes the save file if it exists.
-     * Useful for clearing game progress or resetting to fresh state.
-     * Silently ignores if file doesn't exist or deletion fails.
+     * Deletes the save file if it exists, e.g. when the saved game has ended.
+     * Queued behind writes already in progress, and cancels any save still waiting, so
+     * the file cannot reappear afterwards. Failures are ignored.
      */
     public static void deleteIfExists() {
-        try {
-            Files.deleteIfExists(SAVE_FILE);
-        } catch (IOException ignored) {}
+        PENDING.set(null);
+        WRITER.execute(() -> {
+            try {
+                Files.deleteIfExists(SAVE_FILE);
+            } catch (IOException ignored) {}
+        });
     }
 
     /**
-     * Saves a game state snapshot to persistent storage.
-     * Creates parent directories if they don't exist.
-     * Overwrites existing save file if present.
+     * Saves a game snapshot on the background writer thread and returns immediately.
+     * If an earlier snapshot is still waiting to be written, it is replaced by this one.
      *
-     * Saved Properties:
-     * - level: Current level number
-     * - score: Current score
-     * - lives: Remaining lives
-     * - ballX, ballY: Ball position coordinates
-     * - ballDX, ballDY: Ball velocity components
-     * - paddleX: Paddle X position
+     * @param s the game snapshot to save
+     */
+    public static void saveAsync(GameSnapshot s) {
+        if (PENDING.getAndSet(s) == null) {
+            WRITER.execute(() -> {
+                GameSnapshot latest = PENDING.getAndSet(null);
+                if (latest != null) {
+                    try {
+                        write(latest);
+                    } catch (IOException e) {
+                        System.err.println("Failed to save game to " + SAVE_FILE + ": " + e.getMessage());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Saves a game snapshot and waits until it is on disk.
+     * Runs on the writer thread like saveAsync(), so it never races with an autosave.
      *
      * @param s the game snapshot to save
-     * @throws RuntimeException if save fails (prints stack trace and continues)
+     * @throws IOException if the save cannot be written
      */
-    public static void save(GameSnapshot s) {
+    public static void save(GameSnapshot s) throws IOException {
+        PENDING.set(null);
         try {
-            Properties p = new Properties();
-            p.setProperty("level", String.valueOf(s.level));
-            p.setProperty("score", String.valueOf(s.score));
-            p.setProperty("lives", String.valueOf(s.lives));
-            p.setProperty("ballX", String.valueOf(s.ballX));
-            p.setProperty("ballY", String.valueOf(s.ballY));
-            p.setProperty("ballDX", String.valueOf(s.ballDX));
-            p.setProperty("ballDY", String.valueOf(s.ballDY));
-            p.setProperty("paddleX", String.valueOf(s.paddleX));
-
-            Files.createDirectories(SAVE_FILE.getParent());
-            try (OutputStream os = Files.newOutputStream(SAVE_FILE)) {
-                p.store(os, "Arkanoid save");
+            WRITER.submit(() -> {
+                write(s);
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while saving");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Waits until every save and delete queued so far has been carried out.
+     * Call before the application exits.
+     */
+    public static void flush() {
+        try {
+            WRITER.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {}
+    }
+
+    /**
+     * Writes a snapshot to a temporary file next to the save and renames it over the save.
+     * Called on the writer thread only.
+     *
+     * @param s snapshot to write
+     * @throws IOException if writing or renaming fails
+     */
+    private static void write(GameSnapshot s) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(s.state.length + 64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeShort(s.stateVersion);
+        out.writeLong(s.savedAt);
+        out.writeInt(s.level);
+        out.writeInt(s.score);
+        out.writeInt(s.lives);
+        out.writeInt(s.state.length);
+        out.write(s.state);
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray(), 0, bytes.size());
+        out.writeInt((int) crc.getValue());
+        out.flush();
+
+        Path dir = SAVE_FILE.getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, ".arkanoid_save", ".tmp");
+        try {
+            try (FileOutputStream os = new FileOutputStream(temp.toFile())) {
+                bytes.writeTo(os);
+                os.getFD().sync();
             }
-        } catch (IOException e) {
-            e.printStackTrace();
+            try {
+                Files.move(temp, SAVE_FILE, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, SAVE_FILE, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 
     /**
      * Loads a game state snapshot from persistent storage.
-     * Returns empty Optional if save file doesn't exist or loading fails.
-     * Uses default values for missing properties (level=1, score=0, lives=3, etc.).
+     * Returns empty Optional if the save file doesn't exist, is damaged, or was written by
+     * a version of the game with a different state layout.
      *
      * @return Optional containing loaded GameSnapshot, or empty if load fails
      */
     public static Optional<GameSnapshot> load() {
         if (!exists()) return Optional.empty();
 
-        try (InputStream is = Files.newInputStream(SAVE_FILE)) {
-            Properties p = new Properties();
-            p.load(is);
-
-            GameSnapshot s = new GameSnapshot();
-            s.level = Integer.parseInt(p.getProperty("level", "1"));
-            s.score = Integer.parseInt(p.getProperty("score", "0"));
-            s.lives = Integer.parseInt(p.getProperty("lives", "3"));
-            s.ballX = Double.parseDouble(p.getProperty("ballX", "0"));
-            s.ballY = Double.parseDouble(p.getProperty("ballY", "0"));
-            s.ballDX = Double.parseDouble(p.getProperty("ballDX", "0"));
-            s.ballDY = Double.parseDouble(p.getProperty("ballDY", "0"));
-            s.paddleX = Double.parseDouble(p.getProperty("paddleX", "0"));
-
-            return Optional.of(s);
+        try {
+            byte[] data = Files.readAllBytes(SAVE_FILE);
+            if (data.length < 4) {
+                throw new IOException("truncated file");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data, 0, data.length - 4);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            in.skipBytes(data.length - 4);
+            if (in.readInt() != (int) crc.getValue()) {
+                throw new IOException("checksum mismatch");
+            }
+
+            in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 4));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a save file");
+            }
+            int format = in.readUnsignedShort();
+            if (format != FORMAT_VERSION) {
+                throw new IOException("unsupported format version " + format);
+            }
+            int stateVersion = in.readUnsignedShort();
+            if (stateVersion != GameManager.STATE_VERSION) {
+                throw new IOException("saved by a game with state version " + stateVersion
+                        + ", this one uses " + GameManager.STATE_VERSION);
+            }
+            long savedAt = in.readLong();
+            int level = in.readInt();
+            int score = in.readInt();
+            int lives = in.readInt();
+            int length = in.readInt();
+            if (length < 0 || length != in.available()) {
+                throw new IOException("bad state length " + length);
+            }
+            byte[] state = new byte[length];
+            in.readFully(state);
+            return Optional.of(new GameSnapshot(stateVersion, savedAt, level, score, lives, state));
         } catch (IOException e) {
-            e.printStackTrace();
+            System.err.println("Ignoring save file " + SAVE_FILE + ": " + e.getMessage());
             return Optional.empty();
         }
     }
 
     /**
      * Represents a snapshot of game state at a specific point in time.
-     * Contains all essential data needed to restore a game session.
-     *
-     * Fields are public for easy access (this is a simple data transfer object).
-     * Consider adding more fields as game features expand (power-ups, time, etc.).
+     * Holds the serialised simulation state together with a few summary values that can
+     * be shown (e.g. on a "continue" button) without restoring the game.
+     * Immutable, so it can be captured on the FX thread and written on the writer thread.
      */
-    public static class GameSnapshot {
+    public static final class GameSnapshot {
+        /** GameManager.STATE_VERSION the state was written with */
+        public final int stateVersion;
+
+        /** Time the snapshot was taken (epoch milliseconds) */
+        public final long savedAt;
+
         /** Current level number (1-based) */
-        public int level;
+        public final int level;
 
         /** Current player score */
-        public int score;
+        public final int score;
 
         /** Remaining lives */
-        public int lives;
+        public final int lives;
 
-        /** Ball X coordinate */
-        public double ballX;
+        /** Complete simulation state from GameManager.writeState() */
+        private final byte[] state;
 
-        /** Ball Y coordinate */
-        public double ballY;
+        /**
+         * Constructs a snapshot from its parts.
+         *
+         * @param stateVersion state layout version
+         * @param savedAt      capture time
+         * @param level        level number
+         * @param score        score
+         * @param lives        lives
+         * @param state        serialised simulation state
+         */
+        private GameSnapshot(int stateVersion, long savedAt, int level, int score, int lives, byte[] state) {
+            this.stateVersion = stateVersion;
+            this.savedAt = savedAt;
+            this.level = level;
+            this.score = score;
+            this.lives = lives;
+            this.state = state;
+        }
 
-        /** Ball X velocity component */
-        public double ballDX;
+        /**
+         * Captures the complete state of a game between two simulation steps.
+         *
+         * @param game the game
+         * @return the snapshot
+         */
+        public static GameSnapshot capture(GameManager game) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                game.writeState(out);
+            } catch (IOException e) {
+                // Writing to memory cannot fail
+                throw new UncheckedIOException(e);
+            }
+            return new GameSnapshot(GameManager.STATE_VERSION, System.currentTimeMillis(),
+                    game.getCurrentLevel(), game.getScore(), game.getLives(), bytes.toByteArray());
+        }
 
-        /** Ball Y velocity component */
-        public double ballDY;
+        /**
+         * Puts a game back into the captured state. The caller sets the game state
+         * (running, paused) afterwards.
+         *
+         * @param game the game to restore (seeded with a GameRandom)
+         * @throws IOException if the state is malformed
+         */
+        public void restore(GameManager game) throws IOException {
+            game.readState(new DataInputStream(new ByteArrayInputStream(state)));
+        }
 
-        /** Paddle X position */
-        public double paddleX;
+        /**
+         * Gets the size of the serialised simulation state.
+         *
+         * @return state size in bytes
+         */
+        public int getStateSize() {
+            return state.length;
+        }
     }
 }
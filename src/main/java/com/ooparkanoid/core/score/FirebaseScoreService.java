@@ -1,5 +1,6 @@
 package com.ooparkanoid.core.score;
 
+import com.ooparkanoid.core.profiling.ScoreSubmitEvent;
 import com.ooparkanoid.core.state.PlayerContext;
 import javafx.application.Platform;
 import org.json.JSONArray;
@@ -84,15 +85,18 @@ public final class FirebaseScoreService {
             System.err.println("No userId available, skipping score submission!");
             return;
         }
+        ScoreSubmitEvent event = new ScoreSubmitEvent();
+        event.begin();
         fetchExistingScore(userId)
                 .thenCompose(existing -> {
                     if (existing != null && existing.score >= entry.getScore()) {
                         System.out.println("Existing score is higher or equal. Skipping update.");
-                        return CompletableFuture.completedFuture(null);
+                        return CompletableFuture.<Boolean>completedFuture(null);
                     }
                     String documentName = existing != null ? existing.documentName : null;
                     return upsertScore(entry, userId, documentName);
                 })
+                .whenComplete((updated, e) -> recordSubmit(event, entry, updated, e))
                 .exceptionally(e -> {
                     System.err.println("Failed to submit score to Firebase: " + e.getMessage());
                     return null;
@@ -142,10 +146,12 @@ public final class FirebaseScoreService {
      * Parses Firestore query response JSON into list of ScoreEntry objects.
      * Handles Firestore's complex nested JSON structure with type annotations.
      *
+     * Package-private so the benchmark module can measure it on a canned payload.
+     *
      * @param responseBody raw JSON response from Firestore
      * @return list of parsed ScoreEntry objects
      */
-    private static List<ScoreEntry> parseFirestoreResponse(String responseBody) {
+    static List<ScoreEntry> parseFirestoreResponse(String responseBody) {
         List<ScoreEntry> entries = new ArrayList<>();
         try {
             JSONArray documents = new JSONArray(responseBody);
@@ -224,9 +230,9 @@ public final class FirebaseScoreService {
      * @param entry the score entry to save
      * @param userId the user's unique identifier
      * @param existingDocumentName full document path if updating, null if inserting
-     * @return CompletableFuture that completes when operation finishes
+     * @return CompletableFuture completing with true if Firestore accepted the write, false otherwise
      */
-    private static CompletableFuture<Void> upsertScore(ScoreEntry entry, String userId, String existingDocumentName) {
+    private static CompletableFuture<Boolean> upsertScore(ScoreEntry entry, String userId, String existingDocumentName) {
         try {
             JSONObject requestBody = new JSONObject();
             requestBody.put("fields", buildFields(entry, userId));
@@ -252,25 +258,50 @@ public final class FirebaseScoreService {
             }
 
             return client.sendAsync(requestBuilder.build(), HttpResponse.BodyHandlers.ofString())
-                    .thenAccept(response -> {
+                    .thenApply(response -> {
                         if (response.statusCode() >= 200 && response.statusCode() < 300) {
                             System.out.println("Firebase score update successful!");
-                        } else {
-                            System.err.println("Firebase score update failed. Code: "
-                                    + response.statusCode() + ", Body: " + response.body());
+                            return true;
                         }
+                        System.err.println("Firebase score update failed. Code: "
+                                + response.statusCode() + ", Body: " + response.body());
+                        return false;
                     })
                     .exceptionally(e -> {
                         System.err.println("Error updating Firebase score: " + e.getMessage());
-                        return null;
+                        return false;
                     });
         } catch (Exception e) {
-            CompletableFuture<Void> failed = new CompletableFuture<>();
+            CompletableFuture<Boolean> failed = new CompletableFuture<>();
             failed.completeExceptionally(e);
             return failed;
         }
     }
 
+    /**
+     * Commits a JFR ScoreSubmitEvent if a recording has it enabled.
+     *
+     * @param event   event begun when the submission started
+     * @param entry   submitted score entry
+     * @param updated true if the score was written, false if the write failed,
+     *                null if the stored score was already higher
+     * @param error   failure of the exchange, or null
+     */
+    private static void recordSubmit(ScoreSubmitEvent event, ScoreEntry entry, Boolean updated, Throwable error) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.score = entry.getScore();
+            event.updated = Boolean.TRUE.equals(updated);
+            event.success = error == null && !Boolean.FALSE.equals(updated);
+            if (error != null) {
+                event.error = error.getMessage();
+            } else if (Boolean.FALSE.equals(updated)) {
+                event.error = "Score update rejected";
+            }
+            event.commit();
+        }
+    }
+
     /**
      * Builds Firestore document fields from a ScoreEntry.
      * Converts Java objects to Firestore field format with type annotations.
@@ -0,0 +1,31 @@
+package com.ooparkanoid.core.score;
+
+import com.ooparkanoid.core.engine.SimulationListener;
+import com.ooparkanoid.core.state.PlayerContext;
+
+/**
+ * Leaderboard observer for the game simulation.
+ * Submits the final result of an interactive game to Firebase when the game ends.
+ * Not attached to headless games, so batch simulations never touch the network.
+ *
+ * Thread Safety: Called from the simulation thread; submission itself is asynchronous.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class HighScoreSubmitter implements SimulationListener {
+
+    /**
+     * Builds a score entry for the current player and submits it.
+     *
+     * @param won              true if all levels were cleared
+     * @param finalScore       final score
+     * @param roundsPlayed     number of rounds reached
+     * @param totalTimeSeconds total play time in seconds
+     */
+    @Override
+    public void onGameFinished(boolean won, int finalScore, int roundsPlayed, double totalTimeSeconds) {
+        ScoreEntry entry = new ScoreEntry(PlayerContext.playerName, finalScore, roundsPlayed, totalTimeSeconds);
+        FirebaseScoreService.submitScore(entry);
+    }
+}
@@ -0,0 +1,265 @@
+package com.ooparkanoid.core.sim;
+
+import com.ooparkanoid.object.PowerUp.PowerUpSprite;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregates simulated game results into per-level balancing statistics.
+ *
+ * Per-level metrics:
+ * - Clear rate and clear-time distribution (mean, p10, p25, p50, p75, p90, max;
+ *   plus a histogram in JSON) over cleared games only
+ * - Mean lives lost and mean ball-to-brick hits per game
+ * - Power-up uptime per effect as a fraction of simulated time
+ *
+ * Output formats:
+ * - CSV: one summary row per level, or one row per game
+ * - JSON: run configuration plus one object per level
+ *
+ * Thread Safety: Not thread-safe. Build and render from a single thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class BalanceReport {
+    /** Width of a clear-time histogram bucket in seconds */
+    private static final double HISTOGRAM_BUCKET_SECONDS = 15.0;
+
+    /** Percentiles reported for clear times */
+    private static final int[] PERCENTILES = {10, 25, 50, 75, 90};
+
+    /** All game results */
+    private final List<GameRunResult> results;
+
+    /** Base seed of the run */
+    private final long baseSeed;
+
+    /** Simulated time limit per game */
+    private final double maxSeconds;
+
+    /** Results grouped by level, in level order */
+    private final Map<Integer, List<GameRunResult>> byLevel = new TreeMap<>();
+
+    /**
+     * Constructs a report over the given results.
+     *
+     * @param results    game results
+     * @param baseSeed   base seed of the run
+     * @param maxSeconds simulated time limit per game
+     */
+    public BalanceReport(List<GameRunResult> results, long baseSeed, double maxSeconds) {
+        this.results = results;
+        this.baseSeed = baseSeed;
+        this.maxSeconds = maxSeconds;
+        for (GameRunResult r : results) {
+            byLevel.computeIfAbsent(r.getLevel(), k -> new ArrayList<>()).add(r);
+        }
+    }
+
+    /**
+     * Renders one summary row per level.
+     *
+     * @return CSV text with header
+     */
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("level,games,cleared,clear_rate,timed_out,clear_time_mean");
+        for (int p : PERCENTILES) sb.append(",clear_time_p").append(p);
+        sb.append(",clear_time_max,lives_lost_mean,ball_brick_hits_mean,score_mean");
+        for (PowerUpSprite.PowerUpType type : PowerUpSprite.PowerUpType.values()) {
+            sb.append(",uptime_").append(type.name().toLowerCase(Locale.ROOT));
+        }
+        sb.append('\n');
+
+        for (Map.Entry<Integer, List<GameRunResult>> entry : byLevel.entrySet()) {
+            LevelStats stats = new LevelStats(entry.getValue());
+            sb.append(entry.getKey()).append(',')
+                    .append(stats.games).append(',')
+                    .append(stats.cleared).append(',')
+                    .append(fmt(stats.clearRate())).append(',')
+                    .append(stats.timedOut).append(',')
+                    .append(fmt(stats.clearTimeMean()));
+            for (int p : PERCENTILES) sb.append(',').append(fmt(stats.clearTimePercentile(p)));
+            sb.append(',').append(fmt(stats.clearTimeMax()))
+                    .append(',').append(fmt(stats.livesLostMean))
+                    .append(',').append(fmt(stats.hitsMean))
+                    .append(',').append(fmt(stats.scoreMean));
+            for (PowerUpSprite.PowerUpType type : PowerUpSprite.PowerUpType.values()) {
+                sb.append(',').append(fmt(stats.uptimeFraction[type.ordinal()]));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Renders one row per simulated game.
+     *
+     * @return CSV text with header
+     */
+    public String toPerGameCsv() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("level,seed,cleared,timed_out,sim_seconds,lives_lost,ball_brick_hits,score");
+        for (PowerUpSprite.PowerUpType type : PowerUpSprite.PowerUpType.values()) {
+            sb.append(",uptime_").append(type.name().toLowerCase(Locale.ROOT));
+        }
+        sb.append('\n');
+        for (GameRunResult r : results) {
+            sb.append(r.getLevel()).append(',')
+                    .append(r.getSeed()).append(',')
+                    .append(r.isCleared()).append(',')
+                    .append(r.isTimedOut()).append(',')
+                    .append(fmt(r.getSimSeconds())).append(',')
+                    .append(r.getLivesLost()).append(',')
+                    .append(r.getBallBrickHits()).append(',')
+                    .append(r.getScore());
+            for (PowerUpSprite.PowerUpType type : PowerUpSprite.PowerUpType.values()) {
+                sb.append(',').append(fmt(r.getEffectUptime(type)));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Renders the run configuration and per-level statistics as JSON.
+     *
+     * @return pretty-printed JSON text
+     */
+    public String toJson() {
+        JSONObject root = new JSONObject();
+        root.put("baseSeed", baseSeed);
+        root.put("maxSeconds", maxSeconds);
+        root.put("games", results.size());
+
+        JSONArray levels = new JSONArray();
+        for (Map.Entry<Integer, List<GameRunResult>> entry : byLevel.entrySet()) {
+            LevelStats stats = new LevelStats(entry.getValue());
+            JSONObject level = new JSONObject();
+            level.put("level", entry.getKey());
+            level.put("games", stats.games);
+            level.put("cleared", stats.cleared);
+            level.put("clearRate", stats.clearRate());
+            level.put("timedOut", stats.timedOut);
+
+            JSONObject clearTime = new JSONObject();
+            clearTime.put("mean", stats.clearTimeMean());
+            for (int p : PERCENTILES) clearTime.put("p" + p, stats.clearTimePercentile(p));
+            clearTime.put("max", stats.clearTimeMax());
+            clearTime.put("bucketSeconds", HISTOGRAM_BUCKET_SECONDS);
+            clearTime.put("histogram", new JSONArray(stats.clearTimeHistogram()));
+            level.put("clearTime", clearTime);
+
+            level.put("livesLostMean", stats.livesLostMean);
+            level.put("ballBrickHitsMean", stats.hitsMean);
+            level.put("scoreMean", stats.scoreMean);
+
+            JSONObject uptime = new JSONObject();
+            for (PowerUpSprite.PowerUpType type : PowerUpSprite.PowerUpType.values()) {
+                uptime.put(type.name(), stats.uptimeFraction[type.ordinal()]);
+            }
+            level.put("powerUpUptime", uptime);
+            levels.put(level);
+        }
+        root.put("levels", levels);
+        return root.toString(2) + "\n";
+    }
+
+    /**
+     * Formats a number for CSV output (locale-independent, 4 decimals).
+     *
+     * @param value value to format
+     * @return formatted value, or empty string for NaN
+     */
+    private static String fmt(double value) {
+        return Double.isNaN(value) ? "" : String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    /**
+     * Statistics for the games of a single level.
+     */
+    private static class LevelStats {
+        private final int games;
+        private int cleared;
+        private int timedOut;
+        private final double[] clearTimes;
+        private final double livesLostMean;
+        private final double hitsMean;
+        private final double scoreMean;
+        private final double[] uptimeFraction;
+
+        LevelStats(List<GameRunResult> runs) {
+            games = runs.size();
+            PowerUpSprite.PowerUpType[] types = PowerUpSprite.PowerUpType.values();
+            double[] uptime = new double[types.length];
+            double totalSeconds = 0;
+            double lives = 0;
+            double hits = 0;
+            double score = 0;
+            List<Double> times = new ArrayList<>();
+
+            for (GameRunResult r : runs) {
+                if (r.isCleared()) {
+                    cleared++;
+                    times.add(r.getSimSeconds());
+                }
+                if (r.isTimedOut()) timedOut++;
+                totalSeconds += r.getSimSeconds();
+                lives += r.getLivesLost();
+                hits += r.getBallBrickHits();
+                score += r.getScore();
+                for (PowerUpSprite.PowerUpType type : types) {
+                    uptime[type.ordinal()] += r.getEffectUptime(type);
+                }
+            }
+
+            clearTimes = times.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+            livesLostMean = games > 0 ? lives / games : Double.NaN;
+            hitsMean = games > 0 ? hits / games : Double.NaN;
+            scoreMean = games > 0 ? score / games : Double.NaN;
+            uptimeFraction = new double[types.length];
+            for (int i = 0; i < types.length; i++) {
+                uptimeFraction[i] = totalSeconds > 0 ? uptime[i] / totalSeconds : 0;
+            }
+        }
+
+        double clearRate() {
+            return games > 0 ? (double) cleared / games : Double.NaN;
+        }
+
+        double clearTimeMean() {
+            return clearTimes.length > 0 ? Arrays.stream(clearTimes).average().orElse(Double.NaN) : Double.NaN;
+        }
+
+        double clearTimeMax() {
+            return clearTimes.length > 0 ? clearTimes[clearTimes.length - 1] : Double.NaN;
+        }
+
+        /**
+         * Nearest-rank percentile over the sorted clear times.
+         */
+        double clearTimePercentile(int percentile) {
+            if (clearTimes.length == 0) return Double.NaN;
+            int rank = (int) Math.ceil(percentile / 100.0 * clearTimes.length);
+            return clearTimes[Math.max(0, Math.min(clearTimes.length - 1, rank - 1))];
+        }
+
+        int[] clearTimeHistogram() {
+            if (clearTimes.length == 0) return new int[0];
+            int buckets = (int) (clearTimeMax() / HISTOGRAM_BUCKET_SECONDS) + 1;
+            int[] histogram = new int[buckets];
+            for (double t : clearTimes) {
+                histogram[(int) (t / HISTOGRAM_BUCKET_SECONDS)]++;
+            }
+            return histogram;
+        }
+    }
+}
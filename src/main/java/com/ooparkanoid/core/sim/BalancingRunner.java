@@ -0,0 +1,264 @@
+package com.ooparkanoid.core.sim;
+
+import com.ooparkanoid.core.engine.FixedStepLoop;
+import com.ooparkanoid.core.engine.GameManager;
+import com.ooparkanoid.core.engine.SimulationListener;
+import com.ooparkanoid.object.PowerUp.PowerUpEffectManager;
+import com.ooparkanoid.object.PowerUp.PowerUpSprite;
+import com.ooparkanoid.object.bricks.Brick;
+import com.ooparkanoid.utils.Constants;
+import com.ooparkanoid.utils.EngineLog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Monte Carlo level-balancing runner built on the headless GameManager.
+ * Plays N seeded games per level with a PaddleBot on all cores and reports
+ * clear-time distributions, lives lost, ball-to-brick hits and power-up uptime.
+ *
+ * Features:
+ * - Uses GameManager, CollisionHandler and LevelManager unchanged (headless mode),
+ *   stepped at the same fixed rate as the interactive game loop
+ * - One independent, seeded GameManager per game, so runs are reproducible
+ *   and games never share mutable state across threads
+ * - Parallel execution on a dedicated ForkJoinPool
+ * - CSV or JSON report (per-level summary, optionally per-game rows)
+ *
+ * Usage:
+ * <pre>
+ * java -cp target/classes:&lt;runtime classpath&gt; com.ooparkanoid.core.sim.BalancingRunner \
+ *      --games 500 --levels 1-6 --seed 42 --format json --out balance.json
+ * </pre>
+ *
+ * Options:
+ * - --games N        games per level (default 100)
+ * - --levels A-B|A,B levels to play (default 1-MAX_LEVELS)
+ * - --seed S         base seed (default 1)
+ * - --threads T      worker threads (default: available processors)
+ * - --max-seconds S  simulated time limit per game (default 600)
+ * - --format csv|json report format (default csv)
+ * - --out FILE       write the report to FILE instead of stdout
+ * - --per-game       CSV only: one row per game instead of per-level summary
+ * - --verbose        keep the engine's console logging (silenced by default)
+ *
+ * Thread Safety: Each game runs on a single worker thread; results are collected by the pool.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class BalancingRunner {
+    /** Simulation step, identical to the interactive fixed-step loop */
+    private static final double STEP_SECONDS = 1.0 / FixedStepLoop.DEFAULT_SIM_RATE;
+
+    /** Games per level */
+    private int gamesPerLevel = 100;
+
+    /** Levels to play */
+    private List<Integer> levels = new ArrayList<>();
+
+    /** Base seed from which every game seed is derived */
+    private long baseSeed = 1;
+
+    /** Number of worker threads */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /** Simulated time limit per game in seconds */
+    private double maxSeconds = 600;
+
+    /**
+     * Plays every requested game in parallel.
+     *
+     * @return one result per game, ordered by level and game index
+     * @throws InterruptedException if interrupted while waiting for the workers
+     * @throws ExecutionException   if a simulated game failed
+     */
+    public List<GameRunResult> run() throws InterruptedException, ExecutionException {
+        List<long[]> jobs = new ArrayList<>();
+        for (int level : levels) {
+            for (int i = 0; i < gamesPerLevel; i++) {
+                jobs.add(new long[]{level, gameSeed(baseSeed, level, i)});
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> jobs.parallelStream()
+                    .map(job -> playLevel((int) job[0], job[1], maxSeconds))
+                    .collect(Collectors.toList())).get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays one seeded game of a single level with a PaddleBot.
+     * The game ends when the level is cleared, all lives are lost or the time limit is reached.
+     *
+     * @param level      level to play (1-based)
+     * @param seed       seed for the game and the bot
+     * @param maxSeconds simulated time limit in seconds
+     * @return metrics of the run
+     */
+    public static GameRunResult playLevel(int level, long seed, double maxSeconds) {
+        GameManager game = GameManager.createHeadless(seed);
+        game.initializeGame(level);
+        game.getStateManager().beginNewGame(0, Constants.START_LIVES);
+
+        RunMetrics metrics = new RunMetrics();
+        game.addSimulationListener(metrics);
+
+        PaddleBot bot = new PaddleBot(new Random(~seed));
+        PowerUpSprite.PowerUpType[] types = PowerUpSprite.PowerUpType.values();
+        double[] uptime = new double[types.length];
+
+        double elapsed = 0;
+        boolean cleared = false;
+        while (elapsed < maxSeconds) {
+            bot.control(game);
+            game.update(STEP_SECONDS);
+            elapsed += STEP_SECONDS;
+
+            PowerUpEffectManager effects = game.getEffectManager();
+            for (PowerUpSprite.PowerUpType type : types) {
+                if (effects.isEffectActive(type.name())) {
+                    uptime[type.ordinal()] += STEP_SECONDS;
+                }
+            }
+
+            if (game.getCurrentLevel() != level) {
+                cleared = true;
+                break;
+            }
+            if (!game.getStateManager().isRunning()) {
+                break;
+            }
+        }
+
+        return new GameRunResult(level, seed, cleared, !cleared && elapsed >= maxSeconds, elapsed,
+                metrics.livesLost, metrics.ballBrickHits, game.getScore(), uptime);
+    }
+
+    /**
+     * Derives a well-mixed, reproducible seed for one game.
+     *
+     * @param baseSeed base seed of the run
+     * @param level    level number
+     * @param index    game index within the level
+     * @return game seed
+     */
+    static long gameSeed(long baseSeed, int level, int index) {
+        long z = baseSeed + 0x9E3779B97F4A7C15L * (((long) level << 32) + index + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Counts the simulation events the report needs.
+     */
+    private static class RunMetrics implements SimulationListener {
+        private int livesLost;
+        private int ballBrickHits;
+
+        @Override
+        public void onBallHitBrick(Brick brick) {
+            ballBrickHits++;
+        }
+
+        @Override
+        public void onLifeLost(int livesRemaining) {
+            livesLost++;
+        }
+    }
+
+    // ==================== Command Line ====================
+
+    /**
+     * Parses a level list such as "1-6" or "1,3,5".
+     *
+     * @param spec level specification
+     * @return list of level numbers clamped to 1..MAX_LEVELS
+     */
+    private static List<Integer> parseLevels(String spec) {
+        List<Integer> result = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] range = part.trim().split("-");
+            int from = Integer.parseInt(range[0].trim());
+            int to = range.length > 1 ? Integer.parseInt(range[1].trim()) : from;
+            for (int level = from; level <= to; level++) {
+                if (level >= 1 && level <= Constants.MAX_LEVELS && !result.contains(level)) {
+                    result.add(level);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Command-line entry point. See the class documentation for options.
+     *
+     * @param args command-line arguments
+     * @throws Exception if the run fails or the report cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        BalancingRunner runner = new BalancingRunner();
+        String format = "csv";
+        String out = null;
+        boolean perGame = false;
+        boolean verbose = false;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> runner.gamesPerLevel = Math.max(1, Integer.parseInt(args[++i]));
+                case "--levels" -> runner.levels = parseLevels(args[++i]);
+                case "--seed" -> runner.baseSeed = Long.parseLong(args[++i]);
+                case "--threads" -> runner.threads = Math.max(1, Integer.parseInt(args[++i]));
+                case "--max-seconds" -> runner.maxSeconds = Double.parseDouble(args[++i]);
+                case "--format" -> format = args[++i].toLowerCase();
+                case "--out" -> out = args[++i];
+                case "--per-game" -> perGame = true;
+                case "--verbose" -> verbose = true;
+                default -> {
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+                }
+            }
+        }
+        if (runner.levels.isEmpty()) {
+            runner.levels = parseLevels("1-" + Constants.MAX_LEVELS);
+        }
+
+        // The engine logs every level and effect; keep batch runs quiet unless asked not to
+        EngineLog.setEnabled(verbose);
+
+        long start = System.nanoTime();
+        List<GameRunResult> results = runner.run();
+        double wallSeconds = (System.nanoTime() - start) / 1e9;
+
+        BalanceReport report = new BalanceReport(results, runner.baseSeed, runner.maxSeconds);
+        String text;
+        if ("json".equals(format)) {
+            text = report.toJson();
+        } else if (perGame) {
+            text = report.toPerGameCsv();
+        } else {
+            text = report.toCsv();
+        }
+
+        if (out != null) {
+            Files.writeString(Path.of(out), text, StandardCharsets.UTF_8);
+        } else {
+            System.out.print(text);
+        }
+        System.err.printf("Simulated %d games in %.2f s on %d threads%n", results.size(), wallSeconds, runner.threads);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ooparkanoid.core.sim;
+
+import com.ooparkanoid.object.PowerUp.PowerUpSprite;
+
+/**
+ * Outcome and metrics of one simulated attempt at a single level.
+ * Produced by BalancingRunner and aggregated into per-level reports.
+ *
+ * Thread Safety: Immutable after construction by the worker that played the game.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class GameRunResult {
+    /** Level that was played (1-based) */
+    private final int level;
+
+    /** Seed of the game's random generator */
+    private final long seed;
+
+    /** True if every destructible brick was cleared */
+    private final boolean cleared;
+
+    /** True if the run hit the simulated time limit */
+    private final boolean timedOut;
+
+    /** Simulated time until the level ended (clear, game over or time limit) in seconds */
+    private final double simSeconds;
+
+    /** Lives lost during the run */
+    private final int livesLost;
+
+    /** Number of ball-to-brick hits (lasers and explosions excluded) */
+    private final int ballBrickHits;
+
+    /** Final score */
+    private final int score;
+
+    /** Seconds each effect was active, indexed by PowerUpType ordinal */
+    private final double[] effectUptime;
+
+    /**
+     * Constructs a result.
+     *
+     * @param level         level played
+     * @param seed          game seed
+     * @param cleared       true if the level was cleared
+     * @param timedOut      true if the time limit was reached
+     * @param simSeconds    simulated duration in seconds
+     * @param livesLost     lives lost
+     * @param ballBrickHits ball-to-brick hits
+     * @param score         final score
+     * @param effectUptime  active seconds per PowerUpType ordinal
+     */
+    public GameRunResult(int level, long seed, boolean cleared, boolean timedOut, double simSeconds,
+                         int livesLost, int ballBrickHits, int score, double[] effectUptime) {
+        this.level = level;
+        this.seed = seed;
+        this.cleared = cleared;
+        this.timedOut = timedOut;
+        this.simSeconds = simSeconds;
+        this.livesLost = livesLost;
+        this.ballBrickHits = ballBrickHits;
+        this.score = score;
+        this.effectUptime = effectUptime;
+    }
+
+    /**
+     * Gets the level that was played.
+     *
+     * @return level number (1-based)
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the seed of the game's random generator.
+     *
+     * @return game seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Checks whether the level was cleared.
+     *
+     * @return true if every destructible brick was destroyed
+     */
+    public boolean isCleared() {
+        return cleared;
+    }
+
+    /**
+     * Checks whether the run hit the simulated time limit.
+     *
+     * @return true if the run was cut off
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Gets the simulated duration of the run.
+     *
+     * @return seconds until clear, game over or time limit
+     */
+    public double getSimSeconds() {
+        return simSeconds;
+    }
+
+    /**
+     * Gets the number of lives lost during the run.
+     *
+     * @return lives lost
+     */
+    public int getLivesLost() {
+        return livesLost;
+    }
+
+    /**
+     * Gets the number of ball-to-brick hits.
+     *
+     * @return ball-to-brick hits
+     */
+    public int getBallBrickHits() {
+        return ballBrickHits;
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return final score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of seconds an effect was active during the run.
+     *
+     * @param type the power-up type
+     * @return active seconds
+     */
+    public double getEffectUptime(PowerUpSprite.PowerUpType type) {
+        return effectUptime[type.ordinal()];
+    }
+}
@@ -0,0 +1,135 @@
+package com.ooparkanoid.core.sim;
+
+import com.ooparkanoid.core.engine.GameManager;
+import com.ooparkanoid.object.Ball;
+import com.ooparkanoid.object.Paddle;
+import com.ooparkanoid.utils.Constants;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Scripted paddle controller for headless simulations.
+ * Plays with the same controls a human has: the paddle is only ever moved at
+ * -PADDLE_SPEED, 0 or +PADDLE_SPEED (like holding LEFT/RIGHT), the ball is launched
+ * through GameManager.launchBall() and lasers are fired through GameManager.shootLaser().
+ *
+ * Strategy:
+ * - Track the descending ball that will reach the paddle first
+ * - Predict its landing X, including reflections off the side walls
+ * - Aim at a random offset from the paddle center, re-rolled on every descent,
+ *   so bounce angles vary the way they do in real play
+ * - Follow the lowest ball while no ball is descending
+ * - Fire lasers whenever the laser power-up is active
+ *
+ * Thread Safety: Not thread-safe. Use one bot per simulated game.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class PaddleBot {
+    /** Distance from the target (pixels) inside which the paddle stops */
+    private static final double DEAD_ZONE = 4.0;
+
+    /** Largest aim offset as a fraction of half the paddle width */
+    private static final double MAX_AIM_OFFSET = 0.6;
+
+    /** Generator for aim offsets (seeded per game) */
+    private final Random random;
+
+    /** Current aim offset as a fraction of half the paddle width (-MAX to +MAX) */
+    private double aimOffset;
+
+    /** Whether a ball was descending during the previous step */
+    private boolean wasDescending;
+
+    /**
+     * Constructs a bot drawing its aim offsets from the given generator.
+     *
+     * @param random generator for aim offsets
+     */
+    public PaddleBot(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Applies the bot's input for the next simulation step.
+     * Call once before every GameManager.update().
+     *
+     * @param game the game being played
+     */
+    public void control(GameManager game) {
+        Paddle paddle = game.getPaddle();
+        if (paddle == null) return;
+
+        if (!game.isBallLaunched()) {
+            game.launchBall();
+        }
+        if (paddle.isLaserEnabled()) {
+            game.shootLaser();
+        }
+
+        List<Ball> balls = game.getBalls();
+        if (balls.isEmpty()) {
+            paddle.setDx(0);
+            return;
+        }
+
+        double paddleTop = paddle.getY();
+        Ball incoming = null;
+        double bestTime = Double.MAX_VALUE;
+        Ball lowest = balls.get(0);
+        for (Ball ball : balls) {
+            if (ball.getY() > lowest.getY()) {
+                lowest = ball;
+            }
+            if (ball.getDy() > 0) {
+                double time = (paddleTop - (ball.getY() + ball.getHeight())) / ball.getDy();
+                if (time >= 0 && time < bestTime) {
+                    bestTime = time;
+                    incoming = ball;
+                }
+            }
+        }
+
+        boolean descending = incoming != null;
+        if (descending && !wasDescending) {
+            aimOffset = (random.nextDouble() * 2 - 1) * MAX_AIM_OFFSET;
+        }
+        wasDescending = descending;
+
+        double targetX = descending
+                ? predictLandingX(incoming, paddleTop) - aimOffset * paddle.getWidth() / 2
+                : lowest.getX() + lowest.getRadius();
+        double error = targetX - (paddle.getX() + paddle.getWidth() / 2);
+
+        if (Math.abs(error) <= DEAD_ZONE) {
+            paddle.setDx(0);
+        } else {
+            paddle.setDx(Math.signum(error) * Constants.PADDLE_SPEED);
+        }
+    }
+
+    /**
+     * Predicts the X coordinate of the ball center when its bottom reaches the given height.
+     * Folds the straight-line path back into the playfield to account for wall bounces.
+     *
+     * @param ball       a descending ball
+     * @param paddleTopY Y coordinate of the paddle's top edge
+     * @return predicted ball center X at impact
+     */
+    static double predictLandingX(Ball ball, double paddleTopY) {
+        double radius = ball.getRadius();
+        double time = (paddleTopY - (ball.getY() + ball.getHeight())) / ball.getDy();
+        double rawX = ball.getX() + radius + ball.getDx() * time;
+
+        double minX = Constants.PLAYFIELD_LEFT + radius;
+        double span = Constants.PLAYFIELD_RIGHT - radius - minX;
+        if (span <= 0) return minX;
+
+        double folded = (rawX - minX) % (2 * span);
+        if (folded < 0) folded += 2 * span;
+        if (folded > span) folded = 2 * span - folded;
+        return minX + folded;
+    }
+}
@@ -0,0 +1,620 @@
+package com.ooparkanoid.core.sim;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Recorded game session: the seed, the start level and every player input stamped with
+ * the fixed simulation step it was applied in. Together with the deterministic simulation
+ * this is all that is needed to play the session again (see ReplayPlayer). A hash of the
+ * full game state after every step (StateHash) is stored alongside, so playback can tell
+ * at which step it stopped following the recorded game.
+ *
+ * File Format (big-endian, version 2):
+ * <pre>
+ * header   int magic "ARKR", byte version, long seed, varint startLevel,
+ *          varint simRate (steps per second), long recordedAt (epoch millis)
+ * inputs   varint tag = (steps since previous input &lt;&lt; 3) | type code,
+ *          followed by a double for PADDLE_X and PADDLE_DX
+ *          (PADDLE_DX has three valueless short forms, codes 5-7: stop, the last
+ *          non-zero velocity again, and that velocity reversed)
+ * trailer  varint tag = (steps since last input &lt;&lt; 3) | 0,
+ *          varint finalScore, varint finalLives, varint finalLevel
+ * hashes   varint count, then count longs: the state hash after steps 1..count
+ * </pre>
+ * Version 1 files (no hashes section) are still read.
+ * Varints are unsigned LEB128: 7 bits per byte, low group first. A launch or laser input
+ * therefore usually costs one byte, and so does a keyboard move (short PADDLE_DX forms);
+ * a mouse move (PADDLE_X) costs nine or ten. The hashes dominate the file size at
+ * eight bytes per step (about 115 KB per minute at 240 steps per second).
+ *
+ * Features:
+ * - Inputs held in parallel primitive arrays that grow by doubling
+ * - The trailer stores the outcome of the recorded session, so a replay can check itself
+ * - Per-step state hashes locate the first step at which a playback diverges
+ * - A file without trailer (crash while recording) is rejected as truncated
+ *
+ * Usage:
+ * <pre>
+ * Replay replay = new Replay(seed, 1, 240, System.currentTimeMillis());
+ * replay.addInput(120, Replay.InputType.LAUNCH, 0);
+ * replay.addStateHash(game.getStepCount(), stateHash.hash(game)); // after every step
+ * replay.finish(game.getStepCount(), game.getScore(), game.getLives(), game.getCurrentLevel());
+ * replay.save(Path.of("session.arkr"));
+ * Replay copy = Replay.load(Path.of("session.arkr"));
+ * </pre>
+ *
+ * Thread Safety: Not thread-safe. Record from the simulation thread; a finished replay
+ * may be handed to another thread for saving.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class Replay {
+    /** Extension of replay files */
+    public static final String FILE_EXTENSION = ".arkr";
+
+    /** Current file format version */
+    public static final int FORMAT_VERSION = 2;
+
+    /** Oldest file format version that can still be read */
+    private static final int MIN_FORMAT_VERSION = 1;
+
+    /** "ARKR" */
+    private static final int MAGIC = 0x41524B52;
+
+    /** Type code of the trailer tag */
+    private static final int END_CODE = 0;
+
+    /** Bits of a tag holding the type code */
+    private static final int TYPE_BITS = 3;
+
+    /** Short PADDLE_DX forms: dx = +0.0, dx = last non-zero dx, dx = -(last non-zero dx) */
+    private static final int DX_STOP_CODE = 5;
+    private static final int DX_REPEAT_CODE = 6;
+    private static final int DX_REVERSE_CODE = 7;
+
+    /**
+     * Kinds of recorded input.
+     */
+    public enum InputType {
+        /** Paddle moved to an X position; value = new X */
+        PADDLE_X(1, true),
+        /** Paddle velocity changed; value = new dx in pixels per second */
+        PADDLE_DX(2, true),
+        /** Launch the ball */
+        LAUNCH(3, false),
+        /** Fire the paddle lasers */
+        LASER(4, false);
+
+        /** Code stored in the low bits of a tag */
+        private final int code;
+
+        /** Whether a double value follows the tag */
+        private final boolean hasValue;
+
+        InputType(int code, boolean hasValue) {
+            this.code = code;
+            this.hasValue = hasValue;
+        }
+
+        /**
+         * Checks whether this input carries a value.
+         *
+         * @return true for paddle position and velocity
+         */
+        public boolean hasValue() {
+            return hasValue;
+        }
+
+        /**
+         * Finds the input type stored under a code.
+         *
+         * @param code type code from a tag
+         * @return the input type, or null for an unknown code
+         */
+        static InputType fromCode(int code) {
+            for (InputType type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    /** Seed of the session's random generator */
+    private final long seed;
+
+    /** Level the session started on */
+    private final int startLevel;
+
+    /** Simulation steps per second the session ran at */
+    private final int simRate;
+
+    /** Wall-clock time the recording started (epoch millis) */
+    private final long recordedAt;
+
+    /** Step of every input, in recording order */
+    private long[] steps = new long[64];
+
+    /** Type of every input (InputType ordinal) */
+    private byte[] types = new byte[64];
+
+    /** Value of every input (0 for inputs without value) */
+    private double[] values = new double[64];
+
+    /** Number of recorded inputs */
+    private int inputCount;
+
+    /** State hash after every step; element i belongs to step i + 1 */
+    private long[] stateHashes = new long[256];
+
+    /** Number of steps with a recorded state hash */
+    private int hashCount;
+
+    // Trailer: outcome of the recorded session
+    private boolean finished;
+    private long totalSteps;
+    private int finalScore;
+    private int finalLives;
+    private int finalLevel;
+
+    /**
+     * Constructs an empty replay.
+     *
+     * @param seed       seed the session was started with
+     * @param startLevel level the session started on
+     * @param simRate    simulation steps per second
+     * @param recordedAt wall-clock start of the recording (epoch millis)
+     */
+    public Replay(long seed, int startLevel, int simRate, long recordedAt) {
+        this.seed = seed;
+        this.startLevel = startLevel;
+        this.simRate = simRate;
+        this.recordedAt = recordedAt;
+    }
+
+    /**
+     * Appends an input.
+     *
+     * @param step  simulation step the input was applied in
+     * @param type  kind of input
+     * @param value new paddle X or dx; ignored for inputs without value
+     * @throws IllegalArgumentException if the step lies before the previous input's step
+     * @throws IllegalStateException    if the replay is already finished
+     */
+    public void addInput(long step, InputType type, double value) {
+        if (finished) {
+            throw new IllegalStateException("Replay is already finished");
+        }
+        if (step < 0 || (inputCount > 0 && step < steps[inputCount - 1])) {
+            throw new IllegalArgumentException("Input step " + step + " is out of order");
+        }
+        if (inputCount == steps.length) {
+            int capacity = steps.length * 2;
+            steps = Arrays.copyOf(steps, capacity);
+            types = Arrays.copyOf(types, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        steps[inputCount] = step;
+        types[inputCount] = (byte) type.ordinal();
+        values[inputCount] = type.hasValue ? value : 0;
+        inputCount++;
+    }
+
+    /**
+     * Appends the state hash of the next step. Hashes must be added for consecutive steps
+     * starting at step 1.
+     *
+     * @param step step that just ended (1 for the first step)
+     * @param hash StateHash of the game after that step
+     * @throws IllegalArgumentException if the step does not follow the last hashed step
+     * @throws IllegalStateException    if the replay is already finished
+     */
+    public void addStateHash(long step, long hash) {
+        if (finished) {
+            throw new IllegalStateException("Replay is already finished");
+        }
+        if (step != hashCount + 1L) {
+            throw new IllegalArgumentException("State hash for step " + step + " does not follow step " + hashCount);
+        }
+        if (hashCount == stateHashes.length) {
+            stateHashes = Arrays.copyOf(stateHashes, hashCount * 2);
+        }
+        stateHashes[hashCount++] = hash;
+    }
+
+    /**
+     * Stores the outcome of the recorded session and closes the replay for input.
+     *
+     * @param totalSteps steps the session ran
+     * @param score      final score
+     * @param lives      lives left
+     * @param level      level the session ended on
+     * @throws IllegalArgumentException if the session ended before its last input
+     */
+    public void finish(long totalSteps, int score, int lives, int level) {
+        if (inputCount > 0 && totalSteps < steps[inputCount - 1]) {
+            throw new IllegalArgumentException("Session ended before its last input");
+        }
+        if (totalSteps < hashCount) {
+            throw new IllegalArgumentException("Session ended before its last hashed step");
+        }
+        this.totalSteps = totalSteps;
+        this.finalScore = Math.max(0, score);
+        this.finalLives = Math.max(0, lives);
+        this.finalLevel = Math.max(0, level);
+        this.finished = true;
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Gets the seed the session was started with.
+     *
+     * @return session seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the level the session started on.
+     *
+     * @return start level (1-based)
+     */
+    public int getStartLevel() {
+        return startLevel;
+    }
+
+    /**
+     * Gets the simulation rate the session ran at.
+     *
+     * @return steps per second
+     */
+    public int getSimRate() {
+        return simRate;
+    }
+
+    /**
+     * Gets the wall-clock time the recording started.
+     *
+     * @return epoch milliseconds
+     */
+    public long getRecordedAt() {
+        return recordedAt;
+    }
+
+    /**
+     * Gets the number of recorded inputs.
+     *
+     * @return input count
+     */
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    /**
+     * Gets the step an input was applied in.
+     *
+     * @param index input index (0-based, recording order)
+     * @return simulation step
+     */
+    public long getStep(int index) {
+        return steps[index];
+    }
+
+    /**
+     * Gets the kind of an input.
+     *
+     * @param index input index (0-based, recording order)
+     * @return input type
+     */
+    public InputType getType(int index) {
+        return InputType.values()[types[index]];
+    }
+
+    /**
+     * Gets the value of an input.
+     *
+     * @param index input index (0-based, recording order)
+     * @return paddle X or dx, 0 for inputs without value
+     */
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Gets the number of steps with a recorded state hash (steps 1 to this count).
+     *
+     * @return hashed step count, 0 for version 1 files
+     */
+    public int getStateHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Checks whether a state hash was recorded for a step.
+     *
+     * @param step step number (1-based)
+     * @return true if getStateHash(step) is available
+     */
+    public boolean hasStateHash(long step) {
+        return step >= 1 && step <= hashCount;
+    }
+
+    /**
+     * Gets the recorded state hash after a step.
+     *
+     * @param step step number, 1 to getStateHashCount()
+     * @return StateHash of the recorded game after that step
+     */
+    public long getStateHash(long step) {
+        if (!hasStateHash(step)) {
+            throw new IndexOutOfBoundsException("No state hash for step " + step);
+        }
+        return stateHashes[(int) (step - 1)];
+    }
+
+    /**
+     * Checks whether the trailer has been set.
+     *
+     * @return true once finish() was called (always true for loaded replays)
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Gets the number of steps the recorded session ran.
+     *
+     * @return step count
+     */
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * Gets the score at the end of the recorded session.
+     *
+     * @return final score
+     */
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    /**
+     * Gets the lives left at the end of the recorded session.
+     *
+     * @return final lives
+     */
+    public int getFinalLives() {
+        return finalLives;
+    }
+
+    /**
+     * Gets the level the recorded session ended on.
+     *
+     * @return final level
+     */
+    public int getFinalLevel() {
+        return finalLevel;
+    }
+
+    // ==================== Serialization ====================
+
+    /**
+     * Writes the replay in the binary format described above.
+     *
+     * @param out destination (not closed)
+     * @throws IOException           if writing fails
+     * @throws IllegalStateException if finish() has not been called
+     */
+    public void write(OutputStream out) throws IOException {
+        if (!finished) {
+            throw new IllegalStateException("Replay must be finished before it is written");
+        }
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(FORMAT_VERSION);
+        data.writeLong(seed);
+        writeVarLong(data, startLevel);
+        writeVarLong(data, simRate);
+        data.writeLong(recordedAt);
+
+        long previous = 0;
+        double lastSpeed = 0;
+        InputType[] all = InputType.values();
+        for (int i = 0; i < inputCount; i++) {
+            InputType type = all[types[i]];
+            double value = values[i];
+            long delta = (steps[i] - previous) << TYPE_BITS;
+            previous = steps[i];
+            if (type == InputType.PADDLE_DX) {
+                // Keyboard control only ever uses stop, +speed and -speed
+                int code = sameBits(value, 0.0) ? DX_STOP_CODE
+                        : sameBits(value, lastSpeed) ? DX_REPEAT_CODE
+                        : sameBits(value, -lastSpeed) ? DX_REVERSE_CODE
+                        : type.code;
+                writeVarLong(data, delta | code);
+                if (code == type.code) {
+                    data.writeDouble(value);
+                }
+                if (value != 0) {
+                    lastSpeed = value;
+                }
+                continue;
+            }
+            writeVarLong(data, delta | type.code);
+            if (type.hasValue) {
+                data.writeDouble(value);
+            }
+        }
+
+        writeVarLong(data, ((totalSteps - previous) << TYPE_BITS) | END_CODE);
+        writeVarLong(data, finalScore);
+        writeVarLong(data, finalLives);
+        writeVarLong(data, finalLevel);
+
+        writeVarLong(data, hashCount);
+        for (int i = 0; i < hashCount; i++) {
+            data.writeLong(stateHashes[i]);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a replay written by write().
+     *
+     * @param in source (not closed)
+     * @return the replay, finished
+     * @throws IOException if the data is not a replay, has an unsupported version or is truncated
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version < MIN_FORMAT_VERSION || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        long seed = data.readLong();
+        int startLevel = (int) readVarLong(data);
+        int simRate = (int) readVarLong(data);
+        long recordedAt = data.readLong();
+        Replay replay = new Replay(seed, startLevel, simRate, recordedAt);
+
+        try {
+            long step = 0;
+            double lastSpeed = 0;
+            while (true) {
+                long tag = readVarLong(data);
+                step += tag >>> TYPE_BITS;
+                int code = (int) (tag & ((1 << TYPE_BITS) - 1));
+                if (code == END_CODE) {
+                    break;
+                }
+                if (code >= DX_STOP_CODE || code == InputType.PADDLE_DX.code) {
+                    double dx = code == DX_STOP_CODE ? 0.0
+                            : code == DX_REPEAT_CODE ? lastSpeed
+                            : code == DX_REVERSE_CODE ? -lastSpeed
+                            : data.readDouble();
+                    replay.addInput(step, InputType.PADDLE_DX, dx);
+                    if (dx != 0) {
+                        lastSpeed = dx;
+                    }
+                    continue;
+                }
+                InputType type = InputType.fromCode(code);
+                if (type == null) {
+                    throw new IOException("Unknown input type " + code);
+                }
+                replay.addInput(step, type, type.hasValue ? data.readDouble() : 0);
+            }
+            long totalSteps = step;
+            int finalScore = (int) readVarLong(data);
+            int finalLives = (int) readVarLong(data);
+            int finalLevel = (int) readVarLong(data);
+            if (version >= 2) {
+                long count = readVarLong(data);
+                if (count > totalSteps) {
+                    throw new IOException("Replay has more state hashes than steps");
+                }
+                for (long i = 1; i <= count; i++) {
+                    replay.addStateHash(i, data.readLong());
+                }
+            }
+            replay.finish(totalSteps, finalScore, finalLives, finalLevel);
+        } catch (EOFException e) {
+            throw new IOException("Replay is truncated", e);
+        }
+        return replay;
+    }
+
+    /**
+     * Writes the replay to a file, replacing it if it exists.
+     *
+     * @param file destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a replay file.
+     *
+     * @param file replay file
+     * @return the replay
+     * @throws IOException if the file cannot be read or is not a valid replay
+     */
+    public static Replay load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Compares two doubles bit for bit (so -0.0 and 0.0 differ), as replays must be exact.
+     *
+     * @param a first value
+     * @param b second value
+     * @return true if both have the same representation
+     */
+    private static boolean sameBits(double a, double b) {
+        return Double.doubleToRawLongBits(a) == Double.doubleToRawLongBits(b);
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint.
+     *
+     * @param out   destination
+     * @param value non-negative value
+     * @throws IOException if writing fails
+     */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     *
+     * @param in source
+     * @return the value
+     * @throws IOException if reading fails or the varint is longer than 64 bits
+     */
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,142 @@
+package com.ooparkanoid.core.sim;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Directory of recorded game sessions.
+ * The game saves the replay of every Adventure session here when it ends, so a session
+ * that showed a bug can be sent in and re-run with ReplayPlayer. Only the most recent
+ * MAX_REPLAYS files are kept.
+ *
+ * Configuration:
+ * - Default directory: ~/.arkanoid_replays
+ * - -Darkanoid.replayDir=&lt;dir&gt; stores replays elsewhere
+ * - -Darkanoid.replayDir=off disables recording
+ *
+ * File names are replay-&lt;yyyyMMdd-HHmmss&gt;-&lt;seed in hex&gt;.arkr, so they sort by time.
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from JavaFX Application Thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class ReplayArchive {
+    /** Number of replay files kept; older ones are deleted after each save */
+    public static final int MAX_REPLAYS = 20;
+
+    /** Prefix of replay file names */
+    private static final String FILE_PREFIX = "replay-";
+
+    /** Time stamp part of replay file names */
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /** Directory holding the replays */
+    private final Path directory;
+
+    /**
+     * Constructs an archive in the given directory (created on first save).
+     *
+     * @param directory replay directory
+     */
+    public ReplayArchive(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates the archive configured by the arkanoid.replayDir system property.
+     *
+     * @return the archive, or null if recording is disabled
+     */
+    public static ReplayArchive fromSystemProperties() {
+        String dir = System.getProperty("arkanoid.replayDir");
+        if (dir == null) {
+            return new ReplayArchive(Paths.get(System.getProperty("user.home"), ".arkanoid_replays"));
+        }
+        if (dir.isBlank() || "off".equalsIgnoreCase(dir) || "false".equalsIgnoreCase(dir)) {
+            return null;
+        }
+        return new ReplayArchive(Paths.get(dir));
+    }
+
+    /**
+     * Saves a finished replay and deletes the oldest files beyond MAX_REPLAYS.
+     *
+     * @param replay finished replay
+     * @return the file written
+     * @throws IOException if the replay cannot be written
+     */
+    public Path save(Replay replay) throws IOException {
+        String name = FILE_PREFIX + LocalDateTime.now().format(TIME_FORMAT) + '-'
+                + Long.toHexString(replay.getSeed()) + Replay.FILE_EXTENSION;
+        Path file = directory.resolve(name);
+        replay.save(file);
+        prune();
+        return file;
+    }
+
+    /**
+     * Finds the most recently saved replay.
+     *
+     * @return the newest replay file, or null if there is none
+     */
+    public Path latest() {
+        List<Path> files = list();
+        return files.isEmpty() ? null : files.get(files.size() - 1);
+    }
+
+    /**
+     * Gets the directory holding the replays.
+     *
+     * @return replay directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Deletes the oldest replay files so at most MAX_REPLAYS remain.
+     * Failures are logged; a full archive is not worth failing a save for.
+     */
+    private void prune() {
+        List<Path> files = list();
+        for (int i = 0; i < files.size() - MAX_REPLAYS; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            } catch (IOException e) {
+                System.err.println("Cannot delete old replay " + files.get(i) + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Lists the replay files, oldest first. Failures are logged and yield an empty list.
+     *
+     * @return replay files sorted by name (and therefore by time)
+     */
+    private List<Path> list() {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                FILE_PREFIX + "*" + Replay.FILE_EXTENSION)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        } catch (IOException e) {
+            System.err.println("Cannot list replays in " + directory + ": " + e.getMessage());
+            files.clear();
+        }
+        Collections.sort(files);
+        return files;
+    }
+}
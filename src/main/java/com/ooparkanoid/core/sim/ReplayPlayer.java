@@ -0,0 +1,384 @@
+package com.ooparkanoid.core.sim;
+
+import com.ooparkanoid.core.engine.GameManager;
+import com.ooparkanoid.core.state.GameState;
+import com.ooparkanoid.utils.EngineLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays a recorded session again on a headless GameManager, as fast as the CPU allows.
+ * The game is started from the replay's seed and level, and before every simulation step
+ * the inputs recorded for that step are applied in their original order. Because the
+ * simulation is deterministic, the game ends exactly as the recorded one did; the replay
+ * trailer is used to check that. Replays that carry per-step state hashes are checked after
+ * every step, and the first step whose state differs from the recording is reported.
+ *
+ * Features:
+ * - Headless by default: no JavaFX toolkit, audio device or network needed; can also
+ *   drive an interactive game to show a replay on screen
+ * - Step-by-step (step()) or whole-session (playToEnd()) playback
+ * - seek() to any step: the game is restored from the nearest earlier keyframe (a state
+ *   snapshot taken every few seconds of game time while playing) and re-simulated from
+ *   there, so seeking back never replays the session from its start
+ * - Command line: verifies replay files and reports simulation throughput, for
+ *   reproducing bugs from recorded games and for performance regressions
+ *
+ * Usage:
+ * <pre>
+ * java -cp target/classes:&lt;runtime classpath&gt; com.ooparkanoid.core.sim.ReplayPlayer \
+ *      [--verbose] session1.arkr [session2.arkr ...]
+ * </pre>
+ * Exits with status 1 if any replay fails to load, diverges from its recorded state hashes
+ * or ends differently than recorded.
+ *
+ * Thread Safety: Not thread-safe. Use one player per thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class ReplayPlayer {
+    /** Replay being played */
+    private final Replay replay;
+
+    /** Game re-running the session */
+    private final GameManager game;
+
+    /** Length of one simulation step in seconds */
+    private final double stepSeconds;
+
+    /** Seconds of game time between two keyframes */
+    public static final int KEYFRAME_SECONDS = 5;
+
+    /** Steps between two keyframes */
+    private final long keyframeInterval;
+
+    /** Keyframes taken so far, ordered by step */
+    private final List<Keyframe> keyframes = new ArrayList<>();
+
+    /** Hashes the game state for comparison with the recorded hashes */
+    private final StateHash stateHash = new StateHash();
+
+    /** Whether state hashes are compared after each step */
+    private boolean verifyHashes = true;
+
+    /** Number of steps whose state hash was compared */
+    private long hashesChecked;
+
+    /** First step whose state differed from the recording, -1 if none so far */
+    private long firstDivergentStep = -1;
+
+    /** Index of the next input to apply */
+    private int nextInput;
+
+    /**
+     * Game state at a step, from which playback can resume.
+     *
+     * @param step      step count when the snapshot was taken
+     * @param nextInput index of the first input not yet applied
+     * @param state     GameManager.writeState() output
+     */
+    private record Keyframe(long step, int nextInput, byte[] state) {
+    }
+
+    /**
+     * Constructs a player positioned at the start of the session, on a new headless game.
+     *
+     * @param replay replay to play
+     */
+    public ReplayPlayer(Replay replay) {
+        this(replay, GameManager.createHeadless(replay.getSeed()));
+    }
+
+    /**
+     * Constructs a player that shows the session on an existing game, e.g. the interactive
+     * one. The game is restarted from the replay's seed; it must not be played by anyone else
+     * (or recorded) while the player drives it.
+     *
+     * @param replay replay to play
+     * @param game   game to run the session on (seeded with a GameRandom)
+     */
+    public ReplayPlayer(Replay replay, GameManager game) {
+        this.replay = replay;
+        this.game = game;
+        this.stepSeconds = 1.0 / replay.getSimRate();
+        this.keyframeInterval = (long) replay.getSimRate() * KEYFRAME_SECONDS;
+        game.setInputListener(null);
+        game.startSession(replay.getSeed(), replay.getStartLevel());
+        game.getStateManager().beginNewGame(game.getScore(), game.getLives());
+        keyframes.add(captureKeyframe());
+    }
+
+    /**
+     * Applies the inputs of the next step and runs it.
+     * Compares the resulting state with the recorded hash, and takes a keyframe every
+     * KEYFRAME_SECONDS of game time.
+     *
+     * @return false if the session is over (all recorded steps played, or the game stopped)
+     */
+    public boolean step() {
+        if (isFinished() || !game.getStateManager().isRunning()) {
+            return false;
+        }
+        long step = game.getStepCount();
+        while (nextInput < replay.getInputCount() && replay.getStep(nextInput) <= step) {
+            applyInput(nextInput++);
+        }
+        game.update(stepSeconds);
+
+        step = game.getStepCount();
+        if (verifyHashes && replay.hasStateHash(step)) {
+            hashesChecked++;
+            if (firstDivergentStep < 0 && stateHash.hash(game) != replay.getStateHash(step)) {
+                firstDivergentStep = step;
+            }
+        }
+        if (step % keyframeInterval == 0 && step > keyframes.get(keyframes.size() - 1).step()) {
+            keyframes.add(captureKeyframe());
+        }
+        return true;
+    }
+
+    /**
+     * Moves playback to a step: restores the last keyframe at or before it (unless the game
+     * is already between that keyframe and the target) and steps forward to it.
+     *
+     * @param targetStep step to move to; clamped to the recorded session
+     * @return the step reached (less than the target if the game ended earlier)
+     */
+    public long seek(long targetStep) {
+        long target = Math.max(0, Math.min(targetStep, replay.getTotalSteps()));
+        long current = game.getStepCount();
+        Keyframe keyframe = keyframes.get(0);
+        for (Keyframe k : keyframes) {
+            if (k.step() > target) break;
+            keyframe = k;
+        }
+        if (target < current || keyframe.step() > current) {
+            restore(keyframe);
+        }
+        while (game.getStepCount() < target && step()) {
+            // Re-simulate up to the target
+        }
+        return game.getStepCount();
+    }
+
+    /**
+     * Plays the remaining steps of the session.
+     *
+     * @return number of steps run
+     */
+    public long playToEnd() {
+        long steps = 0;
+        while (step()) {
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Checks whether every recorded step has been played.
+     *
+     * @return true at the end of the session
+     */
+    public boolean isFinished() {
+        return game.getStepCount() >= replay.getTotalSteps();
+    }
+
+    /**
+     * Checks whether the game ended the way the recorded one did.
+     *
+     * @return true if step count, score, lives and level match the replay trailer and no
+     *         state hash differed along the way
+     */
+    public boolean matchesRecording() {
+        return firstDivergentStep < 0
+                && game.getStepCount() == replay.getTotalSteps()
+                && game.getScore() == replay.getFinalScore()
+                && Math.max(0, game.getLives()) == replay.getFinalLives()
+                && game.getCurrentLevel() == replay.getFinalLevel();
+    }
+
+    /**
+     * Enables or disables comparing the state hash after each step (on by default).
+     * Hashing costs about as much as a simulation step; turn it off for pure throughput runs.
+     *
+     * @param verifyHashes true to compare hashes
+     */
+    public void setVerifyHashes(boolean verifyHashes) {
+        this.verifyHashes = verifyHashes;
+    }
+
+    /**
+     * Gets the first step whose state differed from the recorded one.
+     *
+     * @return step number, or -1 if every compared step matched
+     */
+    public long getFirstDivergentStep() {
+        return firstDivergentStep;
+    }
+
+    /**
+     * Gets the number of steps whose state hash was compared with the recording.
+     *
+     * @return compared step count
+     */
+    public long getHashesChecked() {
+        return hashesChecked;
+    }
+
+    /**
+     * Gets the replay being played.
+     *
+     * @return the replay
+     */
+    public Replay getReplay() {
+        return replay;
+    }
+
+    /**
+     * Gets the number of keyframes taken so far.
+     *
+     * @return keyframe count (at least 1, the start of the session)
+     */
+    public int getKeyframeCount() {
+        return keyframes.size();
+    }
+
+    /**
+     * Gets the game re-running the session.
+     *
+     * @return the headless game
+     */
+    public GameManager getGame() {
+        return game;
+    }
+
+    /**
+     * Snapshots the game at the current step.
+     *
+     * @return the keyframe
+     */
+    private Keyframe captureKeyframe() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            game.writeState(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Keyframe(game.getStepCount(), nextInput, bytes.toByteArray());
+    }
+
+    /**
+     * Puts the game back into the state of a keyframe, running again if it had ended.
+     *
+     * @param keyframe keyframe to restore
+     */
+    private void restore(Keyframe keyframe) {
+        try {
+            game.readState(new DataInputStream(new ByteArrayInputStream(keyframe.state())));
+        } catch (IOException e) {
+            // Written by this player from the same game: cannot be malformed
+            throw new UncheckedIOException(e);
+        }
+        nextInput = keyframe.nextInput();
+        game.getStateManager().setState(GameState.RUNNING);
+    }
+
+    /**
+     * Feeds one recorded input to the game, the same way the interactive controls do.
+     *
+     * @param index input index
+     */
+    private void applyInput(int index) {
+        double value = replay.getValue(index);
+        switch (replay.getType(index)) {
+            case PADDLE_X -> game.getPaddle().setX(value);
+            case PADDLE_DX -> game.getPaddle().setDx(value);
+            case LAUNCH -> game.launchBall();
+            case LASER -> game.shootLaser();
+        }
+    }
+
+    /**
+     * Command-line entry point. See the class documentation for usage.
+     *
+     * @param args optional --verbose followed by replay files
+     */
+    public static void main(String[] args) {
+        boolean verbose = false;
+        int first = 0;
+        if (args.length > 0 && "--verbose".equals(args[0])) {
+            verbose = true;
+            first = 1;
+        }
+        if (first >= args.length) {
+            System.err.println("Usage: ReplayPlayer [--verbose] <replay" + Replay.FILE_EXTENSION + ">...");
+            System.exit(2);
+        }
+
+        // The engine logs every level and effect; keep it quiet unless asked not to
+        EngineLog.setEnabled(verbose);
+        boolean allMatched = true;
+        for (int i = first; i < args.length; i++) {
+            allMatched &= playFile(Path.of(args[i]));
+        }
+        if (!allMatched) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loads, plays and verifies one replay file, printing a short report.
+     *
+     * @param file replay file
+     * @return true if the replay loaded and ended as recorded
+     */
+    private static boolean playFile(Path file) {
+        Replay replay;
+        try {
+            replay = Replay.load(file);
+        } catch (IOException e) {
+            System.err.println(file + ": cannot load replay: " + e.getMessage());
+            return false;
+        }
+
+        long start = System.nanoTime();
+        ReplayPlayer player = new ReplayPlayer(replay);
+        long steps = player.playToEnd();
+        double wallSeconds = (System.nanoTime() - start) / 1e9;
+
+        GameManager game = player.getGame();
+        boolean matched = player.matchesRecording();
+        System.out.printf("%s: seed %d, level %d, recorded %s, %d inputs%n",
+                file, replay.getSeed(), replay.getStartLevel(),
+                Instant.ofEpochMilli(replay.getRecordedAt()), replay.getInputCount());
+        System.out.printf("  replayed %d steps (%.1f s game time) in %.3f s, %.0f steps/s%n",
+                steps, steps / (double) replay.getSimRate(), wallSeconds,
+                wallSeconds > 0 ? steps / wallSeconds : 0);
+        System.out.printf("  %s: score %d/%d, lives %d/%d, level %d/%d, steps %d/%d (replayed/recorded)%n",
+                matched ? "MATCH" : "MISMATCH",
+                game.getScore(), replay.getFinalScore(),
+                game.getLives(), replay.getFinalLives(),
+                game.getCurrentLevel(), replay.getFinalLevel(),
+                game.getStepCount(), replay.getTotalSteps());
+        if (replay.getStateHashCount() == 0) {
+            System.out.println("  state hashes: none recorded");
+        } else if (player.getFirstDivergentStep() < 0) {
+            System.out.printf("  state hashes: %d steps verified%n", player.getHashesChecked());
+        } else {
+            System.out.printf("  state hashes: diverged at step %d (%.2f s)%n", player.getFirstDivergentStep(),
+                    player.getFirstDivergentStep() / (double) replay.getSimRate());
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ooparkanoid.core.sim;
+
+import com.ooparkanoid.core.engine.GameManager;
+import com.ooparkanoid.core.engine.InputListener;
+
+/**
+ * Records a game session into a Replay.
+ * Starts the session itself (GameManager.startSession), so the recorded seed is the one
+ * the game actually runs with, then listens to every input the game reports and hashes
+ * the game state at the end of every step (StateHash).
+ *
+ * Usage:
+ * <pre>
+ * ReplayRecorder recorder = ReplayRecorder.start(gameManager, GameRandom.newSeed(), 1, simRate);
+ * ... play ...
+ * Replay replay = recorder.finish();
+ * replay.save(file);
+ * </pre>
+ *
+ * Thread Safety: Not thread-safe. Called from the simulation thread only.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class ReplayRecorder implements InputListener {
+    /** Game being recorded */
+    private final GameManager game;
+
+    /** Replay receiving the inputs */
+    private final Replay replay;
+
+    /** Hashes the game state after each step */
+    private final StateHash stateHash = new StateHash();
+
+    /**
+     * Constructs a recorder for a session that has just been started.
+     *
+     * @param game   the game
+     * @param replay empty replay carrying the session's seed and start level
+     */
+    private ReplayRecorder(GameManager game, Replay replay) {
+        this.game = game;
+        this.replay = replay;
+    }
+
+    /**
+     * Starts a new session on the game and begins recording it.
+     *
+     * @param game       the game to start
+     * @param seed       session seed
+     * @param startLevel level to start on
+     * @param simRate    simulation steps per second the game will be stepped at
+     * @return the recorder, already attached as the game's input listener
+     */
+    public static ReplayRecorder start(GameManager game, long seed, int startLevel, double simRate) {
+        game.startSession(seed, startLevel);
+        Replay replay = new Replay(seed, game.getCurrentLevel(), (int) Math.round(simRate),
+                System.currentTimeMillis());
+        ReplayRecorder recorder = new ReplayRecorder(game, replay);
+        game.setInputListener(recorder);
+        return recorder;
+    }
+
+    @Override
+    public void onPaddlePosition(long step, double x) {
+        replay.addInput(step, Replay.InputType.PADDLE_X, x);
+    }
+
+    @Override
+    public void onPaddleVelocity(long step, double dx) {
+        replay.addInput(step, Replay.InputType.PADDLE_DX, dx);
+    }
+
+    @Override
+    public void onLaunch(long step) {
+        replay.addInput(step, Replay.InputType.LAUNCH, 0);
+    }
+
+    @Override
+    public void onLaser(long step) {
+        replay.addInput(step, Replay.InputType.LASER, 0);
+    }
+
+    @Override
+    public void onStepEnd(long step) {
+        replay.addStateHash(step, stateHash.hash(game));
+    }
+
+    /**
+     * Stops recording and stores the session's current outcome in the replay trailer.
+     *
+     * @return the finished replay
+     */
+    public Replay finish() {
+        game.setInputListener(null);
+        // A game that ends inside a step is finished before the step reports its end
+        if (game.getStepCount() == replay.getStateHashCount() + 1L) {
+            onStepEnd(game.getStepCount());
+        }
+        replay.finish(game.getStepCount(), game.getScore(), game.getLives(), game.getCurrentLevel());
+        return replay;
+    }
+}
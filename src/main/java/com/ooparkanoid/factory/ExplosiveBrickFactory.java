@@ -1,8 +1,8 @@
 package com.ooparkanoid.factory;
 
+import com.ooparkanoid.graphics.TextureRegion;
 import com.ooparkanoid.object.bricks.Brick;
 import com.ooparkanoid.object.bricks.ExplosiveBrick;
-import javafx.scene.image.Image;
 
 /**
  * Concrete factory implementation for creating ExplosiveBrick instances.
@@ -23,16 +23,16 @@ import javafx.scene.image.Image;
  * @version 2.0
  */
 public class ExplosiveBrickFactory implements BrickFactory {
-    /** Texture image used for all explosive bricks created by this factory */
-    private final Image texture;
+    /** Texture region used for all explosive bricks created by this factory */
+    private final TextureRegion texture;
 
     /**
      * Constructs an ExplosiveBrickFactory with the specified texture.
      * The texture will be applied to all explosive bricks created by this factory.
      *
-     * @param texture the Image texture to use for explosive bricks
+     * @param texture the texture region to use for explosive bricks
      */
-    public ExplosiveBrickFactory(Image texture) {
+    public ExplosiveBrickFactory(TextureRegion texture) {
         this.texture = texture;
     }
 
@@ -3,6 +3,8 @@ package com.ooparkanoid.factory;
 import com.ooparkanoid.object.bricks.Brick;
 import com.ooparkanoid.object.bricks.FlickerBrick;
 
+import java.util.Random;
+
 /**
  * Concrete factory implementation for creating FlickerBrick instances.
  * Implements the BrickFactory interface to provide flicker brick creation functionality.
@@ -27,6 +29,25 @@ import com.ooparkanoid.object.bricks.FlickerBrick;
  * @version 2.0
  */
 public class FlickerBrickFactory implements BrickFactory {
+    /** Generator for flicker durations, or null to use FlickerBrick's shared generator */
+    private final Random random;
+
+    /**
+     * Constructs a FlickerBrickFactory using FlickerBrick's shared generator.
+     */
+    public FlickerBrickFactory() {
+        this(null);
+    }
+
+    /**
+     * Constructs a FlickerBrickFactory whose bricks draw flicker durations from the given generator.
+     *
+     * @param random generator for flicker durations, or null to use the shared one
+     */
+    public FlickerBrickFactory(Random random) {
+        this.random = random;
+    }
+
     /**
      * Creates a new FlickerBrick instance at the specified coordinates.
      * The brick is initialized with flicker behavior and self-managed textures.
@@ -37,6 +58,6 @@ public class FlickerBrickFactory implements BrickFactory {
      */
     @Override
     public Brick createBrick(double x, double y) {
-        return new FlickerBrick(x, y);
+        return new FlickerBrick(x, y, random);
     }
 }
@@ -1,8 +1,8 @@
 package com.ooparkanoid.factory;
 
+import com.ooparkanoid.graphics.TextureRegion;
 import com.ooparkanoid.object.bricks.Brick;
 import com.ooparkanoid.object.bricks.IndestructibleBrick;
-import javafx.scene.image.Image;
 
 /**
  * Concrete factory implementation for creating IndestructibleBrick instances.
@@ -28,16 +28,16 @@ import javafx.scene.image.Image;
  * @version 2.0
  */
 public class IndestructibleBrickFactory implements BrickFactory {
-    /** Texture image used for all indestructible bricks created by this factory */
-    private final Image texture;
+    /** Texture region used for all indestructible bricks created by this factory */
+    private final TextureRegion texture;
 
     /**
      * Constructs an IndestructibleBrickFactory with the specified texture.
      * The texture will be applied to all indestructible bricks created by this factory.
      *
-     * @param texture the Image texture to use for indestructible bricks
+     * @param texture the texture region to use for indestructible bricks
      */
-    public IndestructibleBrickFactory(Image texture) {
+    public IndestructibleBrickFactory(TextureRegion texture) {
         this.texture = texture;
     }
 
@@ -1,8 +1,8 @@
 package com.ooparkanoid.factory;
 
+import com.ooparkanoid.graphics.TextureRegion;
 import com.ooparkanoid.object.bricks.Brick;
 import com.ooparkanoid.object.bricks.NormalBrick;
-import javafx.scene.image.Image;
 
 /**
  * Concrete factory implementation for creating NormalBrick instances.
@@ -28,16 +28,16 @@ import javafx.scene.image.Image;
  * @version 2.0
  */
 public class NormalBrickFactory implements BrickFactory {
-    /** Texture image used for all normal bricks created by this factory */
-    private final Image texture;
+    /** Texture region used for all normal bricks created by this factory */
+    private final TextureRegion texture;
 
     /**
      * Constructs a NormalBrickFactory with the specified texture.
      * The texture will be applied to all normal bricks created by this factory.
      *
-     * @param texture the Image texture to use for normal bricks
+     * @param texture the texture region to use for normal bricks
      */
-    public NormalBrickFactory(Image texture) {
+    public NormalBrickFactory(TextureRegion texture) {
         this.texture = texture;
     }
 
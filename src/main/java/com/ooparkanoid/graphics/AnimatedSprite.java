@@ -2,7 +2,6 @@ package com.ooparkanoid.graphics;
 
 import com.ooparkanoid.object.GameObject;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -145,7 +144,7 @@ public abstract class AnimatedSprite extends GameObject {
         if (currentAnimation == null) {
             return;
         }
-        Image frame = currentAnimation.getCurrentFrame();
+        TextureRegion frame = currentAnimation.getCurrentFrame();
         if (frame == null) {
             return;
         }
@@ -155,9 +154,9 @@ public abstract class AnimatedSprite extends GameObject {
             gc.translate(x + width / 2, y + height / 2);    // Move origin to sprite center
             gc.scale(flipX ? -1 : 1, flipY ? -1 : 1);       // Apply flip scaling
             // Draw from center with offsets
-            gc.drawImage(frame, -width / 2 + offsetX, -height / 2 + offsetY, width, height);
+            frame.draw(gc, -width / 2 + offsetX, -height / 2 + offsetY, width, height);
         } else {
-            gc.drawImage(frame, x + offsetX, y + offsetY, width, height);
+            frame.draw(gc, x + offsetX, y + offsetY, width, height);
         }
         gc.restore(); // Restore GraphicsContext to previous state
     }
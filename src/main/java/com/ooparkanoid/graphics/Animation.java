@@ -3,8 +3,9 @@ package com.ooparkanoid.graphics;
 import javafx.scene.image.Image;
 
 /**
- * Represents a sequence of images that can be played as an animation.
- * Manages frame timing, looping behavior, and provides access to current frame.
+ * Playback cursor over an AnimationClip.
+ * The clip holds the shared frames and timing; an Animation only tracks where one
+ * sprite is in that clip, so creating one per object costs a few fields and no image data.
  *
  * Features:
  * - Frame-based animation with configurable timing
@@ -14,9 +15,11 @@ import javafx.scene.image.Image;
  * - Finished state tracking for one-shot animations
  *
  * Usage:
- * Create with array of frames, frame duration, and loop flag.
- * Call update() each frame with delta time, then getCurrentFrame() for rendering.
- * Use reset() to restart animation, isFinished() to check completion.
+ * Build an AnimationClip once (per sprite type), then create an Animation from it for
+ * every object that plays it. Call update() each frame with delta time, then
+ * getCurrentFrame() for rendering. Use reset() to restart animation, isFinished() to
+ * check completion. The array constructors remain for one-off animations and build a
+ * private clip.
  *
  * Thread Safety: Not thread-safe. Should be accessed from single thread.
  *
@@ -24,24 +27,31 @@ import javafx.scene.image.Image;
  * @version 2.0
  */
 public class Animation {
-    /** Array of animation frames in playback order */
-    private Image[] frames;
+    /** Shared frames and timing being played */
+    private final AnimationClip clip;
 
     /** Index of currently displayed frame */
     private int currentFrame = 0;
 
-    /** Time duration each frame should be displayed (seconds) */
-    private double frameDuration;
-
     /** Accumulated time since last frame change */
     private double timer = 0;
 
-    /** Whether animation should loop when reaching the end */
+    /** Whether animation should loop when reaching the end (starts as the clip's mode) */
     private boolean loop;
 
     /** Whether one-shot animation has completed */
     private boolean finished = false;
 
+    /**
+     * Constructs an Animation playing a shared clip from its first frame.
+     *
+     * @param clip frames and timing to play
+     */
+    public Animation(AnimationClip clip) {
+        this.clip = clip;
+        this.loop = clip.isLoop();
+    }
+
     /**
      * Constructs an Animation with specified frames, timing, and loop behavior.
      *
@@ -50,9 +60,18 @@ public class Animation {
      * @param loop true for looping animation, false for one-shot playback
      */
     public Animation(Image[] frames, double frameDuration, boolean loop) {
-        this.frames = frames;
-        this.frameDuration = frameDuration;
-        this.loop = loop;
+        this(AnimationClip.ofImages(frames, frameDuration, loop));
+    }
+
+    /**
+     * Constructs an Animation whose frames are regions of a sprite sheet or atlas.
+     *
+     * @param frames array of frame regions in playback order
+     * @param frameDuration time each frame should be displayed in seconds
+     * @param loop true for looping animation, false for one-shot playback
+     */
+    public Animation(TextureRegion[] frames, double frameDuration, boolean loop) {
+        this(new AnimationClip(frames, frameDuration, loop));
     }
 
     /**
@@ -64,15 +83,16 @@ public class Animation {
      */
     public void update(double deltaTime) {
         if (finished && !loop) return;
+        double frameDuration = clip.getFrameDuration();
         timer += deltaTime;
         if (timer >= frameDuration) {
             timer -= frameDuration;
             currentFrame++;
-            if (currentFrame >= frames.length) {
+            if (currentFrame >= clip.getFrameCount()) {
                 if (loop) {
                     currentFrame = 0;
                 } else {
-                    currentFrame = frames.length - 1; // Stop at last frame
+                    currentFrame = clip.getFrameCount() - 1; // Stop at last frame
                     finished = true;
                 }
             }
@@ -81,12 +101,21 @@ public class Animation {
 
     /**
      * Gets the currently active animation frame for rendering.
-     * Returns the image at the current frame index.
+     * Returns the region at the current frame index.
+     *
+     * @return the TextureRegion representing the current animation frame
+     */
+    public TextureRegion getCurrentFrame() {
+        return clip.getFrame(currentFrame);
+    }
+
+    /**
+     * Gets the clip this animation plays.
      *
-     * @return the Image representing the current animation frame
+     * @return the shared clip
      */
-    public Image getCurrentFrame() {
-        return frames[currentFrame];
+    public AnimationClip getClip() {
+        return clip;
     }
 
     /**
@@ -0,0 +1,105 @@
+package com.ooparkanoid.graphics;
+
+import javafx.scene.image.Image;
+
+/**
+ * Immutable frame sequence and timing of an animation, shared by every object that plays it.
+ * Playback state (current frame, timer, finished flag) lives in Animation, so one clip
+ * can drive any number of sprites at different points of the sequence.
+ *
+ * Features:
+ * - Frames are TextureRegions, usually regions of a shared SpriteSheet
+ * - Frame array is copied on construction and never exposed, so a clip cannot change
+ * - Default loop mode for the animations created from it
+ *
+ * Usage:
+ * <pre>
+ * AnimationClip clip = new AnimationClip(sheet.getRowRegions(row, 8), 0.1, true); // once
+ * Animation animation = new Animation(clip);                                      // per sprite
+ * </pre>
+ *
+ * Thread Safety: Immutable; safe to share between threads.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class AnimationClip {
+    /** Frames in playback order */
+    private final TextureRegion[] frames;
+
+    /** Time each frame is displayed (seconds) */
+    private final double frameDuration;
+
+    /** Whether animations of this clip loop by default */
+    private final boolean loop;
+
+    /**
+     * Constructs a clip from frame regions.
+     *
+     * @param frames        frame regions in playback order (copied; must not be empty)
+     * @param frameDuration time each frame should be displayed in seconds
+     * @param loop          true for looping playback, false for one-shot
+     * @throws IllegalArgumentException if there are no frames
+     */
+    public AnimationClip(TextureRegion[] frames, double frameDuration, boolean loop) {
+        if (frames == null || frames.length == 0) {
+            throw new IllegalArgumentException("Animation clip needs at least one frame");
+        }
+        this.frames = frames.clone();
+        this.frameDuration = frameDuration;
+        this.loop = loop;
+    }
+
+    /**
+     * Constructs a clip from whole images, one frame per image.
+     *
+     * @param images        frame images in playback order
+     * @param frameDuration time each frame should be displayed in seconds
+     * @param loop          true for looping playback, false for one-shot
+     * @return the new clip
+     */
+    public static AnimationClip ofImages(Image[] images, double frameDuration, boolean loop) {
+        TextureRegion[] regions = new TextureRegion[images.length];
+        for (int i = 0; i < images.length; i++) {
+            regions[i] = TextureRegion.of(images[i]);
+        }
+        return new AnimationClip(regions, frameDuration, loop);
+    }
+
+    /**
+     * Gets one frame of the clip.
+     *
+     * @param index frame index (0-based)
+     * @return the frame region
+     */
+    public TextureRegion getFrame(int index) {
+        return frames[index];
+    }
+
+    /**
+     * Gets the number of frames.
+     *
+     * @return frame count (at least 1)
+     */
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    /**
+     * Gets the time each frame is displayed.
+     *
+     * @return frame duration in seconds
+     */
+    public double getFrameDuration() {
+        return frameDuration;
+    }
+
+    /**
+     * Checks whether animations of this clip loop by default.
+     *
+     * @return true for a looping clip
+     */
+    public boolean isLoop() {
+        return loop;
+    }
+}
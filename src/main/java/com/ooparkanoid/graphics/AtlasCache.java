@@ -0,0 +1,157 @@
+package com.ooparkanoid.graphics;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * On-disk copy of a packed TextureAtlas, used to skip image decoding on the next launch.
+ * Pages are stored as raw ARGB pixels, so restoring them is a file read plus one
+ * setPixels call per page instead of decoding (and downscaling) every source PNG.
+ *
+ * File Format (big-endian):
+ * - magic "ARKATLAS", format version
+ * - key: checksum of the source images and packing settings, plus their byte count
+ * - pages: count, then width, height and width * height ARGB ints per page
+ * - regions: count, then name, page index, source rect and logical size per region
+ *
+ * A file whose magic, version or key does not match is ignored, so changed sprites
+ * or packing settings simply cause one cold load that rewrites the cache.
+ *
+ * Thread Safety: Stateless; reads and writes may run on loader threads.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+final class AtlasCache {
+    /** File signature */
+    private static final long MAGIC = 0x41524B41544C4153L; // "ARKATLAS"
+
+    /** Bumped whenever the layout of the file changes */
+    private static final int VERSION = 1;
+
+    /** Private constructor to prevent instantiation */
+    private AtlasCache() {
+    }
+
+    /**
+     * Reads an atlas if the file exists and was written for the same key.
+     *
+     * @param file     cache file
+     * @param checksum checksum of the atlas sources
+     * @param length   total byte count of the atlas sources
+     * @return the restored atlas, or null if there is no usable cache
+     */
+    static TextureAtlas read(Path file, long checksum, long length) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readLong() != MAGIC || in.readInt() != VERSION
+                    || in.readLong() != checksum || in.readLong() != length) {
+                return null;
+            }
+
+            int pageCount = in.readInt();
+            List<WritableImage> pages = new ArrayList<>(pageCount);
+            for (int p = 0; p < pageCount; p++) {
+                int w = in.readInt();
+                int h = in.readInt();
+                byte[] raw = new byte[w * h * 4];
+                in.readFully(raw);
+                int[] argb = new int[w * h];
+                ByteBuffer.wrap(raw).asIntBuffer().get(argb);
+
+                WritableImage page = new WritableImage(w, h);
+                page.getPixelWriter().setPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), argb, 0, w);
+                pages.add(page);
+            }
+
+            int regionCount = in.readInt();
+            Map<String, TextureRegion> regions = new HashMap<>();
+            for (int r = 0; r < regionCount; r++) {
+                String name = in.readUTF();
+                WritableImage page = pages.get(in.readInt());
+                regions.put(name, new TextureRegion(page,
+                        in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(),
+                        in.readDouble(), in.readDouble()));
+            }
+            return TextureAtlas.restore(pages, regions);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring unreadable atlas cache: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes an atlas to the cache file.
+     * The data goes to a temporary file first and is moved into place afterwards,
+     * so an interrupted write never leaves a truncated cache behind.
+     *
+     * @param file     cache file
+     * @param checksum checksum of the atlas sources
+     * @param length   total byte count of the atlas sources
+     * @param atlas    atlas to store
+     */
+    static void write(Path file, long checksum, long length, TextureAtlas atlas) {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.writeLong(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(checksum);
+                out.writeLong(length);
+
+                out.writeInt(atlas.getPageCount());
+                for (int p = 0; p < atlas.getPageCount(); p++) {
+                    WritableImage page = (WritableImage) atlas.getPage(p);
+                    int w = (int) page.getWidth();
+                    int h = (int) page.getHeight();
+                    int[] argb = new int[w * h];
+                    page.getPixelReader().getPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), argb, 0, w);
+                    byte[] raw = new byte[argb.length * 4];
+                    ByteBuffer.wrap(raw).asIntBuffer().put(argb);
+
+                    out.writeInt(w);
+                    out.writeInt(h);
+                    out.write(raw);
+                }
+
+                Map<String, TextureRegion> regions = atlas.getRegions();
+                out.writeInt(regions.size());
+                for (Map.Entry<String, TextureRegion> e : regions.entrySet()) {
+                    TextureRegion region = e.getValue();
+                    out.writeUTF(e.getKey());
+                    out.writeInt(atlas.indexOfPage(region.getImage()));
+                    out.writeDouble(region.getSourceX());
+                    out.writeDouble(region.getSourceY());
+                    out.writeDouble(region.getSourceWidth());
+                    out.writeDouble(region.getSourceHeight());
+                    out.writeDouble(region.getWidth());
+                    out.writeDouble(region.getHeight());
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Failed to write atlas cache: " + e.getMessage());
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+                // Nothing left to clean up
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.ooparkanoid.graphics;
+
+import com.ooparkanoid.object.bricks.BrickField;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Cached drawing of a level's bricks on a canvas of their own.
+ * Bricks change far less often than they are drawn, so instead of repainting every
+ * brick on the main canvas each frame, the bricks live on a separate canvas stacked
+ * underneath it and only the cells the BrickField reports as dirty are repainted.
+ *
+ * Features:
+ * - Full repaint only after a level load/clear, a field switch, or invalidate()
+ * - Otherwise repaints just the dirty cells (hit, destroyed, flicker phase change)
+ * - Each dirty cell is cleared to transparency first, so destroyed bricks disappear
+ * - Nothing is issued to the canvas on frames where no brick changed
+ *
+ * Usage:
+ * <pre>
+ * BrickLayer layer = new BrickLayer(Constants.WIDTH, Constants.HEIGHT);
+ * StackPane content = new StackPane(layer.getCanvas(), mainCanvas);
+ * // once per frame, before drawing the dynamic objects on mainCanvas:
+ * layer.sync(field);
+ * </pre>
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from JavaFX Application Thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class BrickLayer {
+    /** Canvas holding the cached brick pixels */
+    private final Canvas canvas;
+
+    /** Graphics context of the brick canvas */
+    private final GraphicsContext gc;
+
+    /** Field the canvas currently mirrors (a different field forces a full repaint) */
+    private BrickField mirrored;
+
+    /** True when the canvas content no longer matches any field */
+    private boolean invalid = true;
+
+    /**
+     * Constructs a brick layer with an empty canvas of the given size.
+     *
+     * @param width  canvas width in pixels
+     * @param height canvas height in pixels
+     */
+    public BrickLayer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.gc = canvas.getGraphicsContext2D();
+        // Bricks never take input; events go to the game canvas above
+        canvas.setMouseTransparent(true);
+    }
+
+    /**
+     * Gets the canvas to place under the main game canvas.
+     *
+     * @return the brick canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Forces the next sync() to repaint every brick.
+     */
+    public void invalidate() {
+        invalid = true;
+    }
+
+    /**
+     * Erases the layer, e.g. while a mode without bricks is on screen.
+     * The next sync() repaints the whole field.
+     */
+    public void clear() {
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        invalid = true;
+    }
+
+    /**
+     * Brings the canvas up to date with the field and consumes its dirty state.
+     *
+     * @param field brick field to mirror
+     */
+    public void sync(BrickField field) {
+        if (invalid || field != mirrored || field.isLayoutDirty()) {
+            repaintAll(field);
+        } else {
+            repaintDirty(field);
+        }
+        field.clearDirty();
+        mirrored = field;
+        invalid = false;
+    }
+
+    /**
+     * Clears the canvas and draws every live brick.
+     *
+     * @param field brick field to draw
+     */
+    private void repaintAll(BrickField field) {
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int slot = field.nextAlive(0); slot >= 0; slot = field.nextAlive(slot + 1)) {
+            field.brickAt(slot).render(gc);
+        }
+    }
+
+    /**
+     * Clears and redraws only the cells marked dirty since the last sync.
+     *
+     * @param field brick field to draw
+     */
+    private void repaintDirty(BrickField field) {
+        double w = field.getCellWidth();
+        double h = field.getCellHeight();
+        for (int slot = field.nextDirty(0); slot >= 0; slot = field.nextDirty(slot + 1)) {
+            gc.clearRect(field.getCellX(slot), field.getCellY(slot), w, h);
+            if (field.isAlive(slot)) {
+                field.brickAt(slot).render(gc);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.ooparkanoid.graphics;
+
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.transform.Transform;
+
+/**
+ * Digits 0-9 of one font and color, rasterised once into an image strip.
+ * Numbers are then drawn as a row of image regions, which skips font shaping and the
+ * glyph path of fillText; drawing a number costs one drawImage per digit.
+ *
+ * Features:
+ * - One snapshot of a small canvas per font and color
+ * - Glyphs are rasterised at RASTER_SCALE and drawn at their logical size,
+ *   so they stay sharp when the stage is scaled up
+ * - Digits advance by the font's own glyph widths, matching fillText placement
+ * - Only digits are covered; callers fall back to fillText for other text
+ *
+ * Usage:
+ * <pre>
+ * DigitStrip digits = new DigitStrip(font, Color.CYAN);
+ * if (!digits.draw(gc, "120", x, baselineY)) {
+ *     gc.fillText("120", x, baselineY);
+ * }
+ * </pre>
+ * The strip honours the GraphicsContext's global alpha, so fading numbers only need
+ * setGlobalAlpha() around the call.
+ *
+ * Thread Safety: Must be constructed and used on the JavaFX Application Thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class DigitStrip {
+    /** Characters held in the strip, in strip order */
+    private static final String DIGITS = "0123456789";
+
+    /** Pixels of rasterised glyph per logical pixel */
+    private static final double RASTER_SCALE = 2.0;
+
+    /** Transparent margin around each glyph, in logical pixels, so neighbours never bleed */
+    private static final double PAD = 1.0;
+
+    /** Region per digit, including the margin */
+    private final TextureRegion[] glyphs = new TextureRegion[DIGITS.length()];
+
+    /** Advance width per digit */
+    private final double[] advances = new double[DIGITS.length()];
+
+    /** Distance from the top of a glyph region (without margin) to the baseline */
+    private final double baseline;
+
+    /**
+     * Rasterises the digits of a font.
+     *
+     * @param font  font to draw the digits in
+     * @param color fill color of the digits
+     */
+    public DigitStrip(Font font, Color color) {
+        GlyphWidthCache metrics = new GlyphWidthCache(font);
+        baseline = metrics.getBaseline();
+        double cellHeight = Math.ceil(metrics.getLineHeight()) + 2 * PAD;
+
+        double[] cellX = new double[DIGITS.length()];
+        double[] cellWidth = new double[DIGITS.length()];
+        double stripWidth = 0;
+        for (int i = 0; i < DIGITS.length(); i++) {
+            advances[i] = metrics.width(DIGITS.charAt(i));
+            cellX[i] = stripWidth;
+            cellWidth[i] = Math.ceil(advances[i]) + 2 * PAD;
+            stripWidth += cellWidth[i];
+        }
+
+        Canvas canvas = new Canvas(stripWidth, cellHeight);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFont(font);
+        gc.setFill(color);
+        gc.setTextBaseline(VPos.BASELINE);
+        for (int i = 0; i < DIGITS.length(); i++) {
+            gc.fillText(String.valueOf(DIGITS.charAt(i)), cellX[i] + PAD, PAD + baseline);
+        }
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setTransform(Transform.scale(RASTER_SCALE, RASTER_SCALE));
+        WritableImage strip = canvas.snapshot(params, null);
+
+        for (int i = 0; i < DIGITS.length(); i++) {
+            glyphs[i] = new TextureRegion(strip,
+                    cellX[i] * RASTER_SCALE, 0, cellWidth[i] * RASTER_SCALE, cellHeight * RASTER_SCALE,
+                    cellWidth[i], cellHeight);
+        }
+    }
+
+    /**
+     * Draws a number left-aligned on a baseline, as fillText would with the default baseline.
+     *
+     * @param gc        the GraphicsContext to draw to
+     * @param text      text to draw
+     * @param x         left edge of the first digit
+     * @param baselineY Y coordinate of the baseline
+     * @return true if drawn, false (nothing drawn) if the text holds anything but digits
+     */
+    public boolean draw(GraphicsContext gc, CharSequence text, double x, double baselineY) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        double top = baselineY - baseline - PAD;
+        for (int i = 0; i < text.length(); i++) {
+            int digit = text.charAt(i) - '0';
+            glyphs[digit].draw(gc, x - PAD, top);
+            x += advances[digit];
+        }
+        return true;
+    }
+}
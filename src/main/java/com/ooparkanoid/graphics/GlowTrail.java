@@ -4,9 +4,6 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.StrokeLineJoin;
 
-import java.util.LinkedList;
-import java.util.Queue;
-
 /**
  * Creates a glowing trail effect behind moving objects (typically balls).
  * Renders multiple layered glow effects with fading opacity and varying thickness.
@@ -30,16 +27,53 @@ import java.util.Queue;
  * then render() to draw the trail. Customize with setColor() or setColors().
  *
  * Performance Notes:
- * - Trail points automatically expire after 1 second
- * - Maximum trail length prevents memory growth
+ * - Points live in a fixed-capacity primitive ring buffer (x, y, timestamp per slot),
+ *   so adding, expiring and rendering points allocates nothing
+ * - Timestamps use simulation time accumulated from update(deltaTime), not the wall clock
+ * - Trail points expire after 1 second; expiry only advances the ring's head
+ * - Maximum trail length bounds the buffer; the oldest point is overwritten when full
  * - Interpolation adds intermediate points for smoothness
+ * - BATCHED render mode (default) quantises each layer's fade into BATCH_BUCKETS steps
+ *   and strokes one path per step: 12 strokes per trail instead of ~90 strokeLine calls,
+ *   with far fewer alpha/width state changes; PER_SEGMENT keeps the original smooth fade
  *
  * @author Arkanoid Team
  * @version 2.0
  */
 public class GlowTrail {
-    /** Queue of trail points in chronological order (oldest first) */
-    private Queue<TrailPoint> points = new LinkedList<>();
+    /** Seconds a trail point stays visible */
+    private static final double POINT_LIFETIME = 1.0;
+
+    /** Number of doubles stored per point in the ring (x, y, timestamp) */
+    private static final int STRIDE = 3;
+
+    /** Number of opacity/thickness steps per layer in BATCHED mode */
+    private static final int BATCH_BUCKETS = 4;
+
+    /**
+     * How the glow layers are issued to the GraphicsContext.
+     */
+    public enum RenderMode {
+        /** One strokeLine (plus alpha and width changes) per segment per layer: smoothest fade */
+        PER_SEGMENT,
+        /** One path per opacity/thickness bucket per layer: about 10x fewer draw calls */
+        BATCHED
+    }
+
+    /** Ring buffer of trail points, STRIDE doubles per slot, oldest point at head */
+    private double[] ring;
+
+    /** Number of point slots in the ring */
+    private int capacity;
+
+    /** Slot index of the oldest point */
+    private int head;
+
+    /** Number of points currently stored */
+    private int count;
+
+    /** Simulation time accumulated from update() calls (seconds) */
+    private double time;
 
     /** Maximum number of trail points to maintain */
     private int maxLength = 30;
@@ -59,40 +93,15 @@ public class GlowTrail {
     /** Multiplier for glow opacity and intensity */
     private double glowIntensity = 1.0;
 
+    /** How the layers are drawn (batched by default) */
+    private RenderMode renderMode = RenderMode.BATCHED;
+
     /** Whether trail rendering is enabled */
     private boolean enabled = true;
 
     /** Previous ball position for interpolation calculations */
     private double lastX = -1, lastY = -1;
 
-    /**
-     * Represents a single point in the trail with position and timestamp.
-     * Used internally to track trail segments and implement fade-out behavior.
-     */
-    private static class TrailPoint {
-        /** X coordinate of this trail point */
-        double x;
-
-        /** Y coordinate of this trail point */
-        double y;
-
-        /** Timestamp when this point was created (milliseconds) */
-        long timestamp;
-
-        /**
-         * Constructs a trail point with position and creation time.
-         *
-         * @param x X coordinate
-         * @param y Y coordinate
-         * @param timestamp creation timestamp in milliseconds
-         */
-        TrailPoint(double x, double y, long timestamp) {
-            this.x = x;
-            this.y = y;
-            this.timestamp = timestamp;
-        }
-    }
-
     /**
      * Constructs a GlowTrail with specified ball size.
      * Ball size affects the thickness of trail segments.
@@ -101,6 +110,8 @@ public class GlowTrail {
      */
     public GlowTrail(double ballSize) {
         this.ballSize = ballSize;
+        this.capacity = maxLength;
+        this.ring = new double[capacity * STRIDE];
     }
 
     /**
@@ -118,29 +129,56 @@ public class GlowTrail {
 
         // Interpolate points if movement distance is significant
         if (lastX >= 0 && lastY >= 0) {
-            double distance = Math.sqrt(Math.pow(x - lastX, 2) + Math.pow(y - lastY, 2));
+            double distX = x - lastX;
+            double distY = y - lastY;
+            double distance = Math.sqrt(distX * distX + distY * distY);
 
             // Add intermediate points for smooth trails
             if (distance > 1) {
                 int steps = (int) (distance / 5);
                 for (int i = 1; i <= steps; i++) {
                     double t = (double) i / (steps + 1);
-                    double interpX = lastX + (x - lastX) * t;
-                    double interpY = lastY + (y - lastY) * t;
-                    points.add(new TrailPoint(interpX, interpY, System.currentTimeMillis()));
+                    push(lastX + distX * t, lastY + distY * t);
                 }
             }
         }
 
-        // Add current position point
-        points.add(new TrailPoint(x, y, System.currentTimeMillis()));
+        // Add current position point (the ring drops the oldest point once maxLength is reached)
+        push(x, y);
         lastX = x;
         lastY = y;
+    }
 
-        // Maintain trail length limit
-        while (points.size() > maxLength) {
-            points.poll();
+    /**
+     * Appends a point stamped with the current simulation time.
+     * Overwrites the oldest point when the trail is at its maximum length.
+     *
+     * @param x X coordinate of the point
+     * @param y Y coordinate of the point
+     */
+    private void push(double x, double y) {
+        int slot;
+        if (count < maxLength) {
+            slot = wrap(head + count);
+            count++;
+        } else {
+            slot = head;
+            head = wrap(head + 1);
         }
+        int base = slot * STRIDE;
+        ring[base] = x;
+        ring[base + 1] = y;
+        ring[base + 2] = time;
+    }
+
+    /**
+     * Maps an unbounded slot index onto the ring.
+     *
+     * @param index slot index in [0, 2 * capacity)
+     * @return index in [0, capacity)
+     */
+    private int wrap(int index) {
+        return index >= capacity ? index - capacity : index;
     }
 
     /**
@@ -151,17 +189,17 @@ public class GlowTrail {
      * @param gc the GraphicsContext to render the trail to
      */
     public void render(GraphicsContext gc) {
-        if (!enabled || points.isEmpty()) {
+        if (!enabled || count == 0) {
             return;
         }
 
-        // Convert queue to array for efficient iteration
-        TrailPoint[] array = points.toArray(new TrailPoint[0]);
+        gc.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
+        gc.setLineJoin(StrokeLineJoin.ROUND);
 
-        // Render three glow layers from back to front
-        renderOuterGlow(gc, array);
-        renderInnerGlow(gc, array);
-        renderCore(gc, array);
+        // Render three glow layers from back to front, straight from the ring
+        renderOuterGlow(gc);
+        renderInnerGlow(gc);
+        renderCore(gc);
     }
 
     /**
@@ -169,29 +207,10 @@ public class GlowTrail {
      * Creates ambient glow effect around the trail.
      *
      * @param gc the GraphicsContext to render to
-     * @param points array of trail points to render
      */
-    private void renderOuterGlow(GraphicsContext gc, TrailPoint[] points) {
-        gc.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-        gc.setLineJoin(StrokeLineJoin.ROUND);
-
-        for (int i = 0; i < points.length - 1; i++) {
-            TrailPoint p1 = points[i];
-            TrailPoint p2 = points[i + 1];
-
-            // Calculate opacity based on position in trail (older = more transparent)
-            double progress = i * 1.0 / points.length;
-            double alpha = (0.05 + progress * 0.1) * glowIntensity;
-
-            // Calculate thickness (larger for outer glow)
-            double thickness = ballSize * 1.0 * (0.2 + progress * 0.8);
-
-            gc.setGlobalAlpha(alpha);
-            gc.setStroke(outerGlowColor);
-            gc.setLineWidth(thickness);
-            gc.strokeLine(p1.x, p1.y, p2.x, p2.y);
-        }
-        gc.setGlobalAlpha(1.0);
+    private void renderOuterGlow(GraphicsContext gc) {
+        // Opacity grows along the trail (older = more transparent), thickness is largest here
+        renderLayer(gc, outerGlowColor, 0.05, 0.1, 1.0, 0.2);
     }
 
     /**
@@ -199,65 +218,121 @@ public class GlowTrail {
      * Creates primary glow effect with main glow color.
      *
      * @param gc the GraphicsContext to render to
-     * @param points array of trail points to render
      */
-    private void renderInnerGlow(GraphicsContext gc, TrailPoint[] points) {
-        gc.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-        gc.setLineJoin(StrokeLineJoin.ROUND);
-
-        for (int i = 0; i < points.length - 1; i++) {
-            TrailPoint p1 = points[i];
-            TrailPoint p2 = points[i + 1];
+    private void renderInnerGlow(GraphicsContext gc) {
+        renderLayer(gc, glowColor, 0.05, 0.1, 0.7, 0.3);
+    }
 
-            double progress = i * 1.0 / points.length;
-            double alpha = (0.05 + progress * 0.1) * glowIntensity;
-            double thickness = ballSize * 0.7 * (0.3 + progress * 0.7);
+    /**
+     * Renders the core trail layer (smallest, brightest).
+     * Creates the central bright trail effect.
+     *
+     * @param gc the GraphicsContext to render to
+     */
+    private void renderCore(GraphicsContext gc) {
+        renderLayer(gc, coreColor, 0.1, 0.4, 0.4, 0.4);
+    }
 
-            gc.setGlobalAlpha(alpha);
-            gc.setStroke(glowColor);
-            gc.setLineWidth(thickness);
-            gc.strokeLine(p1.x, p1.y, p2.x, p2.y);
+    /**
+     * Renders one glow layer whose opacity and thickness grow linearly along the trail.
+     * For a segment at progress p (0 = oldest, towards 1 = newest):
+     * alpha = (alphaStart + p * alphaGain) * glowIntensity and
+     * thickness = ballSize * widthScale * (widthStart + p * (1 - widthStart)).
+     *
+     * @param gc         the GraphicsContext to render to
+     * @param color      stroke color of the layer
+     * @param alphaStart opacity of the oldest segment (before intensity)
+     * @param alphaGain  opacity added from the oldest to the newest segment
+     * @param widthScale layer thickness relative to the ball size
+     * @param widthStart relative thickness of the oldest segment (0 to 1)
+     */
+    private void renderLayer(GraphicsContext gc, Color color,
+                             double alphaStart, double alphaGain, double widthScale, double widthStart) {
+        gc.setStroke(color);
+        if (renderMode == RenderMode.BATCHED) {
+            renderLayerBatched(gc, alphaStart, alphaGain, widthScale, widthStart);
+        } else {
+            for (int i = 0; i < count - 1; i++) {
+                double progress = i * 1.0 / count;
+                double alpha = (alphaStart + progress * alphaGain) * glowIntensity;
+                double thickness = ballSize * widthScale * (widthStart + progress * (1 - widthStart));
+
+                strokeSegment(gc, i, alpha, thickness);
+            }
         }
         gc.setGlobalAlpha(1.0);
     }
 
     /**
-     * Renders the core trail layer (smallest, brightest).
-     * Creates the central bright trail effect.
+     * Renders one glow layer as a few polylines instead of one line per segment.
+     * Segment progress is quantised into BATCH_BUCKETS buckets; because segments are
+     * ordered by age, each bucket is a contiguous run and becomes a single path stroked
+     * with the opacity and thickness at the run's mid progress.
      *
-     * @param gc the GraphicsContext to render to
-     * @param points array of trail points to render
+     * @param gc         the GraphicsContext to render to
+     * @param alphaStart opacity of the oldest segment (before intensity)
+     * @param alphaGain  opacity added from the oldest to the newest segment
+     * @param widthScale layer thickness relative to the ball size
+     * @param widthStart relative thickness of the oldest segment (0 to 1)
      */
-    private void renderCore(GraphicsContext gc, TrailPoint[] points) {
-        gc.setLineCap(javafx.scene.shape.StrokeLineCap.ROUND);
-        gc.setLineJoin(StrokeLineJoin.ROUND);
+    private void renderLayerBatched(GraphicsContext gc,
+                                    double alphaStart, double alphaGain, double widthScale, double widthStart) {
+        int segments = count - 1;
+        int first = 0;
+        while (first < segments) {
+            // Extend the run while the segments fall into the same bucket
+            int bucket = first * BATCH_BUCKETS / count;
+            int last = first;
+            while (last + 1 < segments && (last + 1) * BATCH_BUCKETS / count == bucket) {
+                last++;
+            }
 
-        for (int i = 0; i < points.length - 1; i++) {
-            TrailPoint p1 = points[i];
-            TrailPoint p2 = points[i + 1];
+            double progress = (first + last) * 0.5 / count;
+            gc.setGlobalAlpha((alphaStart + progress * alphaGain) * glowIntensity);
+            gc.setLineWidth(ballSize * widthScale * (widthStart + progress * (1 - widthStart)));
 
-            double progress = i * 1.0 / points.length;
-            double alpha = (0.1 + progress * 0.4) * glowIntensity;
-            double thickness = ballSize * 0.4 * (0.4 + progress * 0.6);
+            gc.beginPath();
+            int base = wrap(head + first) * STRIDE;
+            gc.moveTo(ring[base], ring[base + 1]);
+            for (int i = first + 1; i <= last + 1; i++) {
+                base = wrap(head + i) * STRIDE;
+                gc.lineTo(ring[base], ring[base + 1]);
+            }
+            gc.stroke();
 
-            gc.setGlobalAlpha(alpha);
-            gc.setStroke(coreColor);
-            gc.setLineWidth(thickness);
-            gc.strokeLine(p1.x, p1.y, p2.x, p2.y);
+            first = last + 1;
         }
-        gc.setGlobalAlpha(1.0);
     }
 
     /**
-     * Updates the trail by removing expired points.
-     * Points older than 1 second are automatically removed.
-     * Should be called regularly to maintain trail freshness.
+     * Strokes the segment between the i-th and (i+1)-th oldest points.
      *
-     * @param deltaTime time elapsed since last update (currently unused)
+     * @param gc        the GraphicsContext to render to
+     * @param i         age rank of the segment's first point (0 = oldest)
+     * @param alpha     segment opacity
+     * @param thickness segment line width
+     */
+    private void strokeSegment(GraphicsContext gc, int i, double alpha, double thickness) {
+        int a = wrap(head + i) * STRIDE;
+        int b = wrap(head + i + 1) * STRIDE;
+        gc.setGlobalAlpha(alpha);
+        gc.setLineWidth(thickness);
+        gc.strokeLine(ring[a], ring[a + 1], ring[b], ring[b + 1]);
+    }
+
+    /**
+     * Advances the trail's simulation clock and removes expired points.
+     * Points older than 1 second of simulation time are dropped from the head of the ring.
+     * Should be called once per simulation step.
+     *
+     * @param deltaTime time elapsed since last update in seconds
      */
     public void update(double deltaTime) {
-        long currentTime = System.currentTimeMillis();
-        points.removeIf(p -> (currentTime - p.timestamp) > 1000);
+        time += deltaTime;
+        while (count > 0 && time - ring[head * STRIDE + 2] > POINT_LIFETIME) {
+            head = wrap(head + 1);
+            count--;
+        }
     }
 
     /**
@@ -265,7 +340,8 @@ public class GlowTrail {
      * Trail will be empty after calling this method.
      */
     public void clear() {
-        points.clear();
+        head = 0;
+        count = 0;
         lastX = -1;
         lastY = -1;
     }
@@ -304,6 +380,22 @@ public class GlowTrail {
      * @param maxLength maximum number of trail points (recommended: 20-50)
      */
     public void setMaxLength(int maxLength) {
+        maxLength = Math.max(1, maxLength);
+        if (maxLength > capacity) {
+            // Grow the ring, keeping the stored points in order (only happens on configuration changes)
+            double[] grown = new double[maxLength * STRIDE];
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(ring, wrap(head + i) * STRIDE, grown, i * STRIDE, STRIDE);
+            }
+            ring = grown;
+            capacity = maxLength;
+            head = 0;
+        }
+        // Drop the oldest points beyond the new limit
+        while (count > maxLength) {
+            head = wrap(head + 1);
+            count--;
+        }
         this.maxLength = maxLength;
     }
 
@@ -317,6 +409,24 @@ public class GlowTrail {
         this.glowIntensity = Math.max(0.1, Math.min(2.0, intensity));
     }
 
+    /**
+     * Selects how the glow layers are drawn.
+     *
+     * @param renderMode BATCHED for few draw calls, PER_SEGMENT for a per-segment fade
+     */
+    public void setRenderMode(RenderMode renderMode) {
+        this.renderMode = renderMode;
+    }
+
+    /**
+     * Gets the current rendering mode.
+     *
+     * @return the render mode
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
     /**
      * Enables or disables trail rendering.
      * When disabled, addPoint() becomes a no-op and render() draws nothing.
@@ -0,0 +1,132 @@
+package com.ooparkanoid.graphics;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-character advance widths of one font, measured once and summed to size text.
+ * Measuring text with a JavaFX Text node costs a node allocation plus a layout pass;
+ * for short labels drawn every few frames (score popups) adding up cached glyph widths
+ * gives the same result without either.
+ *
+ * Features:
+ * - ASCII widths in a flat array, other characters in a map
+ * - Each character is measured the first time it is seen, with one reused Text node
+ * - Line height and baseline measured once per font
+ *
+ * Limitations: kerning between characters is ignored, which is exact for digits and
+ * the other fixed-pitch symbols used in popups.
+ *
+ * Usage:
+ * <pre>
+ * GlyphWidthCache metrics = new GlyphWidthCache(font);
+ * double width = metrics.width("+100");
+ * </pre>
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from JavaFX Application Thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class GlyphWidthCache {
+    /** Number of characters kept in the flat array */
+    private static final int ASCII = 128;
+
+    /** Node used to measure characters */
+    private final Text probe = new Text();
+
+    /** Widths of ASCII characters, NaN until measured */
+    private final double[] asciiWidths = new double[ASCII];
+
+    /** Widths of other characters */
+    private final Map<Character, Double> otherWidths = new HashMap<>();
+
+    /** Height of one line of text */
+    private final double lineHeight;
+
+    /** Distance from the top of a line to its baseline */
+    private final double baseline;
+
+    /**
+     * Constructs a cache for a font.
+     *
+     * @param font font whose glyphs are measured
+     */
+    public GlyphWidthCache(Font font) {
+        probe.setFont(font);
+        Arrays.fill(asciiWidths, Double.NaN);
+        probe.setText("0");
+        lineHeight = probe.getLayoutBounds().getHeight();
+        baseline = probe.getBaselineOffset();
+    }
+
+    /**
+     * Gets the width of a string drawn in this font.
+     *
+     * @param text text to measure
+     * @return width in pixels
+     */
+    public double width(CharSequence text) {
+        double total = 0;
+        for (int i = 0; i < text.length(); i++) {
+            total += width(text.charAt(i));
+        }
+        return total;
+    }
+
+    /**
+     * Gets the advance width of one character.
+     *
+     * @param c character
+     * @return width in pixels
+     */
+    public double width(char c) {
+        if (c < ASCII) {
+            double w = asciiWidths[c];
+            if (Double.isNaN(w)) {
+                w = measure(c);
+                asciiWidths[c] = w;
+            }
+            return w;
+        }
+        Double w = otherWidths.get(c);
+        if (w == null) {
+            w = measure(c);
+            otherWidths.put(c, w);
+        }
+        return w;
+    }
+
+    /**
+     * Gets the height of one line of text.
+     *
+     * @return line height in pixels
+     */
+    public double getLineHeight() {
+        return lineHeight;
+    }
+
+    /**
+     * Gets the distance from the top of a line to its baseline.
+     *
+     * @return baseline offset in pixels
+     */
+    public double getBaseline() {
+        return baseline;
+    }
+
+    /**
+     * Measures a character with the probe node.
+     *
+     * @param c character
+     * @return width in pixels
+     */
+    private double measure(char c) {
+        probe.setText(String.valueOf(c));
+        return probe.getLayoutBounds().getWidth();
+    }
+}
@@ -1,25 +1,74 @@
 package com.ooparkanoid.graphics;
 
+import com.ooparkanoid.core.profiling.AssetLoadEvent;
 import javafx.scene.image.Image;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 
 /**
  * Manages image and sprite sheet resources with caching.
  * Implements singleton pattern to provide centralized resource management.
  * Prevents redundant loading by caching all loaded resources.
  *
+ * Texture Atlas:
+ * After loading, buildAtlas() packs the game sprites into one or two atlas pages.
+ * Renderers ask for getRegion() handles and draw with the source-rectangle overload,
+ * so most sprites share a texture. Images wider or taller than ATLAS_MAX_ENTRY are
+ * packed as a copy decoded at ATLAS_DOWNSCALED_ENTRY; their regions keep the original
+ * size. Only the brick art is that large, and it is drawn at 70x20.
+ * getImage() keeps returning the original images.
+ *
+ * Warm Start:
+ * saveAtlas() writes the packed pages to ~/.arkanoid_atlas.cache, keyed by a checksum
+ * of the source images. On the next launch restoreAtlas() reads them back, so the
+ * sprites are not packed (or downscaled) again. AssetLoadingTask still decodes every
+ * image before loading completes, so getImage() never decodes on the caller's thread.
+ * Run with -Darkanoid.assetCache=false to disable the cache.
+ *
+ * Thread Safety: Thread-safe. The instance is created by a holder class and every
+ * cache is a ConcurrentHashMap, so loader threads and parallel simulations may call
+ * it at once; two racing first requests for the same entry may both build it, but
+ * only one is kept. buildAtlas(), restoreAtlas() and clearCache() are meant for the
+ * loading task or the JavaFX Application Thread.
+ *
+ * Sprite Sheets:
+ * getSheet() returns one shared SpriteSheet per (image, frame size), built on the
+ * image's atlas region. Its frames are sliced once and cached per (row, col), so
+ * every Paddle or PowerUp draws from the same frame regions.
+ *
  * @author Arkanoid Team
  * @version 2.0
  */
 public class ResourceManager {
-    private static ResourceManager instance;
-    private Map<String, Image> imageCache = new HashMap<>();
-    private Map<String, SpriteSheet> spriteSheetCache = new HashMap<>();
+    private Map<String, Image> imageCache = new ConcurrentHashMap<>();
+    private Map<String, TextureRegion> regionCache = new ConcurrentHashMap<>();
+    private Map<String, SpriteSheet> sheetCache = new ConcurrentHashMap<>();
+    private volatile TextureAtlas atlas;
 
     private static final String IMAGES_PATH = "/images/";
-    private static final String SPRITES_PATH = "/sprites/";
+
+    /** Maximum width and height of an atlas page */
+    private static final int ATLAS_PAGE_SIZE = 2048;
+
+    /** Images with a side longer than this are packed downscaled */
+    private static final int ATLAS_MAX_ENTRY = 1024;
+
+    /** Longest side of the downscaled copy packed for an oversized image */
+    private static final int ATLAS_DOWNSCALED_ENTRY = 256;
+
+    /** Warm-start copy of the packed atlas pages */
+    private static final Path ATLAS_CACHE_FILE = Paths.get(System.getProperty("user.home"), ".arkanoid_atlas.cache");
+
+    /** Whether the warm-start atlas cache is read and written */
+    private static final boolean ASSET_CACHE_ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("arkanoid.assetCache"));
 
     /**
      * Private constructor to enforce singleton pattern.
@@ -27,16 +76,20 @@ public class ResourceManager {
     private ResourceManager() {
     }
 
+    /**
+     * Holds the singleton; the JVM creates it exactly once, on first use.
+     */
+    private static final class Holder {
+        private static final ResourceManager INSTANCE = new ResourceManager();
+    }
+
     /**
      * Gets the singleton instance of ResourceManager.
      *
      * @return the singleton ResourceManager instance
      */
     public static ResourceManager getInstance() {
-        if (instance == null) {
-            instance = new ResourceManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     /**
@@ -48,46 +101,63 @@ public class ResourceManager {
      * @return the loaded Image, or null if loading fails
      */
     public Image loadImage(String filename) {
-        if (imageCache.containsKey(filename)) {
-            return imageCache.get(filename);
+        Image cached = imageCache.get(filename);
+        if (cached != null) {
+            return cached;
         }
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
         try {
             String path = IMAGES_PATH + filename;
             Image image = new Image(getClass().getResourceAsStream(path));
-            imageCache.put(filename, image);
+            recordAssetLoad(event, filename, image);
+            // Two loader threads may race on the same file; keep whichever finished first
+            Image previous = imageCache.putIfAbsent(filename, image);
+            if (previous != null) {
+                return previous;
+            }
             System.out.println("Loaded image: " + filename);
             return image;
         } catch (Exception e) {
+            recordAssetLoad(event, filename, null);
             System.err.println("Failed to load image: " + filename);
             return null;
         }
     }
 
     /**
-     * Loads a sprite sheet from resources and caches it.
-     * If already cached, returns the cached version.
-     * Used by AssetLoadingTask for preloading.
+     * Commits a JFR AssetLoadEvent if a recording has it enabled.
      *
-     * @param filename    the sprite sheet filename
+     * @param event    event begun before the image was read
+     * @param filename image file name
+     * @param image    decoded image, or null if loading failed
+     */
+    private static void recordAssetLoad(AssetLoadEvent event, String filename, Image image) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.asset = filename;
+            event.success = image != null && !image.isError();
+            event.width = event.success ? (int) image.getWidth() : 0;
+            event.height = event.success ? (int) image.getHeight() : 0;
+            event.commit();
+        }
+    }
+
+    /**
+     * Loads a sprite sheet image and returns its shared sheet.
+     * Same as loadImage() followed by getSheet(), so the sheet is the one every other
+     * caller of getSheet() with this image and frame size gets.
+     *
+     * @param filename    the sprite sheet image filename
      * @param frameWidth  width of each frame in pixels
      * @param frameHeight height of each frame in pixels
-     * @return the loaded SpriteSheet, or null if loading fails
+     * @return the shared SpriteSheet, or null if loading fails
      */
     public SpriteSheet loadSpriteSheet(String filename, int frameWidth, int frameHeight) {
-        if (spriteSheetCache.containsKey(filename)) {
-            return spriteSheetCache.get(filename);
-        }
-        try {
-            String path = SPRITES_PATH + filename;
-            Image image = new Image(getClass().getResourceAsStream(path));
-            SpriteSheet sheet = new SpriteSheet(image, frameWidth, frameHeight, 0, 0);
-            spriteSheetCache.put(filename, sheet);
-            System.out.println("Loaded spritesheet: " + filename);
-            return sheet;
-        } catch (Exception e) {
-            // Silent fail - fallback mechanism handles missing sprites
+        if (loadImage(filename) == null) {
             return null;
         }
+        return getSheet(filename, frameWidth, frameHeight);
     }
 
     /**
@@ -103,15 +173,183 @@ public class ResourceManager {
     }
 
     /**
-     * Retrieves a cached sprite sheet.
-     * Does not load the sprite sheet if not already cached.
+     * Packs already loaded images into a texture atlas.
+     * Names that are not in the image cache are skipped. Called once by
+     * AssetLoadingTask after all images are loaded; regions handed out earlier
+     * keep pointing at the original images.
      *
-     * @param filename the sprite sheet filename
-     * @return the cached SpriteSheet, or null if not found
+     * @param filenames the image filenames to pack
+     * @return the built atlas
      */
-    public SpriteSheet getSpriteSheet(String filename) {
-        // Returns null if not cached - fallback mechanism handles this
-        return spriteSheetCache.get(filename);
+    public TextureAtlas buildAtlas(String... filenames) {
+        TextureAtlas.Builder builder = new TextureAtlas.Builder(ATLAS_PAGE_SIZE);
+        for (String filename : filenames) {
+            Image image = imageCache.get(filename);
+            if (image == null || image.isError()) continue;
+
+            if (image.getWidth() > ATLAS_MAX_ENTRY || image.getHeight() > ATLAS_MAX_ENTRY) {
+                Image reduced = decodeScaled(filename, ATLAS_DOWNSCALED_ENTRY);
+                builder.add(filename, reduced, image.getWidth(), image.getHeight());
+            } else {
+                builder.add(filename, image);
+            }
+        }
+        atlas = builder.build();
+        regionCache.clear();
+        sheetCache.clear();
+        System.out.println("Packed texture atlas: " + atlas.size() + " images on "
+                + atlas.getPageCount() + " page(s)");
+        return atlas;
+    }
+
+    /**
+     * Restores the atlas saved by a previous launch, if it was built from the same images.
+     * On success getRegion() serves the listed images from the atlas and buildAtlas()
+     * need not run; the original images are still loaded with loadImage().
+     *
+     * @param filenames the image filenames the atlas must contain
+     * @return true if the atlas was restored, false if it must be built
+     */
+    public boolean restoreAtlas(String... filenames) {
+        if (!ASSET_CACHE_ENABLED) {
+            return false;
+        }
+        long[] key = fingerprint(filenames);
+        TextureAtlas restored = AtlasCache.read(ATLAS_CACHE_FILE, key[0], key[1]);
+        if (restored == null) {
+            return false;
+        }
+        atlas = restored;
+        regionCache.clear();
+        sheetCache.clear();
+        System.out.println("Restored texture atlas from cache: " + restored.size() + " images");
+        return true;
+    }
+
+    /**
+     * Saves the current atlas for restoreAtlas() on the next launch.
+     * Does nothing when no atlas is built or the cache is disabled.
+     *
+     * @param filenames the image filenames the atlas was built from
+     */
+    public void saveAtlas(String... filenames) {
+        TextureAtlas current = atlas;
+        if (!ASSET_CACHE_ENABLED || current == null) {
+            return;
+        }
+        long[] key = fingerprint(filenames);
+        AtlasCache.write(ATLAS_CACHE_FILE, key[0], key[1], current);
+    }
+
+    /**
+     * Computes the cache key of an atlas: a CRC32 over the packing settings and every
+     * source file's name and bytes, plus the total byte count.
+     *
+     * @param filenames the image filenames
+     * @return {checksum, total bytes}
+     */
+    private long[] fingerprint(String... filenames) {
+        CRC32 crc = new CRC32();
+        crc.update((ATLAS_PAGE_SIZE + ":" + ATLAS_MAX_ENTRY + ":" + ATLAS_DOWNSCALED_ENTRY)
+                .getBytes(StandardCharsets.UTF_8));
+        long length = 0;
+        byte[] buffer = new byte[1 << 16];
+        for (String filename : filenames) {
+            crc.update(filename.getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = getClass().getResourceAsStream(IMAGES_PATH + filename)) {
+                if (in == null) continue;
+                int n;
+                while ((n = in.read(buffer)) > 0) {
+                    crc.update(buffer, 0, n);
+                    length += n;
+                }
+            } catch (IOException e) {
+                // Unreadable now means unreadable when packing too; the key still differs
+                crc.update(0);
+            }
+        }
+        return new long[]{crc.getValue(), length};
+    }
+
+    /**
+     * Gets a drawable region for an image.
+     * Returns the atlas region when the image was packed, otherwise a region
+     * covering the cached original image.
+     *
+     * @param filename the image filename
+     * @return the region, or null if the image is not loaded
+     */
+    public TextureRegion getRegion(String filename) {
+        if (atlas != null) {
+            TextureRegion packed = atlas.getRegion(filename);
+            if (packed != null) {
+                return packed;
+            }
+        }
+        TextureRegion region = regionCache.get(filename);
+        if (region == null) {
+            region = TextureRegion.of(imageCache.get(filename));
+            if (region != null) {
+                TextureRegion raced = regionCache.putIfAbsent(filename, region);
+                if (raced != null) {
+                    region = raced;
+                }
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Gets the shared sprite sheet view of a loaded image.
+     * Sheets are cached per image and frame size; frames are cached inside the sheet.
+     *
+     * @param filename    the image filename
+     * @param frameWidth  width of each frame in pixels
+     * @param frameHeight height of each frame in pixels
+     * @return the sprite sheet, or null if the image is not loaded
+     */
+    public SpriteSheet getSheet(String filename, int frameWidth, int frameHeight) {
+        String key = filename + '@' + frameWidth + 'x' + frameHeight;
+        SpriteSheet sheet = sheetCache.get(key);
+        if (sheet == null) {
+            TextureRegion region = getRegion(filename);
+            if (region == null) {
+                return null;
+            }
+            sheet = new SpriteSheet(region, frameWidth, frameHeight, 0, 0);
+            SpriteSheet raced = sheetCache.putIfAbsent(key, sheet);
+            if (raced != null) {
+                sheet = raced;
+            }
+        }
+        return sheet;
+    }
+
+    /**
+     * Gets the current texture atlas.
+     *
+     * @return the atlas, or null if buildAtlas() has not run
+     */
+    public TextureAtlas getAtlas() {
+        return atlas;
+    }
+
+    /**
+     * Decodes an image again at reduced size (aspect ratio kept, smooth filtering).
+     *
+     * @param filename  the image filename
+     * @param maxSide   longest side of the result in pixels
+     * @return the reduced image, or null if decoding fails
+     */
+    private Image decodeScaled(String filename, int maxSide) {
+        try {
+            Image image = new Image(getClass().getResourceAsStream(IMAGES_PATH + filename),
+                    maxSide, maxSide, true, true);
+            return image.isError() ? null : image;
+        } catch (Exception e) {
+            System.err.println("Failed to downscale image: " + filename);
+            return null;
+        }
     }
 
     /**
@@ -120,6 +358,8 @@ public class ResourceManager {
      */
     public void clearCache() {
         imageCache.clear();
-        spriteSheetCache.clear();
+        regionCache.clear();
+        sheetCache.clear();
+        atlas = null;
     }
 }
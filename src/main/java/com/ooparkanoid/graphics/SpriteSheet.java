@@ -18,20 +18,26 @@ import javafx.scene.image.WritableImage;
  * Usage:
  * Create with sprite sheet image and layout parameters, then access frames
  * using getFrame() methods. Supports both linear indexing and 2D coordinates.
+ * Shared sheets come from ResourceManager.getSheet(), which builds them on the
+ * sheet's atlas region.
+ * <p>
+ * Frame Modes:
+ * - getFrame(): a pixel copy of the frame as its own Image, sliced once and cached
+ * - getFrameRegion(): a TextureRegion into the sheet (or atlas page), no pixels copied;
+ *   draw it with TextureRegion.draw(), which uses the source-rectangle drawImage
  * <p>
  * Performance Notes:
- * - Frames are extracted on-demand (not pre-cached)
- * - Each getFrame() call creates a new WritableImage
- * - Consider caching frequently used frames for better performance
+ * - Both modes cache per (row, col), so repeated calls return the same object
+ * - Prefer getFrameRegion(): it costs no image memory and keeps draws on one texture
  *
  * @author Arkanoid Team
  * @version 2.0
  */
 public class SpriteSheet {
     /**
-     * The source sprite sheet image containing all frames
+     * Region of the image holding the sprite sheet (the whole image, or its atlas entry)
      */
-    private Image spriteSheet;
+    private final TextureRegion source;
 
     /**
      * Width of each individual frame in pixels
@@ -63,6 +69,16 @@ public class SpriteSheet {
      */
     private int rows;
 
+    /**
+     * Sliced frame images by index (row * columns + col), filled on first use
+     */
+    private final Image[] frameImages;
+
+    /**
+     * Frame regions by index (row * columns + col), filled on first use
+     */
+    private final TextureRegion[] frameRegions;
+
     /**
      * Constructs a SpriteSheet with specified layout parameters.
      * Automatically calculates the number of rows and columns based on image dimensions.
@@ -74,13 +90,29 @@ public class SpriteSheet {
      * @param margin      margin around the sprite sheet in pixels
      */
     public SpriteSheet(Image sheet, int frameWidth, int frameHeight, int spacing, int margin) {
-        this.spriteSheet = sheet;
+        this(TextureRegion.of(sheet), frameWidth, frameHeight, spacing, margin);
+    }
+
+    /**
+     * Constructs a SpriteSheet over a region of a larger image, e.g. an atlas entry.
+     * Layout parameters are in the region's logical pixels.
+     *
+     * @param sheet       region holding the sprite sheet
+     * @param frameWidth  width of each individual frame in pixels
+     * @param frameHeight height of each individual frame in pixels
+     * @param spacing     spacing between frames in pixels (both horizontal and vertical)
+     * @param margin      margin around the sprite sheet in pixels
+     */
+    public SpriteSheet(TextureRegion sheet, int frameWidth, int frameHeight, int spacing, int margin) {
+        this.source = sheet;
         this.frameWidth = frameWidth;
         this.frameHeight = frameHeight;
         this.spacing = spacing;
         this.margin = margin;
         this.columns = (int) ((sheet.getWidth()) / (frameWidth));
         this.rows = (int) ((sheet.getHeight()) / (frameHeight));
+        this.frameImages = new Image[columns * rows];
+        this.frameRegions = new TextureRegion[columns * rows];
     }
 
     /**
@@ -99,19 +131,77 @@ public class SpriteSheet {
     /**
      * Extracts a frame from the sprite sheet using row and column coordinates.
      * Coordinates start from (0,0) at the top-left corner.
+     * The frame is copied out of the sheet on the first call and cached afterwards.
      *
      * @param row the row index of the frame (0-based)
      * @param col the column index of the frame (0-based)
-     * @return the extracted frame as a new Image, or null if coordinates are out of bounds
+     * @return the frame as its own Image, or null if coordinates are out of bounds
      */
     public Image getFrame(int row, int col) {
         if (row >= rows || col >= columns) {
             return null;
         }
-        PixelReader reader = spriteSheet.getPixelReader();
-        int x = margin + col * (frameWidth + spacing);
-        int y = margin + row * (frameHeight + spacing);
-        return new WritableImage(reader, x, y, frameWidth, frameHeight);
+        int index = row * columns + col;
+        Image frame = frameImages[index];
+        if (frame == null) {
+            TextureRegion region = getFrameRegion(row, col);
+            PixelReader reader = region.getImage().getPixelReader();
+            frame = new WritableImage(reader,
+                    (int) Math.round(region.getSourceX()), (int) Math.round(region.getSourceY()),
+                    (int) Math.round(region.getSourceWidth()), (int) Math.round(region.getSourceHeight()));
+            frameImages[index] = frame;
+        }
+        return frame;
+    }
+
+    /**
+     * Gets a frame as a region of the sheet using linear indexing.
+     *
+     * @param index the linear index of the frame (0-based)
+     * @return the frame region, or null if index is out of bounds
+     */
+    public TextureRegion getFrameRegion(int index) {
+        int col = index % columns;
+        int row = index / columns;
+        return getFrameRegion(row, col);
+    }
+
+    /**
+     * Gets a frame as a region of the sheet using row and column coordinates.
+     * No pixels are copied; the region points into the sheet's backing image.
+     *
+     * @param row the row index of the frame (0-based)
+     * @param col the column index of the frame (0-based)
+     * @return the frame region, or null if coordinates are out of bounds
+     */
+    public TextureRegion getFrameRegion(int row, int col) {
+        if (row >= rows || col >= columns) {
+            return null;
+        }
+        int index = row * columns + col;
+        TextureRegion frame = frameRegions[index];
+        if (frame == null) {
+            int x = margin + col * (frameWidth + spacing);
+            int y = margin + row * (frameHeight + spacing);
+            frame = source.subRegion(x, y, frameWidth, frameHeight);
+            frameRegions[index] = frame;
+        }
+        return frame;
+    }
+
+    /**
+     * Gets the first frames of a row as regions of the sheet.
+     *
+     * @param row   the row index (0-based)
+     * @param count number of frames to return (clamped to the column count)
+     * @return array of frame regions in column order
+     */
+    public TextureRegion[] getRowRegions(int row, int count) {
+        TextureRegion[] frames = new TextureRegion[Math.min(count, columns)];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = getFrameRegion(row, i);
+        }
+        return frames;
     }
 
     /**
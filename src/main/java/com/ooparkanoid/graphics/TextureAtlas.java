@@ -0,0 +1,325 @@
+package com.ooparkanoid.graphics;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs many small images into a few large page images and hands out
+ * TextureRegion handles into them.
+ * Sprites drawn from the same page share one texture, so consecutive draws no longer
+ * switch textures and draws can be grouped by page.
+ *
+ * Features:
+ * - Shelf packing: entries sorted by height, placed left to right in rows
+ * - A 1-pixel border around each entry repeats its edge pixels, so smoothed
+ *   (bilinear) sampling at a region's edge never picks up a neighbour's pixels
+ * - Pages are trimmed to the height actually used
+ * - Entries too large for a page are skipped; getRegion() returns null for them
+ *
+ * Usage:
+ * <pre>
+ * TextureAtlas atlas = new TextureAtlas.Builder(2048)
+ *         .add("paddle1.png", paddleImage)
+ *         .add("brick_normal.png", smallBrick, 1248, 689)
+ *         .build();
+ * TextureRegion paddle = atlas.getRegion("paddle1.png");
+ * </pre>
+ *
+ * Thread Safety: An atlas is immutable once built. Building only touches image pixels,
+ * so it may run on a background loading thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class TextureAtlas {
+    /** Width of the repeated-edge border around every packed entry */
+    private static final int BORDER = 1;
+
+    /** Page images in creation order */
+    private final List<WritableImage> pages;
+
+    /** Packed regions by entry name */
+    private final Map<String, TextureRegion> regions;
+
+    /**
+     * Constructs an atlas from already packed pages.
+     * Use Builder to create atlases.
+     *
+     * @param pages   packed page images
+     * @param regions regions by entry name
+     */
+    private TextureAtlas(List<WritableImage> pages, Map<String, TextureRegion> regions) {
+        this.pages = Collections.unmodifiableList(pages);
+        this.regions = Collections.unmodifiableMap(regions);
+    }
+
+    /**
+     * Recreates an atlas from pages and regions saved earlier (see AtlasCache).
+     *
+     * @param pages   page images
+     * @param regions regions by entry name, pointing into pages
+     * @return the restored atlas
+     */
+    static TextureAtlas restore(List<WritableImage> pages, Map<String, TextureRegion> regions) {
+        return new TextureAtlas(new ArrayList<>(pages), new HashMap<>(regions));
+    }
+
+    /**
+     * Gets the region of a packed entry.
+     *
+     * @param name entry name used when packing
+     * @return the entry's region, or null if it was not packed
+     */
+    public TextureRegion getRegion(String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * Gets the number of page images.
+     *
+     * @return page count
+     */
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Gets a page image.
+     *
+     * @param index page index (0-based)
+     * @return the page image
+     */
+    public Image getPage(int index) {
+        return pages.get(index);
+    }
+
+    /**
+     * Finds the page a region points into.
+     *
+     * @param image backing image of a region
+     * @return the page index, or -1 if the image is not a page of this atlas
+     */
+    int indexOfPage(Image image) {
+        for (int i = 0; i < pages.size(); i++) {
+            if (pages.get(i) == image) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets all packed regions.
+     *
+     * @return unmodifiable map of regions by entry name
+     */
+    Map<String, TextureRegion> getRegions() {
+        return regions;
+    }
+
+    /**
+     * Gets the number of packed entries.
+     *
+     * @return number of regions
+     */
+    public int size() {
+        return regions.size();
+    }
+
+    /**
+     * Collects images and packs them into pages.
+     *
+     * Thread Safety: Not thread-safe. Use one builder per thread.
+     */
+    public static final class Builder {
+        /** Maximum width and height of a page in pixels */
+        private final int pageSize;
+
+        /** Entries to pack, in insertion order */
+        private final List<Entry> entries = new ArrayList<>();
+
+        /**
+         * Constructs a builder for pages of at most pageSize x pageSize pixels.
+         *
+         * @param pageSize maximum page width and height
+         */
+        public Builder(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        /**
+         * Adds an image that is packed at its own size.
+         *
+         * @param name  entry name
+         * @param image image to pack (null images are ignored)
+         * @return this builder
+         */
+        public Builder add(String name, Image image) {
+            if (image != null) {
+                add(name, image, image.getWidth(), image.getHeight());
+            }
+            return this;
+        }
+
+        /**
+         * Adds an image whose region should report a different logical size,
+         * e.g. a downscaled copy standing in for a large original.
+         *
+         * @param name          entry name
+         * @param image         pixels to pack (null images are ignored)
+         * @param logicalWidth  width the region represents
+         * @param logicalHeight height the region represents
+         * @return this builder
+         */
+        public Builder add(String name, Image image, double logicalWidth, double logicalHeight) {
+            if (image != null && image.getWidth() >= 1 && image.getHeight() >= 1 && image.getPixelReader() != null) {
+                entries.add(new Entry(name, image, logicalWidth, logicalHeight));
+            }
+            return this;
+        }
+
+        /**
+         * Packs all added images.
+         *
+         * @return the finished atlas
+         */
+        public TextureAtlas build() {
+            List<Entry> order = new ArrayList<>(entries);
+            order.sort(Comparator.comparingInt((Entry e) -> e.pixelHeight).reversed());
+
+            // Shelf layout: assign page and position, tracking each page's used extent
+            List<int[]> pageExtents = new ArrayList<>();
+            int page = -1;
+            int cursorX = 0;
+            int shelfY = 0;
+            int shelfHeight = 0;
+            for (Entry e : order) {
+                int cellW = e.pixelWidth + 2 * BORDER;
+                int cellH = e.pixelHeight + 2 * BORDER;
+                if (cellW > pageSize || cellH > pageSize) {
+                    continue;
+                }
+                if (page >= 0 && cursorX + cellW > pageSize) {
+                    shelfY += shelfHeight;
+                    cursorX = 0;
+                    shelfHeight = 0;
+                }
+                if (page < 0 || shelfY + cellH > pageSize) {
+                    pageExtents.add(new int[2]);
+                    page++;
+                    cursorX = 0;
+                    shelfY = 0;
+                    shelfHeight = 0;
+                }
+                e.page = page;
+                e.x = cursorX + BORDER;
+                e.y = shelfY + BORDER;
+                cursorX += cellW;
+                shelfHeight = Math.max(shelfHeight, cellH);
+
+                int[] extent = pageExtents.get(page);
+                extent[0] = Math.max(extent[0], cursorX);
+                extent[1] = Math.max(extent[1], shelfY + cellH);
+            }
+
+            List<WritableImage> pages = new ArrayList<>(pageExtents.size());
+            for (int[] extent : pageExtents) {
+                pages.add(new WritableImage(extent[0], extent[1]));
+            }
+
+            Map<String, TextureRegion> regions = new HashMap<>();
+            for (Entry e : order) {
+                if (e.page < 0) continue;
+                WritableImage target = pages.get(e.page);
+                blit(e, target.getPixelWriter());
+                regions.put(e.name, new TextureRegion(target, e.x, e.y, e.pixelWidth, e.pixelHeight,
+                        e.logicalWidth, e.logicalHeight));
+            }
+            return new TextureAtlas(pages, regions);
+        }
+
+        /**
+         * Copies an entry's pixels to its page position and repeats its edges into the border.
+         *
+         * @param e      placed entry
+         * @param writer pixel writer of the entry's page
+         */
+        private static void blit(Entry e, PixelWriter writer) {
+            PixelReader reader = e.image.getPixelReader();
+            int w = e.pixelWidth;
+            int h = e.pixelHeight;
+
+            writer.setPixels(e.x, e.y, w, h, reader, 0, 0);
+
+            // Edge rows and columns
+            writer.setPixels(e.x, e.y - 1, w, 1, reader, 0, 0);
+            writer.setPixels(e.x, e.y + h, w, 1, reader, 0, h - 1);
+            writer.setPixels(e.x - 1, e.y, 1, h, reader, 0, 0);
+            writer.setPixels(e.x + w, e.y, 1, h, reader, w - 1, 0);
+
+            // Corners
+            writer.setArgb(e.x - 1, e.y - 1, reader.getArgb(0, 0));
+            writer.setArgb(e.x + w, e.y - 1, reader.getArgb(w - 1, 0));
+            writer.setArgb(e.x - 1, e.y + h, reader.getArgb(0, h - 1));
+            writer.setArgb(e.x + w, e.y + h, reader.getArgb(w - 1, h - 1));
+        }
+    }
+
+    /**
+     * One image waiting to be packed, with its placement once laid out.
+     */
+    private static final class Entry {
+        /** Entry name */
+        final String name;
+
+        /** Pixels to copy */
+        final Image image;
+
+        /** Pixel width of the image */
+        final int pixelWidth;
+
+        /** Pixel height of the image */
+        final int pixelHeight;
+
+        /** Width reported by the region */
+        final double logicalWidth;
+
+        /** Height reported by the region */
+        final double logicalHeight;
+
+        /** Assigned page, or -1 if the entry did not fit */
+        int page = -1;
+
+        /** Left edge of the entry's pixels on its page */
+        int x;
+
+        /** Top edge of the entry's pixels on its page */
+        int y;
+
+        /**
+         * Constructs an entry.
+         *
+         * @param name          entry name
+         * @param image         pixels to copy
+         * @param logicalWidth  width reported by the region
+         * @param logicalHeight height reported by the region
+         */
+        Entry(String name, Image image, double logicalWidth, double logicalHeight) {
+            this.name = name;
+            this.image = image;
+            this.pixelWidth = (int) image.getWidth();
+            this.pixelHeight = (int) image.getHeight();
+            this.logicalWidth = logicalWidth;
+            this.logicalHeight = logicalHeight;
+        }
+    }
+}
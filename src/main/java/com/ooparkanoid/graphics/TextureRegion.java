@@ -0,0 +1,204 @@
+package com.ooparkanoid.graphics;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * A rectangular area of an image that is drawn as if it were an image of its own.
+ * Regions let many sprites share one backing image (an atlas page or a sprite sheet)
+ * and are drawn with the source-rectangle overload of drawImage, so no pixels are copied.
+ *
+ * Features:
+ * - Immutable handle: image plus source rectangle, safe to share between objects
+ * - Logical size separate from the source size, so a sprite packed at reduced
+ *   resolution still reports (and draws at) its original pixel dimensions
+ * - Whole-image regions for images that are not packed into an atlas
+ *
+ * Usage:
+ * <pre>
+ * TextureRegion region = ResourceManager.getInstance().getRegion("paddle1.png");
+ * region.draw(gc, x, y, width, height);
+ * </pre>
+ *
+ * Thread Safety: Immutable. Drawing must happen on the JavaFX Application Thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class TextureRegion {
+    /** Backing image holding the region's pixels */
+    private final Image image;
+
+    /** Left edge of the source rectangle in the backing image */
+    private final double sourceX;
+
+    /** Top edge of the source rectangle in the backing image */
+    private final double sourceY;
+
+    /** Width of the source rectangle in the backing image */
+    private final double sourceWidth;
+
+    /** Height of the source rectangle in the backing image */
+    private final double sourceHeight;
+
+    /** Width the region stands for (the original image width) */
+    private final double width;
+
+    /** Height the region stands for (the original image height) */
+    private final double height;
+
+    /**
+     * Constructs a region whose logical size equals its source size.
+     *
+     * @param image        backing image
+     * @param sourceX      left edge of the source rectangle
+     * @param sourceY      top edge of the source rectangle
+     * @param sourceWidth  width of the source rectangle
+     * @param sourceHeight height of the source rectangle
+     */
+    public TextureRegion(Image image, double sourceX, double sourceY, double sourceWidth, double sourceHeight) {
+        this(image, sourceX, sourceY, sourceWidth, sourceHeight, sourceWidth, sourceHeight);
+    }
+
+    /**
+     * Constructs a region whose pixels are stored at a different resolution than it represents.
+     *
+     * @param image        backing image
+     * @param sourceX      left edge of the source rectangle
+     * @param sourceY      top edge of the source rectangle
+     * @param sourceWidth  width of the source rectangle
+     * @param sourceHeight height of the source rectangle
+     * @param width        logical width (original image width)
+     * @param height       logical height (original image height)
+     */
+    public TextureRegion(Image image, double sourceX, double sourceY, double sourceWidth, double sourceHeight,
+                         double width, double height) {
+        this.image = image;
+        this.sourceX = sourceX;
+        this.sourceY = sourceY;
+        this.sourceWidth = sourceWidth;
+        this.sourceHeight = sourceHeight;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Creates a region covering a whole image.
+     *
+     * @param image the image, may be null
+     * @return region spanning the image, or null if image is null
+     */
+    public static TextureRegion of(Image image) {
+        if (image == null) {
+            return null;
+        }
+        return new TextureRegion(image, 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Creates a region for part of this region, e.g. one frame of a packed sprite sheet.
+     * Coordinates are in this region's logical pixels and are mapped onto the
+     * source rectangle, so sub-regions of a downscaled entry still line up.
+     *
+     * @param x      left edge relative to this region
+     * @param y      top edge relative to this region
+     * @param width  logical width of the sub-region
+     * @param height logical height of the sub-region
+     * @return the sub-region, sharing this region's backing image
+     */
+    public TextureRegion subRegion(double x, double y, double width, double height) {
+        double scaleX = sourceWidth / this.width;
+        double scaleY = sourceHeight / this.height;
+        return new TextureRegion(image,
+                sourceX + x * scaleX, sourceY + y * scaleY,
+                width * scaleX, height * scaleY,
+                width, height);
+    }
+
+    /**
+     * Draws the region scaled into the given destination rectangle.
+     *
+     * @param gc the GraphicsContext to draw to
+     * @param x  destination left edge
+     * @param y  destination top edge
+     * @param w  destination width
+     * @param h  destination height
+     */
+    public void draw(GraphicsContext gc, double x, double y, double w, double h) {
+        gc.drawImage(image, sourceX, sourceY, sourceWidth, sourceHeight, x, y, w, h);
+    }
+
+    /**
+     * Draws the region at its logical size.
+     *
+     * @param gc the GraphicsContext to draw to
+     * @param x  destination left edge
+     * @param y  destination top edge
+     */
+    public void draw(GraphicsContext gc, double x, double y) {
+        draw(gc, x, y, width, height);
+    }
+
+    /**
+     * Gets the backing image (an atlas page for packed sprites).
+     *
+     * @return the backing image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Gets the left edge of the source rectangle.
+     *
+     * @return source X in backing-image pixels
+     */
+    public double getSourceX() {
+        return sourceX;
+    }
+
+    /**
+     * Gets the top edge of the source rectangle.
+     *
+     * @return source Y in backing-image pixels
+     */
+    public double getSourceY() {
+        return sourceY;
+    }
+
+    /**
+     * Gets the width of the source rectangle.
+     *
+     * @return source width in backing-image pixels
+     */
+    public double getSourceWidth() {
+        return sourceWidth;
+    }
+
+    /**
+     * Gets the height of the source rectangle.
+     *
+     * @return source height in backing-image pixels
+     */
+    public double getSourceHeight() {
+        return sourceHeight;
+    }
+
+    /**
+     * Gets the logical width of the region.
+     *
+     * @return width of the original image in pixels
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the logical height of the region.
+     *
+     * @return height of the original image in pixels
+     */
+    public double getHeight() {
+        return height;
+    }
+}
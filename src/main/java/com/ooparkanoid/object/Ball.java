@@ -1,13 +1,18 @@
 package com.ooparkanoid.object;
 
+import com.ooparkanoid.core.engine.FixedStepLoop;
 import com.ooparkanoid.graphics.Animation;
 import com.ooparkanoid.graphics.GlowTrail;
 import com.ooparkanoid.graphics.ResourceManager;
+import com.ooparkanoid.graphics.TextureRegion;
 import com.ooparkanoid.object.bricks.Brick;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Represents the game ball in Arkanoid.
  * The ball moves continuously, bounces off surfaces, and breaks bricks.
@@ -21,11 +26,14 @@ public class Ball extends MovableObject {
     private double speed;
     private double dirX, dirY; // Normalized direction vector
 
-    // Visual elements
-    private Image ballSprite;
+    // Visual elements (sprite looked up on first render, so headless games never load it)
+    private TextureRegion ballSprite;
+    private boolean graphicsLoaded;
     private double rotation = 0;
 
     // Trail effect
+    /** Trail points added per 60 FPS frame: the ball adds one every simulation step */
+    private static final int TRAIL_POINTS_PER_FRAME = (int) Math.round(FixedStepLoop.DEFAULT_SIM_RATE / 60.0);
     private GlowTrail trail;
     private boolean showTrail = true;
 
@@ -36,6 +44,10 @@ public class Ball extends MovableObject {
     // Physics
     private double radius;
 
+    // Path of the last update() move (start position and velocity), swept by CollisionHandler
+    private double moveStartX, moveStartY;
+    private double moveDx, moveDy;
+
     /**
      * Constructs a new Ball with specified properties.
      *
@@ -51,18 +63,59 @@ public class Ball extends MovableObject {
         this.speed = speed;
         this.radius = radius;
         this.setDirection(dirX, dirY);
+        clearMove();
 
-        loadGraphics();
         setupTrail();
     }
 
     /**
-     * Loads ball graphics and animation.
-     * Attempts to load animated sprite sheet, falls back to static image if unavailable.
+     * Reinitializes a pooled ball, leaving it as if newly constructed.
+     * The trail is emptied and reset to its default look; it is only rebuilt if the size changed.
+     *
+     * @param x      X coordinate of ball center
+     * @param y      Y coordinate of ball center
+     * @param radius ball radius in pixels
+     * @param speed  movement speed in pixels per second
+     * @param dirX   X direction component
+     * @param dirY   Y direction component
+     * @return this ball
+     */
+    public Ball reset(double x, double y, double radius, double speed, double dirX, double dirY) {
+        boolean resized = this.radius != radius;
+        this.x = x - radius;
+        this.y = y - radius;
+        this.prevX = this.x;
+        this.prevY = this.y;
+        this.width = radius * 2;
+        this.height = radius * 2;
+        this.radius = radius;
+        this.speed = speed;
+        this.dx = 0;
+        this.dy = 0;
+        this.dirX = 0;
+        this.dirY = 0;
+        this.setDirection(dirX, dirY);
+        clearMove();
+        this.rotation = 0;
+        this.showTrail = true;
+
+        if (resized) {
+            setupTrail();
+        } else {
+            trail.clear();
+        }
+        resetTrailEffect();
+        return this;
+    }
+
+    /**
+     * Loads the ball sprite. Called on first render; render() falls back to a
+     * procedural ball if the sprite is unavailable.
      */
     private void loadGraphics() {
         ResourceManager resourceManager = ResourceManager.getInstance();
-        ballSprite = resourceManager.getImage("ball.png");
+        ballSprite = resourceManager.getRegion("ball.png");
+        graphicsLoaded = true;
     }
 
     /**
@@ -72,10 +125,21 @@ public class Ball extends MovableObject {
     public void setupTrail() {
         trail = new GlowTrail(width);
         trail.setColor(Color.CYAN);
-        trail.setMaxLength(30);
+        setTrailLength(30);
         trail.setGlowIntensity(1.0);
     }
 
+    /**
+     * Sets the trail length as the number of 60 FPS frames it covers.
+     * Points are added every simulation step, so the point limit is scaled up to keep
+     * the trail as long on screen as it was with one point per frame.
+     *
+     * @param frames trail length in frames
+     */
+    private void setTrailLength(int frames) {
+        trail.setMaxLength(frames * TRAIL_POINTS_PER_FRAME);
+    }
+
     /**
      * Sets the ball's direction vector and updates velocity.
      * Automatically normalizes the direction vector.
@@ -110,7 +174,11 @@ public class Ball extends MovableObject {
             rotation -= 360;
         }
 
-        // Update position
+        // Update position, remembering the path for the collision sweep
+        moveStartX = x;
+        moveStartY = y;
+        moveDx = dx;
+        moveDy = dy;
         move(deltaTime);
 
         // Update trail effect
@@ -128,6 +196,10 @@ public class Ball extends MovableObject {
      */
     @Override
     public void render(GraphicsContext gc) {
+        if (!graphicsLoaded) {
+            loadGraphics();
+        }
+
         // Render trail effect behind ball
         if (showTrail && trail != null) {
             trail.render(gc);
@@ -144,7 +216,7 @@ public class Ball extends MovableObject {
         gc.rotate(rotation);
 
         if (ballSprite != null) {
-            gc.drawImage(ballSprite, -width / 2, -height / 2, width, height);
+            ballSprite.draw(gc, -width / 2, -height / 2, width, height);
         } else {
             // Fallback: render procedural ball with gradient
             gc.setFill(Color.WHITE);
@@ -192,7 +264,7 @@ public class Ball extends MovableObject {
      */
     public void activateFastBallEffect() {
         trail.setColor(Color.RED);
-        trail.setMaxLength(30);
+        setTrailLength(30);
         trail.setGlowIntensity(1.5);
         setGlow(true, Color.RED);
     }
@@ -203,7 +275,7 @@ public class Ball extends MovableObject {
      */
     public void activateSlowBallEffect() {
         trail.setColor(Color.LIGHTBLUE);
-        trail.setMaxLength(20);
+        setTrailLength(20);
         trail.setGlowIntensity(0.5);
         setGlow(true, Color.LIGHTBLUE);
     }
@@ -214,7 +286,7 @@ public class Ball extends MovableObject {
      */
     public void activateFireBallEffect() {
         trail.setColor(Color.ORANGERED);
-        trail.setMaxLength(40);
+        setTrailLength(40);
         trail.setGlowIntensity(1.8);
         setGlow(true, Color.ORANGERED);
     }
@@ -227,7 +299,7 @@ public class Ball extends MovableObject {
      */
     public void activateInvincibleEffect() {
         trail.setColor(Color.GOLD);
-        trail.setMaxLength(30);
+        setTrailLength(30);
         trail.setGlowIntensity(2.0);
         setGlow(true, Color.GOLD);
     }
@@ -238,7 +310,7 @@ public class Ball extends MovableObject {
      */
     public void resetTrailEffect() {
         trail.setColor(Color.CYAN);
-        trail.setMaxLength(30);
+        setTrailLength(30);
         trail.setGlowIntensity(1.0);
         setGlow(false, Color.CYAN);
     }
@@ -382,6 +454,101 @@ public class Ball extends MovableObject {
         this.dy = ballDY;
     }
 
+    // ==================== Swept Path ====================
+
+    /**
+     * Gets the X coordinate the ball's last update() move started from.
+     *
+     * @return start X of the last move
+     */
+    public double getMoveStartX() {
+        return moveStartX;
+    }
+
+    /**
+     * Gets the Y coordinate the ball's last update() move started from.
+     *
+     * @return start Y of the last move
+     */
+    public double getMoveStartY() {
+        return moveStartY;
+    }
+
+    /**
+     * Gets the X velocity the ball's last update() move used.
+     * Zero if the ball has not moved since it was created, reset or restored.
+     *
+     * @return X velocity of the last move in pixels per second
+     */
+    public double getMoveDx() {
+        return moveDx;
+    }
+
+    /**
+     * Gets the Y velocity the ball's last update() move used.
+     * Zero if the ball has not moved since it was created, reset or restored.
+     *
+     * @return Y velocity of the last move in pixels per second
+     */
+    public double getMoveDy() {
+        return moveDy;
+    }
+
+    /**
+     * Records a move of zero length at the current position, so a ball that has
+     * not been updated yet is not swept along a stale path.
+     */
+    private void clearMove() {
+        moveStartX = x;
+        moveStartY = y;
+        moveDx = 0;
+        moveDy = 0;
+    }
+
+    // ==================== State Snapshots ====================
+
+    /**
+     * Writes the ball's movement state, radius and rotation.
+     * Trail and glow are not written; active power-up effects restore them.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeDouble(speed);
+        out.writeDouble(dirX);
+        out.writeDouble(dirY);
+        out.writeDouble(radius);
+        out.writeDouble(rotation);
+    }
+
+    /**
+     * Restores state written by writeState(). The trail starts empty with its default look.
+     *
+     * @param in source
+     * @throws IOException if reading fails
+     */
+    @Override
+    public void readState(DataInput in) throws IOException {
+        double oldRadius = radius;
+        super.readState(in);
+        speed = in.readDouble();
+        dirX = in.readDouble();
+        dirY = in.readDouble();
+        radius = in.readDouble();
+        rotation = in.readDouble();
+        clearMove();
+        showTrail = true;
+        if (radius != oldRadius) {
+            setupTrail();
+        } else {
+            trail.clear();
+        }
+        resetTrailEffect();
+    }
+
     // ==================== Collision Detection ====================
 
     /**
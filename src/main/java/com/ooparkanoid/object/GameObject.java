@@ -2,6 +2,10 @@ package com.ooparkanoid.object;
 
 import javafx.scene.canvas.GraphicsContext;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Abstract base class for all game objects in the Arkanoid game.
  * Provides common properties and methods for position, dimensions, and rendering.
@@ -12,6 +16,7 @@ import javafx.scene.canvas.GraphicsContext;
  * - Abstract update and render methods for game loop integration
  * - Collision detection with axis-aligned bounding box (AABB) intersection
  * - Fluent setter methods for chaining
+ * - writeState()/readState() save and restore the simulation state (game snapshots)
  *
  * Coordinate System:
  * - Origin (0,0) is at the top-left corner of the game canvas
@@ -170,4 +175,33 @@ public abstract class GameObject {
     public void setHeight(double height) {
         this.height = height;
     }
+
+    // ==================== State Snapshots ====================
+
+    /**
+     * Writes the simulation state of this object (position and size).
+     * Subclasses extend it with their own state; visual-only state is not written.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeDouble(x);
+        out.writeDouble(y);
+        out.writeDouble(width);
+        out.writeDouble(height);
+    }
+
+    /**
+     * Restores state written by writeState().
+     *
+     * @param in source
+     * @throws IOException if reading fails
+     */
+    public void readState(DataInput in) throws IOException {
+        x = in.readDouble();
+        y = in.readDouble();
+        width = in.readDouble();
+        height = in.readDouble();
+    }
 }
@@ -1,23 +1,50 @@
 package com.ooparkanoid.object;
 
 import com.ooparkanoid.graphics.ResourceManager;
+import com.ooparkanoid.graphics.TextureRegion;
 import com.ooparkanoid.utils.Constants;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 public class Laser extends MovableObject {
     private boolean active = true;
-    private Image sprite;
+    private TextureRegion sprite;
+    private boolean graphicsLoaded;
 
     public Laser(double x, double y, double speed) {
         super(x, y, Constants.LASER_WIDTH, Constants.LASER_HEIGHT, 0, -speed);
-        loadGraphics();
     }
 
+    /**
+     * Reinitializes a pooled laser for a new shot.
+     *
+     * @param x     starting X position
+     * @param y     starting Y position
+     * @param speed upward speed in pixels per second
+     * @return this laser
+     */
+    public Laser reset(double x, double y, double speed) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        this.dx = 0;
+        this.dy = -speed;
+        this.active = true;
+        return this;
+    }
+
+    /**
+     * Looks up the laser sprite on first render, so headless games never load it.
+     */
     private void loadGraphics() {
         ResourceManager rm = ResourceManager.getInstance();
-        sprite = rm.getImage("laser.png");
+        sprite = rm.getRegion("laser.png");
+        graphicsLoaded = true;
     }
 
     @Override
@@ -34,9 +61,12 @@ public class Laser extends MovableObject {
         if (!active) {
             return;
         }
+        if (!graphicsLoaded) {
+            loadGraphics();
+        }
 
         if (sprite != null) {
-            gc.drawImage(sprite, x, y, width, height);
+            sprite.draw(gc, x, y, width, height);
         } else {
             gc.setGlobalAlpha(1.0);
             gc.setFill(Color.WHITE);
@@ -51,4 +81,16 @@ public class Laser extends MovableObject {
     public void setActive() {
         active = false;
     }
+
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeBoolean(active);
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        super.readState(in);
+        active = in.readBoolean();
+    }
 }
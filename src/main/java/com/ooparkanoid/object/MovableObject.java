@@ -1,5 +1,11 @@
 package com.ooparkanoid.object;
 
+import javafx.scene.canvas.GraphicsContext;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Abstract base class for game objects that can move with velocity.
  * Extends GameObject to add velocity components (dx, dy) and automatic movement updates.
@@ -21,6 +27,13 @@ package com.ooparkanoid.object;
  * - Override update(dt) to add custom logic while preserving movement
  * - Override move(dt) for custom movement behavior (e.g., physics, constraints)
  *
+ * Render Interpolation:
+ * - storePreviousPosition() snapshots the position at the start of a fixed simulation step
+ * - renderInterpolated(gc, alpha) draws the object between that snapshot and the
+ *   current position, hiding the stepping when the display rate differs from the sim rate
+ * - teleport() and placeOn() set positions the object did not travel to (respawn, reset,
+ *   resting on a paddle) without it being drawn sliding there from its old position
+ *
  * Usage:
  * Extend this class for any game object that needs to move.
  * Set velocity with setDx()/setDy(), then let game loop handle updates.
@@ -37,6 +50,12 @@ public abstract class MovableObject extends GameObject {
     /** Velocity along Y-axis in pixels per second (positive = down, negative = up) */
     protected double dy;
 
+    /** X coordinate at the start of the current simulation step (for render interpolation) */
+    protected double prevX;
+
+    /** Y coordinate at the start of the current simulation step (for render interpolation) */
+    protected double prevY;
+
     /**
      * Constructs a MovableObject with specified position, dimensions, and initial velocity.
      *
@@ -51,6 +70,88 @@ public abstract class MovableObject extends GameObject {
         super(x, y, width, height); // Call parent GameObject constructor
         this.dx = dx;
         this.dy = dy;
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    /**
+     * Records the current position as the interpolation start point.
+     * Called by the simulation once at the beginning of every fixed step.
+     */
+    public void storePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+
+    /**
+     * Moves the object to a position it did not travel to (respawn, level reset).
+     * The interpolation start point moves along, so the next frame does not draw the
+     * object sweeping across the screen from where it was.
+     *
+     * @param x new X coordinate
+     * @param y new Y coordinate
+     */
+    public void teleport(double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    /**
+     * Places the object on another moving object for this step (a ball resting on its paddle).
+     * The interpolation start point is offset by the carrier's own movement in the step,
+     * so both are drawn moving together instead of the object sliding in from elsewhere.
+     *
+     * @param carrier object the position is relative to, already moved for this step
+     * @param x       new X coordinate
+     * @param y       new Y coordinate
+     */
+    public void placeOn(MovableObject carrier, double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x - (carrier.x - carrier.prevX);
+        this.prevY = y - (carrier.y - carrier.prevY);
+    }
+
+    /**
+     * Gets the X coordinate recorded at the start of the current simulation step.
+     *
+     * @return previous X position
+     */
+    public double getPrevX() {
+        return prevX;
+    }
+
+    /**
+     * Gets the Y coordinate recorded at the start of the current simulation step.
+     *
+     * @return previous Y position
+     */
+    public double getPrevY() {
+        return prevY;
+    }
+
+    /**
+     * Renders the object at a position blended between the previous and current step.
+     * Temporarily moves the object for the draw call and restores the simulated position,
+     * so subclasses keep rendering from their own x/y fields.
+     *
+     * @param gc    the GraphicsContext to render to
+     * @param alpha interpolation factor (0 = previous step, 1 = current step)
+     */
+    public void renderInterpolated(GraphicsContext gc, double alpha) {
+        if (alpha >= 1.0) {
+            render(gc);
+            return;
+        }
+        double simX = x;
+        double simY = y;
+        x = prevX + (simX - prevX) * alpha;
+        y = prevY + (simY - prevY) * alpha;
+        render(gc);
+        x = simX;
+        y = simY;
     }
 
     /**
@@ -112,4 +213,35 @@ public abstract class MovableObject extends GameObject {
     public void setDy(double dy) {
         this.dy = dy;
     }
+
+    /**
+     * Writes position, size and velocity.
+     * The interpolation start point is render state and is not written.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeDouble(dx);
+        out.writeDouble(dy);
+    }
+
+    /**
+     * Restores state written by writeState().
+     * The object is placed without interpolation, so a restored game does not draw it
+     * sliding in from where it was before.
+     *
+     * @param in source
+     * @throws IOException if reading fails
+     */
+    @Override
+    public void readState(DataInput in) throws IOException {
+        super.readState(in);
+        dx = in.readDouble();
+        dy = in.readDouble();
+        prevX = x;
+        prevY = y;
+    }
 }
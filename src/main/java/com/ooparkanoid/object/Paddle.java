@@ -2,22 +2,32 @@
 package com.ooparkanoid.object;
 
 import com.ooparkanoid.graphics.Animation;
+import com.ooparkanoid.graphics.AnimationClip;
 import com.ooparkanoid.graphics.ResourceManager;
 import com.ooparkanoid.graphics.SpriteSheet;
+import com.ooparkanoid.graphics.TextureRegion;
 import com.ooparkanoid.sound.SoundManager;
 import com.ooparkanoid.utils.Constants;
+import com.ooparkanoid.utils.ObjectPool;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Represents the player-controlled paddle in the Arkanoid game.
  * The paddle can move horizontally or be positioned vertically on either side.
  * Supports laser shooting capability as a power-up feature.
+ * <p>
+ * Explosion and respawn phases are timed by the paddle itself rather than by their
+ * animations, so the paddle behaves identically with or without loaded sprites.
+ * Sprites are looked up on first render, so headless simulations never load them.
  *
  * @author Arkanoid Team
  * @version 2.0
@@ -50,22 +60,46 @@ public class Paddle extends MovableObject {
 
     private State currentState = State.LIVE;
 
-    private Image paddleSprite;
-    private Image laserGunSprite;
-    private Image paddleSpriteVerticalLeft; // paddle left side
-    private Image paddleSpriteVerticalRight; // paddle right side
+    private TextureRegion paddleSprite;
+    private TextureRegion laserGunSprite;
+    private TextureRegion paddleSpriteVerticalLeft; // paddle left side
+    private TextureRegion paddleSpriteVerticalRight; // paddle right side
     private SpriteSheet explosionSheet;
     private SpriteSheet spawnSheet;
 
+    /** Explosion and spawn clips, built once and shared by every paddle */
+    private static AnimationClip explosionClip;
+    private static AnimationClip spawnClip;
+
+    /** This paddle's playback position in the shared clips */
     private Animation explosionAnimation;
     private Animation spawnAnimation;
 
+    /** True once loadGraphics() has run */
+    private boolean graphicsLoaded;
+
     private static final int EXPLOSION_FRAME_WIDTH = 140;
     private static final int EXPLOSION_FRAME_HEIGHT = 142;
 
     private static final int SPAWN_FRAME_WIDTH = 93;
     private static final int SPAWN_FRAME_HEIGHT = 38;
 
+    private static final int EXPLOSION_FRAME_COUNT = 7;
+    private static final double EXPLOSION_FRAME_DURATION = 0.1;
+    private static final int SPAWN_FRAME_COUNT = 4;
+    private static final double SPAWN_FRAME_DURATION = 0.5;
+
+    /** Length of the explosion phase after losing a life (seconds) */
+    private static final double EXPLOSION_DURATION = EXPLOSION_FRAME_COUNT * EXPLOSION_FRAME_DURATION;
+    /** Length of the respawn phase after the explosion (seconds) */
+    private static final double SPAWN_DURATION = SPAWN_FRAME_COUNT * SPAWN_FRAME_DURATION;
+
+    /** Time spent in the current DESTROYED or SPAWNING phase (seconds) */
+    private double stateTimer = 0;
+
+    /** Receives sound effect requests; defaults to the shared SoundManager */
+    private Consumer<String> soundPlayer = name -> SoundManager.getInstance().play(name);
+
     // Paddle state
     private Orientation orientation = Orientation.HORIZONTAL;
     private Double lockedX = null; // For vertical orientation, locks X position
@@ -73,6 +107,7 @@ public class Paddle extends MovableObject {
     // Laser shooting capability
     private boolean laserEnabled = false;
     private List<Laser> lasers = new ArrayList<>();
+    private final ObjectPool<Laser> laserPool = new ObjectPool<>(() -> new Laser(0, 0, 0), 16);
     private double shootCooldown = 0;
     private static final double SHOOT_DELAY = 0.3; // Seconds between laser shots
 
@@ -91,50 +126,63 @@ public class Paddle extends MovableObject {
 
     public Paddle(double x, double y) {
         super(x, y, Constants.PADDLE_WIDTH, Constants.PADDLE_HEIGHT, 0, 0);
-        loadGraphics();
     }
 
     /**
      * Loads paddle sprites from the resource manager.
      * Uses fallback mechanism for missing vertical orientation sprites.
+     * Called on first render; an explosion or respawn already under way is picked up
+     * at its current point.
      */
     public void loadGraphics() {
+        graphicsLoaded = true;
         ResourceManager rm = ResourceManager.getInstance();
-        paddleSprite = rm.getImage("paddle1.png");
-        laserGunSprite = rm.getImage("laser_gun.png");
+        paddleSprite = rm.getRegion("paddle1.png");
+        laserGunSprite = rm.getRegion("laser_gun.png");
         paddleSpriteVerticalLeft = loadWithFallback(rm, "paddle_left.png", "paddle3.png");
         paddleSpriteVerticalRight = loadWithFallback(rm, "paddle_right.png", "paddle2.png");
-        Image expSheetImg = rm.getImage("paddle_explosion.png");
-        if (expSheetImg != null) {
-            explosionSheet = new SpriteSheet(
-                    expSheetImg,
-                    EXPLOSION_FRAME_WIDTH,
-                    EXPLOSION_FRAME_HEIGHT,
-                    0, 0);
-            explosionAnimation = loadAnimationFromSheet(explosionSheet, 7, 0.1, false);
+        // Shared sheets: frames are sliced once for all paddles and drawn as atlas regions
+        explosionSheet = rm.getSheet("paddle_explosion.png", EXPLOSION_FRAME_WIDTH, EXPLOSION_FRAME_HEIGHT);
+        if (explosionSheet != null) {
+            if (explosionClip == null) {
+                explosionClip = loadClipFromSheet(explosionSheet, EXPLOSION_FRAME_COUNT, EXPLOSION_FRAME_DURATION, false);
+            }
+            explosionAnimation = new Animation(explosionClip);
         } else {
             System.err.println("Failed to load paddle_explosion.png");
         }
 
-        Image spawnSheetImg = rm.getImage("paddle_spawn.png");
-        if (spawnSheetImg != null) {
-            spawnSheet = new SpriteSheet(
-                    spawnSheetImg,
-                    SPAWN_FRAME_WIDTH,
-                    SPAWN_FRAME_HEIGHT,
-                    0, 0);
-            spawnAnimation = loadAnimationFromSheet(spawnSheet, 4, 0.5, false);
+        spawnSheet = rm.getSheet("paddle_spawn.png", SPAWN_FRAME_WIDTH, SPAWN_FRAME_HEIGHT);
+        if (spawnSheet != null) {
+            if (spawnClip == null) {
+                spawnClip = loadClipFromSheet(spawnSheet, SPAWN_FRAME_COUNT, SPAWN_FRAME_DURATION, false);
+            }
+            spawnAnimation = new Animation(spawnClip);
         } else {
             System.err.println("Failed to load paddle_spawn_sheet.png");
         }
+        rewindAnimations();
+    }
+
+    /**
+     * Positions the explosion and spawn animations at the current point of their phase.
+     */
+    private void rewindAnimations() {
+        if (explosionAnimation != null) explosionAnimation.reset();
+        if (spawnAnimation != null) spawnAnimation.reset();
+        if (currentState == State.DESTROYED && explosionAnimation != null) {
+            explosionAnimation.update(stateTimer);
+        } else if (currentState == State.SPAWNING && spawnAnimation != null) {
+            spawnAnimation.update(stateTimer);
+        }
     }
 
-    private Animation loadAnimationFromSheet(SpriteSheet sheet, int countFrame, double frameDuration, boolean loop) {
-        Image[] frames = new Image[countFrame];
+    private static AnimationClip loadClipFromSheet(SpriteSheet sheet, int countFrame, double frameDuration, boolean loop) {
+        TextureRegion[] frames = new TextureRegion[countFrame];
         for (int i = 0; i < countFrame; i++) {
-            frames[i] = sheet.getFrame(i);
+            frames[i] = sheet.getFrameRegion(i);
         }
-        return new Animation(frames, frameDuration, loop);
+        return new AnimationClip(frames, frameDuration, loop);
     }
 
 
@@ -145,12 +193,12 @@ public class Paddle extends MovableObject {
      * @param rm        the ResourceManager instance
      * @param preferred the preferred image filename
      * @param fallback  the fallback image filename
-     * @return the loaded image, or null if both fail
+     * @return the region of the loaded image, or null if both fail
      */
-    private Image loadWithFallback(ResourceManager rm, String preferred, String fallback) {
-        Image image = rm.getImage(preferred);
+    private TextureRegion loadWithFallback(ResourceManager rm, String preferred, String fallback) {
+        TextureRegion image = rm.getRegion(preferred);
         if (image == null && fallback != null) {
-            image = rm.getImage(fallback);
+            image = rm.getRegion(fallback);
         }
         return image;
     }
@@ -173,12 +221,23 @@ public class Paddle extends MovableObject {
         this.dy = dy;
     }
 
+    /**
+     * Redirects the paddle's sound effects (laser shots, life loss, respawn).
+     * GameManager routes them through its simulation listeners so headless games stay silent.
+     *
+     * @param soundPlayer consumer receiving sound effect names, or null to mute
+     */
+    public void setSoundPlayer(Consumer<String> soundPlayer) {
+        this.soundPlayer = soundPlayer != null ? soundPlayer : name -> { };
+    }
+
     public void destroy() {
         if (currentState == State.DESTROYED) return;
         currentState = State.DESTROYED;
-        explosionAnimation.reset();
-        spawnAnimation.reset();
-        SoundManager.getInstance().play("lose_life");
+        stateTimer = 0;
+        if (explosionAnimation != null) explosionAnimation.reset();
+        if (spawnAnimation != null) spawnAnimation.reset();
+        soundPlayer.accept("lose_life");
     }
 
     public boolean isSpawning() {
@@ -194,6 +253,7 @@ public class Paddle extends MovableObject {
 
     public void reset() {
         currentState = State.LIVE;
+        stateTimer = 0;
     }
 
 
@@ -228,6 +288,7 @@ public class Paddle extends MovableObject {
                     laser.update(dt);
                     if (!laser.isActive()) {
                         it.remove();
+                        laserPool.release(laser);
                     }
                 }
 
@@ -249,20 +310,21 @@ public class Paddle extends MovableObject {
             case SPAWNING:
                 if (spawnAnimation != null) {
                     spawnAnimation.update(dt);
-                    if (spawnAnimation.isFinished()) {
-                        currentState = State.LIVE; // Chuyển sang LIVE khi xong
-                    }
-                } else {
-                    currentState = State.LIVE; // Nếu không có anim, xong ngay
+                }
+                stateTimer += dt;
+                if (stateTimer >= SPAWN_DURATION) {
+                    currentState = State.LIVE; // Chuyển sang LIVE khi xong
                 }
                 return;
             case DESTROYED:
                 if (explosionAnimation != null) {
                     explosionAnimation.update(dt);
-                    if (explosionAnimation.isFinished()) {
-                        currentState = State.SPAWNING;
-                        SoundManager.getInstance().play("transition");
-                    }
+                }
+                stateTimer += dt;
+                if (stateTimer >= EXPLOSION_DURATION) {
+                    currentState = State.SPAWNING;
+                    stateTimer = 0;
+                    soundPlayer.accept("transition");
                 }
                 return;
         }
@@ -299,10 +361,10 @@ public class Paddle extends MovableObject {
             return;
         }
         double laserSpeed = 500;
-        SoundManager.getInstance().play("laser_shoot");
+        soundPlayer.accept("laser_shoot");
         // Create two lasers, one from each side of the paddle
-        Laser leftLaser = new Laser(x + width * 0.25, y - 25, laserSpeed);
-        Laser rightLaser = new Laser(x + width * 0.75, y - 25, laserSpeed);
+        Laser leftLaser = laserPool.acquire().reset(x + width * 0.25, y - 25, laserSpeed);
+        Laser rightLaser = laserPool.acquire().reset(x + width * 0.75, y - 25, laserSpeed);
         lasers.add(leftLaser);
         lasers.add(rightLaser);
         shootCooldown = SHOOT_DELAY;
@@ -316,9 +378,12 @@ public class Paddle extends MovableObject {
      */
     @Override
     public void render(GraphicsContext gc) {
+        if (!graphicsLoaded) {
+            loadGraphics();
+        }
         switch (currentState) {
             case LIVE:
-                Image spriteToRender;
+                TextureRegion spriteToRender;
                 switch (orientation) {
                     case VERTICAL_LEFT -> spriteToRender = paddleSpriteVerticalLeft != null
                             ? paddleSpriteVerticalLeft
@@ -330,7 +395,7 @@ public class Paddle extends MovableObject {
                 }
 
                 if (spriteToRender != null) {
-                    gc.drawImage(spriteToRender, x, y, width, height);
+                    spriteToRender.draw(gc, x, y, width, height);
                 } else {
                     gc.setFill(Color.WHITE);
                     gc.fillRect(x, y, width, height);
@@ -346,22 +411,22 @@ public class Paddle extends MovableObject {
                 return;
             case SPAWNING:
                 if (spawnAnimation != null) {
-                    Image frame = spawnAnimation.getCurrentFrame();
+                    TextureRegion frame = spawnAnimation.getCurrentFrame();
                     if (frame != null) {
                         double frameWidth = frame.getWidth();
                         double frameHeight = frame.getHeight();
-                        gc.drawImage(frame, x + (width - frameWidth) / 2,
+                        frame.draw(gc, x + (width - frameWidth) / 2,
                                 y + (height - frameHeight) / 2);
                     }
                 }
                 return;
             case DESTROYED:
                 if (explosionAnimation != null) {
-                    Image frame = explosionAnimation.getCurrentFrame();
+                    TextureRegion frame = explosionAnimation.getCurrentFrame();
                     if (frame != null) {
                         double frameWidth = frame.getWidth();
                         double frameHeight = frame.getHeight();
-                        gc.drawImage(frame, x + (width - frameWidth) / 2,
+                        frame.draw(gc, x + (width - frameWidth) / 2,
                                 y + (height - frameHeight) / 2 - 20);
                     }
                 }
@@ -378,8 +443,8 @@ public class Paddle extends MovableObject {
     private void renderLaserPaddle(GraphicsContext gc) {
         // Draw laser gun sprites or fallback rectangles
         if (laserGunSprite != null) {
-            gc.drawImage(laserGunSprite, x + width * 0.25 - 5, y - 15, 10, 15);
-            gc.drawImage(laserGunSprite, x + width * 0.75 - 5, y - 15, 10, 15);
+            laserGunSprite.draw(gc, x + width * 0.25 - 5, y - 15, 10, 15);
+            laserGunSprite.draw(gc, x + width * 0.75 - 5, y - 15, 10, 15);
         } else {
             gc.setFill(Color.DARKGRAY);
             gc.fillRect(x + width * 0.25 - 3, y - 10, 6, 10);
@@ -405,10 +470,74 @@ public class Paddle extends MovableObject {
     public void setLaserEnabled(boolean enabled) {
         this.laserEnabled = enabled;
         if (!enabled) {
+            for (Laser laser : lasers) {
+                laserPool.release(laser);
+            }
             lasers.clear();
         }
     }
 
+    /**
+     * Returns a laser that was removed from getLasers() to the laser pool.
+     * The laser must not be used afterwards.
+     *
+     * @param laser laser that has left play
+     */
+    public void releaseLaser(Laser laser) {
+        laserPool.release(laser);
+    }
+
+    /**
+     * Writes the simulated state: position, explosion/respawn state, laser and shots in flight.
+     * Direction, position lock and movement bounds are game-mode settings and are not written.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeByte(currentState.ordinal());
+        out.writeDouble(stateTimer);
+        out.writeBoolean(laserEnabled);
+        out.writeDouble(shootCooldown);
+        out.writeInt(lasers.size());
+        for (Laser laser : lasers) {
+            laser.writeState(out);
+        }
+    }
+
+    /**
+     * Restores state written by writeState(). Animations are rewound to the restored stateTimer.
+     *
+     * @param in source
+     * @throws IOException if reading fails or the state is invalid
+     */
+    @Override
+    public void readState(DataInput in) throws IOException {
+        super.readState(in);
+        State[] states = State.values();
+        int state = in.readUnsignedByte();
+        if (state >= states.length) {
+            throw new IOException("Unknown paddle state " + state);
+        }
+        currentState = states[state];
+        stateTimer = in.readDouble();
+        laserEnabled = in.readBoolean();
+        shootCooldown = in.readDouble();
+        for (Laser laser : lasers) {
+            laserPool.release(laser);
+        }
+        lasers.clear();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            Laser laser = laserPool.acquire();
+            laser.readState(in);
+            lasers.add(laser);
+        }
+        rewindAnimations();
+    }
+
     /**
      * Checks if laser shooting is currently enabled.
      *
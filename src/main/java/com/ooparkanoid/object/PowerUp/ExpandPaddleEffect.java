@@ -3,6 +3,10 @@ package com.ooparkanoid.object.PowerUp;
 import com.ooparkanoid.object.Paddle;
 import com.ooparkanoid.utils.Constants;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 public class ExpandPaddleEffect implements PowerUpEffect {
     private final double scaleFactor;
     private double originalWidth = -1;
@@ -31,6 +35,19 @@ public class ExpandPaddleEffect implements PowerUpEffect {
         originalWidth = -1;
     }
 
+    /**
+     * Ghi chiều rộng gốc để remove() trả paddle về đúng kích thước sau khi khôi phục
+     */
+    @Override
+    public void writeState(DataOutput out, GameContext context) throws IOException {
+        out.writeDouble(originalWidth);
+    }
+
+    @Override
+    public void readState(DataInput in, GameContext context) throws IOException {
+        originalWidth = in.readDouble();
+    }
+
     @Override
     public String getEffectType() {
         return "EXPAND_PADDLE";
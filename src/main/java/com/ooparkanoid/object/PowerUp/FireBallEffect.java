@@ -2,6 +2,8 @@ package com.ooparkanoid.object.PowerUp;
 
 import com.ooparkanoid.object.Ball;
 
+import java.io.DataInput;
+
 public class FireBallEffect implements PowerUpEffect {
 
     @Override
@@ -20,6 +22,16 @@ public class FireBallEffect implements PowerUpEffect {
         }
     }
 
+    /**
+     * Không có dữ liệu riêng; chỉ bật lại hiệu ứng hình ảnh của bóng sau khi khôi phục
+     */
+    @Override
+    public void readState(DataInput in, GameContext context) {
+        for (Ball ball : context.getBalls()) {
+            ball.activateFireBallEffect();
+        }
+    }
+
     @Override
     public String getEffectType() {
         return "FIRE_BALL";
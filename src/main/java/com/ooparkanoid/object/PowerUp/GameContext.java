@@ -2,14 +2,18 @@ package com.ooparkanoid.object.PowerUp;
 
 import com.ooparkanoid.object.Ball;
 import com.ooparkanoid.object.Paddle;
+import com.ooparkanoid.utils.ObjectPool;
 
 import java.util.List;
+import java.util.Random;
 import java.util.function.Consumer;
 
 public class GameContext {
     private final Paddle paddle;
     private final List<Ball> balls;
     private Consumer<Integer> livesModifier;
+    private Random random = new Random();
+    private ObjectPool<Ball> ballPool;
 
     public GameContext(Paddle paddle, List<Ball> balls) {
         this.paddle = paddle;
@@ -24,6 +28,34 @@ public class GameContext {
         return balls;
     }
 
+    /**
+     * Generator used by randomized effects (e.g. multi-ball angles).
+     */
+    public Random getRandom() {
+        return random;
+    }
+
+    public void setRandom(Random random) {
+        this.random = random != null ? random : new Random();
+    }
+
+    /**
+     * Pool that createBall() takes balls from; null to always allocate.
+     */
+    public void setBallPool(ObjectPool<Ball> ballPool) {
+        this.ballPool = ballPool;
+    }
+
+    /**
+     * Creates a ball for an effect, reusing a pooled one when a pool is set.
+     */
+    public Ball createBall(double x, double y, double radius, double speed, double dirX, double dirY) {
+        if (ballPool == null) {
+            return new Ball(x, y, radius, speed, dirX, dirY);
+        }
+        return ballPool.acquire().reset(x, y, radius, speed, dirX, dirY);
+    }
+
     public void setLivesModifier(Consumer<Integer> modifier) {
         this.livesModifier = modifier;
     }
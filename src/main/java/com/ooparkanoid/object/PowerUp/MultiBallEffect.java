@@ -22,16 +22,16 @@ public class MultiBallEffect implements PowerUpEffect {
 
         for (int i = 0; i < extraBalls; i++) {
             // Tạo góc ngẫu nhiên
-            double angle = Math.random() * Math.PI - Math.PI / 2; // -90° to +90°
+            double angle = context.getRandom().nextDouble() * Math.PI - Math.PI / 2; // -90° to +90°
             double speed = templateBall.getSpeed();
 
-            Ball newBall = new Ball(
+            Ball newBall = context.createBall(
                     templateBall.getX(),
                     templateBall.getY(),
                     Constants.BALL_RADIUS,
                     speed,
-                    Math.sin(angle),
-                    -Math.abs(Math.cos(angle)) // Luôn đi lên
+                    StrictMath.sin(angle),
+                    -Math.abs(StrictMath.cos(angle)) // Luôn đi lên (StrictMath: giống nhau trên mọi JVM để replay khớp)
             );
 
             currentBalls.add(newBall);
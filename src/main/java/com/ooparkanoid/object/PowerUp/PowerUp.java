@@ -4,9 +4,13 @@ import com.ooparkanoid.graphics.Animation;
 import com.ooparkanoid.graphics.ResourceManager;
 import com.ooparkanoid.object.GameObject;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
+import com.ooparkanoid.graphics.TextureRegion;
 import javafx.scene.paint.Color;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 public class PowerUp extends GameObject {
     private final PowerUpEffect effect;
     private final PowerUpSprite.PowerUpType type;
@@ -17,6 +21,8 @@ public class PowerUp extends GameObject {
 
     private Animation animation;
     private boolean hasAnimation = false;
+    // Animation is looked up on first render, so headless games never load the sprite sheet
+    private boolean animationLoaded = false;
 
     // Constructor với sprite
     public PowerUp(double x, double y, double w, double h,
@@ -26,12 +32,25 @@ public class PowerUp extends GameObject {
         this.color = Color.WHITE;
         this.type = type;
         this.duration = duration;
-        loadAnimation(type);
+    }
+
+    /**
+     * Đặt lại powerUp lấy từ pool để rơi từ vị trí mới (effect được dùng lại)
+     */
+    public PowerUp reset(double x, double y) {
+        setX(x);
+        setY(y);
+        collected = false;
+        if (animation != null) {
+            animation.reset();
+        }
+        return this;
     }
 
     private void loadAnimation(PowerUpSprite.PowerUpType type) {
         PowerUpSprite powerUpSprite = PowerUpSprite.getInstance();
         animation = powerUpSprite.getAnimationForType(type);
+        animationLoaded = true;
 
         if (animation != null) {
             hasAnimation = true;
@@ -54,10 +73,13 @@ public class PowerUp extends GameObject {
         if (collected) {
             return;
         }
+        if (!animationLoaded) {
+            loadAnimation(type);
+        }
 
         if (hasAnimation && animation != null) {
-            Image frame = animation.getCurrentFrame();
-            gc.drawImage(frame, x, y, width, height);
+            TextureRegion frame = animation.getCurrentFrame();
+            frame.draw(gc, x, y, width, height);
         } else {
             gc.setFill(color);
             gc.fillOval(-width / 2, -height / 2, width, height);
@@ -66,6 +88,24 @@ public class PowerUp extends GameObject {
         }
     }
 
+    /**
+     * Ghi vị trí và trạng thái đã nhặt cho snapshot (loại powerUp do người gọi ghi)
+     */
+    @Override
+    public void writeState(DataOutput out) throws IOException {
+        super.writeState(out);
+        out.writeBoolean(collected);
+    }
+
+    @Override
+    public void readState(DataInput in) throws IOException {
+        super.readState(in);
+        collected = in.readBoolean();
+        if (animation != null) {
+            animation.reset();
+        }
+    }
+
     public void collect() {
         collected = true;
     }
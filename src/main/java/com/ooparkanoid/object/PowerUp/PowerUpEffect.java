@@ -1,9 +1,38 @@
 package com.ooparkanoid.object.PowerUp;
 
+import com.ooparkanoid.object.Ball;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 public interface PowerUpEffect {
     void apply(GameContext context);
 
     void remove(GameContext context);
 
     String getEffectType();         // Dùng làm key
-}
\ No newline at end of file
+
+    /**
+     * Ghi trạng thái riêng của hiệu ứng đang active (cho snapshot). Mặc định không có gì.
+     */
+    default void writeState(DataOutput out, GameContext context) throws IOException {
+    }
+
+    /**
+     * Khôi phục trạng thái đã ghi bằng writeState() thay cho apply(): các object trong
+     * context đã mang sẵn tác dụng của hiệu ứng, chỉ cần dựng lại dữ liệu để remove() đúng.
+     */
+    default void readState(DataInput in, GameContext context) throws IOException {
+    }
+
+    /**
+     * Called while the effect is active when a ball leaves play and returns to the ball
+     * pool. Effects that keep data per ball must drop it here: the pool hands the same
+     * object out again as a new ball. Does nothing by default.
+     *
+     * @param ball the released ball
+     */
+    default void onBallReleased(Ball ball) {
+    }
+}
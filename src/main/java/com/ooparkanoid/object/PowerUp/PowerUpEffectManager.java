@@ -1,5 +1,13 @@
 package com.ooparkanoid.object.PowerUp;
 
+import com.ooparkanoid.core.profiling.ProfileSection;
+import com.ooparkanoid.core.profiling.Profiler;
+import com.ooparkanoid.object.Ball;
+import com.ooparkanoid.utils.EngineLog;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 
 public class PowerUpEffectManager {
@@ -42,6 +50,7 @@ public class PowerUpEffectManager {
     }
 
     public void update(double deltaTime) {
+        long start = Profiler.begin();
         Iterator<Map.Entry<String, ActiveEffect>> iterator = activeEffects.entrySet().iterator();
 
         while (iterator.hasNext()) {
@@ -52,10 +61,11 @@ public class PowerUpEffectManager {
 
             if (activeEffect.isExpired()) {
                 activeEffect.getEffect().remove(context);
-                System.out.println("⏱️ " + entry.getKey() + " expired!");
+                EngineLog.info("⏱️ " + entry.getKey() + " expired!");
                 iterator.remove();
             }
         }
+        Profiler.end(ProfileSection.EFFECTS, start);
     }
 
     public double getRemainingTime(String effectType) {
@@ -74,6 +84,52 @@ public class PowerUpEffectManager {
         return activeEffects.containsKey(effectType);
     }
 
+    /**
+     * Tells every active effect that a ball left play and went back to the ball pool.
+     *
+     * @param ball the released ball
+     */
+    public void onBallReleased(Ball ball) {
+        for (ActiveEffect activeEffect : activeEffects.values()) {
+            activeEffect.getEffect().onBallReleased(ball);
+        }
+    }
+
+    /**
+     * Ghi các hiệu ứng đang active theo thứ tự duyệt của map: loại, thời gian còn lại và
+     * trạng thái riêng của effect
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(activeEffects.size());
+        for (Map.Entry<String, ActiveEffect> entry : activeEffects.entrySet()) {
+            ActiveEffect activeEffect = entry.getValue();
+            out.writeByte(PowerUpSprite.PowerUpType.valueOf(entry.getKey()).ordinal());
+            out.writeDouble(activeEffect.getRemainingTime());
+            activeEffect.getEffect().writeState(out, context);
+        }
+    }
+
+    /**
+     * Khôi phục các hiệu ứng đã ghi bằng writeState() mà KHÔNG apply lại: paddle và bóng
+     * trong context phải được khôi phục trước. Chèn lại theo thứ tự đã ghi nên HashMap
+     * giữ nguyên thứ tự duyệt (quan trọng khi nhiều hiệu ứng hết hạn cùng một frame).
+     */
+    public void readState(DataInput in) throws IOException {
+        activeEffects.clear();
+        PowerUpSprite.PowerUpType[] types = PowerUpSprite.PowerUpType.values();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int ordinal = in.readUnsignedByte();
+            if (ordinal >= types.length) {
+                throw new IOException("Unknown power-up type " + ordinal);
+            }
+            PowerUpEffect effect = PowerUpFactory.createEffect(types[ordinal]);
+            double remainingTime = in.readDouble();
+            effect.readState(in, context);
+            activeEffects.put(effect.getEffectType(), new ActiveEffect(effect, types[ordinal].getCategory(), remainingTime));
+        }
+    }
+
     private static class ActiveEffect {
         private final PowerUpEffect effect;
         private final PowerUpSprite.PowerUpCategory category;
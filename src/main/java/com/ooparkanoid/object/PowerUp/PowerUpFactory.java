@@ -8,30 +8,47 @@ public class PowerUpFactory {
     private static final double DEFAULT_DURATION = 10.0;
     private static final double INSTANT_DURATION = 0.1; // Cho instant effects
 
+    private static final PowerUpSprite.PowerUpType[] BUFFS = {
+            PowerUpSprite.PowerUpType.FAST_BALL,
+            PowerUpSprite.PowerUpType.EXPAND_PADDLE,
+            PowerUpSprite.PowerUpType.MULTI_BALL,
+            PowerUpSprite.PowerUpType.INVINCIBLE_BALL,
+            PowerUpSprite.PowerUpType.SCORE_MULTIPLIER,
+            PowerUpSprite.PowerUpType.EXTRA_LIFE,
+            PowerUpSprite.PowerUpType.FIRE_BALL,
+            PowerUpSprite.PowerUpType.LASER_PADDLE
+    };
+
+    private static final PowerUpSprite.PowerUpType[] DEBUFFS = {
+            PowerUpSprite.PowerUpType.SLOW_BALL,
+            PowerUpSprite.PowerUpType.SHRINK_PADDLE
+    };
+
 
     /**
      * Tạo random powerUp với 75% buff, 25% debuff
      */
     public static PowerUp createRandomPowerUp(double x, double y) {
+        return createRandomPowerUp(x, y, random);
+    }
+
+    /**
+     * Tạo random powerUp dùng generator được truyền vào (cho mô phỏng có seed)
+     */
+    public static PowerUp createRandomPowerUp(double x, double y, Random random) {
+        return createPowerUp(x, y, randomType(random));
+    }
+
+    /**
+     * Chọn ngẫu nhiên loại powerUp (75% buff, 25% debuff) mà không tạo object,
+     * để GameManager lấy powerUp từ pool
+     */
+    public static PowerUpSprite.PowerUpType randomType(Random random) {
         boolean isBuff = random.nextDouble() < 75; // 75% buff
         if (isBuff) {
-            PowerUpSprite.PowerUpType[] buffs = {
-                    PowerUpSprite.PowerUpType.FAST_BALL,
-                    PowerUpSprite.PowerUpType.EXPAND_PADDLE,
-                    PowerUpSprite.PowerUpType.MULTI_BALL,
-                    PowerUpSprite.PowerUpType.INVINCIBLE_BALL,
-                    PowerUpSprite.PowerUpType.SCORE_MULTIPLIER,
-                    PowerUpSprite.PowerUpType.EXTRA_LIFE,
-                    PowerUpSprite.PowerUpType.FIRE_BALL,
-                    PowerUpSprite.PowerUpType.LASER_PADDLE
-            };
-            return createPowerUp(x, y, buffs[random.nextInt(buffs.length)]);
+            return BUFFS[random.nextInt(BUFFS.length)];
         } else {
-            PowerUpSprite.PowerUpType[] debuffs = {
-                    PowerUpSprite.PowerUpType.SLOW_BALL,
-                    PowerUpSprite.PowerUpType.SHRINK_PADDLE
-            };
-            return createPowerUp(x, y, debuffs[random.nextInt(debuffs.length)]);
+            return DEBUFFS[random.nextInt(DEBUFFS.length)];
         }
     }
 
@@ -39,50 +56,37 @@ public class PowerUpFactory {
      * Tạo powerUp theo type cụ thể
      */
     public static PowerUp createPowerUp(double x, double y, PowerUpSprite.PowerUpType type) {
+        return new PowerUp(x, y, 40, 20, createEffect(type), type, getDuration(type));
+    }
+
+    /**
+     * Tạo effect mới theo type (cũng dùng khi khôi phục snapshot các hiệu ứng đang active)
+     */
+    public static PowerUpEffect createEffect(PowerUpSprite.PowerUpType type) {
         return switch (type) {
             // BUFFS
-            case FAST_BALL -> new PowerUp(x, y, 40, 20,
-                    new FastBallEffect(1.25),
-                    type,
-                    DEFAULT_DURATION);
-            case EXPAND_PADDLE -> new PowerUp(x, y, 40, 20,
-                    new ExpandPaddleEffect(1.35),
-                    type,
-                    DEFAULT_DURATION);
-            case MULTI_BALL -> new PowerUp(x, y, 40, 20,
-                    new MultiBallEffect(2),
-                    type,
-                    INSTANT_DURATION);
-            case INVINCIBLE_BALL -> new PowerUp(x, y, 40, 20,
-                    new InvincibleBallEffect(),
-                    type,
-                    DEFAULT_DURATION);
-            case SCORE_MULTIPLIER -> new PowerUp(x, y, 40, 20,
-                    new ScoreMultiplierEffect(2.0),
-                    type,
-                    DEFAULT_DURATION);
-            case EXTRA_LIFE -> new PowerUp(x, y, 40, 20,
-                    new ExtraLifeEffect(1),
-                    type,
-                    INSTANT_DURATION);
-            case FIRE_BALL -> new PowerUp(x, y, 40, 20,
-                    new FireBallEffect(),
-                    type,
-                    DEFAULT_DURATION);
-            case LASER_PADDLE -> new PowerUp(x, y, 40, 20,
-                    new LaserPaddleEffect(),
-                    type,
-                    DEFAULT_DURATION);
+            case FAST_BALL -> new FastBallEffect(1.25);
+            case EXPAND_PADDLE -> new ExpandPaddleEffect(1.35);
+            case MULTI_BALL -> new MultiBallEffect(2);
+            case INVINCIBLE_BALL -> new InvincibleBallEffect();
+            case SCORE_MULTIPLIER -> new ScoreMultiplierEffect(2.0);
+            case EXTRA_LIFE -> new ExtraLifeEffect(1);
+            case FIRE_BALL -> new FireBallEffect();
+            case LASER_PADDLE -> new LaserPaddleEffect();
 
             // DEBUFFS
-            case SLOW_BALL -> new PowerUp(x, y, 40, 20,
-                    new SlowBallEffect(0.6),
-                    type,
-                    DEFAULT_DURATION);
-            case SHRINK_PADDLE -> new PowerUp(x, y, 40, 20,
-                    new ShrinkPaddleEffect(0.6),
-                    type,
-                    DEFAULT_DURATION);
+            case SLOW_BALL -> new SlowBallEffect(0.6);
+            case SHRINK_PADDLE -> new ShrinkPaddleEffect(0.6);
+        };
+    }
+
+    /**
+     * Thời gian hiệu lực của powerUp theo type
+     */
+    private static double getDuration(PowerUpSprite.PowerUpType type) {
+        return switch (type) {
+            case MULTI_BALL, EXTRA_LIFE -> INSTANT_DURATION;
+            default -> DEFAULT_DURATION;
         };
     }
-}
\ No newline at end of file
+}
@@ -1,36 +1,50 @@
 package com.ooparkanoid.object.PowerUp;
 
 import com.ooparkanoid.graphics.Animation;
+import com.ooparkanoid.graphics.AnimationClip;
 import com.ooparkanoid.graphics.ResourceManager;
 import com.ooparkanoid.graphics.SpriteSheet;
+import com.ooparkanoid.graphics.TextureRegion;
 import javafx.scene.image.Image;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 
 public class PowerUpSprite {
-    private static PowerUpSprite instance;
     private SpriteSheet powerUpSheet;
+    // Một clip dùng chung cho mỗi loại; mỗi PowerUp chỉ giữ con trỏ phát (Animation)
+    private final Map<PowerUpType, AnimationClip> clips = new EnumMap<>(PowerUpType.class);
 
     private static final int FRAME_WIDTH = 40;
     private static final int FRAME_HEIGHT = 22;
     private static final int FRAME_PER_ANIMATION = 8;
+    private static final double FRAME_DURATION = 0.1;
 
     private PowerUpSprite() {
         loadSpriteSheet();
     }
 
+    // Holder class: the JVM creates the instance exactly once, on first use
+    private static final class Holder {
+        private static final PowerUpSprite INSTANCE = new PowerUpSprite();
+    }
+
     public static PowerUpSprite getInstance() {
-        if (instance == null) {
-            instance = new PowerUpSprite();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     private void loadSpriteSheet() {
         ResourceManager rm = ResourceManager.getInstance();
-        Image sheeetImage = rm.getImage("powerup_sheet.png");
-
-        if (sheeetImage != null) {
-            powerUpSheet = new SpriteSheet(sheeetImage, FRAME_WIDTH, FRAME_HEIGHT, 0, 0);
+        // Shared sheet: frames are sliced once and drawn as regions of the atlas page
+        powerUpSheet = rm.getSheet("powerup_sheet.png", FRAME_WIDTH, FRAME_HEIGHT);
+
+        if (powerUpSheet != null) {
+            for (PowerUpType type : PowerUpType.values()) {
+                clips.put(type, new AnimationClip(
+                        powerUpSheet.getRowRegions(getRowForType(type), FRAME_PER_ANIMATION),
+                        FRAME_DURATION, true));
+            }
             System.out.println("load image powerup_sheet");
         } else {
             System.out.println("faild to load image powerup_sheet");
@@ -41,10 +55,7 @@ public class PowerUpSprite {
         if (powerUpSheet == null) {
             return null;
         }
-        Image[] frames = new Image[FRAME_PER_ANIMATION];
-        for (int i = 0; i < FRAME_PER_ANIMATION; i++) {
-            frames[i] = powerUpSheet.getFrame(row, i);
-        }
+        TextureRegion[] frames = powerUpSheet.getRowRegions(row, FRAME_PER_ANIMATION);
         return new Animation(frames, frameDuration, true);
     }
 
@@ -115,9 +126,15 @@ public class PowerUpSprite {
         }
     }
 
+    // Clip dùng chung của loại powerUp, null nếu không tải được sprite sheet
+    public AnimationClip getClipForType(PowerUpType type) {
+        return clips.get(type);
+    }
+
+    // Con trỏ phát mới trên clip dùng chung, không cắt lại frame nào
     public Animation getAnimationForType(PowerUpType type) {
-        int row = getRowForType(type);
-        return getAnimation(row, 0.1);
+        AnimationClip clip = clips.get(type);
+        return clip != null ? new Animation(clip) : null;
     }
 
     // Get single frame
@@ -1,5 +1,7 @@
 package com.ooparkanoid.object.PowerUp;
 
+import com.ooparkanoid.utils.EngineLog;
+
 public class ScoreMultiplierEffect implements PowerUpEffect {
     private final double multiplier;
 
@@ -9,12 +11,12 @@ public class ScoreMultiplierEffect implements PowerUpEffect {
 
     @Override
     public void apply(GameContext context) {
-        System.out.println("💰 Score Multiplier x" + multiplier + " activated!");
+        EngineLog.info("💰 Score Multiplier x" + multiplier + " activated!");
     }
 
     @Override
     public void remove(GameContext context) {
-        System.out.println("💰 Score Multiplier expired!");
+        EngineLog.info("💰 Score Multiplier expired!");
     }
 
     @Override
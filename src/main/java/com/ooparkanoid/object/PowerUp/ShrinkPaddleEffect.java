@@ -2,6 +2,11 @@ package com.ooparkanoid.object.PowerUp;
 
 import com.ooparkanoid.object.Paddle;
 import com.ooparkanoid.utils.Constants;
+import com.ooparkanoid.utils.EngineLog;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 public class ShrinkPaddleEffect implements PowerUpEffect {
     private final double scaleFactor;
@@ -18,7 +23,7 @@ public class ShrinkPaddleEffect implements PowerUpEffect {
             originalWidth = Constants.PADDLE_WIDTH;
         }
         paddle.setWidth(originalWidth * scaleFactor);
-        System.out.println("→← ShrinkPaddle effect applied!");
+        EngineLog.info("→← ShrinkPaddle effect applied!");
     }
 
     @Override
@@ -28,7 +33,20 @@ public class ShrinkPaddleEffect implements PowerUpEffect {
             paddle.setWidth(originalWidth);
         }
         originalWidth = -1;
-        System.out.println("→← ShrinkPaddle effect removed!");
+        EngineLog.info("→← ShrinkPaddle effect removed!");
+    }
+
+    /**
+     * Ghi chiều rộng gốc để remove() trả paddle về đúng kích thước sau khi khôi phục
+     */
+    @Override
+    public void writeState(DataOutput out, GameContext context) throws IOException {
+        out.writeDouble(originalWidth);
+    }
+
+    @Override
+    public void readState(DataInput in, GameContext context) throws IOException {
+        originalWidth = in.readDouble();
     }
 
     @Override
@@ -2,7 +2,11 @@ package com.ooparkanoid.object.PowerUp;
 
 import com.ooparkanoid.object.Ball;
 import com.ooparkanoid.utils.Constants;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class SlowBallEffect implements PowerUpEffect {
@@ -39,6 +43,51 @@ public class SlowBallEffect implements PowerUpEffect {
         originalSpeeds.clear();
     }
 
+    /**
+     * Forgets a ball's original speed, so a recycled ball is not restored to it.
+     */
+    @Override
+    public void onBallReleased(Ball ball) {
+        originalSpeeds.remove(ball);
+    }
+
+    /**
+     * Ghi tốc độ gốc của các bóng còn trong sân, theo chỉ số trong danh sách bóng.
+     * Bóng đã rơi không được ghi: remove() đặt lại DEFAULT_SPEED cho chúng, cũng là giá trị đã lưu.
+     */
+    @Override
+    public void writeState(DataOutput out, GameContext context) throws IOException {
+        List<Ball> balls = context.getBalls();
+        int count = 0;
+        for (Ball ball : balls) {
+            if (originalSpeeds.containsKey(ball)) count++;
+        }
+        out.writeInt(count);
+        for (int i = 0; i < balls.size(); i++) {
+            Double originalSpeed = originalSpeeds.get(balls.get(i));
+            if (originalSpeed != null) {
+                out.writeInt(i);
+                out.writeDouble(originalSpeed);
+            }
+        }
+    }
+
+    @Override
+    public void readState(DataInput in, GameContext context) throws IOException {
+        List<Ball> balls = context.getBalls();
+        originalSpeeds.clear();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int index = in.readInt();
+            if (index < 0 || index >= balls.size()) {
+                throw new IOException("Ball index " + index + " out of range");
+            }
+            Ball ball = balls.get(index);
+            originalSpeeds.put(ball, in.readDouble());
+            ball.activateSlowBallEffect();
+        }
+    }
+
     @Override
     public String getEffectType() {
         return "SLOW_BALL";
@@ -1,10 +1,14 @@
 package com.ooparkanoid.object;
 
+import com.ooparkanoid.graphics.DigitStrip;
+import com.ooparkanoid.graphics.GlyphWidthCache;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
-import javafx.scene.text.Text;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Floating score display that appears when points are awarded in the game.
@@ -27,9 +31,11 @@ import javafx.scene.text.Text;
  * Create with text, position, and color when score is awarded.
  * Add to game object list, update/render each frame.
  * Remove when isFinished() returns true.
+ * Finished popups can be pooled and brought back with reset().
  *
  * Visual Design:
  * - Tahoma Bold 16pt font for clear readability
+ * - Numeric popups are drawn from a pre-rasterised DigitStrip; other text uses fillText
  * - Centered text positioning
  * - Smooth fade-out prevents abrupt disappearance
  *
@@ -57,6 +63,12 @@ public class Score extends GameObject {
     /** Font used for rendering score text */
     private static final Font FONT = Font.font("Tahoma", FontWeight.BOLD, 16);
 
+    /** Glyph widths of FONT, used to center the text without a Text node */
+    private static final GlyphWidthCache METRICS = new GlyphWidthCache(FONT);
+
+    /** Digit strips of FONT per popup color, rasterised on first use */
+    private static final Map<Color, DigitStrip> DIGITS = new HashMap<>();
+
     /**
      * Constructs a Score object with specified text, position, and color.
      * Automatically centers the text horizontally at the given position.
@@ -69,12 +81,21 @@ public class Score extends GameObject {
      */
     public Score(String text, double centerX, double topY, Color color) {
         super();
-        Text tempText = new Text(text);
-        tempText.setFont(FONT);
-        double textWidth = tempText.getLayoutBounds().getWidth();
-        double textHeight = tempText.getLayoutBounds().getHeight();
-        this.setWidth(tempText.getLayoutBounds().getWidth());
-        this.setHeight(tempText.getLayoutBounds().getHeight());
+        reset(text, centerX, topY, color);
+    }
+
+    /**
+     * Reinitializes this score for a new popup, as if newly constructed.
+     *
+     * @param text the score text to display
+     * @param centerX the X coordinate to center the text on
+     * @param topY the Y coordinate for the top of the text
+     * @param color the color of the score text
+     * @return this score
+     */
+    public Score reset(String text, double centerX, double topY, Color color) {
+        this.setWidth(METRICS.width(text));
+        this.setHeight(METRICS.getLineHeight());
         this.setX(centerX - this.getWidth() / 2);
         this.setY(topY);
 
@@ -83,6 +104,7 @@ public class Score extends GameObject {
         this.dy = -30;
         this.life = 0.8;
         this.initialLife = this.life;
+        return this;
     }
 
     /**
@@ -100,6 +122,7 @@ public class Score extends GameObject {
     /**
      * Renders the score text with fade-out effect.
      * Uses alpha transparency based on remaining lifetime.
+     * Numbers are drawn from the digit strip of the popup color; other text falls back to fillText.
      * Does not render if the score has finished its animation.
      *
      * @param gc the GraphicsContext to render to
@@ -108,6 +131,12 @@ public class Score extends GameObject {
     public void render(GraphicsContext gc) {
         if (isFinished()) return;
         double alpha = Math.max(0, life / initialLife);
+        double previousAlpha = gc.getGlobalAlpha();
+        gc.setGlobalAlpha(alpha);
+        boolean drawn = DIGITS.computeIfAbsent(color, c -> new DigitStrip(FONT, c)).draw(gc, text, x, y);
+        gc.setGlobalAlpha(previousAlpha);
+        if (drawn) return;
+
         gc.save();
         gc.setGlobalAlpha(alpha);
         gc.setFont(FONT);
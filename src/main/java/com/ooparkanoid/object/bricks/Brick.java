@@ -1,11 +1,11 @@
 // File: src/main/java/com/ooparkanoid/object/bricks/Brick.java
 package com.ooparkanoid.object.bricks;
 
+import com.ooparkanoid.graphics.TextureRegion;
 import com.ooparkanoid.object.GameObject;
 import com.ooparkanoid.utils.Constants;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
-import javafx.scene.image.Image;
 
 public abstract class Brick extends GameObject {
 
@@ -23,7 +23,13 @@ public abstract class Brick extends GameObject {
     protected int hitPoints;
     protected boolean destroyed;
     protected BrickType type; // Thuộc tính type mới
-    protected Image texture;
+    protected TextureRegion texture;
+
+    /** Field owning this brick's state once it is placed in a level, or null */
+    private BrickField field;
+
+    /** Slot of this brick in its field (only meaningful while bound) */
+    private int slot = -1;
 
 
     public Brick(double x, double y, int hitPoints, BrickType type) { // Cập nhật constructor
@@ -33,11 +39,44 @@ public abstract class Brick extends GameObject {
         this.type = type; // Gán type
     }
 
-    public void setTexture(Image texture) {
+    /**
+     * Binds this brick to a slot of a BrickField.
+     * While bound, hit points and destroyed state are read from and written to the field.
+     *
+     * @param field the owning field
+     * @param slot  the slot holding this brick
+     */
+    void bind(BrickField field, int slot) {
+        this.field = field;
+        this.slot = slot;
+    }
+
+    /**
+     * Detaches this brick from its field, copying the field's state back into the brick.
+     */
+    void unbind() {
+        if (field != null) {
+            hitPoints = field.getHitPoints(slot);
+            destroyed = !field.isAlive(slot);
+            field = null;
+            slot = -1;
+        }
+    }
+
+    public void setTexture(TextureRegion texture) {
         this.texture = texture;
     }
 
+    /**
+     * Applies one hit to this brick.
+     * Bound bricks delegate to their field, which applies the per-type rules;
+     * a standalone brick simply loses a hit point unless it is indestructible.
+     */
     public void takeHit() {
+        if (field != null) {
+            field.hit(slot);
+            return;
+        }
         if (!destroyed && type != BrickType.INDESTRUCTIBLE) {
             hitPoints--;
             if (hitPoints <= 0) {
@@ -47,18 +86,33 @@ public abstract class Brick extends GameObject {
     }
 
     public boolean isDestroyed() {
-        return destroyed;
+        return field != null ? !field.isAlive(slot) : destroyed;
+    }
+
+    /**
+     * Checks whether the brick is currently visible (and therefore hittable).
+     * Only flicker bricks ever become invisible.
+     *
+     * @return true if the brick is in its visible phase
+     */
+    public boolean isVisible() {
+        return field == null || field.isVisible(slot);
     }
 
     @Override
     public abstract void render(GraphicsContext gc);
 
+    /**
+     * Bricks have no per-object update: time-driven behaviour runs in BrickField.update().
+     *
+     * @param dt time elapsed since last update in seconds
+     */
     @Override
     public void update(double dt) {
     }
 
     public int getHitPoints() {
-        return hitPoints;
+        return field != null ? field.getHitPoints(slot) : hitPoints;
     }
 
     public BrickType getType() {
@@ -0,0 +1,607 @@
+package com.ooparkanoid.object.bricks;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Structure-of-arrays store for the bricks of a level.
+ * Brick state lives in parallel primitive arrays indexed by lattice slot
+ * (row * cols + col), with a bitset marking the slots that still hold a live brick.
+ * The per-type rules (hit handling, flicker timing, level completion) run as plain
+ * loops over this data; Brick objects remain as thin views bound to a slot so that
+ * factories, the renderer and collision code keep using the familiar Brick API.
+ *
+ * Features:
+ * - x/y/hit points/type/flags kept in primitive arrays (no per-frame allocation)
+ * - Alive bitset: destroyed bricks simply clear their bit, nothing is removed from lists
+ * - Flicker timers updated in one tight loop over the flicker slots only
+ * - O(1) level-complete check through a count of remaining destructible bricks
+ * - Broadphase queries over the cells overlapped by a bounding box
+ * - Dirty-cell bitset so a cached brick layer only redraws cells whose look changed
+ * - writeState()/readState() save the per-slot state of the loaded layout (game snapshots)
+ *
+ * Cell Layout:
+ * - Cell (row, col) starts at (originX + col * cellWidth, originY + row * cellHeight)
+ * - Cell size equals the brick pitch (brick size plus padding), so a brick never
+ *   spills into a neighbouring cell
+ * - Slots are row-major, matching the order LevelManager creates bricks in, so
+ *   queries and iteration visit bricks in level order
+ *
+ * Usage:
+ * <pre>
+ * BrickField field = LevelManager.createField();
+ * levelManager.createLevel(levelNum, field);
+ * field.update(dt);
+ * for (int s = field.nextAlive(0); s >= 0; s = field.nextAlive(s + 1)) {
+ *     field.brickAt(s).render(gc);
+ * }
+ * </pre>
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from single game thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class BrickField {
+    /** Flag bit set while a flicker brick is in its visible (hittable) phase */
+    static final byte FLAG_VISIBLE = 1;
+
+    /** Cached BrickType values for decoding the type array */
+    private static final Brick.BrickType[] TYPES = Brick.BrickType.values();
+
+    /** X coordinate of the left edge of column 0 */
+    private final double originX;
+
+    /** Y coordinate of the top edge of row 0 */
+    private final double originY;
+
+    /** Horizontal size of one cell (brick width + horizontal padding) */
+    private final double cellWidth;
+
+    /** Vertical size of one cell (brick height + vertical padding) */
+    private final double cellHeight;
+
+    /** Number of rows in the lattice */
+    private final int rows;
+
+    /** Number of columns in the lattice */
+    private final int cols;
+
+    // ==================== Per-slot Brick Data ====================
+    /** Left edge of the brick in each slot */
+    private final double[] xs;
+
+    /** Top edge of the brick in each slot */
+    private final double[] ys;
+
+    /** Width of the brick in each slot */
+    private final double[] widths;
+
+    /** Height of the brick in each slot */
+    private final double[] heights;
+
+    /** Remaining hit points of the brick in each slot */
+    private final int[] hitPoints;
+
+    /** BrickType ordinal of the brick in each slot */
+    private final byte[] types;
+
+    /** State flags of the brick in each slot (see FLAG_VISIBLE) */
+    private final byte[] flags;
+
+    /** Seconds until the next flicker phase change (flicker bricks only) */
+    private final double[] timers;
+
+    /** Brick view bound to each slot, or null for empty slots */
+    private final Brick[] views;
+
+    /** Bitset of slots holding a live brick */
+    private final long[] alive;
+
+    /** Bitset of slots whose appearance changed since the last clearDirty() */
+    private final long[] dirty;
+
+    /** True after a level load or clear, when every cell must be redrawn */
+    private boolean layoutDirty = true;
+
+    /** Slots holding flicker bricks, in row-major order */
+    private final int[] flickerSlots;
+
+    /** Number of valid entries in flickerSlots */
+    private int flickerCount;
+
+    /** Number of live bricks */
+    private int aliveCount;
+
+    /** Number of live bricks that can still be destroyed (level completes at zero) */
+    private int destructibleRemaining;
+
+    /**
+     * Constructs an empty field with the given lattice geometry.
+     *
+     * @param originX    X coordinate of the left edge of column 0
+     * @param originY    Y coordinate of the top edge of row 0
+     * @param cellWidth  horizontal size of one cell in pixels
+     * @param cellHeight vertical size of one cell in pixels
+     * @param rows       number of rows
+     * @param cols       number of columns
+     */
+    public BrickField(double originX, double originY, double cellWidth, double cellHeight, int rows, int cols) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.rows = rows;
+        this.cols = cols;
+
+        int slots = rows * cols;
+        this.xs = new double[slots];
+        this.ys = new double[slots];
+        this.widths = new double[slots];
+        this.heights = new double[slots];
+        this.hitPoints = new int[slots];
+        this.types = new byte[slots];
+        this.flags = new byte[slots];
+        this.timers = new double[slots];
+        this.views = new Brick[slots];
+        this.alive = new long[(slots + 63) >>> 6];
+        this.dirty = new long[alive.length];
+        this.flickerSlots = new int[slots];
+    }
+
+    /**
+     * Stores a brick in the given cell and binds it to that slot.
+     * From then on the field owns the brick's hit points and destroyed state.
+     * Any previous occupant of the cell is unbound and dropped.
+     *
+     * @param brick the brick to store
+     * @param row   lattice row (0-based)
+     * @param col   lattice column (0-based)
+     * @return true if the brick was stored, false if the cell lies outside the lattice
+     */
+    public boolean add(Brick brick, int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return false;
+        }
+        int slot = row * cols + col;
+        if (views[slot] != null) {
+            remove(slot);
+        }
+
+        Brick.BrickType type = brick.getType();
+        xs[slot] = brick.getX();
+        ys[slot] = brick.getY();
+        widths[slot] = brick.getWidth();
+        heights[slot] = brick.getHeight();
+        hitPoints[slot] = brick.getHitPoints();
+        types[slot] = (byte) type.ordinal();
+        flags[slot] = FLAG_VISIBLE;
+        timers[slot] = 0;
+        views[slot] = brick;
+
+        if (type == Brick.BrickType.FLICKER) {
+            timers[slot] = ((FlickerBrick) brick).getInitialVisibleDuration();
+            flickerSlots[flickerCount++] = slot;
+        }
+
+        if (!brick.isDestroyed()) {
+            setAlive(slot);
+            if (type != Brick.BrickType.INDESTRUCTIBLE) {
+                destructibleRemaining++;
+            }
+        }
+        brick.bind(this, slot);
+        layoutDirty = true;
+        return true;
+    }
+
+    /**
+     * Removes every brick from the field.
+     * Called before a new level is loaded into the same field instance.
+     */
+    public void clear() {
+        for (int slot = 0; slot < views.length; slot++) {
+            if (views[slot] != null) {
+                views[slot].unbind();
+                views[slot] = null;
+            }
+        }
+        Arrays.fill(alive, 0L);
+        layoutDirty = true;
+        flickerCount = 0;
+        aliveCount = 0;
+        destructibleRemaining = 0;
+    }
+
+    /**
+     * Advances time-driven brick behaviour by one step.
+     * Only flicker bricks have any, so this loops over the flicker slots alone.
+     *
+     * @param dt step length in seconds
+     */
+    public void update(double dt) {
+        for (int i = 0; i < flickerCount; i++) {
+            int slot = flickerSlots[i];
+            if (!isAlive(slot)) continue;
+
+            double t = timers[slot] - dt;
+            if (t <= 0) {
+                flags[slot] ^= FLAG_VISIBLE;
+                markDirty(slot);
+                // A fresh random duration for the phase that just started
+                t = ((FlickerBrick) views[slot]).nextPhaseDuration();
+            }
+            timers[slot] = t;
+        }
+    }
+
+    /**
+     * Applies one hit to the brick in a slot according to its type.
+     * Indestructible bricks ignore hits, flicker bricks only take hits while visible,
+     * every other type loses one hit point and is destroyed when none are left.
+     *
+     * @param slot slot of the brick that was hit
+     */
+    public void hit(int slot) {
+        if (!isAlive(slot)) return;
+
+        switch (TYPES[types[slot]]) {
+            case INDESTRUCTIBLE:
+                return;
+            case FLICKER:
+                if ((flags[slot] & FLAG_VISIBLE) == 0) return;
+                break;
+            default:
+                break;
+        }
+
+        if (--hitPoints[slot] <= 0) {
+            kill(slot);
+        }
+        // Damage can change the texture (strong bricks), destruction empties the cell
+        markDirty(slot);
+    }
+
+    /**
+     * Collects all live bricks whose bounds touch the given axis-aligned box.
+     * Only the cells overlapped by the box are visited. The output list is not
+     * cleared, so callers can reuse a scratch list per query.
+     *
+     * @param minX left edge of the query box
+     * @param minY top edge of the query box
+     * @param maxX right edge of the query box
+     * @param maxY bottom edge of the query box
+     * @param out  list receiving candidate bricks in row-major order
+     */
+    public void query(double minX, double minY, double maxX, double maxY, List<Brick> out) {
+        int colStart = Math.max(0, (int) Math.floor((minX - originX) / cellWidth));
+        int colEnd = Math.min(cols - 1, (int) Math.floor((maxX - originX) / cellWidth));
+        int rowStart = Math.max(0, (int) Math.floor((minY - originY) / cellHeight));
+        int rowEnd = Math.min(rows - 1, (int) Math.floor((maxY - originY) / cellHeight));
+
+        for (int row = rowStart; row <= rowEnd; row++) {
+            int base = row * cols;
+            for (int col = colStart; col <= colEnd; col++) {
+                int slot = base + col;
+                if (isAlive(slot)
+                        && xs[slot] <= maxX && xs[slot] + widths[slot] >= minX
+                        && ys[slot] <= maxY && ys[slot] + heights[slot] >= minY) {
+                    out.add(views[slot]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the next slot holding a live brick.
+     *
+     * @param fromSlot first slot to examine
+     * @return the first live slot at or after fromSlot, or -1 if there is none
+     */
+    public int nextAlive(int fromSlot) {
+        if (fromSlot < 0) fromSlot = 0;
+        int word = fromSlot >>> 6;
+        if (word >= alive.length) return -1;
+
+        long bits = alive[word] & (-1L << (fromSlot & 63));
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == alive.length) {
+                return -1;
+            }
+            bits = alive[word];
+        }
+    }
+
+    /**
+     * Checks whether a slot holds a live brick.
+     *
+     * @param slot slot to check
+     * @return true if the slot's brick exists and has not been destroyed
+     */
+    public boolean isAlive(int slot) {
+        return (alive[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Gets the brick view bound to a slot.
+     *
+     * @param slot slot to look up
+     * @return the brick in that slot, or null if the slot was never filled
+     */
+    public Brick brickAt(int slot) {
+        return views[slot];
+    }
+
+    /**
+     * Gets the remaining hit points of the brick in a slot.
+     *
+     * @param slot slot to look up
+     * @return remaining hit points
+     */
+    public int getHitPoints(int slot) {
+        return hitPoints[slot];
+    }
+
+    /**
+     * Checks whether the brick in a slot is in its visible phase.
+     * Only flicker bricks ever leave the visible phase.
+     *
+     * @param slot slot to look up
+     * @return true if the brick is visible
+     */
+    public boolean isVisible(int slot) {
+        return (flags[slot] & FLAG_VISIBLE) != 0;
+    }
+
+    /**
+     * Gets the number of live bricks.
+     *
+     * @return number of bricks not yet destroyed (indestructible ones included)
+     */
+    public int size() {
+        return aliveCount;
+    }
+
+    /**
+     * Gets the number of live bricks that can still be destroyed.
+     * The level is complete when this reaches zero.
+     *
+     * @return number of remaining destructible bricks
+     */
+    public int getDestructibleRemaining() {
+        return destructibleRemaining;
+    }
+
+    /**
+     * Finds the next slot whose appearance changed since the last clearDirty().
+     * A slot is dirty after a hit, after destruction and after a flicker phase change.
+     *
+     * @param fromSlot first slot to examine
+     * @return the first dirty slot at or after fromSlot, or -1 if there is none
+     */
+    public int nextDirty(int fromSlot) {
+        if (fromSlot < 0) fromSlot = 0;
+        int word = fromSlot >>> 6;
+        if (word >= dirty.length) return -1;
+
+        long bits = dirty[word] & (-1L << (fromSlot & 63));
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == dirty.length) {
+                return -1;
+            }
+            bits = dirty[word];
+        }
+    }
+
+    /**
+     * Checks whether the whole field must be redrawn.
+     * Set when bricks are added or the field is cleared, i.e. on every level load.
+     *
+     * @return true if the layout changed since the last clearDirty()
+     */
+    public boolean isLayoutDirty() {
+        return layoutDirty;
+    }
+
+    /**
+     * Forgets all dirty cells and the layout change.
+     * Called by whoever mirrors the field (the cached brick layer) once it has caught up.
+     */
+    public void clearDirty() {
+        Arrays.fill(dirty, 0L);
+        layoutDirty = false;
+    }
+
+    /**
+     * Gets the X coordinate of the left edge of a slot's cell.
+     *
+     * @param slot slot to look up
+     * @return left edge of the cell in pixels
+     */
+    public double getCellX(int slot) {
+        return originX + (slot % cols) * cellWidth;
+    }
+
+    /**
+     * Gets the Y coordinate of the top edge of a slot's cell.
+     *
+     * @param slot slot to look up
+     * @return top edge of the cell in pixels
+     */
+    public double getCellY(int slot) {
+        return originY + (slot / cols) * cellHeight;
+    }
+
+    /**
+     * Gets the horizontal size of one cell.
+     *
+     * @return cell width in pixels (brick width plus padding)
+     */
+    public double getCellWidth() {
+        return cellWidth;
+    }
+
+    /**
+     * Gets the vertical size of one cell.
+     *
+     * @return cell height in pixels (brick height plus padding)
+     */
+    public double getCellHeight() {
+        return cellHeight;
+    }
+
+    // ==================== State Snapshots ====================
+
+    /**
+     * Writes the changing state of every occupied slot: the alive bitset, then slot,
+     * type, hit points and flags of each brick, plus the phase timer of flicker bricks.
+     * Positions are not written; they belong to the level layout.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    public void writeState(DataOutput out) throws IOException {
+        int occupied = 0;
+        for (Brick view : views) {
+            if (view != null) occupied++;
+        }
+        out.writeShort(alive.length);
+        for (long word : alive) {
+            out.writeLong(word);
+        }
+        out.writeShort(occupied);
+        for (int slot = 0; slot < views.length; slot++) {
+            if (views[slot] == null) continue;
+            out.writeShort(slot);
+            out.writeByte(types[slot]);
+            out.writeShort(hitPoints[slot]);
+            out.writeByte(flags[slot]);
+            if (types[slot] == Brick.BrickType.FLICKER.ordinal()) {
+                out.writeDouble(timers[slot]);
+            }
+        }
+    }
+
+    /**
+     * Restores state written by writeState() onto the same level layout, freshly loaded.
+     * Every cell is marked for redraw.
+     *
+     * @param in source
+     * @throws IOException if reading fails or the data does not match the loaded layout
+     */
+    public void readState(DataInput in) throws IOException {
+        if (in.readUnsignedShort() != alive.length) {
+            throw new IOException("Brick state has a different lattice size");
+        }
+        for (int i = 0; i < alive.length; i++) {
+            alive[i] = in.readLong();
+        }
+        int occupied = in.readUnsignedShort();
+        int loaded = 0;
+        for (Brick view : views) {
+            if (view != null) loaded++;
+        }
+        if (occupied != loaded) {
+            throw new IOException("Brick state has " + occupied + " bricks, the level has " + loaded);
+        }
+        int previous = -1;
+        for (int i = 0; i < occupied; i++) {
+            int slot = in.readUnsignedShort();
+            int type = in.readUnsignedByte();
+            if (slot <= previous || slot >= views.length || views[slot] == null || types[slot] != type) {
+                throw new IOException("Brick state does not match the level layout at slot " + slot);
+            }
+            previous = slot;
+            hitPoints[slot] = in.readShort();
+            flags[slot] = in.readByte();
+            if (type == Brick.BrickType.FLICKER.ordinal()) {
+                timers[slot] = in.readDouble();
+            }
+        }
+
+        aliveCount = 0;
+        destructibleRemaining = 0;
+        for (int slot = nextAlive(0); slot >= 0; slot = nextAlive(slot + 1)) {
+            if (views[slot] == null) {
+                throw new IOException("Brick state marks empty slot " + slot + " alive");
+            }
+            aliveCount++;
+            if (types[slot] != Brick.BrickType.INDESTRUCTIBLE.ordinal()) {
+                destructibleRemaining++;
+            }
+        }
+        layoutDirty = true;
+    }
+
+    /**
+     * Gets the number of slots in the lattice.
+     *
+     * @return rows * cols
+     */
+    public int getSlotCount() {
+        return views.length;
+    }
+
+    /**
+     * Marks a slot's brick as destroyed and updates the counters.
+     *
+     * @param slot slot of the destroyed brick
+     */
+    private void kill(int slot) {
+        alive[slot >>> 6] &= ~(1L << slot);
+        aliveCount--;
+        if (types[slot] != Brick.BrickType.INDESTRUCTIBLE.ordinal()) {
+            destructibleRemaining--;
+        }
+    }
+
+    /**
+     * Drops the occupant of a slot that is about to be overwritten.
+     *
+     * @param slot slot to empty
+     */
+    private void remove(int slot) {
+        if (isAlive(slot)) {
+            kill(slot);
+        }
+        if (types[slot] == Brick.BrickType.FLICKER.ordinal()) {
+            for (int i = 0; i < flickerCount; i++) {
+                if (flickerSlots[i] == slot) {
+                    System.arraycopy(flickerSlots, i + 1, flickerSlots, i, flickerCount - i - 1);
+                    flickerCount--;
+                    break;
+                }
+            }
+        }
+        views[slot].unbind();
+        views[slot] = null;
+    }
+
+    /**
+     * Records that a slot's cell must be redrawn.
+     *
+     * @param slot slot whose appearance changed
+     */
+    private void markDirty(int slot) {
+        dirty[slot >>> 6] |= 1L << slot;
+    }
+
+    /**
+     * Sets a slot's alive bit and updates the live count.
+     *
+     * @param slot slot holding a new live brick
+     */
+    private void setAlive(int slot) {
+        alive[slot >>> 6] |= 1L << slot;
+        aliveCount++;
+    }
+}
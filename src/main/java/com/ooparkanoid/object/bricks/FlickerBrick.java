@@ -5,15 +5,15 @@ import com.ooparkanoid.utils.Constants;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import java.util.Random;
-import javafx.scene.image.Image;
 import com.ooparkanoid.graphics.ResourceManager; // Đảm bảo import này
+import com.ooparkanoid.graphics.TextureRegion;
 
 public class FlickerBrick extends Brick {
 
-    private static final Random random = new Random();
+    private static final Random sharedRandom = new Random();
 
-    private double flickerTimer;
-    private boolean visible; // Trạng thái hiển thị/ẩn
+    /** Source of flicker durations (shared generator unless a seeded one is injected) */
+    private final Random random;
 
     // Khoảng thời gian nhấp nháy ngẫu nhiên
     private final double MIN_DURATION = 1.0; // Tối thiểu 1 giây
@@ -22,70 +22,89 @@ public class FlickerBrick extends Brick {
     private double currentVisibleDuration;
     private double currentHiddenDuration;
 
-    private static Image flickerTexture1; // Texture khi gạch visible (hoặc trạng thái 1)
-    private static Image flickerTexture2; // Texture khi gạch hidden (hoặc trạng thái 2)
+    private static TextureRegion flickerTexture1; // Texture khi gạch visible (hoặc trạng thái 1)
+    private static TextureRegion flickerTexture2; // Texture khi gạch hidden (hoặc trạng thái 2)
 
-    static {
-        ResourceManager rm = ResourceManager.getInstance();
-        flickerTexture1 = rm.getImage("brick_flicker1.png"); // Ảnh cho trạng thái hiển thị
-        flickerTexture2 = rm.getImage("brick_flicker2.png"); // Ảnh cho trạng thái ẩn
-    }
+    /** True once the textures have been looked up (on first render; never in headless games) */
+    private static boolean texturesLoaded;
 
     private final Color FLICKER_COLOR = Color.rgb(255, 165, 0); // Màu cam (chỉ dùng cho fallback)
 
     public FlickerBrick(double x, double y) {
-        super(x, y, 1, BrickType.FLICKER);
-
-        this.currentVisibleDuration = MIN_DURATION + (MAX_DURATION - MIN_DURATION) * random.nextDouble();
-        this.currentHiddenDuration = MIN_DURATION + (MAX_DURATION - MIN_DURATION) * random.nextDouble();
+        this(x, y, null);
+    }
 
-        this.flickerTimer = currentVisibleDuration;
-        this.visible = true; // Bắt đầu ở trạng thái hiển thị
+    /**
+     * Creates a flicker brick whose visible/hidden durations come from the given generator.
+     * Seeded simulations pass their own generator so flicker timing is reproducible.
+     *
+     * @param x      X coordinate
+     * @param y      Y coordinate
+     * @param random generator for flicker durations, or null to use the shared one
+     */
+    public FlickerBrick(double x, double y, Random random) {
+        super(x, y, 1, BrickType.FLICKER);
+        this.random = random != null ? random : sharedRandom;
 
-        // Gán texture ban đầu dựa trên trạng thái visible
-        setTexture(visible ? flickerTexture1 : flickerTexture2);
+        this.currentVisibleDuration = nextDuration();
+        this.currentHiddenDuration = nextDuration();
     }
 
-    @Override
-    public void update(double dt) {
-        flickerTimer -= dt;
-
-        if (flickerTimer <= 0) {
-            visible = !visible; // Đảo ngược trạng thái hiển thị
-
-            // <<<< DI CHUYỂN DÒNG NÀY RA ĐÂY >>>>
-            setTexture(visible ? flickerTexture1 : flickerTexture2);
-
-            if (visible) {
-                // Khi trở lại hiển thị, tạo thời gian hiển thị ngẫu nhiên mới
-                currentVisibleDuration = MIN_DURATION + (MAX_DURATION - MIN_DURATION) * random.nextDouble();
-                flickerTimer = currentVisibleDuration;
-            } else {
-                // Khi trở lại ẩn, tạo thời gian ẩn ngẫu nhiên mới
-                currentHiddenDuration = MIN_DURATION + (MAX_DURATION - MIN_DURATION) * random.nextDouble();
-                flickerTimer = currentHiddenDuration;
-            }
-        }
+    /**
+     * Gets the length of the first visible phase.
+     * BrickField seeds the brick's flicker timer with it when the brick is placed.
+     *
+     * @return initial visible duration in seconds
+     */
+    double getInitialVisibleDuration() {
+        return currentVisibleDuration;
     }
 
-    @Override
-    public void takeHit() {
-        if (visible && !isDestroyed()) { // Vẫn chỉ nhận hit khi visible
-            super.takeHit();
-            if (isDestroyed()) {
-                System.out.println("Flicker Brick destroyed!");
-            }
+    /**
+     * Draws the length of the phase that has just started.
+     * Called by BrickField whenever the brick toggles between visible and hidden.
+     *
+     * @return new phase duration in seconds
+     */
+    double nextPhaseDuration() {
+        double duration = nextDuration();
+        if (isVisible()) {
+            currentVisibleDuration = duration;
         } else {
-            System.out.println("Flicker Brick hit while hidden (showing texture2)!");
+            currentHiddenDuration = duration;
         }
+        return duration;
+    }
+
+    /**
+     * Draws a random phase duration between MIN_DURATION and MAX_DURATION.
+     *
+     * @return duration in seconds
+     */
+    private double nextDuration() {
+        return MIN_DURATION + (MAX_DURATION - MIN_DURATION) * random.nextDouble();
+    }
+
+    /**
+     * Looks up both flicker textures the first time a flicker brick is drawn.
+     */
+    private static void loadTextures() {
+        ResourceManager rm = ResourceManager.getInstance();
+        flickerTexture1 = rm.getRegion("brick_flicker1.png"); // Ảnh cho trạng thái hiển thị
+        flickerTexture2 = rm.getRegion("brick_flicker2.png"); // Ảnh cho trạng thái ẩn
+        texturesLoaded = true;
     }
 
     @Override
     public void render(GraphicsContext gc) {
+        if (!texturesLoaded) {
+            loadTextures();
+        }
         // <<<< XÓA ĐIỀU KIỆN `&& visible` Ở ĐÂY >>>>
         if (!isDestroyed()) { // Chỉ vẽ nếu chưa bị phá hủy
+            TextureRegion texture = isVisible() ? flickerTexture1 : flickerTexture2;
             if (texture != null) {
-                gc.drawImage(texture, x, y, width, height);
+                texture.draw(gc, x, y, width, height);
             } else { // Fallback (có thể xóa)
                 gc.setFill(FLICKER_COLOR);
                 gc.fillRect(x, y, width, height);
@@ -13,7 +13,7 @@ public class NormalBrick extends Brick {
     public void render(GraphicsContext gc) {
         if (!isDestroyed()) {
             if (texture != null) {
-                gc.drawImage(texture, x, y, width, height);
+                texture.draw(gc, x, y, width, height);
             }
             else{
                 gc.setFill(Color.BLUE);
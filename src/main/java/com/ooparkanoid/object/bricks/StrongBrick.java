@@ -4,42 +4,44 @@ package com.ooparkanoid.object.bricks;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import com.ooparkanoid.graphics.ResourceManager;
+import com.ooparkanoid.graphics.TextureRegion;
 import java.util.HashMap;
 import java.util.Map;
-import javafx.scene.image.Image;
 
 public class StrongBrick extends Brick {
-    private static Map<Integer, Image> strongBrickTextures = new HashMap<>();
-
-    // Load textures một lần khi lớp được nạp
-    // Load textures một lần khi lớp được nạp
-    static {
-        ResourceManager rm = ResourceManager.getInstance();
-        strongBrickTextures.put(3, rm.getImage("brick_strong_hit3.png"));
-        strongBrickTextures.put(2, rm.getImage("brick_strong_hit2.png"));
-        strongBrickTextures.put(1, rm.getImage("brick_strong_hit1.png"));
-    }
-
+    /** Textures per remaining hit points, looked up on first render (never in headless games) */
+    private static Map<Integer, TextureRegion> strongBrickTextures;
 
     public StrongBrick(double x, double y) {
         super(x, y, 3, BrickType.STRONG); // <--- Cập nhật: Thêm BrickType.STRONG
-        this.texture = strongBrickTextures.get(this.hitPoints);
     }
 
-    @Override
-    public void takeHit() {
-        super.takeHit(); // Giảm hitPoints
-        if (!isDestroyed()) {
-            this.texture = strongBrickTextures.get(this.hitPoints); // Cập nhật texture sau khi nhận hit
-        } else {
-            this.texture = null; // Gạch bị phá hủy không còn texture
+    /**
+     * Gets the damage textures, loading them the first time a strong brick is drawn.
+     *
+     * @return textures keyed by remaining hit points
+     */
+    private static Map<Integer, TextureRegion> textures() {
+        if (strongBrickTextures == null) {
+            ResourceManager rm = ResourceManager.getInstance();
+            Map<Integer, TextureRegion> loaded = new HashMap<>();
+            loaded.put(3, rm.getRegion("brick_strong_hit3.png"));
+            loaded.put(2, rm.getRegion("brick_strong_hit2.png"));
+            loaded.put(1, rm.getRegion("brick_strong_hit1.png"));
+            strongBrickTextures = loaded;
         }
+        return strongBrickTextures;
     }
 
     @Override
     public void render(GraphicsContext gc) {
-        if (!isDestroyed() && texture != null) {
-            gc.drawImage(texture, x, y, width, height);
+        if (isDestroyed()) {
+            return;
+        }
+        // Damage state lives in the BrickField, so the texture is picked per frame from the hit points
+        TextureRegion current = textures().get(getHitPoints());
+        if (current != null) {
+            current.draw(gc, x, y, width, height);
             // gc.setStroke(Color.BLACK);
             // gc.setLineWidth(1);
             // gc.strokeRect(x, y, width, height);
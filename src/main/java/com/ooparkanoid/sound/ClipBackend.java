@@ -0,0 +1,72 @@
+package com.ooparkanoid.sound;
+
+import javafx.scene.media.AudioClip;
+
+import java.net.URL;
+
+/**
+ * Sound backend that plays each sound through a JavaFX AudioClip.
+ * Decoding and mixing happen inside the JavaFX media stack.
+ *
+ * Limitations:
+ * - AudioClip cannot stop one running instance, so stop() silences the whole sound
+ * - Clip lengths are not exposed, so voice lengths come from SoundManager's table
+ *
+ * Thread Safety: See SoundBackend.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+final class ClipBackend implements SoundBackend {
+    /** Clip per sound id */
+    private final AudioClip[] clips;
+
+    /**
+     * Constructs a backend.
+     *
+     * @param maxSounds capacity of the sound id table
+     */
+    ClipBackend(int maxSounds) {
+        clips = new AudioClip[maxSounds];
+    }
+
+    @Override
+    public boolean load(int soundId, URL resource) {
+        try {
+            clips[soundId] = new AudioClip(resource.toExternalForm());
+            return true;
+        } catch (Exception e) {
+            System.err.println("❌ Error loading sound: " + resource + " - " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public long length(int soundId) {
+        return -1;
+    }
+
+    @Override
+    public void start(int voice, int soundId, double volume, int priority) {
+        clips[soundId].play(volume, 0.0, 1.0, 0.0, priority);
+    }
+
+    @Override
+    public void stop(int voice, int soundId) {
+        clips[soundId].stop();
+    }
+
+    @Override
+    public boolean stopsWholeSound() {
+        return true;
+    }
+
+    @Override
+    public void shutdown() {
+        for (AudioClip clip : clips) {
+            if (clip != null) {
+                clip.stop();
+            }
+        }
+    }
+}
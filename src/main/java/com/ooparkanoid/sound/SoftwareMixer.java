@@ -0,0 +1,226 @@
+package com.ooparkanoid.sound;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sound backend that mixes pre-decoded PCM voices into a single javax.sound output line.
+ * Sounds come from a SoundBank, so the mixer thread only adds samples; latency is fixed
+ * by the block size and the line buffer instead of by the JavaFX media stack.
+ *
+ * Features:
+ * - Dedicated max-priority mixer thread writing BLOCK_FRAMES frames at a time
+ * - Per-voice start/stop, so stealing cuts exactly one voice
+ * - Voice commands reach the mixer through a lock-free SoundCommandQueue; mixing allocates nothing
+ * - Null line: without an audio device (or when asked to be silent) the mixer still
+ *   runs in real time and consumes voices, so headless runs exercise the same path
+ *
+ * Thread Safety: See SoundBackend. Voice state belongs to the mixer thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+final class SoftwareMixer implements SoundBackend {
+    /** Output format: 16-bit signed little-endian mono */
+    private static final AudioFormat FORMAT = new AudioFormat(SoundBank.SAMPLE_RATE, 16, 1, true, false);
+
+    /** Frames mixed per block (about 5.8 ms) */
+    private static final int BLOCK_FRAMES = 256;
+
+    /** Output line buffer, in blocks; bounds the output latency */
+    private static final int LINE_BUFFER_BLOCKS = 4;
+
+    /** Duration of one block */
+    private static final long BLOCK_NANOS = (long) (BLOCK_FRAMES * 1_000_000_000L / SoundBank.SAMPLE_RATE);
+
+    // Command layout: bits 0-4 voice, bits 5-12 sound id, bit 13 stop flag, bits 14-23 volume in thousandths
+    private static final int VOICE_MASK = 0x1F;
+    private static final int SOUND_SHIFT = 5;
+    private static final int SOUND_MASK = 0xFF;
+    private static final int STOP_FLAG = 1 << 13;
+    private static final int VOLUME_SHIFT = 14;
+
+    /** Decoded sounds */
+    private final SoundBank bank;
+
+    /** Output line, or null to mix silently */
+    private final SourceDataLine line;
+
+    /** Voice starts and stops for the mixer thread */
+    private final SoundCommandQueue commands = new SoundCommandQueue(256);
+
+    /** Samples of the sound on each voice, or null if the voice is idle */
+    private final short[][] voiceSamples;
+
+    /** Next sample index per voice */
+    private final int[] voicePosition;
+
+    /** Gain per voice */
+    private final float[] voiceGain;
+
+    /** Mix accumulator for one block */
+    private final int[] mix = new int[BLOCK_FRAMES];
+
+    /** Output bytes for one block */
+    private final byte[] block = new byte[BLOCK_FRAMES * 2];
+
+    /** Mixer thread */
+    private final Thread thread;
+
+    /** Cleared by shutdown() */
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a mixer and starts its thread.
+     *
+     * @param maxSounds capacity of the sound id table (at most 256)
+     * @param maxVoices number of voices (at most 32)
+     * @param silent    true to mix without opening an output line
+     */
+    SoftwareMixer(int maxSounds, int maxVoices, boolean silent) {
+        bank = new SoundBank(maxSounds);
+        voiceSamples = new short[maxVoices][];
+        voicePosition = new int[maxVoices];
+        voiceGain = new float[maxVoices];
+        line = silent ? null : openLine();
+
+        thread = new Thread(this::mixLoop, "SoundManager-Mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Opens the default output line in the mixer format.
+     *
+     * @return the started line, or null if no audio output is available
+     */
+    private static SourceDataLine openLine() {
+        try {
+            SourceDataLine line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, BLOCK_FRAMES * 2 * LINE_BUFFER_BLOCKS);
+            line.start();
+            return line;
+        } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+            System.err.println("No audio output line, mixing silently: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public boolean load(int soundId, URL resource) {
+        try {
+            bank.put(soundId, SoundBank.decode(resource));
+            return true;
+        } catch (Exception e) {
+            System.err.println("❌ Error decoding sound: " + resource + " - " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public long length(int soundId) {
+        short[] samples = bank.get(soundId);
+        return samples == null ? -1 : (long) (samples.length * 1_000_000_000L / SoundBank.SAMPLE_RATE);
+    }
+
+    @Override
+    public void start(int voice, int soundId, double volume, int priority) {
+        int thousandths = (int) Math.round(Math.max(0, Math.min(1, volume)) * 1000);
+        commands.offer(voice | (soundId << SOUND_SHIFT) | (thousandths << VOLUME_SHIFT));
+    }
+
+    @Override
+    public void stop(int voice, int soundId) {
+        commands.offer(voice | (soundId << SOUND_SHIFT) | STOP_FLAG);
+    }
+
+    @Override
+    public boolean stopsWholeSound() {
+        return false;
+    }
+
+    @Override
+    public void shutdown() {
+        running = false;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Body of the mixer thread. A real line paces the loop by blocking in write();
+     * without one the loop sleeps for the duration of each block.
+     */
+    private void mixLoop() {
+        long nextBlock = System.nanoTime();
+        while (running) {
+            applyCommands();
+            mixBlock();
+            if (line != null) {
+                line.write(block, 0, block.length);
+            } else {
+                nextBlock += BLOCK_NANOS;
+                LockSupport.parkNanos(nextBlock - System.nanoTime());
+            }
+        }
+        if (line != null) {
+            line.stop();
+            line.close();
+        }
+    }
+
+    /**
+     * Applies all pending voice starts and stops.
+     */
+    private void applyCommands() {
+        int command;
+        while ((command = commands.poll()) != SoundCommandQueue.EMPTY) {
+            int voice = command & VOICE_MASK;
+            if ((command & STOP_FLAG) != 0) {
+                voiceSamples[voice] = null;
+                continue;
+            }
+            voiceSamples[voice] = bank.get((command >>> SOUND_SHIFT) & SOUND_MASK);
+            voicePosition[voice] = 0;
+            voiceGain[voice] = (command >>> VOLUME_SHIFT) / 1000f;
+        }
+    }
+
+    /**
+     * Sums one block of every active voice, clamps it and encodes it as output bytes.
+     */
+    private void mixBlock() {
+        Arrays.fill(mix, 0);
+        for (int v = 0; v < voiceSamples.length; v++) {
+            short[] samples = voiceSamples[v];
+            if (samples == null) continue;
+
+            int pos = voicePosition[v];
+            int count = Math.min(BLOCK_FRAMES, samples.length - pos);
+            float gain = voiceGain[v];
+            for (int i = 0; i < count; i++) {
+                mix[i] += (int) (samples[pos + i] * gain);
+            }
+            pos += count;
+            if (pos >= samples.length) {
+                voiceSamples[v] = null; // Sound finished
+            } else {
+                voicePosition[v] = pos;
+            }
+        }
+        for (int i = 0, b = 0; i < BLOCK_FRAMES; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+            block[b++] = (byte) sample;
+            block[b++] = (byte) (sample >> 8);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ooparkanoid.sound;
+
+import java.net.URL;
+
+/**
+ * Output side of the sound effect pipeline: decodes sounds and starts/stops voices.
+ * SoundManager decides what to play (batching), VoicePool decides on which voice
+ * (polyphony, priorities, stealing), and the backend makes the sound.
+ *
+ * Implementations:
+ * - ClipBackend: JavaFX AudioClip per sound (default)
+ * - SoftwareMixer: sounds pre-decoded to PCM and mixed into one javax.sound line
+ *
+ * Thread Safety: load() and length() may be called from loader threads; start(),
+ * stop() and shutdown() are called from the audio dispatch thread only.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+interface SoundBackend {
+    /**
+     * Decodes a sound and stores it under an id.
+     *
+     * @param soundId  id the sound is played by
+     * @param resource sound file
+     * @return true if the sound can be played
+     */
+    boolean load(int soundId, URL resource);
+
+    /**
+     * Gets the playing time of a loaded sound.
+     *
+     * @param soundId sound id
+     * @return length in nanoseconds, or -1 if the backend cannot tell
+     */
+    long length(int soundId);
+
+    /**
+     * Starts a sound on a voice.
+     *
+     * @param voice    voice index chosen by the VoicePool
+     * @param soundId  sound id
+     * @param volume   playback volume (0.0 to 1.0)
+     * @param priority voice priority
+     */
+    void start(int voice, int soundId, double volume, int priority);
+
+    /**
+     * Stops a voice before its sound has ended.
+     *
+     * @param voice   voice index
+     * @param soundId sound playing on the voice
+     */
+    void stop(int voice, int soundId);
+
+    /**
+     * Tells whether stop() silences every voice of the sound rather than just one.
+     *
+     * @return true if voices of one sound can only be stopped together
+     */
+    boolean stopsWholeSound();
+
+    /**
+     * Releases audio resources.
+     */
+    void shutdown();
+}
@@ -0,0 +1,131 @@
+package com.ooparkanoid.sound;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Sound effects decoded once into 16-bit mono PCM at the mixer's sample rate.
+ * Decoding happens at load time on the loader threads, so playing a sound is only
+ * a matter of reading samples; no decoder runs while the game is playing.
+ *
+ * Features:
+ * - Decodes anything javax.sound can read: WAV natively, MP3 through the mp3spi provider
+ * - Downmixes to mono and resamples (linear) to SAMPLE_RATE
+ * - One short[] per sound id: 2 bytes per sample, about 86 KB per second of audio
+ *
+ * Thread Safety: put() happens on a loader thread before the sound id is published;
+ * the mixer thread only reads sounds whose ids it received through a queue.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+final class SoundBank {
+    /** Sample rate of every stored sound and of the mixer output */
+    static final float SAMPLE_RATE = 44100f;
+
+    /** Samples per sound id */
+    private final short[][] samples;
+
+    /**
+     * Constructs an empty bank.
+     *
+     * @param maxSounds capacity of the sound id table
+     */
+    SoundBank(int maxSounds) {
+        samples = new short[maxSounds][];
+    }
+
+    /**
+     * Stores a decoded sound.
+     *
+     * @param soundId sound id
+     * @param pcm     mono samples at SAMPLE_RATE
+     */
+    void put(int soundId, short[] pcm) {
+        samples[soundId] = pcm;
+    }
+
+    /**
+     * Gets a decoded sound.
+     *
+     * @param soundId sound id
+     * @return mono samples at SAMPLE_RATE, or null if not loaded
+     */
+    short[] get(int soundId) {
+        return samples[soundId];
+    }
+
+    /**
+     * Decodes a sound file to mono 16-bit PCM at SAMPLE_RATE.
+     *
+     * @param resource sound file
+     * @return decoded samples
+     * @throws IOException                   if the file cannot be read
+     * @throws UnsupportedAudioFileException if no installed decoder understands the file
+     */
+    static short[] decode(URL resource) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(
+                new BufferedInputStream(resource.openStream()))) {
+            AudioFormat format = source.getFormat();
+            int channels = Math.max(1, format.getChannels());
+            float rate = format.getSampleRate();
+            AudioFormat pcmFormat = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED,
+                    rate, 16, channels, channels * 2, rate, false);
+
+            byte[] data;
+            try (AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFormat, source)) {
+                data = pcm.readAllBytes();
+            }
+            return resample(downmix(data, channels), rate);
+        }
+    }
+
+    /**
+     * Averages interleaved little-endian 16-bit channels into one.
+     *
+     * @param data     interleaved sample bytes
+     * @param channels channel count
+     * @return mono samples
+     */
+    private static short[] downmix(byte[] data, int channels) {
+        int frames = data.length / (2 * channels);
+        short[] mono = new short[frames];
+        for (int f = 0, i = 0; f < frames; f++) {
+            int sum = 0;
+            for (int c = 0; c < channels; c++, i += 2) {
+                sum += (short) ((data[i] & 0xFF) | (data[i + 1] << 8));
+            }
+            mono[f] = (short) (sum / channels);
+        }
+        return mono;
+    }
+
+    /**
+     * Converts samples to SAMPLE_RATE by linear interpolation.
+     *
+     * @param input samples at the source rate
+     * @param rate  source sample rate
+     * @return samples at SAMPLE_RATE (the input itself if the rates already match)
+     */
+    private static short[] resample(short[] input, float rate) {
+        if (rate == SAMPLE_RATE || input.length < 2) {
+            return input;
+        }
+        double step = rate / SAMPLE_RATE;
+        int length = (int) ((input.length - 1) / step) + 1;
+        short[] output = new short[length];
+        for (int i = 0; i < length; i++) {
+            double pos = i * step;
+            int index = (int) pos;
+            double frac = pos - index;
+            int next = Math.min(index + 1, input.length - 1);
+            output[i] = (short) Math.round(input[index] + (input[next] - input[index]) * frac);
+        }
+        return output;
+    }
+}
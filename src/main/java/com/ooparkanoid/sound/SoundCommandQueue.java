@@ -0,0 +1,111 @@
+package com.ooparkanoid.sound;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer, single-consumer queue of int commands.
+ * Any thread may offer() (FX thread, simulation thread, loader threads); only the
+ * audio dispatch thread polls. Commands live in a preallocated int array, so neither
+ * side allocates.
+ *
+ * Algorithm:
+ * Each slot carries a sequence number. A producer claims a position with one CAS on
+ * the tail, writes the command and publishes it by advancing the slot's sequence.
+ * The consumer reads a slot once its sequence says it was published, then hands the
+ * slot to the next lap. A full queue rejects the command instead of blocking; for
+ * sound effects dropping a play is better than stalling a frame.
+ *
+ * Thread Safety: offer() is safe from any thread; poll() and isEmpty() must only
+ * be called by the single consumer thread. Commands must be non-negative.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+final class SoundCommandQueue {
+    /** Value returned by poll() when no command is available */
+    static final int EMPTY = -1;
+
+    /** Command per slot */
+    private final int[] commands;
+
+    /** Publication sequence per slot */
+    private final AtomicLongArray sequences;
+
+    /** Capacity - 1 (capacity is a power of two) */
+    private final int mask;
+
+    /** Next position to claim (shared by producers) */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** Next position to read (consumer only) */
+    private long head;
+
+    /**
+     * Constructs a queue.
+     *
+     * @param capacity number of slots, must be a power of two
+     */
+    SoundCommandQueue(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        commands = new int[capacity];
+        sequences = new AtomicLongArray(capacity);
+        mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds a command.
+     *
+     * @param command non-negative command
+     * @return false if the queue was full and the command was dropped
+     */
+    boolean offer(int command) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    commands[index] = command;
+                    sequences.set(index, pos + 1); // publish
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false; // slot still holds last lap's command: full
+            } else {
+                pos = tail.get(); // another producer claimed it
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest published command.
+     *
+     * @return the command, or EMPTY if none is available
+     */
+    int poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return EMPTY;
+        }
+        int command = commands[index];
+        sequences.set(index, head + mask + 1); // free the slot for the next lap
+        head++;
+        return command;
+    }
+
+    /**
+     * Checks whether a published command is waiting.
+     *
+     * @return true if poll() would return EMPTY
+     */
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+}
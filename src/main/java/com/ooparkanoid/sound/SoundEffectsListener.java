@@ -0,0 +1,27 @@
+package com.ooparkanoid.sound;
+
+import com.ooparkanoid.core.engine.SimulationListener;
+
+/**
+ * Audio observer for the game simulation.
+ * Forwards sound events emitted by GameManager and CollisionHandler to the SoundManager,
+ * keeping the simulation core free of any JavaFX media dependency.
+ * Headless runs simply do not attach this listener.
+ *
+ * Thread Safety: Called from the simulation thread; SoundManager handles playback asynchronously.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class SoundEffectsListener implements SimulationListener {
+
+    /**
+     * Plays the requested sound effect through the shared SoundManager.
+     *
+     * @param soundName name of the sound effect to play
+     */
+    @Override
+    public void onSound(String soundName) {
+        SoundManager.getInstance().play(soundName);
+    }
+}
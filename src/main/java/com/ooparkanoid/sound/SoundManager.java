@@ -1,69 +1,125 @@
 package com.ooparkanoid.sound;
 
-import javafx.scene.media.AudioClip;
+import com.ooparkanoid.core.profiling.ProfileSection;
+import com.ooparkanoid.core.profiling.Profiler;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Manages all sound effects and background music for the game.
  * Features:
- * - Thread pool to avoid blocking the main JavaFX thread
- * - Prevents sound spam by limiting concurrent playback
+ * - One audio dispatch thread plays all sound effects, so callers never block
+ * - Bounded voice pool with per-sound polyphony, priorities and voice stealing
+ * - Repeated triggers of a sound within one frame merge into one louder play
  * - Configurable volume control for SFX and music
  * - Singleton pattern for global access
+ * - Sounds may be loaded from several loader threads at once (see AssetLoadingTask)
+ *
+ * Dispatch:
+ * Every loaded sound is interned to an int id. play() looks the id up and pushes an
+ * int command (id plus optional volume) onto a lock-free queue drained by the dispatch
+ * thread. Nothing on this path allocates; callers that play a sound often can cache
+ * soundId() and call play(int) to skip the name lookup too.
+ *
+ * Mixing:
+ * When a command arrives, the dispatch thread waits BATCH_WINDOW for the rest of the
+ * frame's events, then starts each requested sound once. A brick chain that breaks
+ * eight bricks in one frame yields one "break" at up to MAX_BATCH_GAIN times the volume
+ * instead of eight overlapping copies. A sound triggered once plays at its requested
+ * volume; only merged triggers are scaled, and never past full scale. Starts go through
+ * a VoicePool, which caps the voices per sound and in total and steals low-priority
+ * voices when it is full.
+ *
+ * Backends:
+ * Sound effects are played by a SoundBackend chosen with -Darkanoid.audio:
+ * - fx (default): JavaFX AudioClip per sound
+ * - pcm: sounds decoded once to PCM and mixed into one javax.sound line (SoftwareMixer)
+ * - null: the PCM mixer without an output line, for headless runs and tests
+ * Background music always uses a JavaFX MediaPlayer.
+ *
+ * Thread Safety: play methods may be called from any thread (FX thread, simulation
+ * thread). Music control should stay on the JavaFX Application Thread.
  *
  * @author Arkanoid Team
  * @version 2.0
  */
 public class SoundManager {
-    private static SoundManager instance;
-
-    private Map<String, AudioClip> soundEffects;
-    private Map<String, Long> lastPlayTime; // Tracks last play time to prevent spam
-    private Map<String, Integer> playCount;  // Counts concurrent playback of same sound
+    // Sound playback settings
+    private static final int MAX_SOUNDS = 256;           // Capacity of the id table
+    private static final int MAX_VOICES = 12;            // Effects playing at once
+    private static final int QUEUE_CAPACITY = 256;       // Pending plays before new ones are dropped
+    private static final long BATCH_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(2); // Gathers one frame's events
+    private static final double MAX_BATCH_GAIN = 1.5;   // Loudness cap for merged triggers
+
+    // Voice priorities (higher steals from lower)
+    private static final int PRIORITY_LOW = 0;
+    private static final int PRIORITY_NORMAL = 1;
+    private static final int PRIORITY_HIGH = 2;
+
+    // Command layout: bits 0-7 sound id, bit 8 force flag, bits 16-30 volume in thousandths
+    private static final int ID_MASK = 0xFF;
+    private static final int FORCE_FLAG = 1 << 8;
+    private static final int VOLUME_SHIFT = 16;
+    private static final int DEFAULT_VOLUME = 0x7FFF;    // Play at the SFX volume
+
+    // Created after the constants above, which the constructor and its threads use
+    private static final SoundManager instance = new SoundManager();
+
+    private final Map<String, Integer> soundIds = new ConcurrentHashMap<>(); // Interned name -> id (loaded sounds)
+    private final Map<String, Integer> reservedIds = new HashMap<>();        // Name -> id being loaded (guarded by this)
+    private final SoundBackend backend = createBackend(System.getProperty("arkanoid.audio", "fx"));
+    private final VoicePool voices = new VoicePool(backend, MAX_VOICES, MAX_SOUNDS); // Dispatch thread only
     private MediaPlayer musicPlayer;
 
-    // Thread pool for asynchronous sound playback
-    private ExecutorService soundExecutor;
-    // Scheduler for delayed tasks (e.g., resetting play count, restoring volume)
-    private final ScheduledExecutorService scheduler;
+    // Per-frame batch being gathered by the dispatch thread
+    private final int[] batchCount = new int[MAX_SOUNDS];
+    private final double[] batchLoudest = new double[MAX_SOUNDS];
+    private final int[] batchIds = new int[MAX_SOUNDS];
+    private int batchSize;
 
-    // Sound playback settings
-    private static final long MIN_PLAY_INTERVAL = 150; // Minimum milliseconds between same sound plays
-    private static final int MAX_CONCURRENT_SAME_SOUND = 1;
-    private double sfxVolume = 1.0;
+    // Pending plays, drained by the dispatch thread
+    private final SoundCommandQueue commands = new SoundCommandQueue(QUEUE_CAPACITY);
+    private final Thread dispatchThread;
+    private volatile boolean dispatcherWaiting; // Set while the dispatch thread is parked
+    private volatile boolean running = true;
+
+    private volatile double sfxVolume = 1.0;
     private double musicVolume = 0.5;
-    private boolean sfxEnabled = true;
+    private volatile boolean sfxEnabled = true;
     private boolean musicEnabled = true;
 
     /**
      * Private constructor for singleton pattern.
-     * Initializes thread pools and data structures.
+     * Starts the audio dispatch thread.
      */
     private SoundManager() {
-        soundEffects = new HashMap<>();
-        lastPlayTime = new HashMap<>();
-        playCount = new HashMap<>();
-
-        // Create thread pool with 4 worker threads for sound playback
-        soundExecutor = Executors.newFixedThreadPool(4, r -> {
-            Thread t = new Thread(r);
-            t.setDaemon(true); // Daemon threads automatically terminate when app closes
-            t.setName("SoundManager-Thread");
-            return t;
-        });
-        // Scheduler for delayed operations
-        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r);
-            t.setDaemon(true);
-            t.setName("SoundManager-Scheduler");
-            return t;
-        });
+        dispatchThread = new Thread(this::dispatchLoop, "SoundManager-Dispatch");
+        dispatchThread.setDaemon(true); // Daemon threads automatically terminate when app closes
+        dispatchThread.start();
+    }
+
+    /**
+     * Creates the sound effect backend.
+     *
+     * @param name backend name: "fx", "pcm" or "null"
+     * @return the backend (AudioClip for unknown names)
+     */
+    private static SoundBackend createBackend(String name) {
+        switch (name) {
+            case "pcm":
+                return new SoftwareMixer(MAX_SOUNDS, MAX_VOICES, false);
+            case "null":
+                return new SoftwareMixer(MAX_SOUNDS, MAX_VOICES, true);
+            default:
+                return new ClipBackend(MAX_SOUNDS);
+        }
     }
 
     /**
@@ -72,19 +128,11 @@ public class SoundManager {
      * @return the singleton SoundManager instance
      */
     public static SoundManager getInstance() {
-        if (instance == null) {
-            instance = new SoundManager();
-        }
         return instance;
     }
 
     public void init() {
-        // Skip if sounds are already loaded
-        if (!soundEffects.isEmpty()) {
-            return;
-        }
-
-        // Load all sound effects
+        // Load all sound effects (sounds already loaded are skipped)
         loadSound("bounce", "/sounds/paddle.mp3");
         loadSound("break", "/sounds/break.mp3");
         loadSound("powerup", "/sounds/powerup.wav");
@@ -97,82 +145,136 @@ public class SoundManager {
         loadSound("laser_shoot", "/sounds/laser_shoot.wav");
         loadSound("laser_hit", "/sounds/laser_hit.wav");
         loadSound("collision", "/sounds/collision.mp3");
-        System.out.println("Loaded " + soundEffects.size() + " sound effects");
+        System.out.println("Loaded " + soundIds.size() + " sound effects");
     }
 
-    // Load 1 sound file từ resources
+    // Load 1 sound file từ resources; safe to call from loader threads, repeated names are skipped
     public void loadSound(String name, String path) {
+        if (soundIds.containsKey(name)) {
+            return;
+        }
         URL resource = getClass().getResource(path);
         if (resource == null) {
             System.err.println("Sound not found: " + path);
             return;
         }
 
-        try {
-            AudioClip clip = new AudioClip(resource.toExternalForm());
-            clip.setVolume(sfxVolume);
-            soundEffects.put(name, clip);
-            lastPlayTime.put(name, 0L);
-            playCount.put(name, 0);
-        } catch (Exception e) {
-            System.err.println("❌ Error loading sound: " + path + " - " + e.getMessage());
+        int id = reserve(name);
+        if (id < 0) {
+            return;
+        }
+        // Decoding runs outside the lock so loader threads work in parallel.
+        // The sound is stored before its id is published through soundIds, so any
+        // thread that can see the id also sees the decoded sound.
+        if (backend.load(id, resource)) {
+            defineVoice(id, name);
+            soundIds.put(name, id);
+        }
+    }
+
+    /**
+     * Assigns the next id to a sound about to be loaded.
+     *
+     * @param name sound identifier
+     * @return the new id, or -1 if the name is already taken or the table is full
+     */
+    private synchronized int reserve(String name) {
+        if (reservedIds.containsKey(name)) {
+            return -1; // Loaded (or being loaded) by another thread
+        }
+        if (reservedIds.size() == MAX_SOUNDS) {
+            System.err.println("Too many sounds, ignoring: " + name);
+            return -1;
         }
+        int id = reservedIds.size();
+        reservedIds.put(name, id);
+        return id;
     }
 
     /**
-     * Plays a sound effect asynchronously with spam protection.
-     * Prevents the same sound from playing too frequently or too many times concurrently.
+     * Sets the voice pool settings of a sound: priority, polyphony and clip length.
+     * Frequent gameplay hits get a few voices at normal priority; one-off events that
+     * must be heard get high priority; UI feedback is low priority so gameplay wins.
+     * The lengths below are used when the backend cannot measure the sound itself.
+     *
+     * @param id   sound id
+     * @param name sound identifier
+     */
+    private void defineVoice(int id, String name) {
+        switch (name) {
+            case "break":
+            case "collision":
+            case "laser_hit":
+                voices.define(id, PRIORITY_NORMAL, 3, lengthOf(id, 650));
+                break;
+            case "bounce":
+            case "laser_shoot":
+                voices.define(id, PRIORITY_NORMAL, 2, lengthOf(id, 900));
+                break;
+            case "lose_life":
+            case "powerup":
+                voices.define(id, PRIORITY_HIGH, 1, lengthOf(id, 1500));
+                break;
+            default:
+                voices.define(id, PRIORITY_LOW, 1, lengthOf(id, 1000));
+                break;
+        }
+    }
+
+    /**
+     * Gets the voice length of a sound: measured by the backend if possible.
+     *
+     * @param id             sound id
+     * @param fallbackMillis length to use if the backend cannot tell
+     * @return length in nanoseconds
+     */
+    private long lengthOf(int id, long fallbackMillis) {
+        long measured = backend.length(id);
+        return measured >= 0 ? measured : TimeUnit.MILLISECONDS.toNanos(fallbackMillis);
+    }
+
+    /**
+     * Gets the interned id of a loaded sound, for use with play(int).
+     *
+     * @param name the sound identifier
+     * @return the sound id, or -1 if the sound is not loaded
+     */
+    public int soundId(String name) {
+        Integer id = soundIds.get(name);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Plays a sound effect asynchronously.
+     * Triggers of the same sound within one frame merge into a single louder play.
      *
      * @param name the sound identifier to play
      */
     public void play(String name) {
         if (!sfxEnabled) return;
 
-        AudioClip clip = soundEffects.get(name);
-        if (clip == null) {
+        Integer id = soundIds.get(name);
+        if (id == null) {
             System.err.println("Sound not found: " + name);
             return;
         }
+        play(id);
+    }
 
-        // Prevent sound spam - check minimum interval between plays
-        long currentTime = System.currentTimeMillis();
-        long lastTime = lastPlayTime.getOrDefault(name, 0L);
-
-        if (currentTime - lastTime < MIN_PLAY_INTERVAL) {
-            return;
-        }
-
-        // Check concurrent playback limit
-        int currentCount = playCount.getOrDefault(name, 0);
-        if (currentCount >= MAX_CONCURRENT_SAME_SOUND) {
-            // Already at max concurrent plays, skip
-            return;
+    /**
+     * Plays a sound effect by id asynchronously.
+     *
+     * @param soundId id returned by soundId()
+     */
+    public void play(int soundId) {
+        if (sfxEnabled && soundId >= 0) {
+            enqueue(soundId | (DEFAULT_VOLUME << VOLUME_SHIFT));
         }
-
-        // Update tracking data
-        lastPlayTime.put(name, currentTime);
-        playCount.put(name, currentCount + 1);
-
-        // Play sound on thread pool - avoids blocking main thread
-        soundExecutor.submit(() -> {
-            try {
-                clip.play();
-                // Decrement count after playback completes
-                // AudioClip.play() is non-blocking, so we need a delay
-                scheduler.schedule(() -> {
-                    synchronized (playCount) {
-                        int count = playCount.getOrDefault(name, 0);
-                        playCount.put(name, Math.max(0, count - 1)); // Decrement, never go negative
-                    }
-                }, 100, TimeUnit.MILLISECONDS);
-            } catch (Exception e) {
-                System.err.println("Error playing sound: " + name);
-            }
-        });
     }
 
     /**
      * Plays a sound effect with custom volume.
+     * The volume applies to this play only; the clip's default volume is untouched.
      *
      * @param name   the sound identifier to play
      * @param volume custom volume level (0.0 to 1.0)
@@ -180,26 +282,15 @@ public class SoundManager {
     public void play(String name, double volume) {
         if (!sfxEnabled) return;
 
-        AudioClip clip = soundEffects.get(name);
-        if (clip == null) return;
-
-        // Save original volume level
-        double originalVolume = clip.getVolume();
-        clip.setVolume(volume * sfxVolume);
-        play(name);
+        Integer id = soundIds.get(name);
+        if (id == null) return;
 
-        // Restore original volume after playback
-        scheduler.schedule(() -> {
-            try {
-                clip.setVolume(originalVolume);
-            } catch (Exception e) {
-                // Ignore - clip may have been cleared
-            }
-        }, 300, TimeUnit.MILLISECONDS);
+        int thousandths = (int) Math.round(Math.max(0, Math.min(1, volume * sfxVolume)) * 1000);
+        enqueue(id | (thousandths << VOLUME_SHIFT));
     }
 
     /**
-     * Plays a sound effect immediately, bypassing spam protection.
+     * Plays a sound effect immediately, bypassing batching and voice priorities.
      * Use this for critical sounds that must always play.
      *
      * @param name the sound identifier to play
@@ -207,10 +298,105 @@ public class SoundManager {
     public void playForce(String name) {
         if (!sfxEnabled) return;
 
-        AudioClip clip = soundEffects.get(name);
-        if (clip == null) return;
+        Integer id = soundIds.get(name);
+        if (id == null) return;
+
+        enqueue(id | FORCE_FLAG | (DEFAULT_VOLUME << VOLUME_SHIFT));
+    }
+
+    /**
+     * Hands a play command to the dispatch thread, waking it if it is parked.
+     *
+     * @param command encoded id and volume
+     */
+    private void enqueue(int command) {
+        long start = Profiler.begin();
+        if (commands.offer(command) && dispatcherWaiting) {
+            LockSupport.unpark(dispatchThread);
+        }
+        Profiler.end(ProfileSection.SOUND, start);
+    }
+
+    /**
+     * Body of the dispatch thread: gathers each frame's commands into a batch and plays it,
+     * parks while the queue is empty.
+     */
+    private void dispatchLoop() {
+        while (running) {
+            int command = commands.poll();
+            if (command != SoundCommandQueue.EMPTY) {
+                // Let the rest of this frame's events arrive before mixing
+                LockSupport.parkNanos(BATCH_WINDOW_NANOS);
+                do {
+                    accumulate(command);
+                } while ((command = commands.poll()) != SoundCommandQueue.EMPTY);
+                flushBatch();
+                continue;
+            }
+            // Announce the park before re-checking, so a producer that enqueues
+            // in between is guaranteed to see the flag and unpark us
+            dispatcherWaiting = true;
+            if (commands.isEmpty() && running) {
+                LockSupport.park(this);
+            }
+            dispatcherWaiting = false;
+        }
+    }
+
+    /**
+     * Adds one command to the current batch. Forced plays skip the batch and start at once.
+     *
+     * @param command encoded id, flags and volume
+     */
+    private void accumulate(int command) {
+        int id = command & ID_MASK;
+        int encoded = command >>> VOLUME_SHIFT;
+        double volume = encoded == DEFAULT_VOLUME ? sfxVolume : encoded / 1000.0;
 
-        soundExecutor.submit(() -> clip.play());
+        if ((command & FORCE_FLAG) != 0) {
+            start(id, volume, true);
+            return;
+        }
+        if (batchCount[id] == 0) {
+            batchIds[batchSize++] = id;
+            batchLoudest[id] = volume;
+        } else {
+            batchLoudest[id] = Math.max(batchLoudest[id], volume);
+        }
+        batchCount[id]++;
+    }
+
+    /**
+     * Starts every sound in the batch once, louder for sounds triggered several times.
+     */
+    private void flushBatch() {
+        for (int i = 0; i < batchSize; i++) {
+            int id = batchIds[i];
+            double volume = batchLoudest[id];
+            if (batchCount[id] > 1) {
+                // Perceived loudness grows roughly with the square root of the hit count
+                double gain = Math.min(MAX_BATCH_GAIN, Math.sqrt(batchCount[id]));
+                volume = Math.min(1.0, volume * gain);
+            }
+            start(id, volume, false);
+            batchCount[id] = 0;
+        }
+        batchSize = 0;
+    }
+
+    /**
+     * Starts a sound through the voice pool on the dispatch thread.
+     *
+     * @param id     sound id
+     * @param volume playback volume
+     * @param force  true to ignore voice priorities
+     */
+    private void start(int id, double volume, boolean force) {
+        try {
+            voices.trigger(id, volume, force, System.nanoTime());
+        } catch (Exception e) {
+            System.err.println("Error playing sound: " + e.getMessage());
+        }
     }
 
     /**
@@ -278,16 +464,12 @@ public class SoundManager {
 
     /**
      * Sets the volume level for all sound effects.
-     * Updates the volume of all currently loaded sound clips.
+     * Applies to every play started afterwards.
      *
      * @param volume volume level (0.0 to 1.0), will be clamped to valid range
      */
     public void setSfxVolume(double volume) {
         this.sfxVolume = Math.max(0, Math.min(1, volume));
-        // Update all loaded sound clips
-        for (AudioClip clip : soundEffects.values()) {
-            clip.setVolume(this.sfxVolume);
-        }
     }
 
     /**
@@ -367,7 +549,7 @@ public class SoundManager {
 
     /**
      * Shuts down the SoundManager and releases all resources.
-     * Stops all sounds, disposes of the music player, and terminates thread pools.
+     * Stops all sounds, disposes of the music player, and stops the dispatch thread.
      * Should be called when the application is closing.
      */
     public void shutdown() {
@@ -377,25 +559,16 @@ public class SoundManager {
             musicPlayer.dispose();
         }
 
-        // Clear sounds
-        soundEffects.clear();
-        lastPlayTime.clear();
-        playCount.clear();
-
-        // Shutdown thread pool
-        soundExecutor.shutdown();
-        scheduler.shutdown();
+        // Stop accepting plays, then let the dispatch thread exit
+        sfxEnabled = false;
+        running = false;
+        LockSupport.unpark(dispatchThread);
         try {
-            if (!soundExecutor.awaitTermination(2, TimeUnit.SECONDS)) {
-                soundExecutor.shutdownNow();
-            }
-            if (!scheduler.awaitTermination(1, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
-            }
+            dispatchThread.join(TimeUnit.SECONDS.toMillis(1));
         } catch (InterruptedException e) {
-            soundExecutor.shutdownNow();
-            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
         }
+        backend.shutdown();
 
         System.out.println("SoundManager shutdown complete");
     }
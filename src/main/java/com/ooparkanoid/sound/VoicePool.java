@@ -0,0 +1,233 @@
+package com.ooparkanoid.sound;
+
+import java.util.Arrays;
+
+/**
+ * Fixed set of sound effect voices with per-sound polyphony limits, priorities and voice stealing.
+ * Bounds how many effects play at once, so a chain of explosions costs the same as a
+ * handful of hits, while important sounds (losing a life) always get through.
+ *
+ * Features:
+ * - Up to maxVoices effects play at the same time
+ * - Per-sound maximum polyphony, priority and voice length
+ * - When a sound is at its polyphony limit, its oldest voice is stolen
+ * - When all voices are busy, the voice with the lowest priority is stolen,
+ *   preferring the quietest and then the oldest; a trigger whose priority is below
+ *   every playing voice is dropped instead
+ *
+ * Stealing:
+ * A stolen voice is stopped through the SoundBackend. Backends that can only stop all
+ * running instances of a sound (AudioClip) stop every voice of the victim's sound, and
+ * the pool frees them together; for a sound at its own polyphony limit this is a
+ * retrigger. Voices are freed once their sound's length has elapsed.
+ *
+ * Thread Safety: define() may run on any thread before the sound id is published;
+ * everything else must only be called from the audio dispatch thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+final class VoicePool {
+    /** Marks a free voice */
+    private static final int FREE = -1;
+
+    /** Backend that starts and stops the voices */
+    private final SoundBackend backend;
+
+    /** Priority per sound id (higher wins) */
+    private final int[] priorities;
+
+    /** Maximum simultaneous voices per sound id */
+    private final int[] polyphony;
+
+    /** Time a voice of the sound stays busy, per sound id */
+    private final long[] lengths;
+
+    /** Voices currently held, per sound id */
+    private final int[] active;
+
+    /** Sound id per voice, or FREE */
+    private final int[] voiceSound;
+
+    /** Volume the voice was started with */
+    private final double[] voiceVolume;
+
+    /** Start time per voice (System.nanoTime) */
+    private final long[] voiceStart;
+
+    /** Time the voice becomes free (System.nanoTime) */
+    private final long[] voiceEnd;
+
+    /** Number of busy voices */
+    private int busy;
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param backend   backend that plays the voices
+     * @param maxVoices maximum number of effects playing at once
+     * @param maxSounds capacity of the sound id table
+     */
+    VoicePool(SoundBackend backend, int maxVoices, int maxSounds) {
+        this.backend = backend;
+        priorities = new int[maxSounds];
+        polyphony = new int[maxSounds];
+        lengths = new long[maxSounds];
+        active = new int[maxSounds];
+        voiceSound = new int[maxVoices];
+        voiceVolume = new double[maxVoices];
+        voiceStart = new long[maxVoices];
+        voiceEnd = new long[maxVoices];
+        Arrays.fill(voiceSound, FREE);
+    }
+
+    /**
+     * Registers a sound's voice settings.
+     *
+     * @param soundId      sound id
+     * @param priority     priority, higher values steal from lower ones
+     * @param maxPolyphony maximum simultaneous voices of this sound (at least 1)
+     * @param lengthNanos  how long one voice stays busy
+     */
+    void define(int soundId, int priority, int maxPolyphony, long lengthNanos) {
+        priorities[soundId] = priority;
+        polyphony[soundId] = Math.max(1, maxPolyphony);
+        lengths[soundId] = lengthNanos;
+    }
+
+    /**
+     * Starts a sound if a voice can be found for it.
+     *
+     * @param soundId  sound id
+     * @param volume   playback volume (0.0 to 1.0)
+     * @param force    true to ignore priorities (the trigger always plays)
+     * @param now      current System.nanoTime()
+     * @return true if the sound was started
+     */
+    boolean trigger(int soundId, double volume, boolean force, long now) {
+        expire(now);
+
+        if (active[soundId] >= polyphony[soundId]) {
+            steal(oldestVoiceOf(soundId));
+        } else if (busy == voiceSound.length) {
+            int victim = pickVictim();
+            if (!force && priorities[voiceSound[victim]] > priorities[soundId]) {
+                return false;
+            }
+            steal(victim);
+        }
+
+        int voice = freeVoice();
+        voiceSound[voice] = soundId;
+        voiceVolume[voice] = volume;
+        voiceStart[voice] = now;
+        voiceEnd[voice] = now + lengths[soundId];
+        active[soundId]++;
+        busy++;
+
+        backend.start(voice, soundId, volume, priorities[soundId]);
+        return true;
+    }
+
+    /**
+     * Gets the number of busy voices.
+     *
+     * @return busy voice count
+     */
+    int getBusyVoices() {
+        return busy;
+    }
+
+    /**
+     * Frees voices whose sound has finished.
+     *
+     * @param now current System.nanoTime()
+     */
+    private void expire(long now) {
+        for (int v = 0; v < voiceSound.length; v++) {
+            if (voiceSound[v] != FREE && now - voiceEnd[v] >= 0) {
+                release(v);
+            }
+        }
+    }
+
+    /**
+     * Chooses the voice to steal: lowest priority, then quietest, then oldest.
+     *
+     * @return index of a busy voice
+     */
+    private int pickVictim() {
+        int victim = 0;
+        for (int v = 1; v < voiceSound.length; v++) {
+            int p = priorities[voiceSound[v]];
+            int best = priorities[voiceSound[victim]];
+            if (p < best
+                    || (p == best && voiceVolume[v] < voiceVolume[victim])
+                    || (p == best && voiceVolume[v] == voiceVolume[victim] && voiceStart[v] < voiceStart[victim])) {
+                victim = v;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * Finds the longest-running voice of a sound.
+     *
+     * @param soundId sound id with at least one busy voice
+     * @return voice index
+     */
+    private int oldestVoiceOf(int soundId) {
+        int oldest = -1;
+        for (int v = 0; v < voiceSound.length; v++) {
+            if (voiceSound[v] == soundId && (oldest < 0 || voiceStart[v] < voiceStart[oldest])) {
+                oldest = v;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Stops a busy voice and frees it, along with the rest of its sound's voices
+     * if the backend can only stop them together.
+     *
+     * @param voice voice index
+     */
+    private void steal(int voice) {
+        int soundId = voiceSound[voice];
+        backend.stop(voice, soundId);
+        if (!backend.stopsWholeSound()) {
+            release(voice);
+            return;
+        }
+        for (int v = 0; v < voiceSound.length; v++) {
+            if (voiceSound[v] == soundId) {
+                release(v);
+            }
+        }
+    }
+
+    /**
+     * Finds an unused voice. Callers make sure one exists.
+     *
+     * @return index of a free voice
+     */
+    private int freeVoice() {
+        for (int v = 0; v < voiceSound.length; v++) {
+            if (voiceSound[v] == FREE) {
+                return v;
+            }
+        }
+        throw new IllegalStateException("No free voice");
+    }
+
+    /**
+     * Marks a voice as free.
+     *
+     * @param voice voice index
+     */
+    private void release(int voice) {
+        active[voiceSound[voice]]--;
+        voiceSound[voice] = FREE;
+        busy--;
+    }
+}
@@ -20,14 +20,26 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 
+import com.ooparkanoid.core.engine.FixedStepLoop;
 import com.ooparkanoid.core.engine.GameManager;
+import com.ooparkanoid.core.engine.GameRandom;
 import com.ooparkanoid.core.engine.LocalBattleManager;
+import com.ooparkanoid.core.profiling.ProfileSection;
+import com.ooparkanoid.core.profiling.Profiler;
+import com.ooparkanoid.core.save.SaveService;
+import com.ooparkanoid.core.sim.Replay;
+import com.ooparkanoid.core.sim.ReplayArchive;
+import com.ooparkanoid.core.sim.ReplayPlayer;
+import com.ooparkanoid.core.sim.ReplayRecorder;
 import com.ooparkanoid.core.state.GameMode;
 import com.ooparkanoid.core.state.GameState;
 import com.ooparkanoid.core.state.GameStateManager;
+import com.ooparkanoid.graphics.BrickLayer;
 import com.ooparkanoid.sound.SoundManager;
 import com.ooparkanoid.utils.Constants;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.EnumSet;
@@ -61,6 +73,10 @@ import java.util.Set;
  * - ESC: Pause/Resume
  * - F1: Switch to Adventure mode
  * - F2: Switch to Battle mode
+ * - F3: Show/hide profiler overlay
+ * - F4: Play back the latest saved replay (see ReplayViewer for its keys; ESC leaves)
+ * - F5: Save the Adventure game now (also autosaved every few seconds of play)
+ * - F6: Continue the saved Adventure game
  * - ENTER: Start game from menu
  * - SPACE: Launch ball / Shoot laser
  * - WASD/Arrow Keys: Paddle movement
@@ -101,11 +117,51 @@ public class GameSceneRoot {
      */
     private final AnimationTimer gameLoop;
 
+    /**
+     * Fixed-timestep accumulator driving the simulation independently of the display rate
+     */
+    private final FixedStepLoop simLoop = new FixedStepLoop();
+
+    /**
+     * Profiler panel drawn over the game; shared by all game scenes so its windows and log continue
+     */
+    private static final ProfilerOverlay PROFILER_OVERLAY = new ProfilerOverlay();
+
+    /**
+     * Where Adventure sessions are saved as replays when they end, or null if recording is off
+     */
+    private static final ReplayArchive REPLAY_ARCHIVE = ReplayArchive.fromSystemProperties();
+
+    /**
+     * Recorder of the current Adventure session, or null
+     */
+    private ReplayRecorder replayRecorder;
+
+    /**
+     * Playback of a saved replay shown instead of live play, or null
+     */
+    private ReplayViewer replayViewer;
+
+    /**
+     * Seconds of Adventure play between autosaves (0 or less: off)
+     */
+    private static final double AUTOSAVE_SECONDS = SaveService.getAutosaveSeconds();
+
+    /**
+     * Seconds of Adventure play since the last save
+     */
+    private double timeSinceSave;
+
     /**
      * Canvas for game rendering
      */
     private final Canvas canvas;
 
+    /**
+     * Cached brick canvas stacked under the game canvas (Adventure mode only)
+     */
+    private final BrickLayer brickLayer;
+
     /**
      * Layered scene structure with background/content/overlay layers
      */
@@ -223,9 +279,11 @@ public class GameSceneRoot {
         // Set up rendering canvas
         canvas = new Canvas(Constants.WIDTH, Constants.HEIGHT);
         graphicsContext = canvas.getGraphicsContext2D();
+        brickLayer = new BrickLayer(Constants.WIDTH, Constants.HEIGHT);
+        gameManager.setBrickLayer(brickLayer);
 
-        // Create layered scene structure
-        layeredScene = SceneLayoutFactory.createLayeredScene(canvas);
+        // Create layered scene structure (bricks are redrawn only when they change)
+        layeredScene = SceneLayoutFactory.createLayeredScene(new StackPane(brickLayer.getCanvas(), canvas));
         backgroundLayer = layeredScene.backgroundLayer();
         scene = new Scene(layeredScene.root(), Constants.WIDTH, Constants.HEIGHT);
 
@@ -268,6 +326,11 @@ public class GameSceneRoot {
             public void onExit() {
                 gameLoop.stop();
                 SoundManager.getInstance().stopMusic();
+                finishReplay();
+                if (replayViewer == null && currentMode.get() == GameMode.ADVENTURE) {
+                    saveGame();
+                }
+                SaveService.flush();
                 onExitToMenuCallback.run();
             }
         });
@@ -340,13 +403,11 @@ public class GameSceneRoot {
      */
     private void setupStateListeners() {
         stateManager.stateProperty().addListener((obs, oldState, newState) -> {
-            // Stop paddle movement when not running
-            if (newState != GameState.RUNNING) {
-                if (currentMode.get() == GameMode.ADVENTURE) {
-                    if (gameManager.getPaddle() != null) gameManager.getPaddle().setDx(0);
-                } else {
-                    battleManager.stopPlayers();
-                }
+            // Stop paddle movement when not running. The Adventure paddle is left alone:
+            // this can fire inside a simulation step (round transition, game over), where a
+            // change would not be recorded; its velocity is re-applied before every step.
+            if (newState != GameState.RUNNING && currentMode.get() == GameMode.LOCAL_BATTLE) {
+                battleManager.stopPlayers();
             }
 
             // Update status messages for menu state
@@ -354,7 +415,15 @@ public class GameSceneRoot {
                 stateManager.setStatusMessage("Select a mode from the main menu to begin.");
             }
 
-            // Handle game over state
+            // The end of a replay being played back only pauses the playback
+            if (replayViewer != null) return;
+
+            // Handle game over state; a finished game can no longer be continued
+            if (newState == GameState.GAME_OVER || newState == GameState.GAME_WON) {
+                finishReplay();
+                if (currentMode.get() == GameMode.ADVENTURE) SaveService.deleteIfExists();
+            }
+
             if (newState == GameState.GAME_OVER) {
                 if (stateManager.statusMessageProperty().get() == null || stateManager.statusMessageProperty().get().isBlank())
                     stateManager.setStatusMessage("Game Over! Final Score: " + stateManager.getScore());
@@ -397,6 +466,17 @@ public class GameSceneRoot {
         // Key press handler
         scene.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
             KeyCode code = e.getCode();
+
+            // Replay playback takes the keyboard, except for the mode and profiler keys
+            if (replayViewer != null) {
+                if (code == KeyCode.ESCAPE) {
+                    startAdventureMode();
+                    return;
+                }
+                if (replayViewer.handleKey(code) || (code != KeyCode.F1 && code != KeyCode.F2 && code != KeyCode.F3)) {
+                    return;
+                }
+            }
             activeKeys.add(code);
 
             // Global controls (work in any state)
@@ -420,6 +500,22 @@ public class GameSceneRoot {
                     startBattleMode();
                     return;
                 }
+                case F3 -> {
+                    Profiler.toggle();
+                    return;
+                }
+                case F4 -> {
+                    startReplayPlayback();
+                    return;
+                }
+                case F5 -> {
+                    if (currentMode.get() == GameMode.ADVENTURE && stateManager.isRunning()) saveGame();
+                    return;
+                }
+                case F6 -> {
+                    loadSavedGame();
+                    return;
+                }
                 case F9 -> {
                     // Test GAME OVER view
                     stateManager.markGameOver();
@@ -446,7 +542,7 @@ public class GameSceneRoot {
                     if (stateManager.isRunning()) {
                         if (currentMode.get() == GameMode.LOCAL_BATTLE) battleManager.launchBall();
                         else if (gameManager.getPaddle() != null) {
-                            if (gameManager.getPaddle().isLaserEnabled()) gameManager.getPaddle().shootLaser();
+                            if (gameManager.getPaddle().isLaserEnabled()) gameManager.shootLaser();
                             else gameManager.launchBall();
                         }
                     }
@@ -478,6 +574,7 @@ public class GameSceneRoot {
             activeKeys.remove(code);
             pressedStack.remove(code);
 
+            if (replayViewer != null) return;
             if (!stateManager.isRunning()) {
                 if (currentMode.get() == GameMode.LOCAL_BATTLE) battleManager.stopPlayers();
                 return;
@@ -499,9 +596,9 @@ public class GameSceneRoot {
 
         // Mouse click handler
         scene.addEventFilter(MouseEvent.MOUSE_PRESSED, event -> {
-            if (!stateManager.isRunning() || event.getButton() != MouseButton.PRIMARY) return;
+            if (replayViewer != null || !stateManager.isRunning() || event.getButton() != MouseButton.PRIMARY) return;
             if (currentMode.get() == GameMode.ADVENTURE && gameManager.getPaddle() != null) {
-                if (gameManager.getPaddle().isLaserEnabled()) gameManager.getPaddle().shootLaser();
+                if (gameManager.getPaddle().isLaserEnabled()) gameManager.shootLaser();
                 else gameManager.launchBall();
             }
         });
@@ -518,7 +615,8 @@ public class GameSceneRoot {
     /**
      * Creates the main game loop animation timer.
      * Handles frame updates, input processing, and rendering for both game modes.
-     * Uses high-resolution timing for smooth gameplay.
+     * Real frame time is fed into a fixed-step accumulator, so the simulation always
+     * advances in FixedStepLoop.DEFAULT_SIM_RATE steps and rendering interpolates between them.
      *
      * @return configured AnimationTimer for the game loop
      */
@@ -534,26 +632,91 @@ public class GameSceneRoot {
                     return;
                 }
 
-                // Calculate delta time in seconds
-                double dt = (now - lastUpdate) / 1e9;
+                long loopStart = Profiler.begin();
+                Profiler.record(ProfileSection.FRAME, now - lastUpdate);
+
+                // Calculate real frame time in seconds
+                double frameSeconds = (now - lastUpdate) / 1e9;
 
-                // Update game logic when running
-                if (stateManager.isRunning()) {
+                // Update game logic in fixed steps when running
+                if (replayViewer != null) {
+                    replayViewer.advance(frameSeconds);
+                } else if (stateManager.isRunning()) {
                     if (currentMode.get() == GameMode.ADVENTURE) {
                         updatePaddleVelocity();
-                        gameManager.update(dt);
+                        simLoop.advance(frameSeconds, gameManager::update);
+                        autosave(frameSeconds);
                     } else {
                         applyBattleMovementFromKeys();
-                        battleManager.update(dt);
+                        simLoop.advance(frameSeconds, battleManager::update);
                     }
                 }
 
+                long frameNanos = now - lastUpdate;
                 lastUpdate = now;
                 renderCurrentMode();
+                Profiler.end(ProfileSection.LOOP, loopStart);
+                if (replayViewer != null) replayViewer.render(graphicsContext);
+                renderProfilerOverlay(frameNanos);
             }
         };
     }
 
+    /**
+     * Saves the Adventure game in the background every AUTOSAVE_SECONDS of play.
+     *
+     * @param frameSeconds play time of the frame just simulated
+     */
+    private void autosave(double frameSeconds) {
+        if (AUTOSAVE_SECONDS <= 0) return;
+        timeSinceSave += frameSeconds;
+        if (timeSinceSave >= AUTOSAVE_SECONDS && stateManager.isRunning()) saveGame();
+    }
+
+    /**
+     * Snapshots the Adventure game between two simulation steps and hands it to the
+     * background save writer.
+     */
+    private void saveGame() {
+        timeSinceSave = 0;
+        SaveService.saveAsync(SaveService.GameSnapshot.capture(gameManager));
+    }
+
+    /**
+     * Continues the saved Adventure game exactly where it was saved.
+     * The current session is ended (and its replay saved) first; the continued game is not
+     * recorded, as a replay can only start at the beginning of a session.
+     */
+    private void loadSavedGame() {
+        SaveService.flush();
+        Optional<SaveService.GameSnapshot> saved = SaveService.load();
+        if (saved.isEmpty()) {
+            System.err.println("No saved game to continue");
+            return;
+        }
+
+        stopReplayPlayback();
+        finishReplay();
+        currentMode.set(GameMode.ADVENTURE);
+        brickLayer.invalidate();
+        pressedStack.clear();
+        activeKeys.clear();
+        pauseView.hide();
+        stateManager.beginNewGame(saved.get().score, saved.get().lives);
+        try {
+            saved.get().restore(gameManager);
+        } catch (IOException e) {
+            System.err.println("Failed to restore saved game: " + e.getMessage());
+            startAdventureMode();
+            return;
+        }
+        simLoop.reset();
+        timeSinceSave = 0;
+        stateManager.setStatusMessage("Game loaded");
+        renderCurrentMode();
+        gameLoop.start();
+    }
+
     /**
      * Updates paddle velocity based on pressed keys for Adventure mode.
      * Uses key press stack for movement priority (last pressed key takes precedence).
@@ -597,8 +760,31 @@ public class GameSceneRoot {
      * Delegates rendering to the appropriate game manager.
      */
     private void renderCurrentMode() {
-        if (currentMode.get() == GameMode.ADVENTURE) gameManager.render(graphicsContext);
-        else battleManager.render(graphicsContext);
+        if (replayViewer != null)
+            gameManager.render(graphicsContext, replayViewer.getSimRate(), replayViewer.getAlpha());
+        else if (currentMode.get() == GameMode.ADVENTURE)
+            gameManager.render(graphicsContext, simLoop.getSimRate(), simLoop.getAlpha());
+        else battleManager.render(graphicsContext, simLoop.getAlpha());
+    }
+
+    /**
+     * Draws the profiler overlay over the frame (only while profiling is on).
+     * Object counts come from the Adventure game; Battle mode reports its ball count only.
+     *
+     * @param frameNanos interval since the previous frame
+     */
+    private void renderProfilerOverlay(long frameNanos) {
+        if (!Profiler.isEnabled()) return;
+        int balls = 0, bricks = 0, lasers = 0, popups = 0;
+        if (currentMode.get() == GameMode.ADVENTURE) {
+            balls = gameManager.getBalls().size();
+            bricks = gameManager.getBricks().size();
+            lasers = gameManager.getPaddle() != null ? gameManager.getPaddle().getLasers().size() : 0;
+            popups = gameManager.getScorePopupCount();
+        } else {
+            balls = battleManager.getBallCount();
+        }
+        PROFILER_OVERLAY.render(graphicsContext, System.nanoTime(), frameNanos, balls, bricks, lasers, popups);
     }
 
     /**
@@ -608,7 +794,7 @@ public class GameSceneRoot {
      * @param event the mouse event containing cursor position
      */
     private void handleMouseMoved(MouseEvent event) {
-        if (currentMode.get() != GameMode.ADVENTURE || !stateManager.isRunning()
+        if (replayViewer != null || currentMode.get() != GameMode.ADVENTURE || !stateManager.isRunning()
                 || gameManager.getPaddle() == null || !gameManager.getPaddle().isLive())
             return;
 
@@ -622,14 +808,25 @@ public class GameSceneRoot {
 
     /**
      * Switches to Adventure mode and initializes a new game session.
-     * Resets input state, initializes game manager, and updates UI.
+     * Resets input state, starts a freshly seeded session on the game manager (recorded
+     * as a replay unless recording is off), and updates UI.
      */
     private void startAdventureMode() {
+        stopReplayPlayback();
         currentMode.set(GameMode.ADVENTURE);
+        brickLayer.invalidate();
         pressedStack.clear();
         activeKeys.clear();
 
-        gameManager.initializeGame();
+        finishReplay();
+        long seed = GameRandom.newSeed();
+        if (REPLAY_ARCHIVE != null) {
+            replayRecorder = ReplayRecorder.start(gameManager, seed, 1, simLoop.getSimRate());
+        } else {
+            gameManager.startSession(seed, 1);
+        }
+        simLoop.reset();
+        timeSinceSave = 0;
         stateManager.beginNewGame(gameManager.getScore(), gameManager.getLives());
         stateManager.setStatusMessage("Destroy all the bricks!");
         stateManager.setCurrentRound(1);
@@ -638,16 +835,81 @@ public class GameSceneRoot {
         renderCurrentMode();
     }
 
+    /**
+     * Ends the recording of the current Adventure session, if any, and saves its replay.
+     */
+    private void finishReplay() {
+        if (replayRecorder == null) return;
+        ReplayRecorder recorder = replayRecorder;
+        replayRecorder = null;
+        try {
+            System.out.println("Replay saved to " + REPLAY_ARCHIVE.save(recorder.finish()));
+        } catch (IOException e) {
+            System.err.println("Failed to save replay: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Plays back the most recently saved replay on the Adventure game.
+     * The current session is ended (and saved) first; scores are not submitted and round
+     * transitions are not shown while the replay plays. Does nothing if there is no replay.
+     */
+    private void startReplayPlayback() {
+        Path file = REPLAY_ARCHIVE != null ? REPLAY_ARCHIVE.latest() : null;
+        if (file == null) {
+            System.err.println("No saved replay to play back");
+            return;
+        }
+        if (replayViewer == null) {
+            finishReplay();
+        }
+        Replay replay;
+        try {
+            replay = Replay.load(file);
+        } catch (IOException e) {
+            System.err.println("Failed to load replay " + file + ": " + e.getMessage());
+            return;
+        }
+
+        stopReplayPlayback();
+        currentMode.set(GameMode.ADVENTURE);
+        brickLayer.invalidate();
+        pressedStack.clear();
+        activeKeys.clear();
+        pauseView.hide();
+        gameManager.setScoreSubmissionEnabled(false);
+        gameManager.setRoundTransitionCallback(null);
+        replayViewer = new ReplayViewer(new ReplayPlayer(replay, gameManager));
+        stateManager.setStatusMessage("Replay " + file.getFileName());
+        System.out.println("Playing back " + file);
+        renderCurrentMode();
+        gameLoop.start();
+    }
+
+    /**
+     * Leaves replay playback, if active, and gives the game back to the player.
+     */
+    private void stopReplayPlayback() {
+        if (replayViewer == null) return;
+        replayViewer = null;
+        gameManager.setScoreSubmissionEnabled(true);
+        gameManager.setRoundTransitionCallback(this::showRoundTransition);
+    }
+
     /**
      * Switches to Battle mode and initializes a new match.
      * Resets input state, initializes battle manager, and updates UI.
      */
     private void startBattleMode() {
+        stopReplayPlayback();
         currentMode.set(GameMode.LOCAL_BATTLE);
+        brickLayer.clear();
         pressedStack.clear();
         activeKeys.clear();
 
+        finishReplay();
         battleManager.startMatch();
+        simLoop.reset();
         battleScoreboard.resetCounters(battleManager);
         stateManager.beginNewGame(0, Constants.START_LIVES);
         stateManager.setStatusMessage("Versus Battle: P1 W/S, P2 ↑/↓. Press SPACE to launch the ball.");
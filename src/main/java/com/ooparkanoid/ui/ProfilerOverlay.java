@@ -0,0 +1,168 @@
+package com.ooparkanoid.ui;
+
+import com.ooparkanoid.core.profiling.LatencyHistogram;
+import com.ooparkanoid.core.profiling.ProfileSampler;
+import com.ooparkanoid.core.profiling.ProfileSection;
+import com.ooparkanoid.core.profiling.Profiler;
+import com.ooparkanoid.utils.Constants;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Locale;
+
+/**
+ * Profiler panel drawn over the game canvas.
+ * Shows the last window of every ProfileSection as p50/p95/p99/max in milliseconds,
+ * the object counts, GC activity and allocation rate, plus a bar graph of the most
+ * recent frame intervals against the 60 FPS budget.
+ *
+ * Features:
+ * - Toggled with F3 (Profiler.toggle()); draws nothing and samples nothing while off
+ * - Text lines are rebuilt once per ProfileSampler window, not every frame
+ * - Frame graph keeps the last GRAPH_FRAMES intervals in a ring buffer
+ *
+ * Usage:
+ * <pre>
+ * ProfilerOverlay overlay = new ProfilerOverlay();
+ * // at the end of every frame, after the game has been drawn:
+ * overlay.render(gc, now, frameNanos, balls, bricks, lasers, popups);
+ * </pre>
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from JavaFX Application Thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class ProfilerOverlay {
+    /** Frames shown in the frame-time graph */
+    private static final int GRAPH_FRAMES = 120;
+
+    /** Frame time shown at the top of the graph */
+    private static final double GRAPH_MAX_MS = 33.4;
+
+    /** Frame budget line (60 FPS) */
+    private static final double BUDGET_MS = 1000.0 / 60.0;
+
+    /** Panel geometry */
+    private static final double PANEL_WIDTH = 330;
+    private static final double LINE_HEIGHT = 15;
+    private static final double GRAPH_HEIGHT = 50;
+    private static final double PADDING = 8;
+
+    /** Panel font (monospaced so the columns line up) */
+    private static final Font FONT = Font.font("Monospaced", 12);
+
+    /** Collects the per-window statistics */
+    private final ProfileSampler sampler = new ProfileSampler();
+
+    /** Text lines of the last completed window */
+    private final String[] lines = new String[ProfileSection.values().length + 4];
+
+    /** Recent frame intervals in milliseconds (ring buffer) */
+    private final double[] frameMillis = new double[GRAPH_FRAMES];
+
+    /** Next slot of frameMillis to write */
+    private int frameCursor;
+
+    /**
+     * Constructs an overlay showing "collecting..." until the first window completes.
+     */
+    public ProfilerOverlay() {
+        lines[0] = String.format(Locale.ROOT, "%-8s %6s %6s %6s %6s %6s",
+                "ms", "p50", "p95", "p99", "max", "n");
+        for (int i = 1; i < lines.length; i++) {
+            lines[i] = "";
+        }
+        lines[1] = "collecting...";
+    }
+
+    /**
+     * Samples and draws the overlay if profiling is on.
+     *
+     * @param gc         game canvas graphics context
+     * @param now        current System.nanoTime()
+     * @param frameNanos interval since the previous frame
+     * @param balls      balls in play
+     * @param bricks     live bricks
+     * @param lasers     laser shots in flight
+     * @param popups     score popups on screen
+     */
+    public void render(GraphicsContext gc, long now, long frameNanos,
+                       int balls, int bricks, int lasers, int popups) {
+        if (!Profiler.isEnabled()) {
+            return;
+        }
+        frameMillis[frameCursor] = frameNanos / 1e6;
+        frameCursor = (frameCursor + 1) % GRAPH_FRAMES;
+        if (sampler.sample(now, balls, bricks, lasers, popups)) {
+            rebuildLines();
+        }
+        draw(gc);
+    }
+
+    /**
+     * Formats the sampler's last window into the text lines.
+     */
+    private void rebuildLines() {
+        int line = 1;
+        for (ProfileSection section : ProfileSection.values()) {
+            LatencyHistogram.Snapshot w = sampler.getWindow(section);
+            lines[line++] = String.format(Locale.ROOT, "%-8s %6.2f %6.2f %6.2f %6.2f %6d",
+                    section.getLabel(),
+                    w.percentile(0.50) / 1e6, w.percentile(0.95) / 1e6,
+                    w.percentile(0.99) / 1e6, w.max() / 1e6, w.getCount());
+        }
+        lines[line++] = String.format(Locale.ROOT, "balls %d  bricks %d  lasers %d  popups %d",
+                sampler.getBalls(), sampler.getBricks(), sampler.getLasers(), sampler.getPopups());
+        double rate = sampler.getAllocationRate();
+        lines[line++] = String.format(Locale.ROOT, "gc %d (%d ms)  alloc %s",
+                sampler.getGcCount(), sampler.getGcMillis(),
+                rate < 0 ? "n/a" : String.format(Locale.ROOT, "%.1f MB/s", rate / (1024 * 1024)));
+        lines[line] = "F3: hide profiler";
+    }
+
+    /**
+     * Draws the panel, text and frame graph in the top-right corner of the canvas.
+     *
+     * @param gc game canvas graphics context
+     */
+    private void draw(GraphicsContext gc) {
+        double panelHeight = PADDING * 3 + lines.length * LINE_HEIGHT + GRAPH_HEIGHT;
+        double left = Constants.WIDTH - PANEL_WIDTH - PADDING;
+        double top = PADDING;
+
+        gc.save();
+        gc.setGlobalAlpha(1.0);
+        gc.setFill(Color.rgb(0, 0, 0, 0.7));
+        gc.fillRect(left, top, PANEL_WIDTH, panelHeight);
+
+        gc.setFont(FONT);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.TOP);
+        gc.setFill(Color.LIGHTGREEN);
+        double y = top + PADDING;
+        for (String text : lines) {
+            gc.fillText(text, left + PADDING, y);
+            y += LINE_HEIGHT;
+        }
+
+        // Frame graph: one bar per frame, oldest on the left
+        double graphTop = y + PADDING;
+        double graphLeft = left + PADDING;
+        double barWidth = (PANEL_WIDTH - 2 * PADDING) / GRAPH_FRAMES;
+        for (int i = 0; i < GRAPH_FRAMES; i++) {
+            double ms = frameMillis[(frameCursor + i) % GRAPH_FRAMES];
+            double h = Math.min(ms, GRAPH_MAX_MS) / GRAPH_MAX_MS * GRAPH_HEIGHT;
+            gc.setFill(ms > BUDGET_MS * 1.5 ? Color.ORANGERED : Color.LIGHTGREEN);
+            gc.fillRect(graphLeft + i * barWidth, graphTop + GRAPH_HEIGHT - h, Math.max(1, barWidth - 0.5), h);
+        }
+        double budgetY = graphTop + GRAPH_HEIGHT - BUDGET_MS / GRAPH_MAX_MS * GRAPH_HEIGHT;
+        gc.setStroke(Color.YELLOW);
+        gc.setLineWidth(1);
+        gc.strokeLine(graphLeft, budgetY, graphLeft + PANEL_WIDTH - 2 * PADDING, budgetY);
+        gc.restore();
+    }
+}
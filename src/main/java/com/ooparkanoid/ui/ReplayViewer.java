@@ -0,0 +1,247 @@
+package com.ooparkanoid.ui;
+
+import com.ooparkanoid.core.engine.FixedStepLoop;
+import com.ooparkanoid.core.sim.Replay;
+import com.ooparkanoid.core.sim.ReplayPlayer;
+import com.ooparkanoid.sound.SoundManager;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.KeyCode;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Locale;
+
+/**
+ * Plays a recorded Adventure session back on the game scene.
+ * Drives a ReplayPlayer with its own fixed-step accumulator, so the playback speed is
+ * just a factor on the frame time: 1x runs the recorded steps at the recorded rate,
+ * 8x runs eight times as many per frame, 0.25x one every fourth step's worth of time.
+ * Jumps go through the player's keyframes, so seeking anywhere costs at most
+ * ReplayPlayer.KEYFRAME_SECONDS of re-simulation.
+ *
+ * Features:
+ * - Speeds from 0.25x to 32x, pause, single step forward and back
+ * - Seek by 5 seconds, to the start or end, or to a tenth of the session (0-9)
+ * - Panel with playback time, speed and state-hash status; a divergence from the
+ *   recording is shown in red with the step it first appeared at
+ * - Sound effects are muted while seeking
+ *
+ * Usage:
+ * <pre>
+ * ReplayViewer viewer = new ReplayViewer(new ReplayPlayer(Replay.load(file), gameManager));
+ * // every frame:
+ * viewer.advance(frameSeconds);
+ * gameManager.render(gc, viewer.getSimRate(), viewer.getAlpha());
+ * viewer.render(gc);
+ * </pre>
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from JavaFX Application Thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public class ReplayViewer {
+    /** Selectable playback speeds */
+    private static final double[] SPEEDS = {0.25, 0.5, 1, 2, 4, 8, 16, 32};
+
+    /** Index of 1x in SPEEDS */
+    private static final int NORMAL_SPEED = 2;
+
+    /** Seconds skipped by LEFT/RIGHT */
+    private static final int SEEK_SECONDS = 5;
+
+    /** Panel geometry */
+    private static final double PANEL_WIDTH = 330;
+    private static final double LINE_HEIGHT = 15;
+    private static final double PADDING = 8;
+
+    /** Panel font (monospaced so the numbers do not jitter) */
+    private static final Font FONT = Font.font("Monospaced", 12);
+
+    /** Player running the session on the game */
+    private final ReplayPlayer player;
+
+    /** Accumulator turning scaled frame time into recorded steps */
+    private final FixedStepLoop loop;
+
+    /** Current index into SPEEDS */
+    private int speedIndex = NORMAL_SPEED;
+
+    /** True while playback is paused */
+    private boolean paused;
+
+    /**
+     * Constructs a viewer for a player positioned at the start of its replay.
+     *
+     * @param player player driving the game
+     */
+    public ReplayViewer(ReplayPlayer player) {
+        this.player = player;
+        Replay replay = player.getReplay();
+        // Allow enough catch-up steps per frame for the highest speed at 60 FPS
+        this.loop = new FixedStepLoop(replay.getSimRate(),
+                (int) Math.ceil(replay.getSimRate() / 60.0 * SPEEDS[SPEEDS.length - 1]) * 2);
+    }
+
+    /**
+     * Runs the steps that fall into a frame at the current speed.
+     *
+     * @param frameSeconds real time since the previous frame
+     */
+    public void advance(double frameSeconds) {
+        if (paused) {
+            return;
+        }
+        loop.advance(frameSeconds * SPEEDS[speedIndex], dt -> player.step());
+        if (player.isFinished() || !player.getGame().getStateManager().isRunning()) {
+            paused = true;
+        }
+    }
+
+    /**
+     * Handles a playback key.
+     *
+     * @param code key pressed
+     * @return true if the key controls playback, false if it should be handled normally
+     */
+    public boolean handleKey(KeyCode code) {
+        long step = player.getGame().getStepCount();
+        long second = Math.round(loop.getSimRate());
+        switch (code) {
+            case SPACE -> paused = !paused;
+            case UP, EQUALS, ADD -> speedIndex = Math.min(speedIndex + 1, SPEEDS.length - 1);
+            case DOWN, MINUS, SUBTRACT -> speedIndex = Math.max(speedIndex - 1, 0);
+            case PERIOD -> {
+                paused = true;
+                seek(step + 1);
+            }
+            case COMMA -> {
+                paused = true;
+                seek(step - 1);
+            }
+            case RIGHT -> seek(step + SEEK_SECONDS * second);
+            case LEFT -> seek(step - SEEK_SECONDS * second);
+            case HOME -> seek(0);
+            case END -> seek(player.getReplay().getTotalSteps());
+            default -> {
+                if (!code.isDigitKey()) {
+                    return false;
+                }
+                int tenth = code.getName().charAt(code.getName().length() - 1) - '0';
+                seek(player.getReplay().getTotalSteps() * tenth / 10);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Jumps to a step with sound effects muted, so the skipped steps stay silent.
+     *
+     * @param target step to move to
+     */
+    private void seek(long target) {
+        SoundManager sound = SoundManager.getInstance();
+        boolean sfx = sound.isSfxEnabled();
+        sound.setSfxEnabled(false);
+        try {
+            player.seek(target);
+        } finally {
+            sound.setSfxEnabled(sfx);
+        }
+        loop.reset();
+        if (player.isFinished() || !player.getGame().getStateManager().isRunning()) {
+            paused = true;
+        }
+    }
+
+    /**
+     * Gets the simulation rate of the replay, for render interpolation.
+     *
+     * @return steps per second
+     */
+    public double getSimRate() {
+        return loop.getSimRate();
+    }
+
+    /**
+     * Gets the interpolation factor between the last two steps.
+     *
+     * @return alpha in [0, 1)
+     */
+    public double getAlpha() {
+        return paused ? 0.0 : loop.getAlpha();
+    }
+
+    /**
+     * Draws the playback panel in the top-left corner of the canvas.
+     *
+     * @param gc game canvas graphics context
+     */
+    public void render(GraphicsContext gc) {
+        Replay replay = player.getReplay();
+        double rate = loop.getSimRate();
+        long step = player.getGame().getStepCount();
+        long divergent = player.getFirstDivergentStep();
+
+        String state = player.isFinished() ? "END" : paused ? "PAUSED" : "PLAY";
+        String line1 = String.format(Locale.ROOT, "REPLAY %-6s %5sx  %s / %s",
+                state, formatSpeed(SPEEDS[speedIndex]), formatTime(step / rate),
+                formatTime(replay.getTotalSteps() / rate));
+        String line2;
+        if (divergent >= 0) {
+            line2 = String.format(Locale.ROOT, "DIVERGED at step %d (%s)", divergent, formatTime(divergent / rate));
+        } else if (replay.getStateHashCount() == 0) {
+            line2 = "no state hashes recorded";
+        } else {
+            line2 = String.format(Locale.ROOT, "hash OK  step %d  checked %d", step, player.getHashesChecked());
+        }
+        String line3 = "SPACE pause  UP/DOWN speed  ,/. step";
+        String line4 = "LEFT/RIGHT 5s  HOME/END  0-9 jump  ESC quit";
+
+        double left = PADDING;
+        double top = PADDING;
+        gc.save();
+        gc.setGlobalAlpha(1.0);
+        gc.setFill(Color.rgb(0, 0, 0, 0.7));
+        gc.fillRect(left, top, PANEL_WIDTH, PADDING * 2 + LINE_HEIGHT * 4);
+
+        gc.setFont(FONT);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.TOP);
+        double y = top + PADDING;
+        gc.setFill(Color.LIGHTGREEN);
+        gc.fillText(line1, left + PADDING, y);
+        y += LINE_HEIGHT;
+        gc.setFill(divergent >= 0 ? Color.ORANGERED : Color.LIGHTGREEN);
+        gc.fillText(line2, left + PADDING, y);
+        y += LINE_HEIGHT;
+        gc.setFill(Color.LIGHTGRAY);
+        gc.fillText(line3, left + PADDING, y);
+        y += LINE_HEIGHT;
+        gc.fillText(line4, left + PADDING, y);
+        gc.restore();
+    }
+
+    /**
+     * Formats a speed factor without trailing zeros.
+     *
+     * @param speed speed factor
+     * @return e.g. "0.25", "1", "16"
+     */
+    private static String formatSpeed(double speed) {
+        return speed == Math.rint(speed) ? Long.toString((long) speed) : Double.toString(speed);
+    }
+
+    /**
+     * Formats game time as minutes and seconds.
+     *
+     * @param seconds game time
+     * @return m:ss.s
+     */
+    private static String formatTime(double seconds) {
+        int minutes = (int) (seconds / 60);
+        return String.format(Locale.ROOT, "%d:%04.1f", minutes, seconds - minutes * 60);
+    }
+}
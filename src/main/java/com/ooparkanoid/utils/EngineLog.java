@@ -0,0 +1,62 @@
+package com.ooparkanoid.utils;
+
+/**
+ * Console switch for the engine's gameplay messages (level loaded, effect activated or
+ * expired, extra life). The simulation prints them through info() instead of System.out,
+ * so batch tools that step thousands of games can turn them off at the source instead
+ * of redirecting the process-wide output streams.
+ *
+ * Features:
+ * - On by default, so the interactive game logs as before
+ * - -Darkanoid.engineLog=false turns it off from startup
+ * - setEnabled() switches it at runtime (BalancingRunner and ReplayPlayer turn it off
+ *   unless run with --verbose)
+ *
+ * Errors (missing level files, failed asset loads) are not gameplay messages and are
+ * still printed to System.err directly.
+ *
+ * Thread Safety: Thread-safe; the switch is a volatile flag and messages go to System.out.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class EngineLog {
+    /** Whether gameplay messages are printed */
+    private static volatile boolean enabled =
+            !"false".equalsIgnoreCase(System.getProperty("arkanoid.engineLog"));
+
+    /**
+     * Private constructor to prevent instantiation (static utility).
+     */
+    private EngineLog() {
+    }
+
+    /**
+     * Prints a gameplay message if engine logging is on.
+     *
+     * @param message message to print
+     */
+    public static void info(String message) {
+        if (enabled) {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * Turns gameplay messages on or off for the whole process.
+     *
+     * @param enabled true to print them
+     */
+    public static void setEnabled(boolean enabled) {
+        EngineLog.enabled = enabled;
+    }
+
+    /**
+     * Checks whether gameplay messages are printed.
+     *
+     * @return true if engine logging is on
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+}
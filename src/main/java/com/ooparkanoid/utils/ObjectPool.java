@@ -0,0 +1,87 @@
+package com.ooparkanoid.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Fixed-capacity free list of reusable objects.
+ * Short-lived game objects (lasers, extra balls, power-ups, score popups) are taken
+ * from a pool and handed back when they leave play, so a busy level does not keep
+ * allocating and collecting them.
+ *
+ * Features:
+ * - acquire() returns a released object, or a new one from the factory if none is free
+ * - release() keeps up to capacity objects; extras are left to the garbage collector
+ * - No allocation once the pool has warmed up
+ *
+ * Usage:
+ * <pre>
+ * ObjectPool&lt;Laser&gt; pool = new ObjectPool&lt;&gt;(() -&gt; new Laser(0, 0, 0), 16);
+ * Laser laser = pool.acquire().reset(x, y, speed);
+ * ...
+ * pool.release(laser); // once the laser is removed from play
+ * </pre>
+ * Acquired objects keep the state they were released with; callers reinitialise them
+ * (each pooled type has a reset method for that). An object must not be used after
+ * it has been released.
+ *
+ * Thread Safety: Not thread-safe. Should be accessed from single game thread.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+public final class ObjectPool<T> {
+    /** Creates objects when the pool is empty */
+    private final Supplier<T> factory;
+
+    /** Released objects; the first freeCount slots are in use */
+    private final Object[] free;
+
+    /** Number of objects available for acquire() */
+    private int freeCount;
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param factory  creates new objects when none are free
+     * @param capacity maximum number of released objects kept
+     */
+    public ObjectPool(Supplier<T> factory, int capacity) {
+        this.factory = factory;
+        this.free = new Object[capacity];
+    }
+
+    /**
+     * Takes an object from the pool, creating one if none is free.
+     *
+     * @return an object to reinitialise and use
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if (freeCount == 0) {
+            return factory.get();
+        }
+        T object = (T) free[--freeCount];
+        free[freeCount] = null;
+        return object;
+    }
+
+    /**
+     * Returns an object to the pool. Dropped if the pool is full.
+     *
+     * @param object object that has left play (null is ignored)
+     */
+    public void release(T object) {
+        if (object != null && freeCount < free.length) {
+            free[freeCount++] = object;
+        }
+    }
+
+    /**
+     * Gets the number of objects ready to be acquired without allocating.
+     *
+     * @return free object count
+     */
+    public int getFreeCount() {
+        return freeCount;
+    }
+}
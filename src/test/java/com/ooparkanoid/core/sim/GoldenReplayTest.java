@@ -0,0 +1,236 @@
+package com.ooparkanoid.core.sim;
+
+import com.ooparkanoid.core.engine.FixedStepLoop;
+import com.ooparkanoid.core.engine.GameManager;
+import com.ooparkanoid.utils.Constants;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Golden-replay regression test for the simulation core.
+ * Plays every replay of the checked-in corpus (src/test/resources/replays/golden) on a
+ * headless GameManager and requires each one to reproduce its recording exactly: the
+ * state hash after every step, and the final score, lives, level and step count. Any
+ * change to CollisionHandler, Ball, PowerUpEffectManager or anything else that alters
+ * gameplay by a single bit fails at the first step it makes a difference. Pure refactors
+ * and optimisations pass.
+ *
+ * Features:
+ * - One dynamic test per replay, so surefire reports each replay separately
+ * - Prints simulated steps per second for every replay, which makes the test a cheap
+ *   macro-benchmark of the complete step; -Dgolden.runs=N plays each replay N times and
+ *   reports the fastest, so the numbers are past JIT warm-up
+ * - -Dgolden.record=true regenerates the corpus instead: PaddleBot sessions starting on
+ *   every level, seeded like BalancingRunner so the same corpus comes out every time.
+ *   The fresh sources are then verified directly
+ * - The engine's gameplay messages are turned off through arkanoid.engineLog (set by the
+ *   surefire configuration)
+ *
+ * Usage:
+ * <pre>
+ * mvn test -Dtest=GoldenReplayTest                     # verify
+ * mvn test -Dtest=GoldenReplayTest -Dgolden.runs=5      # verify and benchmark
+ * mvn test -Dtest=GoldenReplayTest -Dgolden.record=true # re-record after an intended change
+ * </pre>
+ * Re-record the corpus only for intended gameplay changes, and say so in the commit.
+ *
+ * @author Arkanoid Team
+ * @version 2.0
+ */
+class GoldenReplayTest {
+    /** Corpus location on the test classpath */
+    private static final String CORPUS = "replays/golden";
+
+    /** Corpus sources, written when re-recording */
+    private static final Path CORPUS_SOURCES = Path.of(System.getProperty("basedir", "."),
+            "src", "test", "resources", "replays", "golden");
+
+    /** Plays per replay (-Dgolden.runs, default 1); the fastest is reported */
+    private static final int RUNS = Math.max(1, Integer.getInteger("golden.runs", 1));
+
+    /** Whether the corpus is re-recorded before it is verified (-Dgolden.record=true) */
+    private static final boolean RECORD = Boolean.getBoolean("golden.record");
+
+    /** Recorded sessions per start level */
+    private static final int SESSIONS = 2;
+
+    /** Game time limit per recorded session in seconds */
+    private static final double MAX_SECONDS = 45;
+
+    /** Base seed of the recorded sessions */
+    private static final long BASE_SEED = 1;
+
+    /**
+     * Re-records the corpus if asked to.
+     *
+     * @throws IOException if the corpus cannot be written
+     */
+    @BeforeAll
+    static void setUp() throws IOException {
+        if (RECORD) {
+            record(CORPUS_SOURCES);
+        }
+    }
+
+    /**
+     * Plays every replay of the corpus and checks it against its recording.
+     *
+     * @return one test per replay
+     * @throws IOException if the corpus cannot be listed
+     */
+    @TestFactory
+    Stream<DynamicTest> replaysMatchRecording() throws IOException {
+        return corpus().stream().map(file -> DynamicTest.dynamicTest(
+                file.getFileName().toString(), () -> verify(file)));
+    }
+
+    /**
+     * Checks that the corpus has a replay starting on every level.
+     *
+     * @throws IOException if a replay cannot be loaded
+     */
+    @Test
+    void corpusCoversEveryLevel() throws IOException {
+        boolean[] covered = new boolean[Constants.MAX_LEVELS + 1];
+        for (Path file : corpus()) {
+            covered[Replay.load(file).getStartLevel()] = true;
+        }
+        for (int level = 1; level <= Constants.MAX_LEVELS; level++) {
+            assertTrue(covered[level], "no golden replay starts on level " + level);
+        }
+    }
+
+    /**
+     * Plays one replay RUNS times, asserting every run, and prints its throughput.
+     *
+     * @param file replay file
+     * @throws IOException if the replay cannot be loaded
+     */
+    private static void verify(Path file) throws IOException {
+        Replay replay = Replay.load(file);
+        assertEquals(replay.getTotalSteps(), replay.getStateHashCount(),
+                "replay must carry a state hash for every step; re-record the corpus");
+
+        double best = Double.MAX_VALUE;
+        long steps = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            ReplayPlayer player = new ReplayPlayer(replay);
+            steps = player.playToEnd();
+            best = Math.min(best, (System.nanoTime() - start) / 1e9);
+            assertMatches(player);
+        }
+        System.out.printf(Locale.ROOT, "%-16s level %d-%d  %6d steps  score %6d  %,10.0f steps/s%n",
+                file.getFileName(), replay.getStartLevel(), replay.getFinalLevel(), steps,
+                replay.getFinalScore(), best > 0 ? steps / best : 0);
+    }
+
+    /**
+     * Asserts that a finished playback reproduced its recording.
+     *
+     * @param player player that has played the whole replay
+     */
+    private static void assertMatches(ReplayPlayer player) {
+        Replay replay = player.getReplay();
+        GameManager game = player.getGame();
+        long divergent = player.getFirstDivergentStep();
+        assertFalse(divergent >= 0, () -> String.format(Locale.ROOT,
+                "state diverged at step %d (%.2f s game time)", divergent, divergent / (double) replay.getSimRate()));
+        assertEquals(replay.getStateHashCount(), player.getHashesChecked(), "state hashes checked");
+        assertTrue(player.matchesRecording(), () -> String.format(Locale.ROOT,
+                "final state differs: score %d/%d, lives %d/%d, level %d/%d, steps %d/%d (replayed/recorded)",
+                game.getScore(), replay.getFinalScore(),
+                game.getLives(), replay.getFinalLives(),
+                game.getCurrentLevel(), replay.getFinalLevel(),
+                game.getStepCount(), replay.getTotalSteps()));
+    }
+
+    /**
+     * Lists the replays of the corpus on the test classpath, or in the corpus sources
+     * when re-recording (the classpath copy is only refreshed by the next build).
+     *
+     * @return replay files sorted by name
+     * @throws IOException if the directory cannot be read
+     */
+    private static List<Path> corpus() throws IOException {
+        Path directory;
+        if (RECORD) {
+            directory = CORPUS_SOURCES;
+        } else {
+            URL url = GoldenReplayTest.class.getClassLoader().getResource(CORPUS);
+            assertTrue(url != null, "golden replay corpus " + CORPUS + " not on the test classpath");
+            try {
+                directory = Path.of(url.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + Replay.FILE_EXTENSION)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        assertFalse(files.isEmpty(), "no replays in " + directory);
+        return files;
+    }
+
+    /**
+     * Records a fresh corpus: SESSIONS per start level played by a PaddleBot until the
+     * game ends or MAX_SECONDS of game time have passed. Existing replays are replaced.
+     * The test classpath copy is refreshed by the next build.
+     *
+     * @param directory corpus sources directory
+     * @throws IOException if the corpus cannot be written
+     */
+    private static void record(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + Replay.FILE_EXTENSION)) {
+            for (Path old : stream) {
+                Files.delete(old);
+            }
+        }
+
+        double stepSeconds = 1.0 / FixedStepLoop.DEFAULT_SIM_RATE;
+        long maxSteps = Math.round(MAX_SECONDS * FixedStepLoop.DEFAULT_SIM_RATE);
+        for (int level = 1; level <= Constants.MAX_LEVELS; level++) {
+            for (int session = 0; session < SESSIONS; session++) {
+                long seed = BalancingRunner.gameSeed(BASE_SEED, level, session);
+                GameManager game = GameManager.createHeadless(seed);
+                ReplayRecorder recorder = ReplayRecorder.start(game, seed, level, FixedStepLoop.DEFAULT_SIM_RATE);
+                game.getStateManager().beginNewGame(game.getScore(), game.getLives());
+                PaddleBot bot = new PaddleBot(new Random(~seed));
+                while (game.getStateManager().isRunning() && game.getStepCount() < maxSteps) {
+                    bot.control(game);
+                    game.update(stepSeconds);
+                }
+                Replay replay = recorder.finish();
+                Path file = directory.resolve(String.format(Locale.ROOT, "level%d-%d%s",
+                        level, session + 1, Replay.FILE_EXTENSION));
+                replay.save(file);
+                System.out.printf(Locale.ROOT, "recorded %-16s %6d steps  score %6d%n",
+                        file.getFileName(), replay.getTotalSteps(), replay.getFinalScore());
+            }
+        }
+    }
+}